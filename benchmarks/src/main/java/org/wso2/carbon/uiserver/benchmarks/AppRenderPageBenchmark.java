@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.api.exception.PageNotFoundException;
+import org.wso2.carbon.uiserver.api.exception.PageRedirectException;
+import org.wso2.carbon.uiserver.api.exception.RenderingException;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.internal.http.InMemoryHttpRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link App#renderPage(HttpRequest)} for web apps with different numbers of pages. Pages of a web app are
+ * matched in order, so rendering the first and the last page shows the cost of page lookup.
+ *
+ * @since 1.0.9
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppRenderPageBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageCount;
+
+    private App app;
+    private HttpRequest firstPageRequest;
+    private HttpRequest lastPageRequest;
+
+    @Setup
+    public void setup() {
+        app = BenchmarkApps.createPagesApp("/pages-app", pageCount);
+        firstPageRequest = new InMemoryHttpRequest("/pages-app" + BenchmarkApps.getPageUri(0));
+        lastPageRequest = new InMemoryHttpRequest("/pages-app" + BenchmarkApps.getPageUri(pageCount - 1));
+    }
+
+    @Benchmark
+    public String renderFirstPage() throws RenderingException, PageNotFoundException, PageRedirectException {
+        return app.renderPage(firstPageRequest);
+    }
+
+    @Benchmark
+    public String renderLastPage() throws RenderingException, PageNotFoundException, PageRedirectException {
+        return app.renderPage(lastPageRequest);
+    }
+}
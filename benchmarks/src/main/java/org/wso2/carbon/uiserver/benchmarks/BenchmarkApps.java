@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.benchmarks;
+
+import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.api.Configuration;
+import org.wso2.carbon.uiserver.api.Page;
+import org.wso2.carbon.uiserver.api.UriPatten;
+import org.wso2.carbon.uiserver.internal.deployment.AppCreator;
+import org.wso2.carbon.uiserver.internal.impl.HtmlPage;
+import org.wso2.carbon.uiserver.internal.io.reference.ArtifactAppReference;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Web apps used in benchmarks.
+ * <p>
+ * Web apps are taken from the test resources of the core component. Set the {@value #PROPERTY_APPS_DIRECTORY} system
+ * property when benchmarks are not run from the root directory or the benchmarks directory of the repository.
+ *
+ * @since 1.0.9
+ */
+public final class BenchmarkApps {
+
+    /**
+     * System property to specify the directory of the web apps.
+     */
+    public static final String PROPERTY_APPS_DIRECTORY = "benchmark.apps.directory";
+
+    private static final String APPS_DIRECTORY = "components/org.wso2.carbon.uiserver/src/test/resources/apps";
+
+    private BenchmarkApps() {
+    }
+
+    /**
+     * Creates the specified web app in the test resources.
+     *
+     * @param appName     name of the web app, i.e. name of its directory
+     * @param contextPath context path of the web app
+     * @return created web app
+     */
+    public static App createApp(String appName, String contextPath) {
+        return AppCreator.createApp(new ArtifactAppReference(getAppsDirectory().resolve(appName)), contextPath);
+    }
+
+    /**
+     * Creates a web app that has the specified number of HTML pages. URI pattern of a page is its zero padded index,
+     * e.g. {@code /page-0042}, so pages are ordered by their indexes.
+     *
+     * @param contextPath context path of the web app
+     * @param pageCount   number of pages in the web app
+     * @return created web app
+     */
+    public static App createPagesApp(String contextPath, int pageCount) {
+        SortedSet<Page> pages = new TreeSet<>();
+        for (int i = 0; i < pageCount; i++) {
+            pages.add(new HtmlPage(new UriPatten(getPageUri(i)), "<p>page " + i + "</p>"));
+        }
+        return new App("pages-app", contextPath, pages, Collections.emptySet(), Collections.emptySet(),
+                       Collections.emptySet(), Configuration.DEFAULT_CONFIGURATION, "/tmp/pages-app");
+    }
+
+    /**
+     * Returns the URI without the context path of a page in a web app created by {@link #createPagesApp(String, int)}.
+     *
+     * @param pageIndex index of the page
+     * @return URI of the page
+     */
+    public static String getPageUri(int pageIndex) {
+        return String.format("/page-%04d", pageIndex);
+    }
+
+    private static Path getAppsDirectory() {
+        String appsDirectory = System.getProperty(PROPERTY_APPS_DIRECTORY);
+        if (appsDirectory != null) {
+            return Paths.get(appsDirectory);
+        }
+        Path fromRoot = Paths.get(APPS_DIRECTORY);
+        return Files.isDirectory(fromRoot) ? fromRoot : Paths.get("..").resolve(APPS_DIRECTORY);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.api.Configuration;
+import org.wso2.carbon.uiserver.api.Page;
+import org.wso2.carbon.uiserver.api.exception.RenderingException;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.internal.http.InMemoryHttpRequest;
+import org.wso2.carbon.uiserver.internal.impl.HbsPage;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link HbsPage#render(HttpRequest, Configuration)} with the index page of the {@code full-app} test web
+ * app.
+ *
+ * @since 1.0.9
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HbsPageBenchmark {
+
+    private Page page;
+    private Configuration configuration;
+    private HttpRequest request;
+
+    @Setup
+    public void setup() {
+        App app = BenchmarkApps.createApp("full-app", "/full-app");
+        page = app.getPage("/").orElseThrow(() -> new IllegalStateException("Cannot find index page of " + app));
+        configuration = app.getConfiguration();
+        request = new InMemoryHttpRequest("/full-app/");
+    }
+
+    @Benchmark
+    public String render() throws RenderingException {
+        return page.render(request, configuration);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.uiserver.api.I18nResource;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link I18nResource#getMessage(String, Object[], String)}.
+ *
+ * @since 1.0.9
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class I18nResourceBenchmark {
+
+    private static final Object[] PARAMS = new Object[]{"Alice", 3};
+
+    private I18nResource i18nResource;
+
+    @Setup
+    public void setup() {
+        Map<String, String> messages = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            messages.put("message." + i, "Message number " + i);
+        }
+        messages.put("welcome", "Welcome!");
+        messages.put("greeting", "Hello {0}, you have {1} new messages.");
+        i18nResource = new I18nResource(Locale.US, messages);
+    }
+
+    @Benchmark
+    public String getMessage() {
+        return i18nResource.getMessage("welcome", null, "default");
+    }
+
+    @Benchmark
+    public String getMessageWithParams() {
+        return i18nResource.getMessage("greeting", PARAMS, "default");
+    }
+
+    @Benchmark
+    public String getMissingMessage() {
+        return i18nResource.getMessage("missing", null, "default");
+    }
+}
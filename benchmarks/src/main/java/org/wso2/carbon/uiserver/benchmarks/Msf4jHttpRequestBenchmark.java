@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.benchmarks;
+
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.internal.http.msf4j.Msf4jHttpRequest;
+import org.wso2.msf4j.Request;
+import org.wso2.transport.http.netty.message.HttpCarbonMessage;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the creation of a {@link Msf4jHttpRequest}, which happens for every HTTP request served by the UI server.
+ *
+ * @since 1.0.9
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Msf4jHttpRequestBenchmark {
+
+    private static final String URI = "/full-app/users/42/orders?sort=date&page=2";
+
+    private Request simpleRequest;
+    private Request browserRequest;
+
+    @Setup
+    public void setup() {
+        simpleRequest = createRequest(Collections.emptyMap());
+        Map<String, String> browserHeaders = new LinkedHashMap<>();
+        browserHeaders.put("Host", "localhost:9443");
+        browserHeaders.put("User-Agent", "Mozilla/5.0 (X11; Linux x86_64; rv:120.0) Gecko/20100101 Firefox/120.0");
+        browserHeaders.put("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8");
+        browserHeaders.put("Accept-Language", "en-US,en;q=0.5");
+        browserHeaders.put("Accept-Encoding", "gzip, deflate, br");
+        browserHeaders.put("Cookie", "JSESSIONID=0123456789ABCDEF; theme=dark; locale=en-US");
+        browserRequest = createRequest(browserHeaders);
+    }
+
+    @Benchmark
+    public HttpRequest createSimpleRequest() {
+        return new Msf4jHttpRequest(simpleRequest);
+    }
+
+    @Benchmark
+    public HttpRequest createBrowserRequest() {
+        return new Msf4jHttpRequest(browserRequest);
+    }
+
+    private static Request createRequest(Map<String, String> headers) {
+        HttpCarbonMessage httpCarbonMessage = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, URI));
+        headers.forEach(httpCarbonMessage::setHeader);
+        httpCarbonMessage.setProperty("TO", URI);
+        httpCarbonMessage.setProperty("HTTP_METHOD", HttpMethod.GET.name());
+        httpCarbonMessage.setProperty("HTTP_VERSION", "1.1");
+        httpCarbonMessage.setProperty("IS_SECURED_CONNECTION", true);
+        return new Request(httpCarbonMessage);
+    }
+}
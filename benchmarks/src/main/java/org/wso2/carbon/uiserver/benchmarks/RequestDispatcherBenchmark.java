@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+import org.wso2.carbon.uiserver.internal.http.InMemoryHttpRequest;
+import org.wso2.carbon.uiserver.internal.http.RequestDispatcher;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link RequestDispatcher#serve(HttpRequest)} for page, static resource, not found and redirect requests.
+ *
+ * @since 1.0.9
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestDispatcherBenchmark {
+
+    private RequestDispatcher fullAppDispatcher;
+    private RequestDispatcher pagesAppDispatcher;
+    private HttpRequest pageRequest;
+    private HttpRequest staticResourceRequest;
+    private HttpRequest notFoundRequest;
+    private HttpRequest redirectRequest;
+
+    @Setup
+    public void setup() {
+        fullAppDispatcher = new RequestDispatcher(BenchmarkApps.createApp("full-app", "/full-app"));
+        pagesAppDispatcher = new RequestDispatcher(BenchmarkApps.createPagesApp("/pages-app", 100));
+        pageRequest = new InMemoryHttpRequest("/full-app/");
+        staticResourceRequest = new InMemoryHttpRequest("/full-app/public/app/css/styles.css");
+        notFoundRequest = new InMemoryHttpRequest("/pages-app/missing/page");
+        redirectRequest = new InMemoryHttpRequest("/pages-app" + BenchmarkApps.getPageUri(99) + "/");
+    }
+
+    @Benchmark
+    public HttpResponse servePage() {
+        return fullAppDispatcher.serve(pageRequest);
+    }
+
+    @Benchmark
+    public HttpResponse serveStaticResource() {
+        return fullAppDispatcher.serve(staticResourceRequest);
+    }
+
+    @Benchmark
+    public HttpResponse serveNotFound() {
+        return pagesAppDispatcher.serve(notFoundRequest);
+    }
+
+    @Benchmark
+    public HttpResponse serveRedirect() {
+        return pagesAppDispatcher.serve(redirectRequest);
+    }
+}
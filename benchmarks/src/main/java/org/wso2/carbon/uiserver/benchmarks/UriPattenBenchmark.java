@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.uiserver.api.UriPatten;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks URI matching and ordering of {@link UriPatten}.
+ *
+ * @since 1.0.9
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UriPattenBenchmark {
+
+    private final UriPatten plainPatten = new UriPatten("/users/profile/settings");
+    private final UriPatten variablePatten = new UriPatten("/users/{id}/orders/{orderId}");
+    private final UriPatten wildcardPatten = new UriPatten("/users/{+path}");
+
+    @Benchmark
+    public boolean matchesPlain() {
+        return plainPatten.matches("/users/profile/settings");
+    }
+
+    @Benchmark
+    public boolean matchesVariables() {
+        return variablePatten.matches("/users/42/orders/1337");
+    }
+
+    @Benchmark
+    public boolean matchesMismatch() {
+        return variablePatten.matches("/accounts/42/orders/1337");
+    }
+
+    @Benchmark
+    public Optional<Map<String, String>> matchVariables() {
+        return variablePatten.match("/users/42/orders/1337");
+    }
+
+    @Benchmark
+    public Optional<Map<String, String>> matchWildcard() {
+        return wildcardPatten.match("/users/42/orders/1337");
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return plainPatten.compareTo(variablePatten) + variablePatten.compareTo(wildcardPatten);
+    }
+}
@@ -26,8 +26,11 @@ import org.wso2.carbon.uiserver.api.util.Multilocational;
 import org.wso2.carbon.uiserver.api.util.Overridable;
 import org.wso2.carbon.uiserver.internal.impl.OverriddenApp;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -35,6 +38,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
 /**
@@ -50,6 +55,7 @@ public class App implements Multilocational, Overridable<App> {
     private final Map<String, Extension> extensions;
     private final Map<String, Theme> themes;
     private final Map<Locale, I18nResource> i18nResources;
+    private final Map<Locale, I18nResource> flattenedI18nResources;
     private final Configuration configuration;
     private final List<String> paths;
 
@@ -64,6 +70,7 @@ public class App implements Multilocational, Overridable<App> {
      * @param i18nResources i18n resources of the app
      * @param configuration configurations of the app
      * @param path          path to the app
+     * @throws IllegalArgumentException if there are more than one i18n resource for a locale
      */
     public App(String name, String contextPath,
                SortedSet<Page> pages, Set<Extension> extensions, Set<Theme> themes, Set<I18nResource> i18nResources,
@@ -84,6 +91,7 @@ public class App implements Multilocational, Overridable<App> {
      * @param i18nResources i18n resources of the app
      * @param configuration configurations of the app
      * @param paths         paths to the app
+     * @throws IllegalArgumentException if there are more than one i18n resource for a locale
      */
     protected App(String name, String contextPath,
                   SortedSet<Page> pages, Set<Extension> extensions, Set<Theme> themes, Set<I18nResource> i18nResources,
@@ -95,8 +103,14 @@ public class App implements Multilocational, Overridable<App> {
                 .collect(Collectors.toMap(ext -> (ext.getType() + ":" + ext.getName()), ext -> ext));
         this.themes = themes.stream()
                 .collect(Collectors.toMap(Theme::getName, t -> t));
+        /* Merging i18n resources of the same locale here would depend on the iteration order of the set, hence such
+         * resources should be merged in a fixed order beforehand, as OverriddenApp does for override layers. */
         this.i18nResources = i18nResources.stream()
-                .collect(Collectors.toMap(I18nResource::getLocale, i18nResource -> i18nResource));
+                .collect(Collectors.toMap(I18nResource::getLocale, i18nResource -> i18nResource, (first, second) -> {
+                    throw new IllegalArgumentException("Web app '" + name + "' has more than one i18n resource for " +
+                                                       "locale '" + first.getLocale().toLanguageTag() + "'.");
+                }));
+        this.flattenedI18nResources = flattenI18nResources(this.i18nResources);
         this.configuration = configuration;
         this.paths = paths;
     }
@@ -153,13 +167,24 @@ public class App implements Multilocational, Overridable<App> {
     }
 
     /**
-     * Returns the i18n resource in this app specified by the given local.
+     * Returns the i18n resource in this app specified by the given local. Returned i18n resource also has the messages
+     * of its parent locales (e.g. messages of {@code fr} for {@code fr-CA}) that it does not define itself.
      *
      * @param locale locale of the i18n resource
      * @return i18n resource in the app
      */
     public Optional<I18nResource> getI18nResource(Locale locale) {
-        return Optional.ofNullable(i18nResources.get(locale));
+        return Optional.ofNullable(flattenedI18nResources.get(locale));
+    }
+
+    /**
+     * Returns the locales of the i18n resources in this app.
+     *
+     * @return locales of the app
+     * @since 1.0.9
+     */
+    public Set<Locale> getLocales() {
+        return Collections.unmodifiableSet(i18nResources.keySet());
     }
 
     /**
@@ -181,6 +206,27 @@ public class App implements Multilocational, Overridable<App> {
         return paths;
     }
 
+    /**
+     * Returns the pages of this app, in the order that they are matched against request URIs.
+     *
+     * @return pages of the app
+     * @since 1.0.9
+     */
+    public SortedSet<Page> getPages() {
+        return Collections.unmodifiableSortedSet(pages);
+    }
+
+    /**
+     * Returns the page that matches to the given URI.
+     *
+     * @param uriWithoutContextPath URI without the context path
+     * @return page matching to the URI or empty if there is no such page
+     * @since 1.0.9
+     */
+    public Optional<Page> getPage(String uriWithoutContextPath) {
+        return Optional.ofNullable(getMatchingPage(uriWithoutContextPath));
+    }
+
     /**
      * Renders and returns the HTML of the corresponding paage in this app.
      *
@@ -192,10 +238,44 @@ public class App implements Multilocational, Overridable<App> {
      */
     public String renderPage(HttpRequest request)
             throws RenderingException, PageNotFoundException, PageRedirectException {
+        return resolvePage(request).render(request, configuration);
+    }
+
+    /**
+     * Renders the HTML of the corresponding page in this app asynchronously. The returned stage completes
+     * exceptionally with a {@link RenderingException}, {@link PageNotFoundException} or {@link PageRedirectException}
+     * in the same situations where {@link #renderPage(HttpRequest)} throws them.
+     *
+     * @param request HTTP request for the page
+     * @return stage that completes with the HTML content of the page
+     * @since 1.0.9
+     */
+    public CompletionStage<String> renderPageAsync(HttpRequest request) {
+        Page matchingPage;
+        try {
+            matchingPage = resolvePage(request);
+        } catch (PageNotFoundException | PageRedirectException e) {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+        return matchingPage.renderAsync(request, configuration);
+    }
+
+    /**
+     * Returns the page in this app that corresponds to the given HTTP request.
+     *
+     * @param request HTTP request for the page
+     * @return page matching to the HTTP request
+     * @throws PageNotFoundException if there is no page matching for the HTTP request
+     * @throws PageRedirectException if the HTTP request should be redirected to the corrected URI of a page
+     * @since 1.0.9
+     */
+    public Page resolvePage(HttpRequest request) throws PageNotFoundException, PageRedirectException {
         String uriWithoutContextPath = request.getUriWithoutContextPath();
         Page matchingPage = getMatchingPage(uriWithoutContextPath);
         if (matchingPage != null) {
-            return matchingPage.render(request, configuration);
+            return matchingPage;
         }
 
         /* URL correction:
@@ -279,4 +359,30 @@ public class App implements Multilocational, Overridable<App> {
     protected static Collection<I18nResource> getI18nResourcesOf(App app) {
         return app.i18nResources.values();
     }
+
+    private static Map<Locale, I18nResource> flattenI18nResources(Map<Locale, I18nResource> i18nResources) {
+        Map<Locale, I18nResource> flattenedI18nResources = new HashMap<>();
+        i18nResources.forEach((locale, i18nResource) -> {
+            // Parent locales are collected from the nearest one, e.g. 'zh-Hant' and then 'zh' for 'zh-Hant-TW'.
+            Set<Locale> parentLocales = new LinkedHashSet<>();
+            String languageTag = locale.toLanguageTag();
+            for (int i = languageTag.lastIndexOf('-'); i > 0; i = languageTag.lastIndexOf('-')) {
+                languageTag = languageTag.substring(0, i);
+                Locale parentLocale = Locale.forLanguageTag(languageTag);
+                if (!parentLocale.equals(locale) && i18nResources.containsKey(parentLocale)) {
+                    parentLocales.add(parentLocale);
+                }
+            }
+            if (parentLocales.isEmpty()) {
+                flattenedI18nResources.put(locale, i18nResource);
+                return;
+            }
+
+            List<I18nResource> layers = new ArrayList<>(); // in ascending order of precedence
+            parentLocales.forEach(parentLocale -> layers.add(0, i18nResources.get(parentLocale)));
+            layers.add(i18nResource);
+            flattenedI18nResources.put(locale, I18nResource.merge(locale, layers));
+        });
+        return flattenedI18nResources;
+    }
 }
@@ -19,6 +19,10 @@
 package org.wso2.carbon.uiserver.api;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -34,6 +38,7 @@ public class I18nResource {
 
     private final Locale locale;
     private final Map<String, String> messages;
+    private final Map<String, CompiledMessage> compiledMessages;
 
     /**
      * Creates a new i18n resource.
@@ -42,8 +47,13 @@ public class I18nResource {
      * @param messages messages of the i18n resource
      */
     public I18nResource(Locale locale, Map<String, String> messages) {
+        this(locale, messages, compileMessages(locale, messages));
+    }
+
+    private I18nResource(Locale locale, Map<String, String> messages, Map<String, CompiledMessage> compiledMessages) {
         this.locale = locale;
         this.messages = messages;
+        this.compiledMessages = compiledMessages;
     }
 
     /**
@@ -55,6 +65,16 @@ public class I18nResource {
         return locale;
     }
 
+    /**
+     * Returns the messages of this i18n resource.
+     *
+     * @return messages of the i18n resource
+     * @since 1.0.9
+     */
+    public Map<String, String> getMessages() {
+        return (messages == null) ? Collections.emptyMap() : messages;
+    }
+
     /**
      * Returns the formatted message of the given message key. If no message is found for the given message key, then
      * the specified default message will be returned.
@@ -67,13 +87,24 @@ public class I18nResource {
      * given locale
      */
     public String getMessage(String messageKey, Object[] messageParams, String defaultMessage) {
-        String message = messages.get(messageKey);
-        if (message == null) {
-            return defaultMessage;
-        }
+        CompiledMessage compiledMessage = compiledMessages.get(messageKey);
+        return (compiledMessage == null) ? defaultMessage : compiledMessage.format(messageParams);
+    }
 
-        return ((messageParams == null) || (messageParams.length == 0)) ? message :
-                new MessageFormat(message, locale).format(messageParams);
+    /**
+     * Returns a new i18n resource which has the messages of this i18n resource and the given i18n resource. When both
+     * have a message for the same key, the message in the given i18n resource wins.
+     *
+     * @param override i18n resource that overrides this i18n resource
+     * @return overridden i18n resource
+     * @throws IllegalArgumentException if the locale of the given i18n resource is different
+     * @since 1.0.9
+     */
+    public I18nResource override(I18nResource override) throws IllegalArgumentException {
+        if (!Objects.equals(locale, override.locale)) {
+            throw new IllegalArgumentException(this + " cannot be overridden by " + override + " .");
+        }
+        return merge(locale, Arrays.asList(this, override));
     }
 
     @Override
@@ -98,6 +129,61 @@ public class I18nResource {
         return "I18nResource{locale=" + locale + "}";
     }
 
+    /**
+     * Merges the given i18n resources into a single i18n resource of the given locale, so that a message lookup in the
+     * merged i18n resource is a single probe no matter how many i18n resources provided messages to it.
+     *
+     * @param locale locale of the merged i18n resource
+     * @param layers i18n resources to be merged, in ascending order of precedence
+     * @return merged i18n resource
+     */
+    static I18nResource merge(Locale locale, List<I18nResource> layers) {
+        Map<String, String> messages = new HashMap<>();
+        Map<String, CompiledMessage> compiledMessages = new HashMap<>();
+        for (I18nResource layer : layers) {
+            if (layer.messages == null) {
+                continue;
+            }
+            // Compiled messages depend on the locale, hence can be reused only for the same locale.
+            boolean sameLocale = Objects.equals(locale, layer.locale);
+            layer.messages.forEach((key, message) -> {
+                messages.put(key, message);
+                if (message == null) {
+                    compiledMessages.remove(key);
+                } else {
+                    compiledMessages.put(key, sameLocale ? layer.compiledMessages.get(key) :
+                            CompiledMessage.compile(message, locale));
+                }
+            });
+        }
+        return new I18nResource(locale, Collections.unmodifiableMap(messages), compiledMessages);
+    }
+
+    private static Map<String, CompiledMessage> compileMessages(Locale locale, Map<String, String> messages) {
+        if (messages == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, CompiledMessage> compiledMessages = new HashMap<>();
+        messages.forEach((key, message) -> {
+            if (message != null) {
+                compiledMessages.put(key, CompiledMessage.compile(message, locale));
+            }
+        });
+        return compiledMessages;
+    }
+
+    /**
+     * Checks whether the given message might be changed by {@link MessageFormat}. Messages without any placeholders or
+     * quotes are formatted to themselves, hence can be returned as they are.
+     *
+     * @param message message to be checked
+     * @return {@code true} if the message has to be formatted, otherwise {@code false}
+     */
+    private static boolean isFormattable(String message) {
+        return (message.indexOf('{') >= 0) || (message.indexOf('\'') >= 0);
+    }
+
     /**
      * Returns the best matching locale chosen from a set of available locales for the given language ranges.
      *
@@ -122,4 +208,134 @@ public class I18nResource {
         }
         return matchingLocales.isEmpty() ? null : matchingLocales.get(0);
     }
+
+    /**
+     * A message pattern compiled at the creation of the i18n resource.
+     * <p>
+     * Messages without any placeholders or quotes are returned as they are. Patterns that consist of only literals and
+     * simple arguments (e.g. {@code "Hello {0}!"}) are split into their segments, so formatting them with string
+     * parameters is a mere concatenation. Other patterns and parameters (e.g. numbers and dates which need locale
+     * specific formatting) are formatted with a clone of the pre-parsed {@link MessageFormat}, as a {@link
+     * MessageFormat} is not thread-safe.
+     */
+    private static class CompiledMessage {
+
+        private final String pattern;
+        private final Locale locale;
+        private final boolean formattable;
+        private final MessageFormat messageFormat;
+        private final String[] literals;
+        private final int[] argumentIndexes;
+
+        private CompiledMessage(String pattern, Locale locale, MessageFormat messageFormat, String[] literals,
+                                int[] argumentIndexes) {
+            this.pattern = pattern;
+            this.locale = locale;
+            this.formattable = isFormattable(pattern);
+            this.messageFormat = messageFormat;
+            this.literals = literals;
+            this.argumentIndexes = argumentIndexes;
+        }
+
+        static CompiledMessage compile(String pattern, Locale locale) {
+            if (!isFormattable(pattern)) {
+                return new CompiledMessage(pattern, locale, null, null, null);
+            }
+            MessageFormat messageFormat;
+            try {
+                messageFormat = new MessageFormat(pattern, locale);
+            } catch (IllegalArgumentException e) {
+                // Ill formed message pattern. Error will be reported when the message is formatted.
+                return new CompiledMessage(pattern, locale, null, null, null);
+            }
+
+            List<String> literals = new ArrayList<>();
+            List<Integer> argumentIndexes = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            boolean inQuote = false;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == '\'') {
+                    if (((i + 1) < pattern.length()) && (pattern.charAt(i + 1) == '\'')) {
+                        literal.append('\''); // escaped quote
+                        i++;
+                    } else {
+                        inQuote = !inQuote;
+                    }
+                } else if (inQuote || (c != '{')) {
+                    literal.append(c);
+                } else {
+                    int closingIndex = pattern.indexOf('}', i);
+                    Integer argumentIndex = (closingIndex < 0) ? null :
+                            parseArgumentIndex(pattern.substring(i + 1, closingIndex));
+                    if (argumentIndex == null) {
+                        // Not a simple argument (e.g. '{0,number}'), hence use the message format always.
+                        return new CompiledMessage(pattern, locale, messageFormat, null, null);
+                    }
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    argumentIndexes.add(argumentIndex);
+                    i = closingIndex;
+                }
+            }
+            literals.add(literal.toString());
+
+            CompiledMessage compiledMessage = new CompiledMessage(
+                    pattern, locale, messageFormat, literals.toArray(new String[literals.size()]),
+                    argumentIndexes.stream().mapToInt(Integer::intValue).toArray());
+            // Make sure segments were split the same way as the message format does, otherwise use the message format.
+            Object[] probeParams = new Object[argumentIndexes.stream().mapToInt(Integer::intValue).max().orElse(0) + 1];
+            Arrays.setAll(probeParams, index -> "<" + index + ">");
+            if (!messageFormat.format(probeParams).equals(compiledMessage.format(probeParams))) {
+                return new CompiledMessage(pattern, locale, messageFormat, null, null);
+            }
+            return compiledMessage;
+        }
+
+        private static Integer parseArgumentIndex(String argument) {
+            if (argument.isEmpty()) {
+                return null;
+            }
+            for (int i = 0; i < argument.length(); i++) {
+                if (!Character.isDigit(argument.charAt(i))) {
+                    return null;
+                }
+            }
+            return Integer.valueOf(argument);
+        }
+
+        String format(Object[] params) {
+            if ((params == null) || (params.length == 0) || !formattable) {
+                return pattern;
+            }
+            if (messageFormat == null) {
+                // Message pattern was ill formed at the compilation, hence let MessageFormat report the error.
+                return new MessageFormat(pattern, locale).format(params);
+            }
+            if ((argumentIndexes == null) || !isConcatenatable(params)) {
+                return ((MessageFormat) messageFormat.clone()).format(params);
+            }
+
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < argumentIndexes.length; i++) {
+                sb.append(literals[i]);
+                int argumentIndex = argumentIndexes[i];
+                if (argumentIndex < params.length) {
+                    sb.append(params[argumentIndex]); // appends "null" for nulls, same as MessageFormat
+                } else {
+                    sb.append('{').append(argumentIndex).append('}'); // same as MessageFormat
+                }
+            }
+            return sb.append(literals[argumentIndexes.length]).toString();
+        }
+
+        private static boolean isConcatenatable(Object[] params) {
+            for (Object param : params) {
+                if ((param != null) && !(param instanceof String)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
@@ -22,6 +22,8 @@ import org.wso2.carbon.uiserver.api.exception.RenderingException;
 import org.wso2.carbon.uiserver.api.http.HttpRequest;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Represents a page of a web app.
@@ -70,6 +72,28 @@ public abstract class Page implements Comparable<Page> {
      */
     public abstract String render(HttpRequest request, Configuration configuration) throws RenderingException;
 
+    /**
+     * Renders this page asynchronously. The returned stage completes with the output HTML document, or completes
+     * exceptionally with a {@link RenderingException} if an error occurred during page rendering.
+     * <p>
+     * The default implementation renders the page in the calling thread. Pages which wait on I/O during rendering
+     * should override this method so that the calling thread is not held while waiting.
+     *
+     * @param request       HTTP request
+     * @param configuration configurations of the app
+     * @return stage that completes with the output html of page rendering
+     * @since 1.0.9
+     */
+    public CompletionStage<String> renderAsync(HttpRequest request, Configuration configuration) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        try {
+            future.complete(render(request, configuration));
+        } catch (RenderingException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
     @Override
     public int compareTo(Page otherPage) {
         return (otherPage == null) ? 1 : this.uriPatten.compareTo(otherPage.uriPatten);
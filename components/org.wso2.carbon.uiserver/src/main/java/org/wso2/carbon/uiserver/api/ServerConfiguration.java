@@ -21,6 +21,11 @@ package org.wso2.carbon.uiserver.api;
 import org.wso2.carbon.config.annotation.Configuration;
 import org.wso2.carbon.config.annotation.Element;
 
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
@@ -37,6 +42,19 @@ public class ServerConfiguration {
                            "Here key is the name of the web app abd value is configurations for that web app.")
     private Map<String, AppConfiguration> apps = Collections.emptyMap();
 
+    @Element(description = "Configurations for deploying web apps.")
+    private DeploymentConfiguration deployment = new DeploymentConfiguration();
+
+    @Element(description = "Configurations for tracing HTTP requests of web apps.")
+    private TracingConfiguration tracing = new TracingConfiguration();
+
+    @Element(description = "Configurations for the admin REST API that reports and manages the live state of " +
+                           "deployed web apps.")
+    private AdminConfiguration admin = new AdminConfiguration();
+
+    @Element(description = "Configurations for the access log of HTTP requests served by web apps.")
+    private AccessLogConfiguration accessLog = new AccessLogConfiguration();
+
     /**
      * Returns configurations for the specified app.
      *
@@ -47,6 +65,46 @@ public class ServerConfiguration {
         return Optional.ofNullable(apps.get(appName));
     }
 
+    /**
+     * Returns configurations for deploying web apps.
+     *
+     * @return web app deployment configurations
+     * @since 1.0.9
+     */
+    public DeploymentConfiguration getDeploymentConfiguration() {
+        return deployment;
+    }
+
+    /**
+     * Returns configurations for tracing HTTP requests.
+     *
+     * @return request tracing configurations
+     * @since 1.0.9
+     */
+    public TracingConfiguration getTracingConfiguration() {
+        return tracing;
+    }
+
+    /**
+     * Returns configurations for the admin REST API.
+     *
+     * @return admin REST API configurations
+     * @since 1.0.9
+     */
+    public AdminConfiguration getAdminConfiguration() {
+        return admin;
+    }
+
+    /**
+     * Returns configurations for the access log.
+     *
+     * @return access log configurations
+     * @since 1.0.9
+     */
+    public AccessLogConfiguration getAccessLogConfiguration() {
+        return accessLog;
+    }
+
     /**
      * Bean class for configurations of a web app.
      *
@@ -54,6 +112,37 @@ public class ServerConfiguration {
      */
     public static class AppConfiguration {
 
+        /**
+         * Concurrency limiter with a fixed limit.
+         *
+         * @since 1.0.9
+         */
+        public static final String LIMITER_FIXED = "fixed";
+        /**
+         * Concurrency limiter with a limit that adapts to the gradient of the response latencies.
+         *
+         * @since 1.0.9
+         */
+        public static final String LIMITER_GRADIENT = "gradient";
+        /**
+         * Web app is created when the server starts.
+         *
+         * @since 1.0.9
+         */
+        public static final String ACTIVATION_EAGER = "eager";
+        /**
+         * Web app is created when it serves its first HTTP request.
+         *
+         * @since 1.0.9
+         */
+        public static final String ACTIVATION_LAZY = "lazy";
+        /**
+         * Web app is created in the background after the server starts, or earlier if it serves an HTTP request.
+         *
+         * @since 1.0.9
+         */
+        public static final String ACTIVATION_BACKGROUND = "background";
+
         @Element(description = "Context path of this web app.\n" +
                                "This overrides the default context path (which is '/'+<app-name>) of the app. " +
                                "Context path should start with a '/' (e.g. '/foo').")
@@ -64,6 +153,29 @@ public class ServerConfiguration {
                                "If absent, this web app will be deployed to all available HTTPS transports.")
         private String transportId;
 
+        @Element(description = "Maximum number of HTTP requests of this web app that can be served concurrently.\n" +
+                               "Zero means unlimited. When the 'gradient' concurrency limiter is used, this is the " +
+                               "upper bound of the adaptive limit.")
+        private int maxConcurrentRequests = 0;
+
+        @Element(description = "Concurrency limiter of this web app.\n" +
+                               "'fixed': concurrency limit is 'maxConcurrentRequests'\n" +
+                               "'gradient': concurrency limit adapts to the gradient of the response latencies")
+        private String concurrencyLimiter = LIMITER_FIXED;
+
+        @Element(description = "Value in seconds for the 'Retry-After' header of 503 responses sent when requests " +
+                               "of this web app are rejected due to overload.")
+        private int retryAfter = 1;
+
+        @Element(description = "When to create this web app (compile its pages, load its i18n resources, etc.).\n" +
+                               "'eager': when the server starts\n" +
+                               "'lazy': when the web app serves its first HTTP request\n" +
+                               "'background': in the background after the server starts (see " +
+                               "'deployment.activationDelay'), or earlier if the web app serves an HTTP request\n" +
+                               "Lazy activation makes the server start faster when it hosts many rarely used web " +
+                               "apps.")
+        private String activation = ACTIVATION_EAGER;
+
         /**
          * Returns the context path in this app configuration.
          *
@@ -90,5 +202,499 @@ public class ServerConfiguration {
             }
             return Optional.ofNullable(transportId);
         }
+
+        /**
+         * Returns the maximum number of concurrent requests in this app configuration.
+         *
+         * @return the maximum number of concurrent requests, zero if unlimited
+         * @throws IllegalArgumentException if configured maximum number of concurrent requests is invalid
+         */
+        public int getMaxConcurrentRequests() throws IllegalArgumentException {
+            if (maxConcurrentRequests < 0) {
+                throw new IllegalArgumentException("Configured maximum number of concurrent requests '" +
+                                                   maxConcurrentRequests + "' is invalid as it is negative.");
+            }
+            return maxConcurrentRequests;
+        }
+
+        /**
+         * Returns the concurrency limiter in this app configuration.
+         *
+         * @return the concurrency limiter
+         * @throws IllegalArgumentException if configured concurrency limiter is invalid
+         * @since 1.0.9
+         */
+        public String getConcurrencyLimiter() throws IllegalArgumentException {
+            if (!LIMITER_FIXED.equals(concurrencyLimiter) && !LIMITER_GRADIENT.equals(concurrencyLimiter)) {
+                throw new IllegalArgumentException(
+                        "Configured concurrency limiter '" + concurrencyLimiter + "' is invalid as it should be " +
+                        "either '" + LIMITER_FIXED + "' or '" + LIMITER_GRADIENT + "'.");
+            }
+            return concurrencyLimiter;
+        }
+
+        /**
+         * Returns the retry after duration in this app configuration.
+         *
+         * @return the retry after duration in seconds
+         * @throws IllegalArgumentException if configured retry after duration is invalid
+         * @since 1.0.9
+         */
+        public int getRetryAfter() throws IllegalArgumentException {
+            if (retryAfter < 0) {
+                throw new IllegalArgumentException(
+                        "Configured retry after duration '" + retryAfter + "' is invalid as it is negative.");
+            }
+            return retryAfter;
+        }
+
+        /**
+         * Returns the activation in this app configuration.
+         *
+         * @return the activation
+         * @throws IllegalArgumentException if configured activation is invalid
+         * @since 1.0.9
+         */
+        public String getActivation() throws IllegalArgumentException {
+            if (!ACTIVATION_EAGER.equals(activation) && !ACTIVATION_LAZY.equals(activation) &&
+                !ACTIVATION_BACKGROUND.equals(activation)) {
+                throw new IllegalArgumentException(
+                        "Configured activation '" + activation + "' is invalid as it should be either '" +
+                        ACTIVATION_EAGER + "', '" + ACTIVATION_LAZY + "' or '" + ACTIVATION_BACKGROUND + "'.");
+            }
+            return activation;
+        }
+    }
+
+    /**
+     * Bean class for configurations of web app deployment.
+     *
+     * @since 1.0.9
+     */
+    public static class DeploymentConfiguration {
+
+        @Element(description = "Maximum number of web apps that can be created concurrently when the server starts.\n" +
+                               "One creates web apps sequentially, one at a time.")
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        @Element(description = "Whether to watch deployed web apps for changes in their files and reload them.\n" +
+                               "Meant for development and staged rollouts.")
+        private boolean liveReload = false;
+
+        @Element(description = "Time in milliseconds that a burst of changes in the files of a web app should settle " +
+                               "before reloading that web app, when live reload is enabled.")
+        private long liveReloadDelay = 300;
+
+        @Element(description = "Whether to warm up web apps before they start serving HTTP requests.\n" +
+                               "Warming up pre-resolves i18n bundles, pre-loads the hottest static resources and " +
+                               "pre-renders the hottest pages, as recorded in the hot sets of the previous run.")
+        private boolean warmUp = false;
+
+        @Element(description = "Directory to store hot sets (most requested URIs) of web apps, which are used to " +
+                               "warm up web apps when the server restarts.\n" +
+                               "It should be a directory dedicated to this server, owned by the server user and not " +
+                               "writable by others (e.g. '${carbon.home}/tmp/hot-sets'), as the URIs in it are " +
+                               "requested when warming up.\n" +
+                               "Empty (default) disables hot sets, hence only i18n bundles and static resource " +
+                               "indexes are warmed up.")
+        private String hotSetsDirectory = "";
+
+        @Element(description = "Maximum number of the hottest URIs of a web app that are requested when warming up.")
+        private int warmUpSize = 50;
+
+        @Element(description = "Maximum time in milliseconds to spend on warming up a web app.")
+        private long warmUpTimeout = 10000;
+
+        @Element(description = "Time in milliseconds to wait after a web app with 'background' activation is " +
+                               "deployed, before creating it in the background.")
+        private long activationDelay = 30000;
+
+        /**
+         * Returns the parallelism in this deployment configuration.
+         *
+         * @return maximum number of web apps that can be created concurrently
+         * @throws IllegalArgumentException if configured parallelism is invalid
+         */
+        public int getParallelism() throws IllegalArgumentException {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException(
+                        "Configured deployment parallelism '" + parallelism + "' is invalid as it is not positive.");
+            }
+            return parallelism;
+        }
+
+        /**
+         * Returns whether live reload is enabled in this deployment configuration.
+         *
+         * @return {@code true} if live reload is enabled, otherwise {@code false}
+         */
+        public boolean isLiveReload() {
+            return liveReload;
+        }
+
+        /**
+         * Returns the live reload delay in this deployment configuration.
+         *
+         * @return the live reload delay in milliseconds
+         * @throws IllegalArgumentException if configured live reload delay is invalid
+         */
+        public long getLiveReloadDelay() throws IllegalArgumentException {
+            if (liveReloadDelay < 0) {
+                throw new IllegalArgumentException(
+                        "Configured live reload delay '" + liveReloadDelay + "' is invalid as it is negative.");
+            }
+            return liveReloadDelay;
+        }
+
+        /**
+         * Returns whether warm-up is enabled in this deployment configuration.
+         *
+         * @return {@code true} if web apps are warmed up before serving requests, otherwise {@code false}
+         * @since 1.0.9
+         */
+        public boolean isWarmUp() {
+            return warmUp;
+        }
+
+        /**
+         * Returns the hot sets directory in this deployment configuration.
+         *
+         * @return the hot sets directory, or empty if hot sets are disabled
+         * @throws IllegalArgumentException if configured hot sets directory is invalid
+         * @since 1.0.9
+         */
+        public Optional<Path> getHotSetsDirectory() throws IllegalArgumentException {
+            if ((hotSetsDirectory == null) || hotSetsDirectory.trim().isEmpty()) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(Paths.get(hotSetsDirectory));
+            } catch (InvalidPathException e) {
+                throw new IllegalArgumentException(
+                        "Configured hot sets directory '" + hotSetsDirectory + "' is not a valid path.", e);
+            }
+        }
+
+        /**
+         * Returns the warm-up size in this deployment configuration.
+         *
+         * @return maximum number of hot URIs requested when warming up a web app
+         * @throws IllegalArgumentException if configured warm-up size is invalid
+         * @since 1.0.9
+         */
+        public int getWarmUpSize() throws IllegalArgumentException {
+            if (warmUpSize < 0) {
+                throw new IllegalArgumentException(
+                        "Configured warm-up size '" + warmUpSize + "' is invalid as it is negative.");
+            }
+            return warmUpSize;
+        }
+
+        /**
+         * Returns the warm-up timeout in this deployment configuration.
+         *
+         * @return maximum time in milliseconds to warm up a web app
+         * @throws IllegalArgumentException if configured warm-up timeout is invalid
+         * @since 1.0.9
+         */
+        public long getWarmUpTimeout() throws IllegalArgumentException {
+            if (warmUpTimeout <= 0) {
+                throw new IllegalArgumentException(
+                        "Configured warm-up timeout '" + warmUpTimeout + "' is invalid as it is not positive.");
+            }
+            return warmUpTimeout;
+        }
+
+        /**
+         * Returns the background activation delay in this deployment configuration.
+         *
+         * @return time in milliseconds to wait before activating a web app in the background
+         * @throws IllegalArgumentException if configured activation delay is invalid
+         * @since 1.0.9
+         */
+        public long getActivationDelay() throws IllegalArgumentException {
+            if (activationDelay < 0) {
+                throw new IllegalArgumentException(
+                        "Configured activation delay '" + activationDelay + "' is invalid as it is negative.");
+            }
+            return activationDelay;
+        }
+    }
+
+    /**
+     * Bean class for configurations of HTTP request tracing.
+     *
+     * @since 1.0.9
+     */
+    public static class TracingConfiguration {
+
+        @Element(description = "Whether to trace the stages (routing, rendering, file resolution, response writing) " +
+                               "of serving HTTP requests.")
+        private boolean enabled = true;
+
+        @Element(description = "Fraction of HTTP requests, between 0 and 1, whose traces are exported.\n" +
+                               "Traces of slow requests are always exported.")
+        private double sampleRate = 0.01;
+
+        @Element(description = "Time in milliseconds that serving an HTTP request can take before it is logged as a " +
+                               "slow request with a breakdown of its stages.\n" +
+                               "Zero disables logging slow requests.")
+        private long slowRequestThreshold = 1000;
+
+        @Element(description = "File to append exported traces as Zipkin v2 JSON spans, one JSON array per line.\n" +
+                               "Empty disables exporting to a file.")
+        private String exportFile = "";
+
+        @Element(description = "URL of a collector to post exported traces as Zipkin v2 JSON spans, e.g. " +
+                               "'http://localhost:9411/api/v2/spans'.\n" +
+                               "Empty disables exporting to a collector.")
+        private String collectorUrl = "";
+
+        @Element(description = "Maximum number of traces waiting to be exported. Further traces are dropped.")
+        private int exportQueueSize = 1024;
+
+        /**
+         * Returns whether request tracing is enabled in this tracing configuration.
+         *
+         * @return {@code true} if request tracing is enabled, otherwise {@code false}
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Returns the sample rate in this tracing configuration.
+         *
+         * @return fraction of requests whose traces are exported
+         * @throws IllegalArgumentException if configured sample rate is invalid
+         */
+        public double getSampleRate() throws IllegalArgumentException {
+            if (!((sampleRate >= 0) && (sampleRate <= 1))) {
+                throw new IllegalArgumentException(
+                        "Configured trace sample rate '" + sampleRate + "' is invalid as it is not between 0 and 1.");
+            }
+            return sampleRate;
+        }
+
+        /**
+         * Returns the slow request threshold in this tracing configuration.
+         *
+         * @return slow request threshold in milliseconds, {@code 0} if slow requests are not logged
+         * @throws IllegalArgumentException if configured slow request threshold is invalid
+         */
+        public long getSlowRequestThreshold() throws IllegalArgumentException {
+            if (slowRequestThreshold < 0) {
+                throw new IllegalArgumentException("Configured slow request threshold '" + slowRequestThreshold +
+                                                   "' is invalid as it is negative.");
+            }
+            return slowRequestThreshold;
+        }
+
+        /**
+         * Returns the file to export traces in this tracing configuration.
+         *
+         * @return the export file, or empty if traces are not exported to a file
+         * @throws IllegalArgumentException if configured export file is invalid
+         */
+        public Optional<Path> getExportFile() throws IllegalArgumentException {
+            if ((exportFile == null) || exportFile.trim().isEmpty()) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(Paths.get(exportFile));
+            } catch (InvalidPathException e) {
+                throw new IllegalArgumentException(
+                        "Configured trace export file '" + exportFile + "' is not a valid path.", e);
+            }
+        }
+
+        /**
+         * Returns the URL of the collector to export traces in this tracing configuration.
+         *
+         * @return the collector URL, or empty if traces are not exported to a collector
+         * @throws IllegalArgumentException if configured collector URL is invalid
+         */
+        public Optional<URL> getCollectorUrl() throws IllegalArgumentException {
+            if ((collectorUrl == null) || collectorUrl.trim().isEmpty()) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(new URL(collectorUrl));
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException(
+                        "Configured trace collector URL '" + collectorUrl + "' is not a valid URL.", e);
+            }
+        }
+
+        /**
+         * Returns the export queue size in this tracing configuration.
+         *
+         * @return maximum number of traces waiting to be exported
+         * @throws IllegalArgumentException if configured export queue size is invalid
+         */
+        public int getExportQueueSize() throws IllegalArgumentException {
+            if (exportQueueSize <= 0) {
+                throw new IllegalArgumentException("Configured trace export queue size '" + exportQueueSize +
+                                                   "' is invalid as it is not positive.");
+            }
+            return exportQueueSize;
+        }
+    }
+
+    /**
+     * Bean class for configurations of the admin REST API.
+     *
+     * @since 1.0.9
+     */
+    public static class AdminConfiguration {
+
+        @Element(description = "Whether to register the admin REST API.\n" +
+                               "The admin REST API exposes internal state of web apps and can clear their caches " +
+                               "without authentication, hence it is registered only to the transport given by " +
+                               "'transportId'.")
+        private boolean enabled = false;
+
+        @Element(description = "Context path of the admin REST API.")
+        private String contextPath = "/carbon-ui-server/admin";
+
+        @Element(description = "ID of the HTTP listener configuration that the admin REST API should be registered.\n" +
+                               "Required when the admin REST API is enabled. It should be an internal transport " +
+                               "which is not publicly reachable.")
+        private String transportId;
+
+        /**
+         * Returns whether the admin REST API is enabled in this admin configuration.
+         *
+         * @return {@code true} if the admin REST API is enabled, otherwise {@code false}
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Returns the context path in this admin configuration.
+         *
+         * @return the context path
+         * @throws IllegalArgumentException if configured context path is invalid
+         */
+        public String getContextPath() throws IllegalArgumentException {
+            if ((contextPath == null) || contextPath.isEmpty() || (contextPath.charAt(0) != '/')) {
+                throw new IllegalArgumentException("Configured admin context path '" + contextPath +
+                                                   "' is invalid as it does not start with a '/'.");
+            }
+            return contextPath;
+        }
+
+        /**
+         * Returns the transport ID in this admin configuration.
+         *
+         * @return the transport ID
+         * @throws IllegalArgumentException if transport ID is not configured or configured transport ID is invalid
+         */
+        public String getTransportId() throws IllegalArgumentException {
+            if ((transportId == null) || transportId.isEmpty()) {
+                // Admin REST API is not authenticated, hence it must not end up on public transports by default.
+                throw new IllegalArgumentException("Admin transport ID is not configured. Admin REST API must be " +
+                                                   "registered to an internal HTTP transport.");
+            }
+            return transportId;
+        }
+    }
+
+    /**
+     * Bean class for configurations of the access log.
+     *
+     * @since 1.0.9
+     */
+    public static class AccessLogConfiguration {
+
+        @Element(description = "Whether to write an access log of HTTP requests served by web apps.\n" +
+                               "Each served request is written as a JSON object per line, with its web app, method, " +
+                               "URI, status, bytes sent, latency and whether it was a cache hit.")
+        private boolean enabled = false;
+
+        @Element(description = "File to write the access log.\n" +
+                               "Rotated files are named by appending '.1', '.2', etc. to this file name.")
+        private String file = Paths.get(System.getProperty("wso2.runtime.path", ""), "logs",
+                                        "carbon-ui-server-access.log").toString();
+
+        @Element(description = "Size in bytes that the access log file can grow to before it is rotated.")
+        private long maxFileSize = 10 * 1024 * 1024;
+
+        @Element(description = "Maximum number of rotated access log files to keep. Older files are deleted.")
+        private int maxFiles = 10;
+
+        @Element(description = "Maximum number of access log entries waiting to be written. Further entries are " +
+                               "dropped, so serving requests never waits on writing the access log.")
+        private int bufferSize = 8192;
+
+        /**
+         * Returns whether the access log is enabled in this access log configuration.
+         *
+         * @return {@code true} if the access log is enabled, otherwise {@code false}
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Returns the access log file in this access log configuration.
+         *
+         * @return the access log file
+         * @throws IllegalArgumentException if configured access log file is invalid
+         */
+        public Path getFile() throws IllegalArgumentException {
+            if ((file == null) || file.trim().isEmpty()) {
+                throw new IllegalArgumentException("Configured access log file is invalid as it is empty.");
+            }
+            try {
+                return Paths.get(file);
+            } catch (InvalidPathException e) {
+                throw new IllegalArgumentException("Configured access log file '" + file + "' is not a valid path.",
+                                                   e);
+            }
+        }
+
+        /**
+         * Returns the maximum file size in this access log configuration.
+         *
+         * @return size in bytes that the access log file can grow to before it is rotated
+         * @throws IllegalArgumentException if configured maximum file size is invalid
+         */
+        public long getMaxFileSize() throws IllegalArgumentException {
+            if (maxFileSize <= 0) {
+                throw new IllegalArgumentException("Configured access log maximum file size '" + maxFileSize +
+                                                   "' is invalid as it is not positive.");
+            }
+            return maxFileSize;
+        }
+
+        /**
+         * Returns the maximum number of rotated files in this access log configuration.
+         *
+         * @return maximum number of rotated access log files to keep
+         * @throws IllegalArgumentException if configured maximum number of files is invalid
+         */
+        public int getMaxFiles() throws IllegalArgumentException {
+            if (maxFiles < 0) {
+                throw new IllegalArgumentException("Configured access log maximum number of files '" + maxFiles +
+                                                   "' is invalid as it is negative.");
+            }
+            return maxFiles;
+        }
+
+        /**
+         * Returns the buffer size in this access log configuration.
+         *
+         * @return maximum number of access log entries waiting to be written
+         * @throws IllegalArgumentException if configured buffer size is invalid
+         */
+        public int getBufferSize() throws IllegalArgumentException {
+            if (bufferSize <= 0) {
+                throw new IllegalArgumentException("Configured access log buffer size '" + bufferSize +
+                                                   "' is invalid as it is not positive.");
+            }
+            return bufferSize;
+        }
     }
 }
@@ -213,6 +213,22 @@ public interface HttpRequest {
         return getUriWithoutContextPath().startsWith("/public/themes/");
     }
 
+    /**
+     * Returns whether this request is for an i18n bundle (messages of a locale in JSON format), i.e. whether its URI is
+     * in {@code /i18n/{locale}.json} format. Whether the web app has such a locale is not checked, hence a web app
+     * may still serve other pages or resources under {@code /i18n/}.
+     *
+     * @return {@code true} if this is a request to an i18n bundle, {@code false} if not
+     * @since 1.0.9
+     */
+    default boolean isI18nBundleRequest() {
+        String uriWithoutContextPath = getUriWithoutContextPath();
+        // /i18n/{locale}.json
+        return uriWithoutContextPath.startsWith("/i18n/") && uriWithoutContextPath.endsWith(".json") &&
+               (uriWithoutContextPath.length() > "/i18n/.json".length()) &&
+               (uriWithoutContextPath.indexOf('/', "/i18n/".length()) == -1);
+    }
+
     /**
      * Returns whether this request is for the default favicon.
      *
@@ -37,6 +37,7 @@ public class HttpResponse {
     public static final int STATUS_FORBIDDEN = 403;
     public static final int STATUS_NOT_FOUND = 404;
     public static final int STATUS_INTERNAL_SERVER_ERROR = 500;
+    public static final int STATUS_SERVICE_UNAVAILABLE = 503;
 
     public static final String CONTENT_TYPE_WILDCARD = "*/*";
     public static final String CONTENT_TYPE_TEXT_PLAIN = "text/plain";
@@ -52,6 +53,10 @@ public class HttpResponse {
     public static final String HEADER_EXPIRES = "Expires";
     public static final String HEADER_PRAGMA = "Pragma";
     public static final String HEADER_X_FRAME_OPTIONS = "X-Frame-Options";
+    public static final String HEADER_RETRY_AFTER = "Retry-After";
+    public static final String HEADER_ETAG = "ETag";
+    public static final String HEADER_CONTENT_ENCODING = "Content-Encoding";
+    public static final String HEADER_VARY = "Vary";
 
     private int status;
     private Object content;
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.api.metrics;
+
+/**
+ * Latency statistics of a kind of HTTP requests. All latencies are in microseconds. Percentiles are accurate within
+ * a few percent as they are computed from a histogram.
+ *
+ * @since 1.0.9
+ */
+public class LatencyStatistics {
+
+    private final long count;
+    private final double mean;
+    private final long median;
+    private final long percentile90;
+    private final long percentile99;
+    private final long percentile999;
+    private final long max;
+
+    /**
+     * Creates new latency statistics.
+     *
+     * @param count         number of requests
+     * @param mean          mean latency
+     * @param median        median latency
+     * @param percentile90  90th percentile latency
+     * @param percentile99  99th percentile latency
+     * @param percentile999 99.9th percentile latency
+     * @param max           maximum latency
+     */
+    public LatencyStatistics(long count, double mean, long median, long percentile90, long percentile99,
+                             long percentile999, long max) {
+        this.count = count;
+        this.mean = mean;
+        this.median = median;
+        this.percentile90 = percentile90;
+        this.percentile99 = percentile99;
+        this.percentile999 = percentile999;
+        this.max = max;
+    }
+
+    /**
+     * Returns the number of requests.
+     *
+     * @return number of requests
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the mean latency.
+     *
+     * @return mean latency in microseconds
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the median latency.
+     *
+     * @return median latency in microseconds
+     */
+    public long getMedian() {
+        return median;
+    }
+
+    /**
+     * Returns the 90th percentile latency.
+     *
+     * @return 90th percentile latency in microseconds
+     */
+    public long get90thPercentile() {
+        return percentile90;
+    }
+
+    /**
+     * Returns the 99th percentile latency.
+     *
+     * @return 99th percentile latency in microseconds
+     */
+    public long get99thPercentile() {
+        return percentile99;
+    }
+
+    /**
+     * Returns the 99.9th percentile latency.
+     *
+     * @return 99.9th percentile latency in microseconds
+     */
+    public long get999thPercentile() {
+        return percentile999;
+    }
+
+    /**
+     * Returns the maximum latency.
+     *
+     * @return maximum latency in microseconds
+     */
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyStatistics{count=" + count + ", mean=" + mean + ", median=" + median + ", p90=" + percentile90 +
+               ", p99=" + percentile99 + ", p999=" + percentile999 + ", max=" + max + "}";
+    }
+}
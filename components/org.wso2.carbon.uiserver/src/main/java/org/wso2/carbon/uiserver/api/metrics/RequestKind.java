@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.api.metrics;
+
+/**
+ * Kinds of HTTP requests served by a web app.
+ *
+ * @since 1.0.9
+ */
+public enum RequestKind {
+
+    /**
+     * Requests for pages of the web app.
+     */
+    PAGE,
+    /**
+     * Requests for static resources of the web app, its extensions or themes.
+     */
+    STATIC_RESOURCE,
+    /**
+     * Requests for i18n bundles of the web app.
+     */
+    I18N_BUNDLE,
+    /**
+     * Requests for the default favicon.
+     */
+    FAVICON,
+    /**
+     * Invalid requests which cannot be dispatched to a page or a resource.
+     */
+    ERROR
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.api.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A point-in-time snapshot of the HTTP request metrics of a web app.
+ *
+ * @since 1.0.9
+ */
+public class RequestMetrics {
+
+    private final String appName;
+    private final long startTime;
+    private final long timestamp;
+    private final Map<RequestKind, LatencyStatistics> latencies;
+    private final Map<Integer, Long> statusCounts;
+    private final long bytesSent;
+    private final Map<String, Double> cacheHitRatios;
+
+    /**
+     * Creates a new snapshot.
+     *
+     * @param appName        name of the web app
+     * @param startTime      time that metrics recording started, in milliseconds since the epoch
+     * @param timestamp      time that this snapshot was taken, in milliseconds since the epoch
+     * @param latencies      latency statistics of each kind of requests
+     * @param statusCounts   number of responses of each HTTP status code
+     * @param bytesSent      number of bytes sent as response content
+     * @param cacheHitRatios hit ratio of each cache of the web app
+     */
+    public RequestMetrics(String appName, long startTime, long timestamp,
+                          Map<RequestKind, LatencyStatistics> latencies, Map<Integer, Long> statusCounts,
+                          long bytesSent, Map<String, Double> cacheHitRatios) {
+        this.appName = appName;
+        this.startTime = startTime;
+        this.timestamp = timestamp;
+        this.latencies = Collections.unmodifiableMap(latencies);
+        this.statusCounts = Collections.unmodifiableMap(statusCounts);
+        this.bytesSent = bytesSent;
+        this.cacheHitRatios = Collections.unmodifiableMap(cacheHitRatios);
+    }
+
+    /**
+     * Returns the name of the web app.
+     *
+     * @return name of the web app
+     */
+    public String getAppName() {
+        return appName;
+    }
+
+    /**
+     * Returns the time that metrics recording started for the web app.
+     *
+     * @return start time in milliseconds since the epoch
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Returns the time that this snapshot was taken.
+     *
+     * @return timestamp in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns latency statistics of each kind of requests served so far.
+     *
+     * @return latency statistics by request kind
+     */
+    public Map<RequestKind, LatencyStatistics> getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Returns latency statistics of the specified kind of requests.
+     *
+     * @param requestKind kind of requests
+     * @return latency statistics or empty if no such request was served
+     */
+    public Optional<LatencyStatistics> getLatency(RequestKind requestKind) {
+        return Optional.ofNullable(latencies.get(requestKind));
+    }
+
+    /**
+     * Returns the total number of requests served.
+     *
+     * @return number of requests
+     */
+    public long getRequestCount() {
+        return latencies.values().stream().mapToLong(LatencyStatistics::getCount).sum();
+    }
+
+    /**
+     * Returns the mean throughput since metrics recording started.
+     *
+     * @return number of requests served per second
+     */
+    public double getThroughput() {
+        long elapsedMillis = timestamp - startTime;
+        return (elapsedMillis <= 0) ? 0 : (getRequestCount() * 1000.0 / elapsedMillis);
+    }
+
+    /**
+     * Returns the number of responses sent for each HTTP status code.
+     *
+     * @return response counts by HTTP status code
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    /**
+     * Returns the number of bytes sent as response content. Content which size is not known upfront (e.g. streams
+     * read from the class path) is not counted.
+     *
+     * @return number of bytes sent
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Returns the hit ratio of each cache used when serving requests of the web app.
+     *
+     * @return hit ratios, between 0 and 1 (inclusive), by cache name
+     */
+    public Map<String, Double> getCacheHitRatios() {
+        return cacheHitRatios;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestMetrics{appName='" + appName + "', latencies=" + latencies + ", statusCounts=" + statusCounts +
+               ", bytesSent=" + bytesSent + ", cacheHitRatios=" + cacheHitRatios + "}";
+    }
+}
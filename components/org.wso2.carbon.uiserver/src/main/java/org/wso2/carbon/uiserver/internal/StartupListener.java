@@ -34,15 +34,26 @@ import org.wso2.carbon.config.provider.ConfigProvider;
 import org.wso2.carbon.deployment.engine.Deployer;
 import org.wso2.carbon.kernel.startupresolver.RequiredCapabilityListener;
 import org.wso2.carbon.kernel.startupresolver.StartupServiceUtils;
+import org.wso2.carbon.metrics.core.MetricService;
 import org.wso2.carbon.uiserver.api.ServerConfiguration;
+import org.wso2.carbon.uiserver.internal.accesslog.AccessLogWriter;
+import org.wso2.carbon.uiserver.internal.admin.AdminMicroservice;
+import org.wso2.carbon.uiserver.internal.deployment.StartupTimeline;
 import org.wso2.carbon.uiserver.internal.deployment.listener.AppTransportBinder;
 import org.wso2.carbon.uiserver.internal.deployment.listener.CarbonUiServer;
 import org.wso2.carbon.uiserver.internal.deployment.listener.RestApiDeployer;
+import org.wso2.carbon.uiserver.internal.deployment.msf4j.MicroserviceRegistration;
 import org.wso2.carbon.uiserver.internal.deployment.msf4j.MicroservicesRegistrar;
+import org.wso2.carbon.uiserver.internal.http.RequestExecutor;
 import org.wso2.carbon.uiserver.internal.io.deployment.ArtifactAppDeployer;
+import org.wso2.carbon.uiserver.internal.metrics.DeploymentMetrics;
+import org.wso2.carbon.uiserver.internal.metrics.RequestMetricsRegistry;
+import org.wso2.carbon.uiserver.internal.tracing.RequestTracer;
+import org.wso2.carbon.uiserver.internal.warmup.AppWarmer;
 import org.wso2.carbon.uiserver.spi.RestApiProvider;
 import org.wso2.carbon.uiserver.spi.Server;
 
+import java.util.Collections;
 import java.util.Dictionary;
 import java.util.HashSet;
 import java.util.Hashtable;
@@ -71,13 +82,20 @@ public class StartupListener implements RequiredCapabilityListener {
     private final Set<ServiceRegistration<?>> serviceRegistrations = new HashSet<>();
 
     private final Set<RestApiProvider> restApiProviders = ConcurrentHashMap.newKeySet();
+    private final RequestMetricsRegistry requestMetricsRegistry = new RequestMetricsRegistry();
+    private final DeploymentMetrics deploymentMetrics = new DeploymentMetrics();
     private ServerConfiguration serverConfiguration;
     private MicroservicesRegistrar microservicesRegistrar;
 
+    private RequestExecutor requestExecutor;
+    private RequestTracer requestTracer;
+    private AppWarmer appWarmer;
+    private AccessLogWriter accessLogWriter;
     private AppTransportBinder appTransportBinder;
     private RestApiDeployer restApiDeployer;
     private CarbonUiServer carbonUiServer;
     private ArtifactAppDeployer appDeployer;
+    private final Set<MicroserviceRegistration> adminRegistrations = new HashSet<>();
 
     @Reference(service = RestApiProvider.class,
                cardinality = ReferenceCardinality.MULTIPLE,
@@ -126,6 +144,23 @@ public class StartupListener implements RequiredCapabilityListener {
         this.microservicesRegistrar = null;
     }
 
+    @Reference(service = MetricService.class,
+               cardinality = ReferenceCardinality.OPTIONAL,
+               policy = ReferencePolicy.DYNAMIC,
+               unbind = "unsetMetricService")
+    protected void setMetricService(MetricService metricService) {
+        requestMetricsRegistry.setMetricService(metricService);
+        deploymentMetrics.setMetricService(metricService);
+        LOGGER.debug("An instance of class '{}' registered as a metric service.", metricService.getClass().getName());
+    }
+
+    protected void unsetMetricService(MetricService metricService) {
+        requestMetricsRegistry.setMetricService(null);
+        deploymentMetrics.setMetricService(null);
+        LOGGER.debug("An instance of class '{}' unregistered as a metric service.",
+                     metricService.getClass().getName());
+    }
+
     @Activate
     protected void activate(BundleContext bundleContext) {
         this.bundleContext = bundleContext;
@@ -136,6 +171,8 @@ public class StartupListener implements RequiredCapabilityListener {
     protected void deactivate() {
         bundleContext = null;
         serviceRegistrations.forEach(ServiceRegistration::unregister);
+        adminRegistrations.forEach(MicroserviceRegistration::unregister);
+        adminRegistrations.clear();
 
         restApiProviders.clear();
         serverConfiguration = null;
@@ -143,30 +180,129 @@ public class StartupListener implements RequiredCapabilityListener {
 
         appTransportBinder.close();
         appTransportBinder = null;
+        requestExecutor = null;
+        if (requestTracer != null) {
+            requestTracer.close();
+            requestTracer = null;
+        }
+        if (appWarmer != null) {
+            appWarmer.close();
+            appWarmer = null;
+        }
+        if (accessLogWriter != null) {
+            accessLogWriter.close();
+            accessLogWriter = null;
+        }
         restApiDeployer.close();
         restApiDeployer = null;
         carbonUiServer.close();
         carbonUiServer = null;
         appDeployer.close();
         appDeployer = null;
+        requestMetricsRegistry.close();
+        deploymentMetrics.close();
 
         LOGGER.debug("{} deactivated.", this.getClass().getName());
     }
 
     @Override
     public void onAllRequiredCapabilitiesAvailable() {
-        appTransportBinder = new AppTransportBinder(microservicesRegistrar, serverConfiguration);
+        StartupTimeline startupTimeline = new StartupTimeline();
+        requestExecutor = new RequestExecutor();
+        requestTracer = createRequestTracer(serverConfiguration);
+        appWarmer = createAppWarmer(serverConfiguration);
+        accessLogWriter = createAccessLogWriter(serverConfiguration);
+        startupTimeline.mark(StartupTimeline.EVENT_REQUEST_PIPELINE_CREATED);
+        appTransportBinder = AppTransportBinder.builder(microservicesRegistrar, requestExecutor, serverConfiguration)
+                .requestMetricsRegistry(requestMetricsRegistry)
+                .requestTracer(requestTracer)
+                .appWarmer(appWarmer)
+                .accessLogWriter(accessLogWriter)
+                .build();
         restApiDeployer = new RestApiDeployer(restApiProviders, microservicesRegistrar, serverConfiguration);
-        carbonUiServer = new CarbonUiServer();
+        carbonUiServer = new CarbonUiServer(requestMetricsRegistry);
         appDeployer = new ArtifactAppDeployer(ImmutableList.of(appTransportBinder, restApiDeployer, carbonUiServer),
-                                              serverConfiguration);
+                                              serverConfiguration, deploymentMetrics, startupTimeline);
+        startupTimeline.mark(StartupTimeline.EVENT_DEPLOYERS_CREATED);
 
         Dictionary<String, Object> properties = new Hashtable<>(singletonMap("skipCarbonStartupResolver", true));
         serviceRegistrations.add(bundleContext.registerService(Deployer.class, appDeployer, properties));
         LOGGER.debug("Web app deployer '{}' registered as a Carbon Deployer.", appDeployer.getClass().getName());
         serviceRegistrations.add(bundleContext.registerService(Server.class, carbonUiServer, properties));
         LOGGER.debug("Server '{}' registered as a Carbon UI Server.", carbonUiServer.getClass().getName());
+        startupTimeline.mark(StartupTimeline.EVENT_SERVICES_REGISTERED);
+        adminRegistrations.addAll(registerAdminMicroservice(serverConfiguration, startupTimeline));
+        startupTimeline.mark(StartupTimeline.EVENT_ADMIN_API_REGISTERED);
 
+        // Web apps are deployed (and lazy web apps activated) later, hence those events are marked as they happen.
+        LOGGER.info("Carbon UI Server startup timeline: {}", startupTimeline.toLogString());
         LOGGER.debug("Carbon UI Server Startup Listener fully activated.");
     }
+
+    private Set<MicroserviceRegistration> registerAdminMicroservice(ServerConfiguration serverConfiguration,
+                                                                    StartupTimeline startupTimeline) {
+        ServerConfiguration.AdminConfiguration adminConfiguration = serverConfiguration.getAdminConfiguration();
+        if (!adminConfiguration.isEnabled()) {
+            return Collections.emptySet();
+        }
+
+        AdminMicroservice adminMicroservice = new AdminMicroservice(carbonUiServer, appTransportBinder,
+                                                                    startupTimeline);
+        Set<MicroserviceRegistration> registrations;
+        String contextPath;
+        try {
+            contextPath = adminConfiguration.getContextPath();
+            registrations = Collections.singleton(microservicesRegistrar.register(
+                    adminMicroservice, contextPath, adminConfiguration.getTransportId()));
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Invalid admin configurations in 'deployment.yaml'. Admin REST API is not registered.", e);
+            return Collections.emptySet();
+        }
+        for (MicroserviceRegistration registration : registrations) {
+            LOGGER.info("Admin REST API is available at '{}'.",
+                        registration.getRegisteredHttpTransport().getUrlFor(contextPath));
+        }
+        return registrations;
+    }
+
+    private static RequestTracer createRequestTracer(ServerConfiguration serverConfiguration) {
+        ServerConfiguration.TracingConfiguration tracingConfiguration = serverConfiguration.getTracingConfiguration();
+        if (!tracingConfiguration.isEnabled()) {
+            return null;
+        }
+        try {
+            return new RequestTracer(tracingConfiguration);
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Invalid tracing configurations in 'deployment.yaml'. Falling-back to defaults.", e);
+            return new RequestTracer(new ServerConfiguration.TracingConfiguration());
+        }
+    }
+
+    private static AppWarmer createAppWarmer(ServerConfiguration serverConfiguration) {
+        ServerConfiguration.DeploymentConfiguration deploymentConfiguration =
+                serverConfiguration.getDeploymentConfiguration();
+        if (!deploymentConfiguration.isWarmUp()) {
+            return null;
+        }
+        try {
+            return new AppWarmer(deploymentConfiguration);
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Invalid deployment configurations in 'deployment.yaml'. Web app warm-up is disabled.", e);
+            return null;
+        }
+    }
+
+    private static AccessLogWriter createAccessLogWriter(ServerConfiguration serverConfiguration) {
+        ServerConfiguration.AccessLogConfiguration accessLogConfiguration =
+                serverConfiguration.getAccessLogConfiguration();
+        if (!accessLogConfiguration.isEnabled()) {
+            return null;
+        }
+        try {
+            return new AccessLogWriter(accessLogConfiguration);
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Invalid access log configurations in 'deployment.yaml'. Falling-back to defaults.", e);
+            return new AccessLogWriter(new ServerConfiguration.AccessLogConfiguration());
+        }
+    }
 }
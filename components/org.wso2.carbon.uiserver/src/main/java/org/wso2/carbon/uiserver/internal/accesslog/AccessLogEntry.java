@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.accesslog;
+
+/**
+ * An entry of the access log, which describes a served HTTP request.
+ *
+ * @since 1.0.9
+ */
+class AccessLogEntry {
+
+    private final long timestamp;
+    private final String appName;
+    private final String method;
+    private final String uri;
+    private final int status;
+    private final long bytes;
+    private final long latencyNanos;
+    private final boolean cacheHit;
+
+    /**
+     * Creates a new entry.
+     *
+     * @param timestamp    time that the request was served, in milliseconds since the epoch
+     * @param appName      name of the web app that served the request
+     * @param method       HTTP method of the request
+     * @param uri          URI of the request
+     * @param status       HTTP status of the response
+     * @param bytes        size of the response content in bytes, {@code 0} if unknown
+     * @param latencyNanos time taken to serve the request, in nanoseconds
+     * @param cacheHit     whether the response was served from a cache
+     */
+    AccessLogEntry(long timestamp, String appName, String method, String uri, int status, long bytes,
+                   long latencyNanos, boolean cacheHit) {
+        this.timestamp = timestamp;
+        this.appName = appName;
+        this.method = method;
+        this.uri = uri;
+        this.status = status;
+        this.bytes = bytes;
+        this.latencyNanos = latencyNanos;
+        this.cacheHit = cacheHit;
+    }
+
+    long getTimestamp() {
+        return timestamp;
+    }
+
+    String getAppName() {
+        return appName;
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    String getUri() {
+        return uri;
+    }
+
+    int getStatus() {
+        return status;
+    }
+
+    long getBytes() {
+        return bytes;
+    }
+
+    long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    boolean isCacheHit() {
+        return cacheHit;
+    }
+}
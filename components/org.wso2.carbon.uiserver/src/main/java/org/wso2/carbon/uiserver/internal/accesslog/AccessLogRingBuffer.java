@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free ring buffer with many producers and a single consumer.
+ * <p>
+ * Producers claim a slot by advancing the tail with a CAS and then publish their element to that slot. The consumer
+ * takes published elements in the order their slots were claimed and advances the head. Offering to a full buffer
+ * fails immediately instead of waiting for the consumer, hence producers never block.
+ *
+ * @param <E> type of the elements
+ * @since 1.0.9
+ */
+class AccessLogRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong tail;
+    private volatile long head;
+
+    /**
+     * Creates a new ring buffer.
+     *
+     * @param minCapacity minimum number of elements that the buffer can hold, which is rounded up to a power of two
+     */
+    AccessLogRingBuffer(int minCapacity) {
+        if ((minCapacity <= 0) || (minCapacity > (1 << 30))) {
+            throw new IllegalArgumentException("Capacity '" + minCapacity + "' is not between 1 and 2^30.");
+        }
+        this.capacity = (minCapacity == 1) ? 1 : Integer.highestOneBit(minCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.tail = new AtomicLong();
+    }
+
+    /**
+     * Adds the specified element to this buffer, if there is space for it.
+     *
+     * @param element element to add
+     * @return {@code true} if the element was added, {@code false} if the buffer is full
+     */
+    boolean offer(E element) {
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed - head >= capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(claimed, claimed + 1));
+        slots.lazySet((int) (claimed & mask), element);
+        return true;
+    }
+
+    /**
+     * Takes the published elements from this buffer. Must be called by a single consumer thread at a time.
+     *
+     * @param consumer    consumer of the taken elements
+     * @param maxElements maximum number of elements to take
+     * @return number of elements taken
+     */
+    int drain(Consumer<? super E> consumer, int maxElements) {
+        long current = head;
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) (current & mask);
+            E element = slots.get(index);
+            if (element == null) {
+                break; // either empty or the producer of this slot has not published yet
+            }
+            slots.lazySet(index, null);
+            consumer.accept(element);
+            current++;
+            drained++;
+        }
+        head = current;
+        return drained;
+    }
+
+    /**
+     * Returns the number of elements in this buffer, including the ones that are being published at the moment.
+     *
+     * @return number of elements
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Returns the capacity of this buffer.
+     *
+     * @return maximum number of elements that the buffer can hold
+     */
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.accesslog;
+
+import com.google.gson.stream.JsonWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uiserver.api.ServerConfiguration.AccessLogConfiguration;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+import org.wso2.carbon.uiserver.internal.metrics.RequestMetricsRecorder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+/**
+ * Writes the access log of HTTP requests served by web apps.
+ * <p>
+ * Each served request is written as a JSON object per line, e.g.
+ * <pre>
+ * {"time":"2018-01-01T10:00:00.123Z","app":"foo","method":"GET","uri":"/foo/","status":200,"bytes":1024,
+ * "latencyMicros":850,"cacheHit":false}
+ * </pre>
+ * Entries are put into a lock-free ring buffer and written in batches by a background thread, so serving requests
+ * never waits on writing the log. The background thread drains the buffer periodically, or as soon as the buffer is
+ * half full. When the buffer is full, entries are dropped. When the log file grows beyond the
+ * maximum file size, it is rotated by renaming it to {@code <file>.1} (shifting older files to {@code <file>.2} and so
+ * on) and deleting files beyond the maximum number of files.
+ *
+ * @since 1.0.9
+ */
+public class AccessLogWriter {
+
+    private static final String THREAD_NAME = "carbon-ui-server-access-log";
+    private static final int MAX_BATCH_SIZE = 1024;
+    private static final long DRAIN_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccessLogWriter.class);
+
+    private final Path file;
+    private final long maxFileSize;
+    private final int maxFiles;
+    private final AccessLogRingBuffer<AccessLogEntry> buffer;
+    private final int wakeUpSize;
+    private final LongAdder droppedEntries;
+    private final Thread writerThread;
+    private volatile boolean sleeping;
+    private volatile boolean closed;
+
+    // Following fields are accessed only by the writer thread.
+    private final StringWriter batch;
+    private OutputStream output;
+    private long fileSize;
+    private boolean failing;
+    private long reportedDroppedEntries;
+    private long lastDropReportTime;
+
+    /**
+     * Creates a new writer and starts its background thread.
+     *
+     * @param accessLogConfiguration access log configuration
+     * @throws IllegalArgumentException if the access log configurations are invalid
+     */
+    public AccessLogWriter(AccessLogConfiguration accessLogConfiguration) throws IllegalArgumentException {
+        this(accessLogConfiguration.getFile(), accessLogConfiguration.getMaxFileSize(),
+             accessLogConfiguration.getMaxFiles(), accessLogConfiguration.getBufferSize());
+    }
+
+    /**
+     * Creates a new writer and starts its background thread.
+     *
+     * @param file        file to write the access log
+     * @param maxFileSize size in bytes that the file can grow to before it is rotated
+     * @param maxFiles    maximum number of rotated files to keep
+     * @param bufferSize  maximum number of entries waiting to be written
+     */
+    public AccessLogWriter(Path file, long maxFileSize, int maxFiles, int bufferSize) {
+        this.file = file;
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = maxFiles;
+        this.buffer = new AccessLogRingBuffer<>(bufferSize);
+        this.wakeUpSize = Math.max(1, buffer.capacity() / 2);
+        this.droppedEntries = new LongAdder();
+        this.batch = new StringWriter();
+        this.lastDropReportTime = System.nanoTime();
+        this.writerThread = new Thread(this::run, THREAD_NAME);
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Logs the specified served request. This method never blocks; if the buffer is full the entry is dropped.
+     *
+     * @param appName      name of the web app that served the request
+     * @param request      served HTTP request
+     * @param response     HTTP response sent for the request
+     * @param latencyNanos time taken to serve the request, in nanoseconds
+     */
+    public void log(String appName, HttpRequest request, HttpResponse response, long latencyNanos) {
+        int status = response.getStatus();
+        // A 304 response means the client's cached copy was still valid, hence nothing was sent.
+        AccessLogEntry entry = new AccessLogEntry(System.currentTimeMillis(), appName, request.getMethod(),
+                                                  request.getUri(), status,
+                                                  RequestMetricsRecorder.getContentLength(response.getContent()),
+                                                  latencyNanos, status == HttpResponse.STATUS_NOT_MODIFIED);
+        if (closed || !buffer.offer(entry)) {
+            droppedEntries.increment();
+        }
+        if (sleeping && (buffer.size() >= wakeUpSize)) {
+            sleeping = false;
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * Returns the number of entries dropped so far because the buffer was full.
+     *
+     * @return number of dropped entries
+     */
+    public long getDroppedEntries() {
+        return droppedEntries.sum();
+    }
+
+    /**
+     * Closes this writer. Entries logged so far are written before the background thread stops.
+     */
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            // Read before draining, so entries logged before closing are still written.
+            boolean closing = closed;
+            int drained = buffer.drain(this::append, MAX_BATCH_SIZE);
+            if (drained > 0) {
+                write(drained);
+            }
+            reportDroppedEntries(closing);
+            if (drained == MAX_BATCH_SIZE) {
+                continue; // more entries are waiting
+            }
+            if (closing) {
+                break;
+            }
+            sleeping = true;
+            LockSupport.parkNanos(this, DRAIN_INTERVAL_NANOS);
+            sleeping = false;
+        }
+        closeOutput();
+        LOGGER.debug("Stopped writing the access log.");
+    }
+
+    private void append(AccessLogEntry entry) {
+        // JsonWriter is not closed, as that would close the batch writer.
+        JsonWriter jsonWriter = new JsonWriter(batch);
+        try {
+            jsonWriter.beginObject();
+            jsonWriter.name("time").value(Instant.ofEpochMilli(entry.getTimestamp()).toString());
+            jsonWriter.name("app").value(entry.getAppName());
+            jsonWriter.name("method").value(entry.getMethod());
+            jsonWriter.name("uri").value(entry.getUri());
+            jsonWriter.name("status").value(entry.getStatus());
+            jsonWriter.name("bytes").value(entry.getBytes());
+            jsonWriter.name("latencyMicros").value(TimeUnit.NANOSECONDS.toMicros(entry.getLatencyNanos()));
+            jsonWriter.name("cacheHit").value(entry.isCacheHit());
+            jsonWriter.endObject();
+            jsonWriter.flush();
+        } catch (IOException e) {
+            // StringWriter does not throw IOExceptions.
+            throw new IllegalStateException("Cannot encode access log entry.", e);
+        }
+        batch.write('\n');
+    }
+
+    private void write(int entryCount) {
+        byte[] bytes = batch.toString().getBytes(StandardCharsets.UTF_8);
+        batch.getBuffer().setLength(0);
+        try {
+            if (output == null) {
+                openOutput();
+            }
+            if ((fileSize > 0) && (fileSize + bytes.length > maxFileSize)) {
+                rotate();
+            }
+            output.write(bytes);
+            fileSize += bytes.length;
+            failing = false;
+        } catch (IOException e) {
+            if (!failing) {
+                // Logged once until writing succeeds again, so a broken disk does not flood the server log.
+                LOGGER.warn("Cannot write {} access log entries to file '{}'.", entryCount, file, e);
+                failing = true;
+            }
+            closeOutput();
+        }
+    }
+
+    private void openOutput() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        output = Files.newOutputStream(file, CREATE, APPEND);
+        fileSize = Files.size(file);
+    }
+
+    private void rotate() throws IOException {
+        closeOutput();
+        if (maxFiles == 0) {
+            Files.deleteIfExists(file);
+        } else {
+            Files.deleteIfExists(getRotatedFile(maxFiles));
+            for (int i = maxFiles - 1; i >= 1; i--) {
+                Path rotatedFile = getRotatedFile(i);
+                if (Files.exists(rotatedFile)) {
+                    Files.move(rotatedFile, getRotatedFile(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(file, getRotatedFile(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        LOGGER.debug("Access log file '{}' rotated.", file);
+        openOutput();
+    }
+
+    private Path getRotatedFile(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private void closeOutput() {
+        if (output != null) {
+            try {
+                output.close();
+            } catch (IOException e) {
+                LOGGER.debug("Cannot close access log file '{}'.", file, e);
+            }
+            output = null;
+        }
+    }
+
+    private void reportDroppedEntries(boolean force) {
+        long now = System.nanoTime();
+        if (!force && (now - lastDropReportTime < DROP_REPORT_INTERVAL_NANOS)) {
+            return;
+        }
+        long dropped = droppedEntries.sum();
+        if (dropped > reportedDroppedEntries) {
+            LOGGER.warn("{} access log entries were dropped as the access log buffer of size {} was full.",
+                        dropped - reportedDroppedEntries, buffer.capacity());
+            reportedDroppedEntries = dropped;
+        }
+        lastDropReportTime = now;
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.admin;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.api.metrics.LatencyStatistics;
+import org.wso2.carbon.uiserver.api.metrics.RequestKind;
+import org.wso2.carbon.uiserver.api.metrics.RequestMetrics;
+import org.wso2.carbon.uiserver.internal.deployment.StartupTimeline;
+import org.wso2.carbon.uiserver.internal.deployment.listener.AppTransportBinder;
+import org.wso2.carbon.uiserver.internal.deployment.listener.CarbonUiServer;
+import org.wso2.carbon.uiserver.internal.http.RequestDispatcher;
+import org.wso2.carbon.uiserver.internal.http.admission.AdmissionController;
+import org.wso2.carbon.uiserver.internal.impl.LazyApp;
+import org.wso2.msf4j.Microservice;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+/**
+ * Microservice of the admin REST API, which reports the live state of deployed web apps and manages their caches.
+ * <p>
+ * For each web app it reports the number of routes (pages), the override chain (paths of the app in the order of
+ * precedence), locales, caches with their sizes and hit ratios, in-flight requests and latency percentiles. Keys of the
+ * entries in a cache of a web app can be listed, and a cache can be cleared or warmed up without redeploying the web
+ * app. Lazy web apps that are not activated yet are
+ * reported without activating them. It also reports the startup timeline of the server.
+ *
+ * @since 1.0.9
+ */
+public class AdminMicroservice implements Microservice {
+
+    private static final Gson GSON = new Gson();
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdminMicroservice.class);
+
+    private final CarbonUiServer carbonUiServer;
+    private final AppTransportBinder appTransportBinder;
+    private final StartupTimeline startupTimeline;
+
+    /**
+     * Creates a new microservice.
+     *
+     * @param carbonUiServer     server that knows the deployed web apps and their request metrics
+     * @param appTransportBinder binder that knows the request dispatchers of the deployed web apps
+     */
+    public AdminMicroservice(CarbonUiServer carbonUiServer, AppTransportBinder appTransportBinder) {
+        this(carbonUiServer, appTransportBinder, null);
+    }
+
+    /**
+     * Creates a new microservice that also reports the startup timeline.
+     *
+     * @param carbonUiServer     server that knows the deployed web apps and their request metrics
+     * @param appTransportBinder binder that knows the request dispatchers of the deployed web apps
+     * @param startupTimeline    startup timeline of the server, {@code null} if not recorded
+     */
+    public AdminMicroservice(CarbonUiServer carbonUiServer, AppTransportBinder appTransportBinder,
+                             StartupTimeline startupTimeline) {
+        this.carbonUiServer = carbonUiServer;
+        this.appTransportBinder = appTransportBinder;
+        this.startupTimeline = startupTimeline;
+    }
+
+    /**
+     * Returns the startup timeline of the server.
+     *
+     * @return JSON object with the start time and the time elapsed in milliseconds by event
+     */
+    @GET
+    @Path("/startup")
+    public Response getStartup() {
+        return getStartupTimeline()
+                .map(timeline -> ok(timeline.toString()))
+                .orElseGet(() -> notFound("Startup timeline is not recorded."));
+    }
+
+    /**
+     * Returns the state of all deployed web apps.
+     *
+     * @return JSON array of the states of the web apps
+     */
+    @GET
+    @Path("/apps")
+    public Response getApps() {
+        return ok(getAppStates().toString());
+    }
+
+    /**
+     * Returns the state of the specified web app.
+     *
+     * @param appName name of the web app
+     * @return JSON object of the state of the web app
+     */
+    @GET
+    @Path("/apps/{appName}")
+    public Response getApp(@PathParam("appName") String appName) {
+        return getAppState(appName)
+                .map(appState -> ok(appState.toString()))
+                .orElseGet(() -> notFound("Web app '" + appName + "' is not deployed."));
+    }
+
+    /**
+     * Returns the contents of the specified cache of the specified web app.
+     *
+     * @param appName   name of the web app
+     * @param cacheName name of the cache
+     * @return JSON object with the size of the cache and the keys of its entries
+     */
+    @GET
+    @Path("/apps/{appName}/caches/{cacheName}")
+    public Response getCache(@PathParam("appName") String appName, @PathParam("cacheName") String cacheName) {
+        Optional<RequestDispatcher> requestDispatcher = appTransportBinder.getRequestDispatcher(appName);
+        if (!requestDispatcher.isPresent()) {
+            return notFound("Web app '" + appName + "' is not deployed or not activated yet.");
+        }
+        return requestDispatcher.get().getCacheKeys(cacheName)
+                .map(keys -> ok(toJson(cacheName, keys).toString()))
+                .orElseGet(() -> notFound("Web app '" + appName + "' does not have a cache named '" + cacheName +
+                                          "'."));
+    }
+
+    /**
+     * Clears the specified cache of the specified web app.
+     *
+     * @param appName   name of the web app
+     * @param cacheName name of the cache
+     * @return empty response if the cache was cleared
+     */
+    @DELETE
+    @Path("/apps/{appName}/caches/{cacheName}")
+    public Response clearCache(@PathParam("appName") String appName, @PathParam("cacheName") String cacheName) {
+        Optional<RequestDispatcher> requestDispatcher = appTransportBinder.getRequestDispatcher(appName);
+        if (!requestDispatcher.isPresent()) {
+            return notFound("Web app '" + appName + "' is not deployed or not activated yet.");
+        }
+        if (!requestDispatcher.get().clearCache(cacheName)) {
+            return notFound("Web app '" + appName + "' does not have a cache named '" + cacheName + "'.");
+        }
+        LOGGER.info("Cache '{}' of web app '{}' cleared via the admin REST API.", cacheName, appName);
+        return Response.noContent().build();
+    }
+
+    /**
+     * Warms up the specified cache of the specified web app.
+     *
+     * @param appName   name of the web app
+     * @param cacheName name of the cache
+     * @return JSON object with the number of entries populated in the cache
+     */
+    @POST
+    @Path("/apps/{appName}/caches/{cacheName}/warm-up")
+    public Response warmCache(@PathParam("appName") String appName, @PathParam("cacheName") String cacheName) {
+        Optional<RequestDispatcher> requestDispatcher = appTransportBinder.getRequestDispatcher(appName);
+        if (!requestDispatcher.isPresent()) {
+            return notFound("Web app '" + appName + "' is not deployed or not activated yet.");
+        }
+        Optional<Integer> warmedEntries = requestDispatcher.get().warmCache(cacheName);
+        if (!warmedEntries.isPresent()) {
+            return notFound("Web app '" + appName + "' does not have a cache named '" + cacheName + "'.");
+        }
+        LOGGER.info("Cache '{}' of web app '{}' warmed up with {} entries via the admin REST API.", cacheName,
+                    appName, warmedEntries.get());
+        JsonObject result = new JsonObject();
+        result.addProperty("warmedEntries", warmedEntries.get());
+        return ok(result.toString());
+    }
+
+    static JsonObject toJson(String cacheName, Set<String> keys) {
+        JsonObject json = new JsonObject();
+        json.addProperty("name", cacheName);
+        json.addProperty("size", keys.size());
+        json.add("keys", GSON.toJsonTree(keys));
+        return json;
+    }
+
+    Optional<JsonObject> getStartupTimeline() {
+        if (startupTimeline == null) {
+            return Optional.empty();
+        }
+        JsonObject json = new JsonObject();
+        json.addProperty("startTime", startupTimeline.getStartTime());
+        JsonObject events = new JsonObject();
+        startupTimeline.getEventNanos().forEach((event, nanos) -> events.addProperty(
+                event, TimeUnit.NANOSECONDS.toMillis(nanos)));
+        json.add("eventMillis", events);
+        return Optional.of(json);
+    }
+
+    JsonArray getAppStates() {
+        JsonArray appStates = new JsonArray();
+        carbonUiServer.getApps().stream()
+                .sorted(Comparator.comparing(App::getName))
+                .forEach(app -> appStates.add(toJson(app)));
+        return appStates;
+    }
+
+    Optional<JsonObject> getAppState(String appName) {
+        return carbonUiServer.getApp(appName).map(this::toJson);
+    }
+
+    private JsonObject toJson(App app) {
+        JsonObject json = new JsonObject();
+        json.addProperty("name", app.getName());
+        json.addProperty("contextPath", app.getContextPath());
+        boolean activated = !(app instanceof LazyApp) || ((LazyApp) app).isActivated();
+        json.addProperty("activated", activated);
+        json.add("overrideChain", GSON.toJsonTree(app.getPaths()));
+        if (activated) {
+            json.addProperty("routes", app.getPages().size());
+            JsonArray locales = new JsonArray();
+            app.getLocales().stream().map(Locale::toLanguageTag).sorted().forEach(locales::add);
+            json.add("locales", locales);
+        }
+
+        Optional<RequestMetrics> requestMetrics = carbonUiServer.getRequestMetrics(app.getName());
+        Optional<RequestDispatcher> requestDispatcher = appTransportBinder.getRequestDispatcher(app.getName());
+        JsonObject caches = new JsonObject();
+        requestDispatcher.ifPresent(dispatcher -> dispatcher.getCacheSizes().forEach((cacheName, size) -> {
+            JsonObject cache = new JsonObject();
+            cache.addProperty("size", size);
+            requestMetrics.map(metrics -> metrics.getCacheHitRatios().get(cacheName))
+                    .ifPresent(hitRatio -> cache.addProperty("hitRatio", hitRatio));
+            caches.add(cacheName, cache);
+        }));
+        json.add("caches", caches);
+
+        requestDispatcher.ifPresent(dispatcher -> json.addProperty("inFlightRequests",
+                                                                   dispatcher.getInFlightRequests()));
+        appTransportBinder.getAdmissionController(app.getName())
+                .ifPresent(admissionController -> json.addProperty("concurrencyLimit", admissionController.getLimit()));
+
+        requestMetrics.ifPresent(metrics -> {
+            JsonObject latencies = new JsonObject();
+            for (Map.Entry<RequestKind, LatencyStatistics> entry : metrics.getLatencies().entrySet()) {
+                LatencyStatistics statistics = entry.getValue();
+                JsonObject latency = new JsonObject();
+                latency.addProperty("count", statistics.getCount());
+                latency.addProperty("meanMicros", statistics.getMean());
+                latency.addProperty("medianMicros", statistics.getMedian());
+                latency.addProperty("p90Micros", statistics.get90thPercentile());
+                latency.addProperty("p99Micros", statistics.get99thPercentile());
+                latency.addProperty("p999Micros", statistics.get999thPercentile());
+                latency.addProperty("maxMicros", statistics.getMax());
+                latencies.add(entry.getKey().name(), latency);
+            }
+            json.add("latencies", latencies);
+        });
+        return json;
+    }
+
+    private static Response ok(String json) {
+        return Response.ok(json, MediaType.APPLICATION_JSON).build();
+    }
+
+    private static Response notFound(String message) {
+        JsonObject error = new JsonObject();
+        error.addProperty("error", message);
+        return Response.status(Response.Status.NOT_FOUND).entity(error.toString()).type(MediaType.APPLICATION_JSON)
+                .build();
+    }
+}
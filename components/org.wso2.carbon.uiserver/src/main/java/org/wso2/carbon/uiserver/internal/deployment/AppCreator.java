@@ -41,11 +41,21 @@ import org.wso2.carbon.uiserver.internal.reference.PageReference;
 import org.wso2.carbon.uiserver.internal.reference.ThemeReference;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.wso2.carbon.uiserver.internal.deployment.DeploymentReport.PHASE_DIRECTORY_WALK;
+import static org.wso2.carbon.uiserver.internal.deployment.DeploymentReport.PHASE_FILE_READ;
+import static org.wso2.carbon.uiserver.internal.deployment.DeploymentReport.PHASE_I18N_PARSE;
+import static org.wso2.carbon.uiserver.internal.deployment.DeploymentReport.PHASE_TEMPLATE_COMPILE;
+import static org.wso2.carbon.uiserver.internal.deployment.DeploymentReport.RETAINED_MESSAGES;
+import static org.wso2.carbon.uiserver.internal.deployment.DeploymentReport.RETAINED_TEMPLATES;
+import static org.wso2.carbon.uiserver.internal.deployment.DeploymentReport.estimateSize;
+
 /**
  * A creator that creates web apps.
  *
@@ -53,6 +63,12 @@ import java.util.stream.Collectors;
  */
 public class AppCreator {
 
+    /**
+     * A compiled Handlebars template keeps the text of the template along with its syntax tree.
+     */
+    private static final long HBS_TEMPLATE_SIZE_FACTOR = 2;
+    private static final long COMPILED_MESSAGE_OVERHEAD_BYTES = 56;
+
     /**
      * Creates an app.
      *
@@ -62,33 +78,69 @@ public class AppCreator {
      * @throws AppCreationException if an error occurred when creating the app
      */
     public static App createApp(AppReference appReference, String appContext) throws AppCreationException {
+        return createApp(appReference, appContext, new DeploymentReport(appReference.getName()));
+    }
+
+    /**
+     * Creates an app and records the time taken by each phase of the creation and the estimated retained heap size of
+     * the created app in the supplied report.
+     *
+     * @param appReference     reference to the app
+     * @param appContext       context path of the app
+     * @param deploymentReport report to record phases and retained sizes
+     * @return created app
+     * @throws AppCreationException if an error occurred when creating the app
+     * @since 1.0.9
+     */
+    public static App createApp(AppReference appReference, String appContext, DeploymentReport deploymentReport)
+            throws AppCreationException {
         try {
-            SortedSet<Page> pages = createPages(appReference);
-            Set<Extension> extensions = appReference.getExtensionReferences().stream()
+            Set<PageReference> pageReferences = deploymentReport.time(PHASE_DIRECTORY_WALK,
+                                                                      appReference::getPageReferences);
+            Set<ExtensionReference> extensionReferences = deploymentReport.time(PHASE_DIRECTORY_WALK,
+                                                                                appReference::getExtensionReferences);
+            Set<ThemeReference> themeReferences = deploymentReport.time(PHASE_DIRECTORY_WALK,
+                                                                        appReference::getThemeReferences);
+            Set<I18nResourceReference> i18nResourceReferences =
+                    deploymentReport.time(PHASE_DIRECTORY_WALK, appReference::getI18nResourceReferences);
+
+            SortedSet<Page> pages = createPages(pageReferences, deploymentReport);
+            Set<Extension> extensions = extensionReferences.stream()
                     .map(AppCreator::createExtension)
                     .collect(Collectors.toSet());
-            Set<Theme> themes = appReference.getThemeReferences().stream()
+            Set<Theme> themes = themeReferences.stream()
                     .map(AppCreator::createTheme)
                     .collect(Collectors.toSet());
-            Set<I18nResource> i18nResources = appReference.getI18nResourceReferences().stream()
-                    .map(AppCreator::createI18nResource)
-                    .collect(Collectors.toSet());
-            Configuration configuration = appReference.getConfiguration()
-                    .map(AppCreator::createConfiguration)
-                    .orElse(Configuration.DEFAULT_CONFIGURATION);
+            // Messages files of locales are independent of each other, hence read them in parallel.
+            Set<I18nResource> i18nResources = deploymentReport.time(PHASE_I18N_PARSE, () ->
+                    i18nResourceReferences.parallelStream()
+                            .map(AppCreator::createI18nResource)
+                            .collect(Collectors.toSet()));
+            i18nResources.forEach(i18nResource -> deploymentReport.addRetainedBytes(
+                    RETAINED_MESSAGES, estimateSize(i18nResource.getMessages()) +
+                                       (i18nResource.getMessages().size() * COMPILED_MESSAGE_OVERHEAD_BYTES)));
+            Configuration configuration = deploymentReport.time(PHASE_FILE_READ, () ->
+                    appReference.getConfiguration()
+                            .map(AppCreator::createConfiguration)
+                            .orElse(Configuration.DEFAULT_CONFIGURATION));
             return new App(appReference.getName(), appContext, pages, extensions, themes, i18nResources, configuration,
                            appReference.getPath());
-        } catch (FileOperationException e) {
+        } catch (FileOperationException | IllegalArgumentException e) {
             throw new AppCreationException(
                     "Cannot create web app '" + appReference.getName() + "' with context path '" + appContext + "'.",
                     e);
         }
     }
 
-    private static SortedSet<Page> createPages(AppReference appReference) {
-        List<Page> pages = appReference.getPageReferences().stream()
-                .map(AppCreator::createPage)
-                .collect(Collectors.toList());
+    private static SortedSet<Page> createPages(Set<PageReference> pageReferences, DeploymentReport deploymentReport) {
+        Map<PageReference, String> pageContents = deploymentReport.time(PHASE_FILE_READ, () ->
+                pageReferences.stream()
+                        .collect(Collectors.toMap(Function.identity(), pr -> pr.getHtmlFile().getContent())));
+        List<Page> pages = deploymentReport.time(PHASE_TEMPLATE_COMPILE, () ->
+                pageReferences.stream()
+                        .map(pageReference -> createPage(pageReference, pageContents.get(pageReference),
+                                                         deploymentReport))
+                        .collect(Collectors.toList()));
         // TODO: 10/13/17 remove following workaround after adding support for URI patterns with * in UriPatten class
         if ((pages.size() == 1) && (pages.get(0).getUriPatten().matches("/index"))) {
             final Page indexPage = pages.get(0);
@@ -103,13 +155,16 @@ public class AppCreator {
         return new TreeSet<>(pages);
     }
 
-    private static Page createPage(PageReference pageReference) {
+    private static Page createPage(PageReference pageReference, String content, DeploymentReport deploymentReport) {
         FileReference fileReference = pageReference.getHtmlFile();
         switch (fileReference.getExtension()) {
             case "html":
-                return new HtmlPage(new UriPatten(pageReference.getPathPattern()), fileReference.getContent());
+                deploymentReport.addRetainedBytes(RETAINED_TEMPLATES, estimateSize(content));
+                return new HtmlPage(new UriPatten(pageReference.getPathPattern()), content);
             case "hbs":
-                return new HbsPage(new UriPatten(pageReference.getPathPattern()), fileReference.getContent());
+                deploymentReport.addRetainedBytes(RETAINED_TEMPLATES,
+                                                  estimateSize(content) * HBS_TEMPLATE_SIZE_FACTOR);
+                return new HbsPage(new UriPatten(pageReference.getPathPattern()), content);
             default:
                 throw new AppCreationException("Found unsupported extension '" + fileReference.getExtension() +
                                                "' when creating a page for file '" + fileReference.getFilePath() +
@@ -43,4 +43,48 @@ public interface AppDeploymentEventListener {
      * @throws AppDeploymentEventListenerException if an error occurred when calling
      */
     void appUndeploymentEvent(String appName) throws AppDeploymentEventListenerException;
+
+    /**
+     * Invoked when a deployed app is reloaded. The reloaded app has the same name and context path as the previously
+     * deployed app, but it might be a different object if the files of the app were changed.
+     * <p>
+     * By default this undeploys the previously deployed app and deploys the reloaded app.
+     *
+     * @param app the reloaded app
+     * @throws AppDeploymentEventListenerException if an error occurred when calling
+     * @since 1.0.9
+     */
+    default void appReloadEvent(App app) throws AppDeploymentEventListenerException {
+        appUndeploymentEvent(app.getName());
+        appDeploymentEvent(app);
+    }
+
+    /**
+     * Invoked when only the static resources of a deployed app are changed. Static resources are served from the files
+     * of the app, hence the app is not recreated and the given app is the same object that was deployed.
+     * <p>
+     * By default this does nothing.
+     *
+     * @param app the app whose static resources are changed
+     * @throws AppDeploymentEventListenerException if an error occurred when calling
+     * @since 1.0.9
+     */
+    default void appStaticResourcesChangeEvent(App app) throws AppDeploymentEventListenerException {
+        // Nothing is derived from static resources by default.
+    }
+
+    /**
+     * Invoked when a lazily deployed app (see {@link org.wso2.carbon.uiserver.internal.impl.LazyApp}) is activated in
+     * the background, i.e. the full app was created before the app served any request. The activated app is the same
+     * object that was deployed.
+     * <p>
+     * By default this does nothing.
+     *
+     * @param app the activated app
+     * @throws AppDeploymentEventListenerException if an error occurred when calling
+     * @since 1.0.9
+     */
+    default void appActivationEvent(App app) throws AppDeploymentEventListenerException {
+        // Lazily deployed apps are activated on demand when their methods are called.
+    }
 }
@@ -18,22 +18,32 @@
 
 package org.wso2.carbon.uiserver.internal.deployment;
 
+import com.google.common.collect.ImmutableSet;
 import org.wso2.carbon.uiserver.api.App;
 
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Registry that holds created web apps.
+ * <p>
+ * This registry is thread-safe. Apps are also indexed by their names and context paths, so that finding the apps that
+ * can override or have overridden an app does not scan all apps. Lookups never block, whereas modifications are
+ * serialized so that the indexes are always consistent with the registered apps.
  *
  * @since 0.12.0
  */
 public class AppRegistry {
 
-    private final Map<String, App> apps = new HashMap<>();
+    private final Map<String, App> apps = new ConcurrentHashMap<>();
+    private final Map<String, Set<App>> appsByName = new ConcurrentHashMap<>();
+    private final Map<String, Set<App>> appsByContextPath = new ConcurrentHashMap<>();
 
     /**
      * Adds an app to this registry.
@@ -42,9 +52,13 @@ public class AppRegistry {
      * @return a key that can be used later to retrieve the added app object
      * @see #get(String)
      */
-    public String add(App app) {
+    public synchronized String add(App app) {
         String key = keyFor(app);
-        apps.put(key, app);
+        App previousApp = apps.put(key, app);
+        if (previousApp != null) {
+            unindex(previousApp);
+        }
+        index(app);
         return key;
     }
 
@@ -65,7 +79,7 @@ public class AppRegistry {
      * @return all apps added to the registry
      */
     public Collection<App> getAll() {
-        return apps.values();
+        return Collections.unmodifiableCollection(apps.values());
     }
 
     /**
@@ -75,8 +89,12 @@ public class AppRegistry {
      * @return associated app, or {@link Optional#empty() empty} if there is no app for the key
      * @see #remove(App)
      */
-    public Optional<App> remove(String key) {
-        return Optional.ofNullable(apps.remove(key));
+    public synchronized Optional<App> remove(String key) {
+        App removedApp = apps.remove(key);
+        if (removedApp != null) {
+            unindex(removedApp);
+        }
+        return Optional.ofNullable(removedApp);
     }
 
     /**
@@ -86,7 +104,21 @@ public class AppRegistry {
      * @return {@code true} if the app was found & removed, otherwise {@code false}
      */
     public boolean remove(App app) {
-        return apps.remove(keyFor(app)) != null;
+        return remove(keyFor(app)).isPresent();
+    }
+
+    /**
+     * Atomically removes the specified existing app and adds the specified replacement app, so that there is no moment
+     * at which neither of them is in this registry.
+     *
+     * @param existingApp    app to be removed
+     * @param replacementApp app to be added
+     * @return a key that can be used later to retrieve the replacement app object
+     * @since 1.0.9
+     */
+    public synchronized String replace(App existingApp, App replacementApp) {
+        remove(existingApp);
+        return add(replacementApp);
     }
 
     /**
@@ -99,11 +131,82 @@ public class AppRegistry {
         return apps.values().stream().filter(predicate).findFirst();
     }
 
+    /**
+     * Returns the apps in this registry that have the specified name.
+     *
+     * @param appName name of the apps
+     * @return apps with the name
+     * @since 1.0.9
+     */
+    public Set<App> findByName(String appName) {
+        return appsByName.getOrDefault(appName, Collections.emptySet());
+    }
+
+    /**
+     * Returns the apps in this registry that have the specified context path.
+     *
+     * @param contextPath context path of the apps
+     * @return apps with the context path
+     * @since 1.0.9
+     */
+    public Set<App> findByContextPath(String contextPath) {
+        return appsByContextPath.getOrDefault(contextPath, Collections.emptySet());
+    }
+
+    /**
+     * Returns an app in this registry that can be overridden by the specified app.
+     *
+     * @param app app that overrides
+     * @return an app that can be overridden by the app, if non found then {@link Optional#empty()}
+     * @since 1.0.9
+     */
+    public Optional<App> findOverridable(App app) {
+        // Apps that can override each other have the same name.
+        return findByName(app.getName()).stream().filter(candidate -> candidate.canOverrideBy(app)).findFirst();
+    }
+
+    /**
+     * Returns an app in this registry that has been overridden by the specified app.
+     *
+     * @param app app that has overridden
+     * @return an app that has been overridden by the app, if non found then {@link Optional#empty()}
+     * @since 1.0.9
+     */
+    public Optional<App> findOverriddenBy(App app) {
+        // An overridden app has the name of its override.
+        return findByName(app.getName()).stream().filter(candidate -> candidate.hasOverriddenBy(app)).findFirst();
+    }
+
     /**
      * Removes all apps in this registry.
      */
-    public void clear() {
+    public synchronized void clear() {
         apps.clear();
+        appsByName.clear();
+        appsByContextPath.clear();
+    }
+
+    private void index(App app) {
+        appsByName.merge(app.getName(), Collections.singleton(app), AppRegistry::union);
+        appsByContextPath.merge(app.getContextPath(), Collections.singleton(app), AppRegistry::union);
+    }
+
+    private void unindex(App app) {
+        appsByName.computeIfPresent(app.getName(), (name, indexedApps) -> difference(indexedApps, app));
+        appsByContextPath.computeIfPresent(app.getContextPath(),
+                                           (contextPath, indexedApps) -> difference(indexedApps, app));
+    }
+
+    private static Set<App> union(Set<App> indexedApps, Set<App> apps) {
+        // Indexed sets are never modified, hence lookups can return them without copying.
+        return ImmutableSet.<App>builder().addAll(indexedApps).addAll(apps).build();
+    }
+
+    private static Set<App> difference(Set<App> indexedApps, App app) {
+        Set<App> apps = indexedApps.stream()
+                .filter(indexedApp -> !indexedApp.equals(app))
+                .collect(Collectors.collectingAndThen(Collectors.toSet(), ImmutableSet::copyOf));
+        return apps.isEmpty() ? null : apps; // returning null removes the entry
     }
 
     private static String keyFor(App app) {
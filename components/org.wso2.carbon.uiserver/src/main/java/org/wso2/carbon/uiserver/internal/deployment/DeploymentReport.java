@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.deployment;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Time taken by each phase of deploying a web app and the estimated heap size retained by the deployed web app.
+ * <p>
+ * A report is filled by a single thread at a time, i.e. the thread that creates or deploys the web app.
+ *
+ * @since 1.0.9
+ */
+public class DeploymentReport {
+
+    public static final String PHASE_DIRECTORY_WALK = "directory-walk";
+    public static final String PHASE_FILE_READ = "file-read";
+    public static final String PHASE_TEMPLATE_COMPILE = "template-compile";
+    public static final String PHASE_I18N_PARSE = "i18n-parse";
+    public static final String PHASE_OVERRIDE_MERGE = "override-merge";
+    public static final String PHASE_PUBLISH_PREFIX = "publish.";
+
+    public static final String RETAINED_TEMPLATES = "templates";
+    public static final String RETAINED_MESSAGES = "messages";
+
+    private static final long STRING_OVERHEAD_BYTES = 40; // object header, fields and char array header
+    private static final long MAP_ENTRY_OVERHEAD_BYTES = 32;
+
+    private final String appName;
+    private final Map<String, Long> phaseNanos;
+    private final Map<String, Long> retainedBytes;
+
+    /**
+     * Creates a new report.
+     *
+     * @param appName name of the web app
+     */
+    public DeploymentReport(String appName) {
+        this.appName = appName;
+        this.phaseNanos = new LinkedHashMap<>();
+        this.retainedBytes = new LinkedHashMap<>();
+    }
+
+    /**
+     * Runs the supplied task and adds the time it took to the specified phase.
+     *
+     * @param phase phase of the deployment
+     * @param task  task to be run
+     * @param <T>   type of the result of the task
+     * @return result of the task
+     */
+    public <T> T time(String phase, Supplier<T> task) {
+        long startTime = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            addPhase(phase, System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Adds the specified time to the specified phase.
+     *
+     * @param phase phase of the deployment
+     * @param nanos time taken in nanoseconds
+     */
+    public void addPhase(String phase, long nanos) {
+        phaseNanos.merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * Adds the specified estimated size to the specified category of retained heap.
+     *
+     * @param category category, e.g. {@link #RETAINED_TEMPLATES}
+     * @param bytes    estimated size in bytes
+     */
+    public void addRetainedBytes(String category, long bytes) {
+        retainedBytes.merge(category, bytes, Long::sum);
+    }
+
+    /**
+     * Adds phases and retained sizes of the supplied report to this report.
+     *
+     * @param other report to be merged
+     */
+    public void merge(DeploymentReport other) {
+        other.phaseNanos.forEach(this::addPhase);
+        other.retainedBytes.forEach(this::addRetainedBytes);
+    }
+
+    /**
+     * Returns the name of the web app.
+     *
+     * @return name of the web app
+     */
+    public String getAppName() {
+        return appName;
+    }
+
+    /**
+     * Returns the time taken by each phase, in the order that phases happened.
+     *
+     * @return time in nanoseconds by phase
+     */
+    public Map<String, Long> getPhaseNanos() {
+        return Collections.unmodifiableMap(phaseNanos);
+    }
+
+    /**
+     * Returns the total time taken by all phases.
+     *
+     * @return total time in nanoseconds
+     */
+    public long getTotalNanos() {
+        return phaseNanos.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Returns the estimated retained heap size of each category.
+     *
+     * @return estimated size in bytes by category
+     */
+    public Map<String, Long> getRetainedBytes() {
+        return Collections.unmodifiableMap(retainedBytes);
+    }
+
+    /**
+     * Returns the total estimated retained heap size.
+     *
+     * @return estimated size in bytes
+     */
+    public long getTotalRetainedBytes() {
+        return retainedBytes.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Returns this report as space separated {@code key=value} pairs, so it can be parsed from logs.
+     *
+     * @return this report in a log line
+     */
+    public String toLogString() {
+        StringBuilder builder = new StringBuilder("app=").append(appName)
+                .append(" total-ms=").append(toMillis(getTotalNanos()));
+        phaseNanos.forEach((phase, nanos) -> builder.append(' ').append(phase).append("-ms=").append(toMillis(nanos)));
+        builder.append(" retained-bytes=").append(getTotalRetainedBytes());
+        retainedBytes.forEach((category, bytes) -> builder.append(' ').append(category).append("-bytes=")
+                .append(bytes));
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "DeploymentReport{" + toLogString() + "}";
+    }
+
+    /**
+     * Estimates the heap size retained by the specified string.
+     *
+     * @param string string
+     * @return estimated size in bytes
+     */
+    public static long estimateSize(String string) {
+        return (string == null) ? 0 : (STRING_OVERHEAD_BYTES + (2L * string.length()));
+    }
+
+    /**
+     * Estimates the heap size retained by the specified map of strings.
+     *
+     * @param map map of strings
+     * @return estimated size in bytes
+     */
+    public static long estimateSize(Map<String, String> map) {
+        long size = 0;
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            size += MAP_ENTRY_OVERHEAD_BYTES + estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+        }
+        return size;
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ENGLISH, "%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.deployment;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timeline of the server startup: when each step of wiring up the server finished and when each web app was deployed
+ * and activated, relative to the start of the startup.
+ * <p>
+ * Events can be marked by many threads, e.g. deployer threads and the background activator of lazy web apps.
+ *
+ * @since 1.0.9
+ */
+public class StartupTimeline {
+
+    public static final String EVENT_REQUEST_PIPELINE_CREATED = "request-pipeline-created";
+    public static final String EVENT_DEPLOYERS_CREATED = "deployers-created";
+    public static final String EVENT_SERVICES_REGISTERED = "services-registered";
+    public static final String EVENT_ADMIN_API_REGISTERED = "admin-api-registered";
+    public static final String EVENT_APP_DEPLOYED_PREFIX = "app-deployed.";
+    public static final String EVENT_APP_ACTIVATED_PREFIX = "app-activated.";
+
+    private static final int MAX_EVENTS = 1000;
+
+    private final long startTime;
+    private final long startNanos;
+    private final List<Map.Entry<String, Long>> events;
+
+    /**
+     * Creates a new timeline that starts now.
+     */
+    public StartupTimeline() {
+        this.startTime = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+        this.events = new ArrayList<>();
+    }
+
+    /**
+     * Marks that the specified event happened now. Events beyond the first {@value #MAX_EVENTS} are ignored, so that
+     * redeployments during the lifetime of the server do not grow the timeline indefinitely.
+     *
+     * @param event name of the event
+     */
+    public void mark(String event) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        synchronized (events) {
+            if (events.size() < MAX_EVENTS) {
+                events.add(new AbstractMap.SimpleImmutableEntry<>(event, elapsedNanos));
+            }
+        }
+    }
+
+    /**
+     * Returns the time that this timeline started.
+     *
+     * @return start time in milliseconds since the epoch
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Returns the events marked so far, in the order they first happened. An event marked more than once (e.g. a web
+     * app deployed again) keeps its latest time.
+     *
+     * @return time elapsed since the start in nanoseconds, by event
+     */
+    public Map<String, Long> getEventNanos() {
+        Map<String, Long> eventNanos = new LinkedHashMap<>();
+        synchronized (events) {
+            events.forEach(event -> eventNanos.put(event.getKey(), event.getValue()));
+        }
+        return Collections.unmodifiableMap(eventNanos);
+    }
+
+    /**
+     * Returns a single line summary of this timeline, suitable for logging.
+     *
+     * @return summary of the timeline
+     */
+    public String toLogString() {
+        StringBuilder summary = new StringBuilder();
+        getEventNanos().forEach((event, nanos) -> summary.append((summary.length() == 0) ? "" : ", ")
+                .append(event).append('=').append(TimeUnit.NANOSECONDS.toMillis(nanos)).append("ms"));
+        return summary.toString();
+    }
+}
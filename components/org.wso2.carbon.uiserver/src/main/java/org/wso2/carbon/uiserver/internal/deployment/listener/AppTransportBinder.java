@@ -22,111 +22,509 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.uiserver.api.App;
 import org.wso2.carbon.uiserver.api.ServerConfiguration;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+import org.wso2.carbon.uiserver.internal.accesslog.AccessLogWriter;
 import org.wso2.carbon.uiserver.internal.deployment.AppDeploymentEventListener;
 import org.wso2.carbon.uiserver.internal.deployment.msf4j.MicroserviceRegistration;
 import org.wso2.carbon.uiserver.internal.deployment.msf4j.MicroservicesRegistrar;
 import org.wso2.carbon.uiserver.internal.deployment.msf4j.WebappMicroservice;
+import org.wso2.carbon.uiserver.internal.exception.AppCreationException;
 import org.wso2.carbon.uiserver.internal.exception.AppDeploymentEventListenerException;
+import org.wso2.carbon.uiserver.internal.http.ContextPathRouter;
+import org.wso2.carbon.uiserver.internal.http.ErrorResponses;
+import org.wso2.carbon.uiserver.internal.http.HttpTransport;
 import org.wso2.carbon.uiserver.internal.http.RequestDispatcher;
+import org.wso2.carbon.uiserver.internal.http.RequestExecutor;
+import org.wso2.carbon.uiserver.internal.http.admission.AdmissionController;
+import org.wso2.carbon.uiserver.internal.impl.LazyApp;
+import org.wso2.carbon.uiserver.internal.metrics.RequestMetricsRecorder;
+import org.wso2.carbon.uiserver.internal.metrics.RequestMetricsRegistry;
+import org.wso2.carbon.uiserver.internal.tracing.RequestTracer;
+import org.wso2.carbon.uiserver.internal.warmup.AppWarmer;
+import org.wso2.carbon.uiserver.internal.warmup.HotSetRecorder;
 
 import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Binder that registers web apps to the HTTP transport layer.
  * <p>
  * This class is responsible for binding a web app to the HTTP transport layer, when that web app gets deployed. When
  * the web app gets undeployed, it will be unbound from the transport layer.
+ * <p>
+ * A single Microservice is registered to the root context path of each HTTP transport, which routes requests to web
+ * apps via a {@link ContextPathRouter}. Hence deploying or undeploying a web app only updates the router of the
+ * relevant transports instead of registering or unregistering an OSGi service.
+ * <p>
+ * A lazy web app that is not activated yet is bound with a listener that activates it when it serves its first
+ * request (or when it is activated in the background) and then routes requests directly to the activated web app.
  *
  * @since 0.15.0
  */
 public class AppTransportBinder implements AppDeploymentEventListener {
 
+    private static final String ROOT_CONTEXT_PATH = "/";
     private static final Logger LOGGER = LoggerFactory.getLogger(AppTransportBinder.class);
 
     private final MicroservicesRegistrar microservicesRegistrar;
-    private final ConcurrentMap<String, Set<MicroserviceRegistration>> microserviceRegistrations;
+    private final RequestExecutor requestExecutor;
+    private final ConcurrentMap<HttpTransport, TransportBinding> transportBindings;
+    private final ConcurrentMap<String, AppBinding> appBindings;
     private final ServerConfiguration serverConfiguration;
+    private final RequestMetricsRegistry requestMetricsRegistry;
+    private final RequestTracer requestTracer;
+    private final AppWarmer appWarmer;
+    private final AccessLogWriter accessLogWriter;
 
     /**
-     * Creates a new app transport binder.
+     * Creates a new app transport binder. Use {@link #builder(MicroservicesRegistrar, RequestExecutor,
+     * ServerConfiguration)} to create a binder that also records metrics, traces requests, warms up web apps or writes
+     * an access log.
      *
      * @param microservicesRegistrar Microservices registrar
+     * @param requestExecutor        executor that serves HTTP requests of web apps
      * @param serverConfiguration    server configuration
      */
-    public AppTransportBinder(MicroservicesRegistrar microservicesRegistrar,
+    public AppTransportBinder(MicroservicesRegistrar microservicesRegistrar, RequestExecutor requestExecutor,
                               ServerConfiguration serverConfiguration) {
-        this.microservicesRegistrar = microservicesRegistrar;
-        this.microserviceRegistrations = new ConcurrentHashMap<>();
-        this.serverConfiguration = serverConfiguration;
+        this(builder(microservicesRegistrar, requestExecutor, serverConfiguration));
+    }
+
+    private AppTransportBinder(Builder builder) {
+        this.microservicesRegistrar = builder.microservicesRegistrar;
+        this.requestExecutor = builder.requestExecutor;
+        this.transportBindings = new ConcurrentHashMap<>();
+        this.appBindings = new ConcurrentHashMap<>();
+        this.serverConfiguration = builder.serverConfiguration;
+        this.requestMetricsRegistry = builder.requestMetricsRegistry;
+        this.requestTracer = builder.requestTracer;
+        this.appWarmer = builder.appWarmer;
+        this.accessLogWriter = builder.accessLogWriter;
+    }
+
+    /**
+     * Returns a builder of an app transport binder.
+     *
+     * @param microservicesRegistrar Microservices registrar
+     * @param requestExecutor        executor that serves HTTP requests of web apps
+     * @param serverConfiguration    server configuration
+     * @return a new builder
+     * @since 1.0.9
+     */
+    public static Builder builder(MicroservicesRegistrar microservicesRegistrar, RequestExecutor requestExecutor,
+                                  ServerConfiguration serverConfiguration) {
+        return new Builder(microservicesRegistrar, requestExecutor, serverConfiguration);
     }
 
     @Override
     public void appDeploymentEvent(App app) throws AppDeploymentEventListenerException {
         String appName = app.getName();
         String appContextPath = app.getContextPath();
-        WebappMicroservice microservice = createMicroservice(app);
-        String transportId = serverConfiguration.getConfigurationForApp(appName)
-                .flatMap(ServerConfiguration.AppConfiguration::getTransportId)
-                .orElse(null);
+        if (!ContextPathRouter.isRoutable(appContextPath)) {
+            // Requests take the first URI segment as the context path, so nested context paths cannot be served.
+            throw new AppDeploymentEventListenerException(
+                    "Cannot register web app '" + appName + "' as its context path '" + appContextPath +
+                    "' has more than one segment.");
+        }
+        Optional<ServerConfiguration.AppConfiguration> appConfiguration =
+                serverConfiguration.getConfigurationForApp(appName);
+        String transportId;
+        AdmissionController admissionController;
+        try {
+            transportId = appConfiguration.flatMap(ServerConfiguration.AppConfiguration::getTransportId).orElse(null);
+            admissionController = appConfiguration.flatMap(AdmissionController::create).orElse(null);
+        } catch (IllegalArgumentException e) {
+            throw new AppDeploymentEventListenerException(
+                    "Cannot register web app '" + appName + "' as its server configuration is invalid.", e);
+        }
 
+        Set<HttpTransport> httpTransports;
         if (transportId == null) {
-            Set<MicroserviceRegistration> registrations = microservicesRegistrar.register(microservice, appContextPath);
-            if (registrations.isEmpty()) {
+            httpTransports = microservicesRegistrar.getHttpTransports().stream()
+                    .filter(HttpTransport::isSecured)
+                    .collect(Collectors.toSet());
+            if (httpTransports.isEmpty()) {
                 throw new AppDeploymentEventListenerException(
                         "Cannot find any HTTPS transports to register web app '" + appName + "'.");
-            } else {
-                microserviceRegistrations.put(appName, registrations);
-                registrations.stream()
-                        .map(registration -> registration.getRegisteredHttpTransport().getUrlFor(appContextPath))
-                        .forEach(appUrl -> LOGGER.info("Web app '{}' is available at '{}'.", appName, appUrl));
             }
         } else {
-            MicroserviceRegistration registration;
+            httpTransports = microservicesRegistrar.getHttpTransports().stream()
+                    .filter(ht -> Objects.equals(ht.getListenerConfigurationId(), transportId))
+                    .findFirst()
+                    .map(Collections::singleton)
+                    .orElseThrow(() -> new AppDeploymentEventListenerException(
+                            "Cannot find a configured HTTP transport for ID '" + transportId +
+                            "' to register web app '" + appName + "'."));
+        }
+
+        AppBinding appBinding = createAppBinding(app, appContextPath, httpTransports, admissionController);
+        for (HttpTransport httpTransport : httpTransports) {
+            ContextPathRouter router = getTransportBinding(httpTransport).router;
+            if (router.addRoute(appContextPath, appBinding.listener)) {
+                LOGGER.warn("Web app '{}' replaced the web app previously served at context path '{}' in {}.",
+                            appName, appContextPath, httpTransport);
+            }
+            LOGGER.info("Web app '{}' is available at '{}'.", appName, httpTransport.getUrlFor(appContextPath));
+        }
+        appBindings.put(appName, appBinding);
+    }
+
+    @Override
+    public void appReloadEvent(App app) throws AppDeploymentEventListenerException {
+        AppBinding appBinding = appBindings.get(app.getName());
+        if (appBinding == null) {
+            appDeploymentEvent(app);
+            return;
+        }
+
+        // Admission controller is kept, so requests being served at the moment are still accounted.
+        AppBinding reloadedAppBinding = createAppBinding(app, appBinding.contextPath, appBinding.httpTransports,
+                                                         appBinding.admissionController);
+        addRoutes(reloadedAppBinding);
+        appBindings.put(app.getName(), reloadedAppBinding);
+        LOGGER.info("Web app '{}' reloaded.", app.getName());
+    }
+
+    @Override
+    public void appStaticResourcesChangeEvent(App app) {
+        AppBinding appBinding = appBindings.get(app.getName());
+        // A lazy web app that is not activated yet has no cached static resource dates.
+        if ((appBinding != null) && (appBinding.requestDispatcher != null)) {
+            appBinding.requestDispatcher.clearCache(RequestDispatcher.CACHE_STATIC_RESOURCE_DATES);
+            LOGGER.debug("Cached static resource dates of web app '{}' cleared.", app.getName());
+        }
+    }
+
+    @Override
+    public void appActivationEvent(App app) throws AppDeploymentEventListenerException {
+        AppBinding appBinding = appBindings.get(app.getName());
+        if ((appBinding != null) && (appBinding.listener instanceof ActivatingListener)) {
             try {
-                registration = microservicesRegistrar.register(microservice, appContextPath, transportId);
-            } catch (IllegalArgumentException e) {
+                ((ActivatingListener) appBinding.listener).activate(true);
+            } catch (AppCreationException e) {
                 throw new AppDeploymentEventListenerException(
-                        "Cannot find a configured HTTP transport for ID '" + transportId + "' to register web app '" +
-                        appName + "'.", e);
+                        "Cannot bind activated web app '" + app.getName() + "'.", e);
             }
-            microserviceRegistrations.put(appName, Collections.singleton(registration));
-            LOGGER.info("Web app '{}' is available at '{}'.", appName,
-                        registration.getRegisteredHttpTransport().getUrlFor(appContextPath));
         }
     }
 
     @Override
     public void appUndeploymentEvent(String appName) throws AppDeploymentEventListenerException {
-        Set<MicroserviceRegistration> microserviceRegistrations = this.microserviceRegistrations.remove(appName);
-        if (microserviceRegistrations == null) {
+        AppBinding appBinding = appBindings.remove(appName);
+        if (appBinding == null) {
             throw new AppDeploymentEventListenerException(
                     "Cannot unregister web app '" + appName + "'. App might be already unregistered or " +
                     "not be registered at all.");
         }
 
-        microserviceRegistrations.forEach(microserviceRegistration -> {
-            microserviceRegistration.unregister();
-            LOGGER.debug("Web app '{}' unregistered from {}.", appName,
-                         microserviceRegistration.getRegisteredHttpTransport());
+        appBinding.httpTransports.forEach(httpTransport -> {
+            TransportBinding transportBinding = transportBindings.get(httpTransport);
+            if (transportBinding != null) {
+                transportBinding.router.removeRoute(appBinding.contextPath, appBinding.listener);
+                LOGGER.debug("Web app '{}' unregistered from {}.", appName, httpTransport);
+            }
         });
+        if (requestMetricsRegistry != null) {
+            requestMetricsRegistry.remove(appName);
+        }
+        if (appWarmer != null) {
+            appWarmer.storeHotSet(appName);
+        }
         LOGGER.info("Web app '{}' undeployed.", appName);
     }
 
+    /**
+     * Returns the request dispatcher that serves the specified web app at the moment.
+     *
+     * @param appName name of the web app
+     * @return request dispatcher of the web app, or empty if the web app is not bound or not activated yet
+     * @since 1.0.9
+     */
+    public Optional<RequestDispatcher> getRequestDispatcher(String appName) {
+        return Optional.ofNullable(appBindings.get(appName)).map(appBinding -> appBinding.requestDispatcher);
+    }
+
+    /**
+     * Returns the admission controller of the specified web app.
+     *
+     * @param appName name of the web app
+     * @return admission controller of the web app, or empty if the web app is not bound or its requests are not
+     * limited
+     * @since 1.0.9
+     */
+    public Optional<AdmissionController> getAdmissionController(String appName) {
+        return Optional.ofNullable(appBindings.get(appName)).map(appBinding -> appBinding.admissionController);
+    }
+
     /**
      * Closes this binder.
      */
     public void close() {
-        for (Set<MicroserviceRegistration> microserviceRegistration : this.microserviceRegistrations.values()) {
-            microserviceRegistration.forEach(MicroserviceRegistration::unregister);
+        for (TransportBinding transportBinding : transportBindings.values()) {
+            transportBinding.registration.unregister();
         }
-        microserviceRegistrations.clear();
+        transportBindings.clear();
+        appBindings.clear();
     }
 
-    private static WebappMicroservice createMicroservice(App app) {
-        RequestDispatcher requestDispatcher = new RequestDispatcher(app);
-        return new WebappMicroservice((requestDispatcher::serve));
+    private TransportBinding getTransportBinding(HttpTransport httpTransport) {
+        return transportBindings.computeIfAbsent(httpTransport, ht -> {
+            ContextPathRouter router = new ContextPathRouter();
+            WebappMicroservice microservice = new WebappMicroservice(router::serve, requestTracer);
+            MicroserviceRegistration registration = microservicesRegistrar.register(microservice, ROOT_CONTEXT_PATH,
+                                                                                    ht);
+            LOGGER.debug("Web apps router registered to {}.", ht);
+            return new TransportBinding(router, registration);
+        });
+    }
+
+    private AppBinding createAppBinding(App app, String contextPath, Set<HttpTransport> httpTransports,
+                                        AdmissionController admissionController) {
+        if ((app instanceof LazyApp) && !((LazyApp) app).isActivated()) {
+            ActivatingListener listener = new ActivatingListener((LazyApp) app, admissionController);
+            return new AppBinding(contextPath, null, listener, httpTransports, admissionController);
+        }
+        App activatedApp = LazyApp.activated(app);
+        RequestDispatcher requestDispatcher = createRequestDispatcher(activatedApp, true);
+        Function<HttpRequest, HttpResponse> listener = createListener(activatedApp, requestDispatcher,
+                                                                      admissionController);
+        return new AppBinding(contextPath, requestDispatcher, listener, httpTransports, admissionController);
+    }
+
+    private void addRoutes(AppBinding appBinding) {
+        for (HttpTransport httpTransport : appBinding.httpTransports) {
+            TransportBinding transportBinding = transportBindings.get(httpTransport);
+            if (transportBinding != null) {
+                transportBinding.router.addRoute(appBinding.contextPath, appBinding.listener);
+            }
+        }
+    }
+
+    private RequestDispatcher createRequestDispatcher(App app, boolean warmUp) {
+        // Metrics recorder of a web app is kept when the web app is reloaded.
+        RequestMetricsRecorder metricsRecorder = (requestMetricsRegistry == null) ? null :
+                requestMetricsRegistry.getRecorder(app.getName());
+        RequestDispatcher requestDispatcher = new RequestDispatcher(app, metricsRecorder);
+        if (warmUp && (appWarmer != null)) {
+            // Web app is warmed up before it is bound, so none of its requests pay for cold caches.
+            appWarmer.warmUp(app, requestDispatcher);
+        }
+        return requestDispatcher;
+    }
+
+    private Function<HttpRequest, HttpResponse> createListener(App app, RequestDispatcher requestDispatcher,
+                                                               AdmissionController admissionController) {
+        return decorateListener(app.getName(), requestExecutor.wrap(requestDispatcher, admissionController));
+    }
+
+    private Function<HttpRequest, HttpResponse> decorateListener(String appName,
+                                                                 Function<HttpRequest, HttpResponse> listener) {
+        if ((appWarmer == null) && (accessLogWriter == null)) {
+            return listener;
+        }
+        // Hot set recorder of a web app is kept when the web app is reloaded.
+        HotSetRecorder hotSetRecorder = (appWarmer == null) ? null : appWarmer.getHotSetRecorder(appName);
+        return request -> {
+            long startTime = System.nanoTime();
+            HttpResponse response = listener.apply(request);
+            if (accessLogWriter != null) {
+                // Latency includes the time spent waiting for admission and for a thread to serve the request.
+                accessLogWriter.log(appName, request, response, System.nanoTime() - startTime);
+            }
+            if (hotSetRecorder != null) {
+                hotSetRecorder.record(request, response);
+            }
+            return response;
+        };
+    }
+
+    /**
+     * Listener of a lazy web app that is not activated yet. It activates the web app when it serves its first request
+     * and then switches the routes of the web app to the listener of the activated web app.
+     * <p>
+     * Requests that activate the web app are admitted by the admission controller of the web app like any other
+     * request, so requests waiting for the activation are accounted and the excess ones are rejected rather than piled
+     * up behind it. A web app activated by a request is not warmed up, as that request would wait for it.
+     */
+    private class ActivatingListener implements Function<HttpRequest, HttpResponse> {
+
+        private final LazyApp lazyApp;
+        private final AdmissionController admissionController;
+        private final Function<HttpRequest, HttpResponse> activatingListener;
+        private volatile Function<HttpRequest, HttpResponse> activatedListener;
+        private volatile RequestDispatcher activatedRequestDispatcher;
+
+        private ActivatingListener(LazyApp lazyApp, AdmissionController admissionController) {
+            this.lazyApp = lazyApp;
+            this.admissionController = admissionController;
+            this.activatingListener = decorateListener(lazyApp.getName(),
+                                                       requestExecutor.wrap(this::activateAndServe,
+                                                                            admissionController));
+        }
+
+        @Override
+        public HttpResponse apply(HttpRequest request) {
+            Function<HttpRequest, HttpResponse> listener = activatedListener;
+            return (listener == null) ? activatingListener.apply(request) : listener.apply(request);
+        }
+
+        private HttpResponse activateAndServe(HttpRequest request) {
+            // Request has already been admitted, hence it is served by the request dispatcher directly.
+            RequestDispatcher requestDispatcher = activatedRequestDispatcher;
+            if (requestDispatcher == null) {
+                try {
+                    activate(false);
+                } catch (AppCreationException e) {
+                    // Activation is retried by the next request.
+                    LOGGER.error("Cannot activate web app '{}' to serve request '{}'.", lazyApp.getName(),
+                                 request.getUri(), e);
+                    return ErrorResponses.DEFAULT.serverError();
+                }
+                requestDispatcher = activatedRequestDispatcher;
+            }
+            return requestDispatcher.serve(request);
+        }
+
+        private synchronized void activate(boolean warmUp) throws AppCreationException {
+            if (activatedListener == null) {
+                App app = lazyApp.activate();
+                RequestDispatcher requestDispatcher = createRequestDispatcher(app, warmUp);
+                Function<HttpRequest, HttpResponse> listener = createListener(app, requestDispatcher,
+                                                                              admissionController);
+                // Unless the web app was reloaded or undeployed meanwhile, later requests skip this listener.
+                appBindings.computeIfPresent(app.getName(), (appName, appBinding) -> {
+                    if (appBinding.listener != this) {
+                        return appBinding;
+                    }
+                    AppBinding activatedAppBinding = new AppBinding(appBinding.contextPath, requestDispatcher,
+                                                                    listener, appBinding.httpTransports,
+                                                                    appBinding.admissionController);
+                    addRoutes(activatedAppBinding);
+                    return activatedAppBinding;
+                });
+                activatedRequestDispatcher = requestDispatcher;
+                activatedListener = listener;
+                LOGGER.debug("Web app '{}' bound after its activation.", app.getName());
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link AppTransportBinder} class. Features whose collaborators are not set are disabled.
+     *
+     * @since 1.0.9
+     */
+    public static class Builder {
+
+        private final MicroservicesRegistrar microservicesRegistrar;
+        private final RequestExecutor requestExecutor;
+        private final ServerConfiguration serverConfiguration;
+        private RequestMetricsRegistry requestMetricsRegistry;
+        private RequestTracer requestTracer;
+        private AppWarmer appWarmer;
+        private AccessLogWriter accessLogWriter;
+
+        private Builder(MicroservicesRegistrar microservicesRegistrar, RequestExecutor requestExecutor,
+                        ServerConfiguration serverConfiguration) {
+            this.microservicesRegistrar = microservicesRegistrar;
+            this.requestExecutor = requestExecutor;
+            this.serverConfiguration = serverConfiguration;
+        }
+
+        /**
+         * Sets the registry to record HTTP request metrics of web apps.
+         *
+         * @param requestMetricsRegistry registry of request metrics, {@code null} to not record metrics
+         * @return the updated builder
+         */
+        public Builder requestMetricsRegistry(RequestMetricsRegistry requestMetricsRegistry) {
+            this.requestMetricsRegistry = requestMetricsRegistry;
+            return this;
+        }
+
+        /**
+         * Sets the tracer of HTTP requests of web apps.
+         *
+         * @param requestTracer tracer of HTTP requests, {@code null} to not trace requests
+         * @return the updated builder
+         */
+        public Builder requestTracer(RequestTracer requestTracer) {
+            this.requestTracer = requestTracer;
+            return this;
+        }
+
+        /**
+         * Sets the warmer that warms up web apps before they are bound.
+         *
+         * @param appWarmer warmer of web apps, {@code null} to not warm up web apps
+         * @return the updated builder
+         */
+        public Builder appWarmer(AppWarmer appWarmer) {
+            this.appWarmer = appWarmer;
+            return this;
+        }
+
+        /**
+         * Sets the writer of the access log of HTTP requests of web apps.
+         *
+         * @param accessLogWriter writer of the access log, {@code null} to not write an access log
+         * @return the updated builder
+         */
+        public Builder accessLogWriter(AccessLogWriter accessLogWriter) {
+            this.accessLogWriter = accessLogWriter;
+            return this;
+        }
+
+        /**
+         * Creates the app transport binder.
+         *
+         * @return a new app transport binder
+         */
+        public AppTransportBinder build() {
+            return new AppTransportBinder(this);
+        }
+    }
+
+    /**
+     * Router of an HTTP transport and the registration of its Microservice.
+     */
+    private static class TransportBinding {
+
+        private final ContextPathRouter router;
+        private final MicroserviceRegistration registration;
+
+        private TransportBinding(ContextPathRouter router, MicroserviceRegistration registration) {
+            this.router = router;
+            this.registration = registration;
+        }
+    }
+
+    /**
+     * Context path, request dispatcher, listener, HTTP transports and admission controller of a bound web app.
+     */
+    private static class AppBinding {
+
+        private final String contextPath;
+        private final RequestDispatcher requestDispatcher;
+        private final Function<HttpRequest, HttpResponse> listener;
+        private final Set<HttpTransport> httpTransports;
+        private final AdmissionController admissionController;
+
+        private AppBinding(String contextPath, RequestDispatcher requestDispatcher,
+                           Function<HttpRequest, HttpResponse> listener, Set<HttpTransport> httpTransports,
+                           AdmissionController admissionController) {
+            this.contextPath = contextPath;
+            this.requestDispatcher = requestDispatcher;
+            this.listener = listener;
+            this.httpTransports = httpTransports;
+            this.admissionController = admissionController;
+        }
     }
 }
@@ -19,9 +19,13 @@
 package org.wso2.carbon.uiserver.internal.deployment.listener;
 
 import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.api.metrics.RequestMetrics;
 import org.wso2.carbon.uiserver.internal.deployment.AppDeploymentEventListener;
+import org.wso2.carbon.uiserver.internal.metrics.RequestMetricsRegistry;
 import org.wso2.carbon.uiserver.spi.Server;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -37,12 +41,48 @@ public class CarbonUiServer implements Server, AppDeploymentEventListener {
      * Contains deployed apps. Here key is the app name and value is the deployed app.
      */
     private final ConcurrentMap<String, App> deployedApps = new ConcurrentHashMap<>();
+    private final RequestMetricsRegistry requestMetricsRegistry;
+
+    /**
+     * Creates a new server.
+     */
+    public CarbonUiServer() {
+        this(null);
+    }
+
+    /**
+     * Creates a new server that exposes HTTP request metrics of web apps.
+     *
+     * @param requestMetricsRegistry registry of request metrics, {@code null} if metrics are not recorded
+     * @since 1.0.9
+     */
+    public CarbonUiServer(RequestMetricsRegistry requestMetricsRegistry) {
+        this.requestMetricsRegistry = requestMetricsRegistry;
+    }
 
     @Override
     public Optional<App> getApp(String appName) {
         return Optional.ofNullable(deployedApps.get(appName));
     }
 
+    /**
+     * Returns the web apps deployed at the moment.
+     *
+     * @return deployed web apps
+     * @since 1.0.9
+     */
+    public Collection<App> getApps() {
+        return Collections.unmodifiableCollection(deployedApps.values());
+    }
+
+    @Override
+    public Optional<RequestMetrics> getRequestMetrics(String appName) {
+        if ((requestMetricsRegistry == null) || !deployedApps.containsKey(appName)) {
+            return Optional.empty();
+        }
+        return requestMetricsRegistry.getMetrics(appName);
+    }
+
     @Override
     public void appDeploymentEvent(App app) {
         deployedApps.put(app.getName(), app);
@@ -53,6 +93,11 @@ public class CarbonUiServer implements Server, AppDeploymentEventListener {
         deployedApps.remove(appName);
     }
 
+    @Override
+    public void appReloadEvent(App app) {
+        deployedApps.put(app.getName(), app);
+    }
+
     public void close() {
         deployedApps.clear();
     }
@@ -109,6 +109,12 @@ public class RestApiDeployer implements AppDeploymentEventListener {
         }
     }
 
+    @Override
+    public void appReloadEvent(App app) {
+        // REST APIs are bound to the name and the context path of the web app, which do not change on a reload.
+        LOGGER.debug("REST APIs of web app '{}' are kept registered as it is.", app.getName());
+    }
+
     /**
      * Closes this deployer.
      */
@@ -32,6 +32,7 @@ import org.wso2.carbon.uiserver.internal.http.HttpTransport;
 import org.wso2.msf4j.Microservice;
 import org.wso2.msf4j.MicroservicesServer;
 
+import java.util.Collections;
 import java.util.Dictionary;
 import java.util.HashSet;
 import java.util.Hashtable;
@@ -126,8 +127,8 @@ public class MicroservicesRegistrar {
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Cannot find a HTTP transport for listener configuration ID '" +
                         listenerConfigurationId + "'. Available HTTP transport: " + httpTransports));
-        ServiceRegistration<Microservice> serviceRegistration = register(microservice, contextPath,
-                                                                         httpTransport);
+        ServiceRegistration<Microservice> serviceRegistration = registerService(microservice, contextPath,
+                                                                                httpTransport);
         return new MicroserviceRegistration(httpTransport, serviceRegistration);
     }
 
@@ -141,12 +142,36 @@ public class MicroservicesRegistrar {
     public Set<MicroserviceRegistration> register(Microservice microservice, String contextPath) {
         return httpTransports.stream()
                 .filter(HttpTransport::isSecured)
-                .map(ht -> new MicroserviceRegistration(ht, register(microservice, contextPath, ht)))
+                .map(ht -> new MicroserviceRegistration(ht, registerService(microservice, contextPath, ht)))
                 .collect(Collectors.toSet());
     }
 
-    private ServiceRegistration<Microservice> register(Microservice microservice, String contextPath,
-                                                       HttpTransport httpTransport) {
+    /**
+     * Registers supplied Microservice to the specified HTTP transport for the specified content path.
+     *
+     * @param microservice  Microservice to be registered
+     * @param contextPath   context path
+     * @param httpTransport HTTP transport that the supplying Microservice should be registered
+     * @return Microservice registration object that represents this registration
+     * @since 1.0.9
+     */
+    public MicroserviceRegistration register(Microservice microservice, String contextPath,
+                                             HttpTransport httpTransport) {
+        return new MicroserviceRegistration(httpTransport, registerService(microservice, contextPath, httpTransport));
+    }
+
+    /**
+     * Returns the available HTTP transports.
+     *
+     * @return available HTTP transports
+     * @since 1.0.9
+     */
+    public Set<HttpTransport> getHttpTransports() {
+        return Collections.unmodifiableSet(new HashSet<>(httpTransports));
+    }
+
+    private ServiceRegistration<Microservice> registerService(Microservice microservice, String contextPath,
+                                                              HttpTransport httpTransport) {
         Dictionary<String, Object> properties = new Hashtable<>();
         properties.put(propertyKeyListenerInterfaceId, httpTransport.getListenerInterfaceId());
         properties.put(propertyKeyContextPath, contextPath);
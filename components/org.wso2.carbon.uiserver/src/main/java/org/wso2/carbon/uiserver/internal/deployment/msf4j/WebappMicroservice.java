@@ -21,6 +21,9 @@ package org.wso2.carbon.uiserver.internal.deployment.msf4j;
 import org.wso2.carbon.uiserver.api.http.HttpRequest;
 import org.wso2.carbon.uiserver.api.http.HttpResponse;
 import org.wso2.carbon.uiserver.internal.http.msf4j.Msf4jHttpRequest;
+import org.wso2.carbon.uiserver.internal.tracing.RequestTrace;
+import org.wso2.carbon.uiserver.internal.tracing.RequestTracer;
+import org.wso2.carbon.uiserver.internal.tracing.Span;
 import org.wso2.msf4j.Microservice;
 import org.wso2.msf4j.Request;
 
@@ -42,6 +45,7 @@ public class WebappMicroservice implements Microservice {
     private static final String PATH_ALL = ".*";
 
     private final Function<HttpRequest, HttpResponse> httpListener;
+    private final RequestTracer requestTracer;
 
     /**
      * Creates a new microservice.
@@ -49,7 +53,19 @@ public class WebappMicroservice implements Microservice {
      * @param httpListener HTTP requests listener that handles the incoming HTTP requests
      */
     public WebappMicroservice(Function<HttpRequest, HttpResponse> httpListener) {
+        this(httpListener, null);
+    }
+
+    /**
+     * Creates a new microservice that traces the HTTP requests it serves.
+     *
+     * @param httpListener  HTTP requests listener that handles the incoming HTTP requests
+     * @param requestTracer tracer of HTTP requests, {@code null} to not trace requests
+     * @since 1.0.9
+     */
+    public WebappMicroservice(Function<HttpRequest, HttpResponse> httpListener, RequestTracer requestTracer) {
         this.httpListener = httpListener;
+        this.requestTracer = requestTracer;
     }
 
     @GET
@@ -66,7 +82,26 @@ public class WebappMicroservice implements Microservice {
 
     private Response getImpl(@Context Request request) {
         Msf4jHttpRequest httpRequest = new Msf4jHttpRequest(request);
-        return buildResponse(httpListener.apply(httpRequest));
+        if (requestTracer == null) {
+            return buildResponse(httpListener.apply(httpRequest));
+        }
+
+        RequestTrace trace = requestTracer.start(httpRequest);
+        RequestTrace previousTrace = RequestTrace.setCurrent(trace);
+        int status = HttpResponse.STATUS_INTERNAL_SERVER_ERROR;
+        try {
+            HttpResponse httpResponse = httpListener.apply(httpRequest);
+            status = httpResponse.getStatus();
+            Span span = trace.newSpan(RequestTrace.STAGE_RESPONSE_WRITE);
+            try {
+                return buildResponse(httpResponse);
+            } finally {
+                span.end();
+            }
+        } finally {
+            RequestTrace.setCurrent(previousTrace);
+            requestTracer.finish(trace, status);
+        }
     }
 
     private Response buildResponse(HttpResponse httpResponse) {
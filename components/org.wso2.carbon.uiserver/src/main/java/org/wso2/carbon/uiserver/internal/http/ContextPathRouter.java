@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.http;
+
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Routes HTTP requests to the listeners of web apps by the context paths of the web apps.
+ * <p>
+ * Routes are kept in a trie of context path segments, and a request is routed to the listener of the longest context
+ * path that prefixes the request URI. The trie is immutable and replaced as a whole when a route is added or removed,
+ * so routing a request never blocks or sees a partially updated trie.
+ * <p>
+ * A context path must have a single segment (e.g. {@code /foo}) or be the root {@code /}, since
+ * {@link HttpRequest#getContextPath()} of a request is its first URI segment.
+ *
+ * @since 1.0.9
+ */
+public class ContextPathRouter {
+
+    private final Map<String, Function<HttpRequest, HttpResponse>> routes = new HashMap<>();
+    private volatile Node root = Node.EMPTY;
+
+    /**
+     * Adds a route for the specified context path. An existing route for the same context path is replaced.
+     *
+     * @param contextPath context path to be routed
+     * @param listener    HTTP requests listener that serves the requests for the context path
+     * @return {@code true} if an existing route was replaced, otherwise {@code false}
+     * @throws IllegalArgumentException if the context path has more than one segment
+     */
+    public synchronized boolean addRoute(String contextPath, Function<HttpRequest, HttpResponse> listener) {
+        if (!isRoutable(contextPath)) {
+            throw new IllegalArgumentException(
+                    "Context path '" + contextPath + "' must be '/' or a single segment that starts with a '/'.");
+        }
+        boolean replaced = (routes.put(contextPath, listener) != null);
+        root = buildTrie(routes);
+        return replaced;
+    }
+
+    /**
+     * Removes the route of the specified context path, if it is still routed to the specified listener.
+     *
+     * @param contextPath context path of the route to be removed
+     * @param listener    HTTP requests listener of the route to be removed
+     * @return {@code true} if the route was found and removed, otherwise {@code false}
+     */
+    public synchronized boolean removeRoute(String contextPath, Function<HttpRequest, HttpResponse> listener) {
+        if (!routes.remove(contextPath, listener)) {
+            return false;
+        }
+        root = buildTrie(routes);
+        return true;
+    }
+
+    /**
+     * Serves the specified HTTP request with the listener of the matching route.
+     *
+     * @param request HTTP request to be served
+     * @return HTTP response
+     */
+    public HttpResponse serve(HttpRequest request) {
+        Function<HttpRequest, HttpResponse> listener = findListener(request.getUri());
+        return (listener == null) ? ErrorResponses.DEFAULT.notFound() : listener.apply(request);
+    }
+
+    /**
+     * Checks whether the specified context path can be routed, i.e. it is {@code /} or a single segment.
+     *
+     * @param contextPath context path to be checked
+     * @return {@code true} if the context path can be routed, otherwise {@code false}
+     */
+    public static boolean isRoutable(String contextPath) {
+        return contextPath.startsWith("/") && (contextPath.indexOf('/', 1) < 0);
+    }
+
+    Function<HttpRequest, HttpResponse> findListener(String uri) {
+        Node node = root;
+        Function<HttpRequest, HttpResponse> listener = node.listener;
+        int segmentStart = 1; // An URI must start with a slash.
+        while (segmentStart < uri.length()) {
+            int segmentEnd = uri.indexOf('/', segmentStart);
+            if (segmentEnd < 0) {
+                segmentEnd = uri.length();
+            }
+            node = node.children.get(uri.substring(segmentStart, segmentEnd));
+            if (node == null) {
+                break;
+            }
+            if (node.listener != null) {
+                listener = node.listener;
+            }
+            segmentStart = segmentEnd + 1;
+        }
+        return listener;
+    }
+
+    private static Node buildTrie(Map<String, Function<HttpRequest, HttpResponse>> routes) {
+        Node.Builder rootBuilder = new Node.Builder();
+        routes.forEach((contextPath, listener) -> {
+            Node.Builder builder = rootBuilder;
+            for (String segment : contextPath.split("/")) {
+                if (!segment.isEmpty()) {
+                    builder = builder.children.computeIfAbsent(segment, key -> new Node.Builder());
+                }
+            }
+            builder.listener = listener;
+        });
+        return rootBuilder.build();
+    }
+
+    /**
+     * An immutable node in the trie of context path segments.
+     */
+    private static class Node {
+
+        private static final Node EMPTY = new Node(Collections.emptyMap(), null);
+
+        private final Map<String, Node> children;
+        private final Function<HttpRequest, HttpResponse> listener;
+
+        private Node(Map<String, Node> children, Function<HttpRequest, HttpResponse> listener) {
+            this.children = children;
+            this.listener = listener;
+        }
+
+        /**
+         * Builder for {@link Node} class.
+         */
+        private static class Builder {
+
+            private final Map<String, Builder> children = new HashMap<>();
+            private Function<HttpRequest, HttpResponse> listener;
+
+            private Node build() {
+                if (children.isEmpty()) {
+                    return new Node(Collections.emptyMap(), listener);
+                }
+                Map<String, Node> childNodes = new HashMap<>();
+                children.forEach((segment, child) -> childNodes.put(segment, child.build()));
+                return new Node(childNodes, listener);
+            }
+        }
+    }
+}
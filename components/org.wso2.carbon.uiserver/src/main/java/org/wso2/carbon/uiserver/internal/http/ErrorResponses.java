@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.http;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.api.Page;
+import org.wso2.carbon.uiserver.api.UriPatten;
+import org.wso2.carbon.uiserver.api.exception.RenderingException;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+import org.wso2.carbon.uiserver.internal.impl.HtmlPage;
+
+import java.util.Optional;
+
+import static org.wso2.carbon.uiserver.api.http.HttpResponse.CONTENT_TYPE_TEXT_HTML;
+import static org.wso2.carbon.uiserver.api.http.HttpResponse.STATUS_BAD_REQUEST;
+import static org.wso2.carbon.uiserver.api.http.HttpResponse.STATUS_INTERNAL_SERVER_ERROR;
+import static org.wso2.carbon.uiserver.api.http.HttpResponse.STATUS_NOT_FOUND;
+
+/**
+ * Pre-built error responses of a web app.
+ * <p>
+ * Error responses are built once and shared among all failed requests, hence serving an error costs no more than
+ * serving a successful request and error responses never echo user input. A web app can customize an error response
+ * by having a static HTML page at {@code pages/errors/<status-code>.html} (e.g. {@code pages/errors/404.html}).
+ *
+ * @since 1.0.9
+ */
+public class ErrorResponses {
+
+    /**
+     * Error responses with the default content.
+     */
+    public static final ErrorResponses DEFAULT = new ErrorResponses(
+            ResponseBuilder.badRequest("Request is invalid.").build(),
+            ResponseBuilder.notFound("Requested resource does not exists.").build(),
+            ResponseBuilder.serverError("A server error occurred while serving for request.").build());
+
+    private static final String URI_PREFIX_ERROR_PAGES = "/errors/";
+    private static final Logger LOGGER = LoggerFactory.getLogger(ErrorResponses.class);
+
+    private final HttpResponse badRequest;
+    private final HttpResponse notFound;
+    private final HttpResponse serverError;
+
+    private ErrorResponses(HttpResponse badRequest, HttpResponse notFound, HttpResponse serverError) {
+        this.badRequest = badRequest;
+        this.notFound = notFound;
+        this.serverError = serverError;
+    }
+
+    /**
+     * Creates error responses for the specified web app.
+     *
+     * @param app web app
+     * @return error responses of the web app
+     */
+    public static ErrorResponses create(App app) {
+        if (app == null) {
+            return DEFAULT;
+        }
+        return new ErrorResponses(createResponse(app, STATUS_BAD_REQUEST).orElse(DEFAULT.badRequest),
+                                  createResponse(app, STATUS_NOT_FOUND).orElse(DEFAULT.notFound),
+                                  createResponse(app, STATUS_INTERNAL_SERVER_ERROR).orElse(DEFAULT.serverError));
+    }
+
+    /**
+     * Returns the 400 Bad Request response.
+     *
+     * @return bad request response
+     */
+    public HttpResponse badRequest() {
+        return badRequest;
+    }
+
+    /**
+     * Returns the 404 Not Found response.
+     *
+     * @return not found response
+     */
+    public HttpResponse notFound() {
+        return notFound;
+    }
+
+    /**
+     * Returns the 500 Internal Server Error response.
+     *
+     * @return server error response
+     */
+    public HttpResponse serverError() {
+        return serverError;
+    }
+
+    private static Optional<HttpResponse> createResponse(App app, int status) {
+        String uri = URI_PREFIX_ERROR_PAGES + status;
+        UriPatten uriPatten = new UriPatten(uri);
+        // Only a page dedicated for the error should be used, not a page with a URI pattern that happens to match.
+        Optional<Page> errorPage = app.getPage(uri).filter(page -> page.getUriPatten().equals(uriPatten));
+        if (!errorPage.isPresent()) {
+            return Optional.empty();
+        }
+        if (!(errorPage.get() instanceof HtmlPage)) {
+            // Dynamic pages depend on the request, hence cannot be rendered beforehand.
+            LOGGER.warn("Error page '{}' of web app '{}' is ignored as only static HTML error pages are supported.",
+                        uri, app.getName());
+            return Optional.empty();
+        }
+
+        try {
+            String html = errorPage.get().render(null, app.getConfiguration());
+            return Optional.of(ResponseBuilder.status(status)
+                                       .content(html)
+                                       .contentType(CONTENT_TYPE_TEXT_HTML)
+                                       .headers(app.getConfiguration().getResponseHeaders().forPages())
+                                       .build());
+        } catch (RenderingException e) {
+            LOGGER.error("Cannot render error page '{}' of web app '{}'.", uri, app.getName(), e);
+            return Optional.empty();
+        }
+    }
+}
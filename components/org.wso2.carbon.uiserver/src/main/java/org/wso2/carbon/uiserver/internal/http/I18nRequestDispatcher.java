@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.http;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.api.I18nResource;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+import org.wso2.carbon.uiserver.internal.i18n.LocaleNegotiator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import static org.wso2.carbon.uiserver.api.http.HttpResponse.CONTENT_TYPE_APPLICATION_JSON;
+import static org.wso2.carbon.uiserver.api.http.HttpResponse.HEADER_CACHE_CONTROL;
+import static org.wso2.carbon.uiserver.api.http.HttpResponse.HEADER_CONTENT_ENCODING;
+import static org.wso2.carbon.uiserver.api.http.HttpResponse.HEADER_ETAG;
+import static org.wso2.carbon.uiserver.api.http.HttpResponse.HEADER_VARY;
+import static org.wso2.carbon.uiserver.api.http.HttpResponse.STATUS_NOT_MODIFIED;
+
+/**
+ * Dispatcher for HTTP requests for i18n bundles.
+ * <p>
+ * An i18n bundle is the messages of a locale in the web app, served in JSON format from {@code /i18n/{locale}.json}
+ * (e.g. {@code /i18n/fr-CA.json}) for client-side apps. Requests for locales that the web app does not have are left to
+ * the page dispatcher (see {@link #hasBundle(HttpRequest)}). The optional {@code prefix} query parameter limits the
+ * bundle to the messages whose keys start with the given prefix. The bundle of a locale is serialized only once per
+ * deployment of the web app and served with a pre-compressed gzip variant; each variant has its own strong ETag.
+ * Prefixed bundles are filtered from the cached messages of the locale on each request and are not cached, as prefixes
+ * come from clients.
+ *
+ * @since 1.0.9
+ */
+public class I18nRequestDispatcher {
+
+    private static final String URI_PREFIX = "/i18n/";
+    private static final String URI_SUFFIX = ".json";
+    private static final String QUERY_PARAM_PREFIX = "prefix";
+    private static final String CONTENT_ENCODING_GZIP = "gzip";
+    private static final Gson GSON = new Gson();
+    private static final Logger LOGGER = LoggerFactory.getLogger(I18nRequestDispatcher.class);
+
+    private final App app;
+    private final ErrorResponses errorResponses;
+    private final LocaleNegotiator localeNegotiator;
+    private final Cache<Locale, Bundle> bundles;
+
+    /**
+     * Creates a new request dispatcher.
+     *
+     * @param app            web app to be served
+     * @param errorResponses error responses of the web app
+     */
+    public I18nRequestDispatcher(App app, ErrorResponses errorResponses) {
+        this.app = app;
+        this.errorResponses = errorResponses;
+        this.localeNegotiator = new LocaleNegotiator(app.getLocales());
+        // Only locales of the web app are cached, hence the number of cached bundles is bounded by the web app.
+        this.bundles = CacheBuilder.newBuilder().recordStats().build();
+    }
+
+    /**
+     * Returns the locale, among the locales of the web app, that best matches to the given language ranges. A language
+     * range falls back to its parents when there is no exact match (e.g. {@code fr-CA} falls back to {@code fr}).
+     *
+     * @param languageRanges a list of comma-separated language ranges or a list of language ranges in the form of the
+     *                       "Accept-Language" header
+     * @return the best matching locale, or empty if nothing matches
+     * @since 1.0.9
+     */
+    public Optional<Locale> getMatchingLocale(String languageRanges) {
+        return localeNegotiator.negotiate(languageRanges);
+    }
+
+    /**
+     * Returns statistics of the cache of i18n bundles of this dispatcher.
+     *
+     * @return cache statistics
+     * @since 1.0.9
+     */
+    public CacheStats getCacheStats() {
+        return bundles.stats();
+    }
+
+    /**
+     * Returns the number of i18n bundles cached in this dispatcher.
+     *
+     * @return number of cached bundles
+     * @since 1.0.9
+     */
+    public long getCacheSize() {
+        return bundles.size();
+    }
+
+    /**
+     * Returns the language tags of the locales whose i18n bundles are cached in this dispatcher.
+     *
+     * @return sorted language tags of the cached bundles
+     * @since 1.0.9
+     */
+    public Set<String> getCacheKeys() {
+        return bundles.asMap().keySet().stream()
+                .map(Locale::toLanguageTag)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Discards all i18n bundles cached in this dispatcher.
+     *
+     * @since 1.0.9
+     */
+    public void clearCache() {
+        bundles.invalidateAll();
+    }
+
+    /**
+     * Caches the i18n bundle of every locale of the web app.
+     *
+     * @return number of bundles cached
+     * @since 1.0.9
+     */
+    public int warmCache() {
+        int warmedBundles = 0;
+        for (Locale locale : app.getLocales()) {
+            Optional<I18nResource> i18nResource = app.getI18nResource(locale);
+            if (!i18nResource.isPresent()) {
+                continue;
+            }
+            try {
+                bundles.get(locale, () -> createBundle(i18nResource.get()));
+                warmedBundles++;
+            } catch (ExecutionException e) {
+                LOGGER.error("Cannot create i18n bundle for locale '{}' of web app '{}'.", locale.toLanguageTag(),
+                             app.getName(), e.getCause());
+            }
+        }
+        return warmedBundles;
+    }
+
+    /**
+     * Returns whether the web app has the i18n bundle requested by the supplied HTTP request. A request for a locale
+     * that the web app does not have is left to the other dispatchers, as the web app may have its own page or
+     * resource under {@code /i18n/}.
+     *
+     * @param request HTTP request for an i18n bundle
+     * @return {@code true} if the web app has the requested i18n bundle, {@code false} if not
+     */
+    public boolean hasBundle(HttpRequest request) {
+        return getLocale(request).flatMap(app::getI18nResource).isPresent();
+    }
+
+    /**
+     * Serves to the supplied HTTP request and returns a HTTP response.
+     *
+     * @param request HTTP request to be served
+     * @return a HTTP response that carries the result
+     */
+    public HttpResponse serve(HttpRequest request) {
+        Optional<Locale> requestedLocale = getLocale(request);
+        if (!requestedLocale.isPresent()) {
+            return errorResponses.notFound();
+        }
+        Locale locale = requestedLocale.get();
+        // Checked before touching the cache, so that unknown locales sent by clients are never cached.
+        Optional<I18nResource> i18nResource = app.getI18nResource(locale);
+        if (!i18nResource.isPresent()) {
+            return errorResponses.notFound();
+        }
+
+        Bundle bundle;
+        try {
+            bundle = bundles.get(locale, () -> createBundle(i18nResource.get()));
+        } catch (ExecutionException e) {
+            LOGGER.error("Cannot create i18n bundle for request '{}'.", request, e.getCause());
+            return errorResponses.serverError();
+        }
+        String prefix = getPrefix(request);
+        if (!prefix.isEmpty()) {
+            bundle = bundle.filter(prefix);
+        }
+        return createResponse(request, bundle);
+    }
+
+    private HttpResponse createResponse(HttpRequest request, Bundle bundle) {
+        boolean gzipped = (bundle.gzippedContent != null) && acceptsGzip(request.getHeaders().get("Accept-Encoding"));
+        String eTag = gzipped ? bundle.gzippedETag : bundle.eTag;
+        ResponseBuilder responseBuilder;
+        if (matchesETag(request.getHeaders().get("If-None-Match"), eTag)) {
+            // Client already has the same bundle.
+            responseBuilder = ResponseBuilder.status(STATUS_NOT_MODIFIED);
+        } else if (gzipped) {
+            responseBuilder = ResponseBuilder.ok(new ByteArrayInputStream(bundle.gzippedContent),
+                                                 CONTENT_TYPE_APPLICATION_JSON)
+                    .header(HEADER_CONTENT_ENCODING, CONTENT_ENCODING_GZIP);
+        } else {
+            responseBuilder = ResponseBuilder.ok(new ByteArrayInputStream(bundle.content),
+                                                 CONTENT_TYPE_APPLICATION_JSON);
+        }
+        return responseBuilder
+                .header(HEADER_ETAG, eTag)
+                .header(HEADER_CACHE_CONTROL, "public,max-age=2592000")
+                .header(HEADER_VARY, "Accept-Encoding")
+                .headers(app.getConfiguration().getResponseHeaders().forStaticResources())
+                .build();
+    }
+
+    private static Bundle createBundle(I18nResource i18nResource) {
+        // Sorted, so that the same messages always serialize to the same bytes and hence to the same ETag.
+        SortedMap<String, String> messages = Collections.unmodifiableSortedMap(
+                new TreeMap<>(i18nResource.getMessages()));
+        byte[] content = serialize(messages);
+        byte[] gzippedContent = gzip(content);
+        return new Bundle(messages, content, (gzippedContent.length < content.length) ? gzippedContent : null);
+    }
+
+    private static byte[] serialize(SortedMap<String, String> messages) {
+        return GSON.toJson(messages).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Optional<Locale> getLocale(HttpRequest request) {
+        String uriWithoutContextPath = request.getUriWithoutContextPath();
+        if (!uriWithoutContextPath.startsWith(URI_PREFIX) || !uriWithoutContextPath.endsWith(URI_SUFFIX) ||
+            (uriWithoutContextPath.length() <= (URI_PREFIX.length() + URI_SUFFIX.length()))) {
+            return Optional.empty();
+        }
+        String languageTag = uriWithoutContextPath.substring(URI_PREFIX.length(),
+                                                             uriWithoutContextPath.length() - URI_SUFFIX.length());
+        if (languageTag.indexOf('/') >= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(Locale.forLanguageTag(languageTag));
+    }
+
+    private static String getPrefix(HttpRequest request) {
+        Map<String, List<String>> queryParams = request.getQueryParams();
+        if (queryParams == null) {
+            return "";
+        }
+        List<String> prefixes = queryParams.get(QUERY_PARAM_PREFIX);
+        return ((prefixes == null) || prefixes.isEmpty() || (prefixes.get(0) == null)) ? "" : prefixes.get(0);
+    }
+
+    private static boolean matchesETag(String ifNoneMatchHeader, String eTag) {
+        // If-None-Match: "xyzzy", W/"r2d2xxxx"
+        if (ifNoneMatchHeader == null) {
+            return false;
+        }
+        for (String value : ifNoneMatchHeader.split(",")) {
+            String candidate = value.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2); // If-None-Match uses the weak comparison.
+            }
+            if (candidate.equals("*") || candidate.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncodingHeader) {
+        // Accept-Encoding: gzip, deflate;q=0.5
+        if (acceptEncodingHeader == null) {
+            return false;
+        }
+        for (String value : acceptEncodingHeader.split(",")) {
+            String[] parts = value.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(CONTENT_ENCODING_GZIP)) {
+                return !((parts.length > 1) && parts[1].trim().matches("q=0(\\.0*)?"));
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(content.length);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(content);
+        } catch (IOException e) {
+            // Cannot happen as writing to a byte array.
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * A serialized i18n bundle.
+     */
+    private static class Bundle {
+
+        private final SortedMap<String, String> messages;
+        private final byte[] content;
+        private final byte[] gzippedContent;
+        private final String eTag;
+        private final String gzippedETag;
+
+        private Bundle(SortedMap<String, String> messages, byte[] content, byte[] gzippedContent) {
+            this.messages = messages;
+            this.content = content;
+            this.gzippedContent = gzippedContent;
+            String hash = Hashing.murmur3_128().hashBytes(content).toString();
+            this.eTag = "\"" + hash + "\"";
+            // A strong ETag identifies the exact bytes, hence each content coding has its own ETag.
+            this.gzippedETag = (gzippedContent == null) ? null : ("\"" + hash + "-" + CONTENT_ENCODING_GZIP + "\"");
+        }
+
+        /**
+         * Returns a bundle of the messages whose keys start with the given prefix. The returned bundle is not
+         * compressed, as it is created per request.
+         */
+        private Bundle filter(String prefix) {
+            SortedMap<String, String> filteredMessages = messages.subMap(prefix, prefix + Character.MAX_VALUE);
+            return new Bundle(filteredMessages, serialize(filteredMessages), null);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.http;
+
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An in-memory HTTP GET request without cookies or query parameters. It is served to warm up web apps, and used by
+ * tests and benchmarks of the request path as mocks allocate on each invocation.
+ *
+ * @since 1.0.9
+ */
+public class InMemoryHttpRequest implements HttpRequest {
+
+    private final String uri;
+    private final String contextPath;
+    private final String uriWithoutContextPath;
+    private final Map<String, String> headers;
+
+    /**
+     * Creates a new request.
+     *
+     * @param uri URI of the request
+     */
+    public InMemoryHttpRequest(String uri) {
+        this(uri, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a new request.
+     *
+     * @param uri     URI of the request
+     * @param headers HTTP headers of the request
+     */
+    public InMemoryHttpRequest(String uri, Map<String, String> headers) {
+        this(HttpRequest.getContextPath(uri), HttpRequest.getUriWithoutContextPath(uri), headers);
+    }
+
+    /**
+     * Creates a new request.
+     *
+     * @param contextPath           context path of the web app
+     * @param uriWithoutContextPath URI of the request, without the context path
+     * @param headers               HTTP headers of the request
+     */
+    public InMemoryHttpRequest(String contextPath, String uriWithoutContextPath, Map<String, String> headers) {
+        this.uri = contextPath + uriWithoutContextPath;
+        this.contextPath = contextPath;
+        this.uriWithoutContextPath = uriWithoutContextPath;
+        this.headers = headers;
+    }
+
+    @Override
+    public String getMethod() {
+        return "GET";
+    }
+
+    @Override
+    public String getProtocol() {
+        return "HTTP/1.1";
+    }
+
+    @Override
+    public boolean isSecure() {
+        return true;
+    }
+
+    @Override
+    public String getUrl() {
+        return "https://localhost" + uri;
+    }
+
+    @Override
+    public String getUri() {
+        return uri;
+    }
+
+    @Override
+    public String getContextPath() {
+        return contextPath;
+    }
+
+    @Override
+    public String getUriWithoutContextPath() {
+        return uriWithoutContextPath;
+    }
+
+    @Override
+    public String getQueryString() {
+        return null;
+    }
+
+    @Override
+    public Map<String, List<String>> getQueryParams() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public String getCookieValue(String cookieName) {
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryHttpRequest{uri='" + uri + "'}";
+    }
+}
@@ -21,11 +21,18 @@ package org.wso2.carbon.uiserver.internal.http;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.api.Page;
 import org.wso2.carbon.uiserver.api.exception.PageNotFoundException;
 import org.wso2.carbon.uiserver.api.exception.PageRedirectException;
 import org.wso2.carbon.uiserver.api.exception.RenderingException;
 import org.wso2.carbon.uiserver.api.http.HttpRequest;
 import org.wso2.carbon.uiserver.api.http.HttpResponse;
+import org.wso2.carbon.uiserver.internal.tracing.RequestTrace;
+import org.wso2.carbon.uiserver.internal.tracing.Span;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 import static org.wso2.carbon.uiserver.api.http.HttpResponse.CONTENT_TYPE_TEXT_HTML;
 import static org.wso2.carbon.uiserver.api.http.HttpResponse.HEADER_LOCATION;
@@ -40,6 +47,7 @@ public class PageRequestDispatcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(PageRequestDispatcher.class);
 
     private final App app;
+    private final ErrorResponses errorResponses;
 
     /**
      * Creates a new request dispatcher.
@@ -47,7 +55,19 @@ public class PageRequestDispatcher {
      * @param app web app to be served
      */
     public PageRequestDispatcher(App app) {
+        this(app, ErrorResponses.create(app));
+    }
+
+    /**
+     * Creates a new request dispatcher.
+     *
+     * @param app            web app to be served
+     * @param errorResponses error responses of the web app
+     * @since 1.0.9
+     */
+    public PageRequestDispatcher(App app, ErrorResponses errorResponses) {
         this.app = app;
+        this.errorResponses = errorResponses;
     }
 
     /**
@@ -58,21 +78,73 @@ public class PageRequestDispatcher {
      */
     public HttpResponse serve(HttpRequest request) {
         try {
-            String html = app.renderPage(request);
-            return ResponseBuilder.ok(html, CONTENT_TYPE_TEXT_HTML)
-                    .headers(app.getConfiguration().getResponseHeaders().forPages())
+            Page page = resolvePage(request);
+            Span span = RequestTrace.startSpan(RequestTrace.STAGE_RENDER);
+            try {
+                return createResponse(page.render(request, app.getConfiguration()));
+            } finally {
+                span.end();
+            }
+        } catch (RenderingException | PageNotFoundException | PageRedirectException e) {
+            return createErrorResponse(request, e);
+        }
+    }
+
+    /**
+     * Serves to the supplied HTTP request asynchronously.
+     *
+     * @param request HTTP request to be served
+     * @return stage that completes with a HTTP response that carries the result
+     * @since 1.0.9
+     */
+    public CompletionStage<HttpResponse> serveAsync(HttpRequest request) {
+        CompletionStage<String> html;
+        try {
+            Page page = resolvePage(request);
+            Span span = RequestTrace.startSpan(RequestTrace.STAGE_RENDER);
+            html = page.renderAsync(request, app.getConfiguration()).whenComplete((result, throwable) -> span.end());
+        } catch (PageNotFoundException | PageRedirectException e) {
+            return CompletableFuture.completedFuture(createErrorResponse(request, e));
+        }
+        return html.handle((result, throwable) -> {
+            if (throwable == null) {
+                return createResponse(result);
+            }
+            Throwable cause = (throwable instanceof CompletionException) ? throwable.getCause() : throwable;
+            if (cause instanceof RenderingException) {
+                return createErrorResponse(request, (RenderingException) cause);
+            }
+            throw (throwable instanceof CompletionException) ?
+                    (CompletionException) throwable : new CompletionException(throwable);
+        });
+    }
+
+    private Page resolvePage(HttpRequest request) throws PageNotFoundException, PageRedirectException {
+        Span span = RequestTrace.startSpan(RequestTrace.STAGE_ROUTING);
+        try {
+            return app.resolvePage(request);
+        } finally {
+            span.end();
+        }
+    }
+
+    private HttpResponse createResponse(String html) {
+        return ResponseBuilder.ok(html, CONTENT_TYPE_TEXT_HTML)
+                .headers(app.getConfiguration().getResponseHeaders().forPages())
+                .build();
+    }
+
+    private HttpResponse createErrorResponse(HttpRequest request, Exception e) {
+        if (e instanceof PageRedirectException) {
+            PageRedirectException pageRedirectException = (PageRedirectException) e;
+            return ResponseBuilder.status(pageRedirectException.getHttpStatusCode())
+                    .header(HEADER_LOCATION, pageRedirectException.getRedirectUrl())
                     .build();
-        } catch (RenderingException e) {
+        } else if (e instanceof PageNotFoundException) {
+            return errorResponses.notFound();
+        } else {
             LOGGER.error("An error occurred when rendering page for request '{}'.", request, e);
-            return ResponseBuilder.serverError("A server error occurred while rendering page for page request.")
-                    .build();
-        } catch (PageNotFoundException e) {
-            return ResponseBuilder.notFound("Page '" + request.getUriWithoutContextPath() + "' does not exists.")
-                    .build();
-        } catch (PageRedirectException e) {
-            return ResponseBuilder.status(e.getHttpStatusCode())
-                    .header(HEADER_LOCATION, e.getRedirectUrl())
-                    .build();
+            return errorResponses.serverError();
         }
     }
 }
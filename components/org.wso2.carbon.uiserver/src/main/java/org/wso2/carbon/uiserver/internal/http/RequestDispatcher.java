@@ -24,7 +24,18 @@ import org.wso2.carbon.uiserver.api.App;
 import org.wso2.carbon.uiserver.api.exception.UiServerRuntimeException;
 import org.wso2.carbon.uiserver.api.http.HttpRequest;
 import org.wso2.carbon.uiserver.api.http.HttpResponse;
+import org.wso2.carbon.uiserver.api.metrics.RequestKind;
 import org.wso2.carbon.uiserver.internal.io.http.StaticRequestDispatcher;
+import org.wso2.carbon.uiserver.internal.metrics.RequestMetricsRecorder;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Dispatches HTTP requests.
@@ -33,10 +44,22 @@ import org.wso2.carbon.uiserver.internal.io.http.StaticRequestDispatcher;
  */
 public class RequestDispatcher {
 
+    /**
+     * Name of the cache of i18n bundles.
+     */
+    public static final String CACHE_I18N_BUNDLES = "i18n-bundles";
+    /**
+     * Name of the cache of last modified dates of static resource files.
+     */
+    public static final String CACHE_STATIC_RESOURCE_DATES = "static-resource-dates";
     private static final Logger LOGGER = LoggerFactory.getLogger(RequestDispatcher.class);
 
     private final PageRequestDispatcher pageRequestDispatcher;
     private final StaticRequestDispatcher staticRequestDispatcher;
+    private final I18nRequestDispatcher i18nRequestDispatcher;
+    private final ErrorResponses errorResponses;
+    private final RequestMetricsRecorder metricsRecorder;
+    private final AtomicInteger inFlightRequests;
 
     /**
      * Creates a new request dispatcher.
@@ -44,12 +67,37 @@ public class RequestDispatcher {
      * @param app web app to be served
      */
     public RequestDispatcher(App app) {
-        this(new PageRequestDispatcher(app), new StaticRequestDispatcher(app));
+        this(app, null);
+    }
+
+    /**
+     * Creates a new request dispatcher that records metrics of served requests.
+     *
+     * @param app             web app to be served
+     * @param metricsRecorder metrics recorder of the web app, {@code null} to not record metrics
+     * @since 1.0.9
+     */
+    public RequestDispatcher(App app, RequestMetricsRecorder metricsRecorder) {
+        this(app, ErrorResponses.create(app), metricsRecorder);
     }
 
-    RequestDispatcher(PageRequestDispatcher pageRequestDispatcher, StaticRequestDispatcher staticRequestDispatcher) {
+    private RequestDispatcher(App app, ErrorResponses errorResponses, RequestMetricsRecorder metricsRecorder) {
+        this(new PageRequestDispatcher(app, errorResponses), new StaticRequestDispatcher(app, errorResponses),
+             new I18nRequestDispatcher(app, errorResponses), errorResponses, metricsRecorder);
+        if (metricsRecorder != null) {
+            metricsRecorder.registerCache(CACHE_I18N_BUNDLES, i18nRequestDispatcher::getCacheStats);
+        }
+    }
+
+    RequestDispatcher(PageRequestDispatcher pageRequestDispatcher, StaticRequestDispatcher staticRequestDispatcher,
+                      I18nRequestDispatcher i18nRequestDispatcher, ErrorResponses errorResponses,
+                      RequestMetricsRecorder metricsRecorder) {
         this.pageRequestDispatcher = pageRequestDispatcher;
         this.staticRequestDispatcher = staticRequestDispatcher;
+        this.i18nRequestDispatcher = i18nRequestDispatcher;
+        this.errorResponses = errorResponses;
+        this.metricsRecorder = metricsRecorder;
+        this.inFlightRequests = new AtomicInteger();
     }
 
     /**
@@ -59,25 +107,211 @@ public class RequestDispatcher {
      * @return HTTP response
      */
     public HttpResponse serve(HttpRequest request) {
-        if (!request.isValid()) {
-            return ResponseBuilder.badRequest("URI '" + request.getUri() + "' is invalid.").build();
+        long startTime = System.nanoTime();
+        RequestKind requestKind = getRequestKind(request);
+        inFlightRequests.incrementAndGet();
+        HttpResponse response;
+        try {
+            response = dispatch(request, requestKind);
+        } finally {
+            inFlightRequests.decrementAndGet();
         }
+        record(requestKind, response, startTime);
+        return response;
+    }
 
+    private HttpResponse dispatch(HttpRequest request, RequestKind requestKind) {
         try {
-            if (request.isDefaultFaviconRequest()) {
-                return staticRequestDispatcher.serveDefaultFavicon(request);
-            } else if (request.isStaticResourceRequest()) {
-                return staticRequestDispatcher.serve(request);
-            } else {
-                return pageRequestDispatcher.serve(request);
+            switch (requestKind) {
+                case ERROR:
+                    return errorResponses.badRequest();
+                case FAVICON:
+                    return staticRequestDispatcher.serveDefaultFavicon(request);
+                case STATIC_RESOURCE:
+                    return staticRequestDispatcher.serve(request);
+                case I18N_BUNDLE:
+                    return i18nRequestDispatcher.serve(request);
+                default:
+                    return pageRequestDispatcher.serve(request);
             }
         } catch (UiServerRuntimeException e) {
             LOGGER.error("An error occurred when serving for request '{}'.", request, e);
-            return ResponseBuilder.serverError("A server error occurred while serving for request.").build();
+            return errorResponses.serverError();
         } catch (Exception e) {
             LOGGER.error("An unexpected error occurred when serving for request '{}'.", request, e);
-            return ResponseBuilder.serverError("An unexpected server error occurred while serving for request.")
-                    .build();
+            return errorResponses.serverError();
+        }
+    }
+
+    /**
+     * Serves the specified HTTP request asynchronously.
+     *
+     * @param request HTTP request to be served
+     * @return stage that completes with the HTTP response
+     * @since 1.0.9
+     */
+    public CompletionStage<HttpResponse> serveAsync(HttpRequest request) {
+        long startTime = System.nanoTime();
+        RequestKind requestKind = getRequestKind(request);
+        inFlightRequests.incrementAndGet();
+        CompletionStage<HttpResponse> response = dispatchAsync(request, requestKind);
+        // Dispatched response never completes exceptionally.
+        return response.thenApply(httpResponse -> {
+            inFlightRequests.decrementAndGet();
+            record(requestKind, httpResponse, startTime);
+            return httpResponse;
+        });
+    }
+
+    /**
+     * Serves the specified HTTP request asynchronously to warm up the caches of this dispatcher. Unlike {@link
+     * #serveAsync(HttpRequest)}, metrics of the request are not recorded.
+     *
+     * @param request HTTP request to be served
+     * @return stage that completes with the HTTP response
+     * @since 1.0.9
+     */
+    public CompletionStage<HttpResponse> warmUp(HttpRequest request) {
+        return dispatchAsync(request, getRequestKind(request));
+    }
+
+    private CompletionStage<HttpResponse> dispatchAsync(HttpRequest request, RequestKind requestKind) {
+        CompletionStage<HttpResponse> response;
+        try {
+            switch (requestKind) {
+                case ERROR:
+                    return CompletableFuture.completedFuture(errorResponses.badRequest());
+                case FAVICON:
+                    response = CompletableFuture.completedFuture(staticRequestDispatcher.serveDefaultFavicon(request));
+                    break;
+                case STATIC_RESOURCE:
+                    response = staticRequestDispatcher.serveAsync(request);
+                    break;
+                case I18N_BUNDLE:
+                    response = CompletableFuture.completedFuture(i18nRequestDispatcher.serve(request));
+                    break;
+                default:
+                    response = pageRequestDispatcher.serveAsync(request);
+            }
+        } catch (Exception e) {
+            CompletableFuture<HttpResponse> failedResponse = new CompletableFuture<>();
+            failedResponse.completeExceptionally(e);
+            response = failedResponse;
+        }
+        return response.exceptionally(throwable -> {
+            Throwable cause = (throwable instanceof CompletionException) ? throwable.getCause() : throwable;
+            LOGGER.error("An error occurred when serving for request '{}'.", request, cause);
+            return errorResponses.serverError();
+        });
+    }
+
+    /**
+     * Returns the error responses of the web app served by this dispatcher.
+     *
+     * @return error responses
+     * @since 1.0.9
+     */
+    public ErrorResponses getErrorResponses() {
+        return errorResponses;
+    }
+
+    /**
+     * Returns the number of HTTP requests being served by this dispatcher at the moment.
+     *
+     * @return number of in-flight requests
+     * @since 1.0.9
+     */
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    /**
+     * Returns the number of entries in each cache of this dispatcher.
+     *
+     * @return cache sizes by cache name
+     * @since 1.0.9
+     */
+    public Map<String, Long> getCacheSizes() {
+        Map<String, Long> cacheSizes = new TreeMap<>();
+        if (i18nRequestDispatcher != null) {
+            cacheSizes.put(CACHE_I18N_BUNDLES, i18nRequestDispatcher.getCacheSize());
+        }
+        if (staticRequestDispatcher != null) {
+            cacheSizes.put(CACHE_STATIC_RESOURCE_DATES, staticRequestDispatcher.getCacheSize());
+        }
+        return cacheSizes;
+    }
+
+    /**
+     * Returns the keys of the entries in the specified cache of this dispatcher, i.e. language tags of the cached i18n
+     * bundles or paths of the static resource files whose last modified dates are cached.
+     *
+     * @param cacheName name of the cache
+     * @return sorted keys of the cache, or empty if there is no such cache
+     * @since 1.0.9
+     */
+    public Optional<Set<String>> getCacheKeys(String cacheName) {
+        if (CACHE_I18N_BUNDLES.equals(cacheName) && (i18nRequestDispatcher != null)) {
+            return Optional.of(i18nRequestDispatcher.getCacheKeys());
+        } else if (CACHE_STATIC_RESOURCE_DATES.equals(cacheName) && (staticRequestDispatcher != null)) {
+            return Optional.of(staticRequestDispatcher.getCacheKeys());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Discards all entries in the specified cache of this dispatcher.
+     *
+     * @param cacheName name of the cache
+     * @return {@code true} if the cache was cleared, {@code false} if there is no such cache
+     * @since 1.0.9
+     */
+    public boolean clearCache(String cacheName) {
+        if (CACHE_I18N_BUNDLES.equals(cacheName) && (i18nRequestDispatcher != null)) {
+            i18nRequestDispatcher.clearCache();
+            return true;
+        } else if (CACHE_STATIC_RESOURCE_DATES.equals(cacheName) && (staticRequestDispatcher != null)) {
+            staticRequestDispatcher.clearCache();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Populates the specified cache of this dispatcher with the entries that the web app is known to need.
+     *
+     * @param cacheName name of the cache
+     * @return number of entries populated, or empty if there is no such cache
+     * @since 1.0.9
+     */
+    public Optional<Integer> warmCache(String cacheName) {
+        if (CACHE_I18N_BUNDLES.equals(cacheName) && (i18nRequestDispatcher != null)) {
+            return Optional.of(i18nRequestDispatcher.warmCache());
+        } else if (CACHE_STATIC_RESOURCE_DATES.equals(cacheName) && (staticRequestDispatcher != null)) {
+            return Optional.of(staticRequestDispatcher.warmCache());
+        }
+        return Optional.empty();
+    }
+
+    private void record(RequestKind requestKind, HttpResponse response, long startTime) {
+        if (metricsRecorder != null) {
+            metricsRecorder.record(requestKind, response, System.nanoTime() - startTime);
+        }
+    }
+
+    private RequestKind getRequestKind(HttpRequest request) {
+        if (!request.isValid()) {
+            return RequestKind.ERROR;
+        } else if (request.isDefaultFaviconRequest()) {
+            return RequestKind.FAVICON;
+        } else if (request.isStaticResourceRequest()) {
+            return RequestKind.STATIC_RESOURCE;
+        } else if (request.isI18nBundleRequest() && (i18nRequestDispatcher != null) &&
+                   i18nRequestDispatcher.hasBundle(request)) {
+            // Otherwise the web app may have its own page under '/i18n/'.
+            return RequestKind.I18N_BUNDLE;
+        } else {
+            return RequestKind.PAGE;
         }
     }
 }
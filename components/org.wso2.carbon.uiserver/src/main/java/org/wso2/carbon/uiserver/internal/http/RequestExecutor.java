@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.http;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+import org.wso2.carbon.uiserver.internal.http.admission.AdmissionController;
+import org.wso2.carbon.uiserver.internal.http.admission.AdmissionController.Permit;
+
+import java.util.function.Function;
+
+import static org.wso2.carbon.uiserver.api.http.HttpResponse.HEADER_RETRY_AFTER;
+
+/**
+ * Executes HTTP requests of web apps in the transport thread which received them, admitting them by the admission
+ * controller of the web app.
+ * <p>
+ * MSF4J resources return their response from the transport thread that invoked them, so that thread is held until the
+ * response is ready regardless of where the request is served. Handing requests over to another thread would only add
+ * a thread hop, hence requests are always served in the transport thread.
+ *
+ * @since 1.0.9
+ */
+public class RequestExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestExecutor.class);
+
+    /**
+     * Wraps the supplied HTTP request dispatcher so that requests are admitted by the supplied admission controller.
+     *
+     * @param dispatcher          dispatcher that serves HTTP requests
+     * @param admissionController admission controller of the web app, {@code null} to admit all requests
+     * @return HTTP requests listener that serves via this executor
+     */
+    public Function<HttpRequest, HttpResponse> wrap(Function<HttpRequest, HttpResponse> dispatcher,
+                                                    AdmissionController admissionController) {
+        if (admissionController == null) {
+            return dispatcher;
+        }
+        return request -> execute(dispatcher, request, admissionController);
+    }
+
+    /**
+     * Wraps the supplied request dispatcher of a web app so that requests are admitted by the supplied admission
+     * controller.
+     *
+     * @param dispatcher          request dispatcher of the web app
+     * @param admissionController admission controller of the web app, {@code null} to admit all requests
+     * @return HTTP requests listener that serves via this executor
+     */
+    public Function<HttpRequest, HttpResponse> wrap(RequestDispatcher dispatcher,
+                                                    AdmissionController admissionController) {
+        return wrap(dispatcher::serve, admissionController);
+    }
+
+    private static HttpResponse execute(Function<HttpRequest, HttpResponse> dispatcher, HttpRequest request,
+                                        AdmissionController admissionController) {
+        Permit permit = admissionController.tryAcquire();
+        if (permit == null) {
+            LOGGER.debug("Concurrent requests limit reached. Rejected request '{}'.", request);
+            return ResponseBuilder.serviceUnavailable("Server is too busy to serve for request.")
+                    .header(HEADER_RETRY_AFTER, Integer.toString(admissionController.getRetryAfter()))
+                    .build();
+        }
+        try {
+            return dispatcher.apply(request);
+        } finally {
+            permit.release();
+        }
+    }
+}
@@ -258,4 +258,23 @@ public class ResponseBuilder {
     public static ResponseBuilder serverError(String content) {
         return serverError().content(content).contentType(HttpResponse.CONTENT_TYPE_TEXT_PLAIN);
     }
+
+    /**
+     * Creates a new response builder with {@link HttpResponse#STATUS_SERVICE_UNAVAILABLE SERVICE_UNAVAILABLE} status.
+     *
+     * @return a new response builder
+     */
+    public static ResponseBuilder serviceUnavailable() {
+        return status(HttpResponse.STATUS_SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Creates a new response builder with {@link HttpResponse#STATUS_SERVICE_UNAVAILABLE SERVICE_UNAVAILABLE} status.
+     *
+     * @param content content of the response
+     * @return a new response builder
+     */
+    public static ResponseBuilder serviceUnavailable(String content) {
+        return serviceUnavailable().content(content).contentType(HttpResponse.CONTENT_TYPE_TEXT_PLAIN);
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.http.admission;
+
+import org.wso2.carbon.uiserver.api.ServerConfiguration.AppConfiguration;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.wso2.carbon.uiserver.api.ServerConfiguration.AppConfiguration.LIMITER_GRADIENT;
+
+/**
+ * Controls the admission of HTTP requests of a web app.
+ * <p>
+ * Requests are admitted while the number of requests being served is below the concurrency limit. Beyond that, requests
+ * are rejected immediately, so that a heavily loaded web app sheds its excess load instead of starving the other web
+ * apps that share the same transport. Requests never wait for an admission, as a waiting request would hold a transport
+ * thread that is shared with the other web apps.
+ *
+ * @since 1.0.9
+ */
+public class AdmissionController {
+
+    private static final int GRADIENT_INITIAL_LIMIT = 20;
+    private static final int GRADIENT_DEFAULT_MAX_LIMIT = 1000;
+
+    private final ConcurrencyLimit limit;
+    private final int retryAfter;
+    private final ReentrantLock lock;
+    private int inFlight;
+
+    /**
+     * Creates a new admission controller.
+     *
+     * @param limit      concurrency limit
+     * @param retryAfter seconds that a rejected client should wait before retrying
+     */
+    public AdmissionController(ConcurrencyLimit limit, int retryAfter) {
+        this.limit = limit;
+        this.retryAfter = retryAfter;
+        this.lock = new ReentrantLock();
+    }
+
+    /**
+     * Creates an admission controller for a web app with the supplied configuration.
+     *
+     * @param appConfiguration configuration of the web app
+     * @return admission controller or empty if requests of the web app should be admitted without any limit
+     * @throws IllegalArgumentException if the app configuration is invalid
+     */
+    public static Optional<AdmissionController> create(AppConfiguration appConfiguration)
+            throws IllegalArgumentException {
+        int maxConcurrentRequests = appConfiguration.getMaxConcurrentRequests();
+        ConcurrencyLimit limit;
+        if (LIMITER_GRADIENT.equals(appConfiguration.getConcurrencyLimiter())) {
+            int maxLimit = (maxConcurrentRequests == 0) ? GRADIENT_DEFAULT_MAX_LIMIT : maxConcurrentRequests;
+            limit = new GradientConcurrencyLimit(Math.min(GRADIENT_INITIAL_LIMIT, maxLimit), maxLimit);
+        } else if (maxConcurrentRequests == 0) {
+            return Optional.empty();
+        } else {
+            limit = new FixedConcurrencyLimit(maxConcurrentRequests);
+        }
+        return Optional.of(new AdmissionController(limit, appConfiguration.getRetryAfter()));
+    }
+
+    /**
+     * Acquires a permit to serve a request, without waiting.
+     *
+     * @return acquired permit or {@code null} if the concurrency limit is reached and the request is rejected
+     */
+    public Permit tryAcquire() {
+        lock.lock();
+        try {
+            if (inFlight >= limit.getLimit()) {
+                return null;
+            }
+            inFlight++;
+            return new Permit(inFlight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of seconds that a rejected client should wait before retrying.
+     *
+     * @return seconds to wait before retrying
+     */
+    public int getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     *
+     * @return current concurrency limit
+     */
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    /**
+     * Returns the number of requests being served at the moment.
+     *
+     * @return number of requests being served
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(Permit permit, boolean dropped) {
+        long rttNanos = System.nanoTime() - permit.startNanos;
+        lock.lock();
+        try {
+            inFlight--;
+            limit.onSample(rttNanos, permit.inFlight, dropped);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AdmissionController{limit=" + limit + ", retryAfter=" + retryAfter + "}";
+    }
+
+    /**
+     * A permit to serve a request, which can be released only once.
+     *
+     * @since 1.0.9
+     */
+    public class Permit {
+
+        private final long startNanos;
+        private final int inFlight;
+        private final AtomicBoolean released;
+
+        private Permit(int inFlight) {
+            this.startNanos = System.nanoTime();
+            this.inFlight = inFlight;
+            this.released = new AtomicBoolean(false);
+        }
+
+        /**
+         * Releases this permit after the request is served.
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                AdmissionController.this.release(this, false);
+            }
+        }
+
+        /**
+         * Releases this permit after the request is dropped without being served (e.g. timed out).
+         */
+        public void drop() {
+            if (released.compareAndSet(false, true)) {
+                AdmissionController.this.release(this, true);
+            }
+        }
+    }
+}
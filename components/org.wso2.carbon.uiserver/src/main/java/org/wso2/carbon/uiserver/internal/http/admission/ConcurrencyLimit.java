@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.http.admission;
+
+/**
+ * Limit for the number of HTTP requests of a web app that can be served concurrently.
+ *
+ * @since 1.0.9
+ */
+public interface ConcurrencyLimit {
+
+    /**
+     * Returns the current concurrency limit.
+     *
+     * @return maximum number of requests that can be served concurrently at the moment
+     */
+    int getLimit();
+
+    /**
+     * Updates this limit with the outcome of a served request.
+     *
+     * @param rttNanos time taken to serve the request in nanoseconds
+     * @param inFlight number of requests that were being served when the request was admitted
+     * @param dropped  {@code true} if the request was dropped (e.g. timed out), otherwise {@code false}
+     */
+    void onSample(long rttNanos, int inFlight, boolean dropped);
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.http.admission;
+
+/**
+ * Concurrency limit which does not change.
+ *
+ * @since 1.0.9
+ */
+public class FixedConcurrencyLimit implements ConcurrencyLimit {
+
+    private final int limit;
+
+    /**
+     * Creates a new fixed concurrency limit.
+     *
+     * @param limit maximum number of requests that can be served concurrently
+     */
+    public FixedConcurrencyLimit(int limit) {
+        this.limit = limit;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public void onSample(long rttNanos, int inFlight, boolean dropped) {
+        // Fixed limit does not adapt.
+    }
+
+    @Override
+    public String toString() {
+        return "FixedConcurrencyLimit{limit=" + limit + "}";
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.http.admission;
+
+/**
+ * Concurrency limit which adapts to the gradient of the response latencies.
+ * <p>
+ * A long term exponential average of the request round trip times (RTT) is compared with the RTT of each served
+ * request. While latencies stay around the long term average the limit grows by a queue allowance of {@code
+ * sqrt(limit)}; when latencies increase (i.e. requests start queueing inside the server) the limit shrinks
+ * proportionally to the gradient, so the server degrades gracefully instead of collapsing under overload. The
+ * approach follows the "Gradient2" limiter of Netflix concurrency-limits library.
+ *
+ * @since 1.0.9
+ */
+public class GradientConcurrencyLimit implements ConcurrencyLimit {
+
+    private static final int MIN_LIMIT = 1;
+    private static final double SMOOTHING = 0.2;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double LONG_WINDOW = 600;
+    private static final double DROP_BACKOFF_RATIO = 0.9;
+
+    private final int maxLimit;
+    private double estimatedLimit;
+    private double longRtt;
+    private volatile int limit;
+
+    /**
+     * Creates a new gradient concurrency limit.
+     *
+     * @param initialLimit initial concurrency limit
+     * @param maxLimit     upper bound of the concurrency limit
+     */
+    public GradientConcurrencyLimit(int initialLimit, int maxLimit) {
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = Math.max(MIN_LIMIT, Math.min(initialLimit, maxLimit));
+        this.longRtt = 0;
+        this.limit = (int) estimatedLimit;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            updateLimit(estimatedLimit * DROP_BACKOFF_RATIO);
+            return;
+        }
+        if (rttNanos <= 0) {
+            return;
+        }
+
+        double shortRtt = rttNanos;
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt = longRtt + ((shortRtt - longRtt) / LONG_WINDOW);
+        }
+        if (longRtt > (shortRtt * 2)) {
+            // Latencies have recovered from a load spike, hence let the long term average catch up faster.
+            longRtt = longRtt * 0.95;
+        }
+
+        if (inFlight < (estimatedLimit / 2)) {
+            // Server is not utilizing the current limit, hence there is no evidence to grow the limit.
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, (RTT_TOLERANCE * longRtt) / shortRtt));
+        double newLimit = (estimatedLimit * gradient) + Math.sqrt(estimatedLimit);
+        updateLimit((estimatedLimit * (1 - SMOOTHING)) + (newLimit * SMOOTHING));
+    }
+
+    private void updateLimit(double newLimit) {
+        estimatedLimit = Math.max(MIN_LIMIT, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    @Override
+    public String toString() {
+        return "GradientConcurrencyLimit{limit=" + limit + ", maxLimit=" + maxLimit + "}";
+    }
+}
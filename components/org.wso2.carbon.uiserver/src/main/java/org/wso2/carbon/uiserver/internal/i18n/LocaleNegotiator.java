@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.i18n;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Negotiates the locale for HTTP requests among the locales available in a web app.
+ * <p>
+ * A fallback chain (e.g. {@code fr-CA -> fr}) from every language tag that can be derived from the available locales
+ * is computed at the creation. Negotiated locales are memoized against the raw "Accept-Language" header values in a
+ * bounded cache, since browsers send only a handful of distinct header values. Hence negotiating a locale is usually
+ * a single hash lookup.
+ *
+ * @since 1.0.9
+ */
+public class LocaleNegotiator {
+
+    private static final int MAX_CACHED_LANGUAGE_RANGES = 256;
+    private static final String WILDCARD_RANGE = "*";
+
+    private final Map<String, Locale> fallbacks;
+    private final Locale anyLocale;
+    private final LoadingCache<String, Optional<Locale>> negotiatedLocales;
+
+    /**
+     * Creates a new locale negotiator.
+     *
+     * @param availableLocales locales to choose from
+     */
+    public LocaleNegotiator(Set<Locale> availableLocales) {
+        this.fallbacks = computeFallbacks(availableLocales);
+        this.anyLocale = availableLocales.stream().min(Comparator.comparing(Locale::toLanguageTag)).orElse(null);
+        this.negotiatedLocales = CacheBuilder.newBuilder()
+                .maximumSize(MAX_CACHED_LANGUAGE_RANGES)
+                .build(CacheLoader.from(this::resolve));
+    }
+
+    /**
+     * Returns the best matching locale for the given language ranges.
+     *
+     * @param languageRanges a list of comma-separated language ranges or a list of language ranges in the form of the
+     *                       "Accept-Language" header defined in
+     *                       <a href="https://tools.ietf.org/html/rfc2616#section-14.4">RFC 2616</a>
+     * @return the best matching locale, or empty if nothing matches
+     */
+    public Optional<Locale> negotiate(String languageRanges) {
+        if ((languageRanges == null) || languageRanges.isEmpty() || fallbacks.isEmpty()) {
+            return Optional.empty();
+        }
+        return negotiatedLocales.getUnchecked(languageRanges);
+    }
+
+    private Optional<Locale> resolve(String languageRanges) {
+        List<Locale.LanguageRange> ranges;
+        try {
+            ranges = Locale.LanguageRange.parse(languageRanges); // sorted in descending order of weights
+        } catch (IllegalArgumentException e) {
+            return Optional.empty(); // languageRanges is ill formed
+        }
+
+        for (Locale.LanguageRange range : ranges) {
+            if (range.getWeight() == 0) {
+                continue; // not acceptable
+            }
+            if (WILDCARD_RANGE.equals(range.getRange())) {
+                return Optional.ofNullable(anyLocale);
+            }
+            Locale locale = lookup(range.getRange());
+            if (locale != null) {
+                return Optional.of(locale);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Locale lookup(String languageTag) {
+        // Ranges returned by Locale.LanguageRange are in lower case.
+        String tag = languageTag;
+        while (true) {
+            Locale locale = fallbacks.get(tag);
+            if (locale != null) {
+                return locale;
+            }
+            int lastHyphenIndex = tag.lastIndexOf('-');
+            if (lastHyphenIndex < 0) {
+                return null;
+            }
+            tag = tag.substring(0, lastHyphenIndex); // fr-ca -> fr
+        }
+    }
+
+    private static Map<String, Locale> computeFallbacks(Set<Locale> availableLocales) {
+        if (availableLocales.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Locale> fallbacks = new HashMap<>();
+        // Available locales always resolve to themselves.
+        availableLocales.forEach(locale -> fallbacks.put(toKey(locale.toLanguageTag()), locale));
+        // Then their parents (e.g. 'en' for 'en-US') resolve to them. Sorting makes the choice among siblings stable.
+        availableLocales.stream()
+                .sorted(Comparator.comparing(Locale::toLanguageTag))
+                .forEach(locale -> {
+                    String tag = toKey(locale.toLanguageTag());
+                    for (int i = tag.lastIndexOf('-'); i > 0; i = tag.lastIndexOf('-')) {
+                        tag = tag.substring(0, i);
+                        fallbacks.putIfAbsent(tag, locale);
+                    }
+                });
+        return fallbacks;
+    }
+
+    private static String toKey(String languageTag) {
+        return languageTag.toLowerCase(Locale.ENGLISH);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.impl;
+
+import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.api.Configuration;
+import org.wso2.carbon.uiserver.api.Extension;
+import org.wso2.carbon.uiserver.api.I18nResource;
+import org.wso2.carbon.uiserver.api.Page;
+import org.wso2.carbon.uiserver.api.Theme;
+import org.wso2.carbon.uiserver.api.exception.PageNotFoundException;
+import org.wso2.carbon.uiserver.api.exception.PageRedirectException;
+import org.wso2.carbon.uiserver.api.exception.RenderingException;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.internal.exception.AppCreationException;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * Represents a web app that is created when it is used for the first time.
+ * <p>
+ * A lazy app only knows the name, context path and path of the web app, hence it is cheap to create and deploy. The
+ * full web app (pages compiled, i18n resources loaded, etc.) is created when it is activated, either explicitly or by
+ * calling any method that needs it, and every such method is delegated to the full web app afterwards.
+ *
+ * @since 1.0.9
+ */
+public class LazyApp extends App {
+
+    private final Supplier<App> appCreator;
+    private final Object activationLock = new Object();
+    private volatile App activatedApp;
+
+    /**
+     * Creates a new lazy app.
+     *
+     * @param name        name of the app
+     * @param contextPath context path of the app
+     * @param path        path to the app
+     * @param appCreator  creator of the full app, which may throw an {@link AppCreationException}
+     */
+    public LazyApp(String name, String contextPath, String path, Supplier<App> appCreator) {
+        super(name, contextPath, Collections.emptySortedSet(), Collections.emptySet(), Collections.emptySet(),
+              Collections.emptySet(), Configuration.DEFAULT_CONFIGURATION, path);
+        this.appCreator = appCreator;
+    }
+
+    /**
+     * Activates this app by creating the full app, if not activated yet. When many threads activate the same app
+     * concurrently, only one of them creates it and the others wait for it.
+     *
+     * @return the full app
+     * @throws AppCreationException if the full app cannot be created; activating again retries the creation
+     */
+    public App activate() throws AppCreationException {
+        App app = activatedApp;
+        if (app == null) {
+            synchronized (activationLock) {
+                app = activatedApp;
+                if (app == null) {
+                    app = appCreator.get();
+                    activatedApp = app;
+                }
+            }
+        }
+        return app;
+    }
+
+    /**
+     * Returns whether this app has been activated.
+     *
+     * @return {@code true} if the full app has been created, otherwise {@code false}
+     */
+    public boolean isActivated() {
+        return activatedApp != null;
+    }
+
+    /**
+     * Returns the full app of the specified app, activating it if it is a lazy app.
+     *
+     * @param app web app
+     * @return the full app
+     * @throws AppCreationException if the specified app is a lazy app and cannot be activated
+     */
+    public static App activated(App app) throws AppCreationException {
+        return (app instanceof LazyApp) ? ((LazyApp) app).activate() : app;
+    }
+
+    @Override
+    public Set<Extension> getExtensions(String extensionType) {
+        return activate().getExtensions(extensionType);
+    }
+
+    @Override
+    public Optional<Extension> getExtension(String extensionType, String extensionName) {
+        return activate().getExtension(extensionType, extensionName);
+    }
+
+    @Override
+    public Optional<Theme> getTheme(String themeName) {
+        return activate().getTheme(themeName);
+    }
+
+    @Override
+    public Optional<I18nResource> getI18nResource(Locale locale) {
+        return activate().getI18nResource(locale);
+    }
+
+    @Override
+    public Set<Locale> getLocales() {
+        return activate().getLocales();
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        return activate().getConfiguration();
+    }
+
+    @Override
+    public SortedSet<Page> getPages() {
+        return activate().getPages();
+    }
+
+    @Override
+    public Optional<Page> getPage(String uriWithoutContextPath) {
+        return activate().getPage(uriWithoutContextPath);
+    }
+
+    @Override
+    public String renderPage(HttpRequest request)
+            throws RenderingException, PageNotFoundException, PageRedirectException {
+        return activate().renderPage(request);
+    }
+
+    @Override
+    public CompletionStage<String> renderPageAsync(HttpRequest request) {
+        return activate().renderPageAsync(request);
+    }
+
+    @Override
+    public Page resolvePage(HttpRequest request) throws PageNotFoundException, PageRedirectException {
+        return activate().resolvePage(request);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Both this app and the specified app are activated first, as the fields of an app that is not activated yet are
+     * empty.
+     */
+    @Override
+    public App override(App override) {
+        return activate().override(activated(override));
+    }
+
+    @Override
+    public String toString() {
+        return "LazyApp{name='" + getName() + "', contextPath='" + getContextPath() + "', paths=" + getPaths() +
+               ", activated=" + isActivated() + "}";
+    }
+}
@@ -19,7 +19,6 @@
 package org.wso2.carbon.uiserver.internal.impl;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableSet;
 import org.wso2.carbon.uiserver.api.App;
 import org.wso2.carbon.uiserver.api.Configuration;
 import org.wso2.carbon.uiserver.api.Extension;
@@ -29,6 +28,7 @@ import org.wso2.carbon.uiserver.api.Theme;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -98,10 +98,12 @@ public class OverriddenApp extends App {
     }
 
     private static Set<I18nResource> getI18nResourcesFrom(App base, App override) {
-        return ImmutableSet.<I18nResource>builder()
-                .addAll(getI18nResourcesOf(override))
-                .addAll(getI18nResourcesOf(base))
-                .build();
+        Map<Locale, I18nResource> i18nResources = getI18nResourcesOf(base).stream()
+                .collect(Collectors.toMap(I18nResource::getLocale, Function.identity()));
+        for (I18nResource i18nResource : getI18nResourcesOf(override)) {
+            i18nResources.merge(i18nResource.getLocale(), i18nResource, I18nResource::override);
+        }
+        return new HashSet<>(i18nResources.values());
     }
 
     private static Configuration getConfigurationFrom(App base, App override) {
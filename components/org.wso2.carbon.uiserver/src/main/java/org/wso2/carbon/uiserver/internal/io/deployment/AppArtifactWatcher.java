@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.io.deployment;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static org.wso2.carbon.uiserver.internal.reference.AppReference.DIR_NAME_EXTENSIONS;
+import static org.wso2.carbon.uiserver.internal.reference.AppReference.DIR_NAME_I18N;
+import static org.wso2.carbon.uiserver.internal.reference.AppReference.DIR_NAME_PAGES;
+import static org.wso2.carbon.uiserver.internal.reference.AppReference.DIR_NAME_THEMES;
+import static org.wso2.carbon.uiserver.internal.reference.AppReference.FILE_NAME_CONFIGURATION;
+
+/**
+ * Watches directories of web app artifacts for changes in their files.
+ * <p>
+ * Changes are collected until no further change happens for the configured delay, and then reported once per web app
+ * artifact. A change is reported as a change of the web app if it affects pages, i18n resources, configuration, or the
+ * set of extensions or themes. Otherwise (e.g. a change in a public resource) it is reported as a change of static
+ * resources only.
+ *
+ * @since 1.0.9
+ */
+public class AppArtifactWatcher {
+
+    private static final String THREAD_NAME = "carbon-ui-server-app-watcher";
+    private static final Logger LOGGER = LoggerFactory.getLogger(AppArtifactWatcher.class);
+
+    private final long delayMillis;
+    private final ChangeListener changeListener;
+    private final Map<Path, String> watchedApps;
+    private final Map<WatchKey, Path> watchedDirectories;
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    /**
+     * Creates a new watcher.
+     *
+     * @param delayMillis    time in milliseconds that a burst of changes should settle before reporting
+     * @param changeListener listener to report changes
+     */
+    public AppArtifactWatcher(long delayMillis, ChangeListener changeListener) {
+        this.delayMillis = delayMillis;
+        this.changeListener = changeListener;
+        this.watchedApps = new ConcurrentHashMap<>();
+        this.watchedDirectories = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Starts watching the specified web app artifact directory.
+     *
+     * @param appName      name of the web app
+     * @param appDirectory directory of the web app artifact
+     */
+    public synchronized void watch(String appName, Path appDirectory) {
+        if (watchedApps.putIfAbsent(appDirectory, appName) != null) {
+            return;
+        }
+        try {
+            if (watchService == null) {
+                watchService = FileSystems.getDefault().newWatchService();
+                watcherThread = new Thread(this::run, THREAD_NAME);
+                watcherThread.setDaemon(true);
+                watcherThread.start();
+            }
+            registerAll(appDirectory);
+            LOGGER.debug("Watching web app '{}' in '{}' for changes.", appName, appDirectory);
+        } catch (IOException e) {
+            watchedApps.remove(appDirectory);
+            LOGGER.warn("Cannot watch web app '{}' in '{}' for changes. It will not be reloaded live.", appName,
+                        appDirectory, e);
+        }
+    }
+
+    /**
+     * Stops watching the specified web app artifact directory.
+     *
+     * @param appDirectory directory of the web app artifact
+     */
+    public synchronized void unwatch(Path appDirectory) {
+        if (watchedApps.remove(appDirectory) == null) {
+            return;
+        }
+        watchedDirectories.entrySet().removeIf(entry -> {
+            if (entry.getValue().startsWith(appDirectory)) {
+                entry.getKey().cancel();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Closes this watcher.
+     */
+    public synchronized void close() {
+        watchedApps.clear();
+        watchedDirectories.clear();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOGGER.debug("Cannot close the watch service.", e);
+            }
+            watchService = null;
+        }
+        if (watcherThread != null) {
+            watcherThread.interrupt();
+            watcherThread = null;
+        }
+    }
+
+    private void registerAll(Path directory) throws IOException {
+        List<Path> directories;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            directories = paths.filter(Files::isDirectory).collect(Collectors.toList());
+        }
+        for (Path dir : directories) {
+            watchedDirectories.put(dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY), dir);
+        }
+    }
+
+    private void run() {
+        WatchService watchService = this.watchService;
+        Map<Path, Boolean> changes = new HashMap<>();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                collectChanges(watchService.take(), changes);
+                // Wait until the burst of changes settles.
+                WatchKey watchKey;
+                while ((watchKey = watchService.poll(delayMillis, TimeUnit.MILLISECONDS)) != null) {
+                    collectChanges(watchKey, changes);
+                }
+                changes.forEach(this::reportChange);
+                changes.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Watcher is closed.
+        }
+        LOGGER.debug("Stopped watching web apps for changes.");
+    }
+
+    private void collectChanges(WatchKey watchKey, Map<Path, Boolean> changes) {
+        Path directory = watchedDirectories.get(watchKey);
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            if (directory == null) {
+                continue;
+            }
+            Path changedPath = (event.kind() == OVERFLOW) ? directory : directory.resolve((Path) event.context());
+            Path appDirectory = findAppDirectory(changedPath);
+            if (appDirectory == null) {
+                continue;
+            }
+            if ((event.kind() == ENTRY_CREATE) && Files.isDirectory(changedPath)) {
+                registerQuietly(changedPath);
+            }
+            // Some events might have been lost when overflowed, hence the web app is considered as changed.
+            boolean appChanged = (event.kind() == OVERFLOW) || isAppChange(appDirectory.relativize(changedPath));
+            changes.merge(appDirectory, appChanged, Boolean::logicalOr);
+        }
+        if (!watchKey.reset()) {
+            watchedDirectories.remove(watchKey);
+        }
+    }
+
+    private synchronized void registerQuietly(Path directory) {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            registerAll(directory);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot watch directory '{}' for changes.", directory, e);
+        }
+    }
+
+    private Path findAppDirectory(Path path) {
+        for (Path appDirectory : watchedApps.keySet()) {
+            if (path.startsWith(appDirectory)) {
+                return appDirectory;
+            }
+        }
+        return null;
+    }
+
+    private void reportChange(Path appDirectory, boolean appChanged) {
+        String appName = watchedApps.get(appDirectory);
+        if (appName == null) {
+            return; // Unwatched while collecting changes.
+        }
+        try {
+            changeListener.changed(appName, appDirectory, appChanged);
+        } catch (RuntimeException e) {
+            LOGGER.error("An error occurred when reloading web app '{}' in '{}'.", appName, appDirectory, e);
+        }
+    }
+
+    static boolean isAppChange(Path relativePath) {
+        if (relativePath.toString().isEmpty()) {
+            return true;
+        }
+        switch (relativePath.getName(0).toString()) {
+            case FILE_NAME_CONFIGURATION:
+            case DIR_NAME_PAGES:
+            case DIR_NAME_I18N:
+                return true;
+            case DIR_NAME_EXTENSIONS:
+                return relativePath.getNameCount() <= 3; // extensions/{type}/{name}
+            case DIR_NAME_THEMES:
+                return relativePath.getNameCount() <= 2; // themes/{name}
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Listener for changes in web app artifacts.
+     *
+     * @since 1.0.9
+     */
+    @FunctionalInterface
+    public interface ChangeListener {
+
+        /**
+         * Invoked when files of a watched web app artifact are changed.
+         *
+         * @param appName      name of the web app
+         * @param appDirectory directory of the web app artifact
+         * @param appChanged   {@code true} if the web app should be recreated, {@code false} if only its static
+         *                     resources are changed
+         */
+        void changed(String appName, Path appDirectory, boolean appChanged);
+    }
+}
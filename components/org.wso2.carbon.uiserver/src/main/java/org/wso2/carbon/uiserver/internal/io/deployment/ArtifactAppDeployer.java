@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.uiserver.internal.io.deployment;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.deployment.engine.Artifact;
@@ -29,10 +30,15 @@ import org.wso2.carbon.uiserver.api.ServerConfiguration;
 import org.wso2.carbon.uiserver.internal.deployment.AppCreator;
 import org.wso2.carbon.uiserver.internal.deployment.AppDeploymentEventListener;
 import org.wso2.carbon.uiserver.internal.deployment.AppRegistry;
+import org.wso2.carbon.uiserver.internal.deployment.DeploymentReport;
+import org.wso2.carbon.uiserver.internal.deployment.StartupTimeline;
 import org.wso2.carbon.uiserver.internal.exception.AppCreationException;
 import org.wso2.carbon.uiserver.internal.exception.AppDeploymentEventListenerException;
+import org.wso2.carbon.uiserver.internal.impl.LazyApp;
 import org.wso2.carbon.uiserver.internal.impl.OverriddenApp;
 import org.wso2.carbon.uiserver.internal.io.reference.ArtifactAppReference;
+import org.wso2.carbon.uiserver.internal.io.util.PathUtils;
+import org.wso2.carbon.uiserver.internal.metrics.DeploymentMetrics;
 import org.wso2.carbon.uiserver.internal.reference.AppReference;
 
 import java.io.IOException;
@@ -40,11 +46,43 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.wso2.carbon.uiserver.internal.deployment.DeploymentReport.PHASE_OVERRIDE_MERGE;
+import static org.wso2.carbon.uiserver.internal.deployment.DeploymentReport.PHASE_PUBLISH_PREFIX;
+import static org.wso2.carbon.uiserver.internal.deployment.StartupTimeline.EVENT_APP_ACTIVATED_PREFIX;
+import static org.wso2.carbon.uiserver.internal.deployment.StartupTimeline.EVENT_APP_DEPLOYED_PREFIX;
 
 /**
  * A web app deployer for Carbon Deployment engine.
+ * <p>
+ * Carbon Deployment engine deploys artifacts one at a time. Hence when the first web app gets deployed, this deployer
+ * starts creating the other web apps in the deployment location concurrently, so those are already created (or being
+ * created) when the engine deploys them. Overriding web apps and publishing deployment events still happen
+ * sequentially in the order that the engine deploys artifacts.
+ * <p>
+ * When live reload is enabled, deployed web apps are reloaded as their files change (see {@link AppArtifactWatcher}).
+ * <p>
+ * Web apps configured with 'lazy' or 'background' activation are deployed as a {@link LazyApp}, which is not created
+ * until it is used for the first time (or until the activation delay elapses for 'background' activation). Hence
+ * the server starts faster when it hosts many rarely used web apps.
+ * <p>
+ * Time taken by each phase of a deployment and the estimated heap size retained by the deployed web app are logged as a
+ * {@link DeploymentReport} and recorded in {@link DeploymentMetrics}.
  *
  * @since 0.8.3
  */
@@ -52,13 +90,22 @@ public class ArtifactAppDeployer implements Deployer {
 
     private static final String ARTIFACT_TYPE = "web-ui-app";
     private static final String DEPLOYMENT_LOCATION = "file:web-ui-apps";
+    private static final String THREAD_NAME_FORMAT = "carbon-ui-server-deployer-%d";
+    private static final String ACTIVATOR_THREAD_NAME = "carbon-ui-server-activator";
     private static final Logger LOGGER = LoggerFactory.getLogger(ArtifactAppDeployer.class);
 
     private final ArtifactType<String> artifactType;
     private final URL deploymentLocation;
     private final AppRegistry appRegistry;
+    private final Object deploymentLock = new Object();
+    private final AtomicBoolean precreationStarted = new AtomicBoolean(false);
+    private final Map<Path, CompletableFuture<CreatedApp>> precreatedApps = new ConcurrentHashMap<>();
     private final List<AppDeploymentEventListener> appDeploymentEventListeners;
     private final ServerConfiguration serverConfiguration;
+    private final AppArtifactWatcher appArtifactWatcher;
+    private final DeploymentMetrics deploymentMetrics;
+    private final StartupTimeline startupTimeline;
+    private ScheduledExecutorService activationExecutor;
 
     /**
      * Creates a new app deployer.
@@ -68,11 +115,43 @@ public class ArtifactAppDeployer implements Deployer {
      */
     public ArtifactAppDeployer(List<AppDeploymentEventListener> appDeploymentEventListeners,
                                ServerConfiguration serverConfiguration) {
+        this(appDeploymentEventListeners, serverConfiguration, new DeploymentMetrics());
+    }
+
+    /**
+     * Creates a new app deployer that records deployment reports of web apps.
+     *
+     * @param appDeploymentEventListeners app deployment event listeners
+     * @param serverConfiguration         server configurations
+     * @param deploymentMetrics           deployment metrics to record deployment reports
+     * @since 1.0.9
+     */
+    public ArtifactAppDeployer(List<AppDeploymentEventListener> appDeploymentEventListeners,
+                               ServerConfiguration serverConfiguration, DeploymentMetrics deploymentMetrics) {
+        this(appDeploymentEventListeners, serverConfiguration, deploymentMetrics, null);
+    }
+
+    /**
+     * Creates a new app deployer that records deployment reports of web apps and marks their deployments and
+     * activations in the startup timeline.
+     *
+     * @param appDeploymentEventListeners app deployment event listeners
+     * @param serverConfiguration         server configurations
+     * @param deploymentMetrics           deployment metrics to record deployment reports
+     * @param startupTimeline             startup timeline to mark events, {@code null} to not mark events
+     * @since 1.0.9
+     */
+    public ArtifactAppDeployer(List<AppDeploymentEventListener> appDeploymentEventListeners,
+                               ServerConfiguration serverConfiguration, DeploymentMetrics deploymentMetrics,
+                               StartupTimeline startupTimeline) {
         this.appDeploymentEventListeners = appDeploymentEventListeners;
+        this.deploymentMetrics = deploymentMetrics;
+        this.startupTimeline = startupTimeline;
         this.serverConfiguration = serverConfiguration;
         this.artifactType = new ArtifactType<>(ARTIFACT_TYPE);
         this.deploymentLocation = getLocationUrl();
         this.appRegistry = new AppRegistry();
+        this.appArtifactWatcher = createAppArtifactWatcher(serverConfiguration, this::reload);
     }
 
     @Override
@@ -87,41 +166,66 @@ public class ArtifactAppDeployer implements Deployer {
             throw new CarbonDeploymentException("Artifact located in '" + appPath + "'is not a valid web app.");
         }
 
-        App createdApp = createApp(appPath);
-        App deployingApp;
-        Optional<App> previouslyCreatedOverridableApp = appRegistry.find(createdApp::canOverrideBy);
-        if (previouslyCreatedOverridableApp.isPresent()) {
-            LOGGER.info("Undeploying {} in order to merge it with {} and re-deploy the merged web app.",
-                        previouslyCreatedOverridableApp.get(), createdApp);
-            publishAppUndeploymentEvent(previouslyCreatedOverridableApp.get());
-            appRegistry.add(createdApp);
-            deployingApp = new OverriddenApp(previouslyCreatedOverridableApp.get(), createdApp);
-        } else {
-            deployingApp = createdApp;
-        }
+        CreatedApp created = getCreatedApp(appPath);
+        App createdApp = created.app;
+        DeploymentReport deploymentReport = created.deploymentReport;
+        // Finding the overridable app and registering the overridden app must not interleave with other deployments.
+        synchronized (deploymentLock) {
+            App deployingApp;
+            Optional<App> previouslyCreatedOverridableApp = appRegistry.findOverridable(createdApp);
+            if (previouslyCreatedOverridableApp.isPresent()) {
+                LOGGER.info("Undeploying {} in order to merge it with {} and re-deploy the merged web app.",
+                            previouslyCreatedOverridableApp.get(), createdApp);
+                publishAppUndeploymentEvent(previouslyCreatedOverridableApp.get());
+                appRegistry.add(createdApp);
+                // Overriding merges the full web apps, hence lazy web apps are activated here.
+                App base = activated(previouslyCreatedOverridableApp.get());
+                App override = activated(createdApp);
+                deployingApp = deploymentReport.time(PHASE_OVERRIDE_MERGE, () -> new OverriddenApp(base, override));
+                // Overridden web app retains the overridable web app too.
+                deploymentMetrics.getReport(createdApp.getName()).ifPresent(
+                        report -> report.getRetainedBytes().forEach(deploymentReport::addRetainedBytes));
+            } else {
+                deployingApp = createdApp;
+            }
 
-        publishAppDeploymentEvent(deployingApp);
-        return appRegistry.add(deployingApp);
+            publishAppDeploymentEvent(deployingApp, deploymentReport);
+            if (appArtifactWatcher != null) {
+                appArtifactWatcher.watch(createdApp.getName(), Paths.get(createdApp.getHighestPriorityPath()));
+            }
+            recordDeploymentReport(deploymentReport);
+            markStartupEvent(EVENT_APP_DEPLOYED_PREFIX + deployingApp.getName());
+            if (created.backgroundActivation && (deployingApp instanceof LazyApp)) {
+                scheduleActivation((LazyApp) deployingApp);
+            }
+            return appRegistry.add(deployingApp);
+        }
     }
 
     @Override
     public void undeploy(Object key) throws CarbonDeploymentException {
-        Optional<App> removingApp = appRegistry.remove(key.toString());
-        if (removingApp.isPresent()) {
-            Optional<App> overriddenApp = appRegistry.find(app -> app.hasOverriddenBy(removingApp.get()));
-
-            if (overriddenApp.isPresent()) {
-                LOGGER.info("{} was overridden by the just undeployed {}. " +
-                            "Therefore it will be undeployed and base {} will be restored.",
-                            overriddenApp.get(), removingApp.get(), overriddenApp.get().getBase());
-                appRegistry.remove(overriddenApp.get());
-                publishAppUndeploymentEvent(overriddenApp.get());
-                publishAppDeploymentEvent(overriddenApp.get().getBase());
+        synchronized (deploymentLock) {
+            Optional<App> removingApp = appRegistry.remove(key.toString());
+            if (removingApp.isPresent()) {
+                if (appArtifactWatcher != null) {
+                    appArtifactWatcher.unwatch(Paths.get(removingApp.get().getHighestPriorityPath()));
+                }
+                Optional<App> overriddenApp = appRegistry.findOverriddenBy(removingApp.get());
+
+                if (overriddenApp.isPresent()) {
+                    LOGGER.info("{} was overridden by the just undeployed {}. " +
+                                "Therefore it will be undeployed and base {} will be restored.",
+                                overriddenApp.get(), removingApp.get(), overriddenApp.get().getBase());
+                    appRegistry.replace(overriddenApp.get(), overriddenApp.get().getBase());
+                    publishAppUndeploymentEvent(overriddenApp.get());
+                    publishAppDeploymentEvent(overriddenApp.get().getBase(), null);
+                } else {
+                    publishAppUndeploymentEvent(removingApp.get());
+                    deploymentMetrics.remove(removingApp.get().getName());
+                }
             } else {
-                publishAppUndeploymentEvent(removingApp.get());
+                LOGGER.warn("Cannot find a deployed app for artifact key '{}'.", key);
             }
-        } else {
-            LOGGER.warn("Cannot find a deployed app for artifact key '{}'.", key);
         }
     }
 
@@ -145,13 +249,26 @@ public class ArtifactAppDeployer implements Deployer {
      * Closes this deployer.
      */
     public void close() {
+        if (appArtifactWatcher != null) {
+            appArtifactWatcher.close();
+        }
+        synchronized (deploymentLock) {
+            if (activationExecutor != null) {
+                activationExecutor.shutdownNow();
+            }
+        }
+        precreatedApps.values().forEach(precreatedApp -> precreatedApp.cancel(false));
+        precreatedApps.clear();
         appRegistry.clear();
     }
 
-    private void publishAppDeploymentEvent(App app) throws CarbonDeploymentException {
+    private void publishAppDeploymentEvent(App app, DeploymentReport deploymentReport)
+            throws CarbonDeploymentException {
         for (AppDeploymentEventListener listener : appDeploymentEventListeners) {
+            long startTime = System.nanoTime();
             try {
                 listener.appDeploymentEvent(app);
+                addPublishPhase(deploymentReport, listener, startTime);
             } catch (AppDeploymentEventListenerException e) {
                 throw new CarbonDeploymentException(
                         "App deployment event listener '" + listener + "' threw an exception on app '" + app.getName() +
@@ -161,6 +278,61 @@ public class ArtifactAppDeployer implements Deployer {
         LOGGER.debug("Web app '{}' in '{}' deployed successfully.", app.getName(), app.getHighestPriorityPath());
     }
 
+    private void publishAppReloadEvent(App app, DeploymentReport deploymentReport) throws CarbonDeploymentException {
+        for (AppDeploymentEventListener listener : appDeploymentEventListeners) {
+            long startTime = System.nanoTime();
+            try {
+                listener.appReloadEvent(app);
+                addPublishPhase(deploymentReport, listener, startTime);
+            } catch (AppDeploymentEventListenerException e) {
+                throw new CarbonDeploymentException(
+                        "App deployment event listener '" + listener + "' threw an exception on app '" + app.getName() +
+                        "' reload event.", e);
+            }
+        }
+        LOGGER.debug("Web app '{}' in '{}' reloaded successfully.", app.getName(), app.getHighestPriorityPath());
+    }
+
+    private void publishAppStaticResourcesChangeEvent(App app) throws CarbonDeploymentException {
+        for (AppDeploymentEventListener listener : appDeploymentEventListeners) {
+            try {
+                listener.appStaticResourcesChangeEvent(app);
+            } catch (AppDeploymentEventListenerException e) {
+                throw new CarbonDeploymentException(
+                        "App deployment event listener '" + listener + "' threw an exception on app '" + app.getName() +
+                        "' static resources change event.", e);
+            }
+        }
+        LOGGER.debug("Static resources of web app '{}' in '{}' refreshed successfully.", app.getName(),
+                     app.getHighestPriorityPath());
+    }
+
+    private void publishAppActivationEvent(App app) throws CarbonDeploymentException {
+        for (AppDeploymentEventListener listener : appDeploymentEventListeners) {
+            try {
+                listener.appActivationEvent(app);
+            } catch (AppDeploymentEventListenerException e) {
+                throw new CarbonDeploymentException(
+                        "App deployment event listener '" + listener + "' threw an exception on app '" + app.getName() +
+                        "' activation event.", e);
+            }
+        }
+        LOGGER.debug("Web app '{}' in '{}' activated successfully.", app.getName(), app.getHighestPriorityPath());
+    }
+
+    private static void addPublishPhase(DeploymentReport deploymentReport, AppDeploymentEventListener listener,
+                                        long startTime) {
+        if (deploymentReport != null) {
+            deploymentReport.addPhase(PHASE_PUBLISH_PREFIX + listener.getClass().getSimpleName(),
+                                      System.nanoTime() - startTime);
+        }
+    }
+
+    private void recordDeploymentReport(DeploymentReport deploymentReport) {
+        LOGGER.info("Web app deployment report: {}", deploymentReport.toLogString());
+        deploymentMetrics.record(deploymentReport);
+    }
+
     private void publishAppUndeploymentEvent(App app) throws CarbonDeploymentException {
         for (AppDeploymentEventListener listener : appDeploymentEventListeners) {
             try {
@@ -174,11 +346,134 @@ public class ArtifactAppDeployer implements Deployer {
         LOGGER.debug("Web app '{}' in '{}' undeployed successfully.", app.getName(), app.getHighestPriorityPath());
     }
 
-    private App createApp(Path appPath) throws CarbonDeploymentException {
+    private void reload(String appName, Path appDirectory, boolean appChanged) {
+        try {
+            // Creating the changed web app does not need to hold the deployment lock.
+            CreatedApp reloadedApp = appChanged ? createApp(appDirectory) : null;
+            synchronized (deploymentLock) {
+                String appPath = appDirectory.toString();
+                Optional<App> deployedApp = appRegistry.findByName(appName).stream()
+                        .filter(app -> app.getPaths().contains(appPath))
+                        .max(Comparator.comparingInt(app -> app.getPaths().size()));
+                if (!deployedApp.isPresent()) {
+                    LOGGER.debug("Ignored changes in '{}' as web app '{}' is not deployed anymore.", appPath, appName);
+                    return;
+                }
+                if (reloadedApp == null) {
+                    // Only static resources are changed, hence neither the app nor its bindings are recreated.
+                    publishAppStaticResourcesChangeEvent(deployedApp.get());
+                    return;
+                }
+
+                App reloadingApp;
+                DeploymentReport deploymentReport = reloadedApp.deploymentReport;
+                Optional<App> override = deployedApp.get().getOverride();
+                if (override.isPresent()) {
+                    App base = deployedApp.get().getBase();
+                    if (override.get().getPaths().contains(appPath)) {
+                        appRegistry.replace(override.get(), reloadedApp.app);
+                        App activatedBase = activated(base);
+                        reloadingApp = deploymentReport.time(PHASE_OVERRIDE_MERGE, () ->
+                                new OverriddenApp(activatedBase, reloadedApp.app));
+                    } else {
+                        appRegistry.replace(base, reloadedApp.app);
+                        App activatedOverride = activated(override.get());
+                        reloadingApp = deploymentReport.time(PHASE_OVERRIDE_MERGE, () ->
+                                new OverriddenApp(reloadedApp.app, activatedOverride));
+                    }
+                } else {
+                    reloadingApp = reloadedApp.app;
+                }
+                appRegistry.replace(deployedApp.get(), reloadingApp);
+                publishAppReloadEvent(reloadingApp, deploymentReport);
+                recordDeploymentReport(deploymentReport);
+            }
+        } catch (CarbonDeploymentException e) {
+            LOGGER.error("Cannot reload web app '{}' from '{}'. Previously deployed web app is kept.", appName,
+                         appDirectory, e);
+        }
+    }
+
+    private CreatedApp getCreatedApp(Path appPath) throws CarbonDeploymentException {
+        if (precreationStarted.compareAndSet(false, true)) {
+            precreateApps(appPath);
+        }
+
+        String activation = getActivation(PathUtils.getName(appPath));
+        if (!ServerConfiguration.AppConfiguration.ACTIVATION_EAGER.equals(activation)) {
+            return createLazyApp(appPath, activation);
+        }
+
+        CompletableFuture<CreatedApp> precreatedApp = precreatedApps.remove(appPath);
+        if (precreatedApp == null) {
+            return createApp(appPath);
+        }
+        try {
+            return precreatedApp.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CarbonDeploymentException) {
+                throw (CarbonDeploymentException) e.getCause();
+            }
+            throw new CarbonDeploymentException("Cannot create web app from artifact '" + appPath + "'.", e.getCause());
+        }
+    }
+
+    private void precreateApps(Path deployingAppPath) {
+        int parallelism = getDeploymentParallelism();
+        Path deploymentDirectory = deployingAppPath.getParent();
+        if ((parallelism <= 1) || (deploymentDirectory == null)) {
+            return;
+        }
+
+        List<Path> appPaths = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(deploymentDirectory)) {
+            paths.filter(path -> !path.equals(deployingAppPath)).forEach(appPaths::add);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot list web app artifacts in '{}'. Web apps will be created sequentially.",
+                        deploymentDirectory, e);
+            return;
+        }
+        appPaths.removeIf(appPath -> !isPrecreatableAppArtifact(appPath) ||
+                                     !ServerConfiguration.AppConfiguration.ACTIVATION_EAGER.equals(
+                                             getActivation(PathUtils.getName(appPath))));
+        if (appPaths.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(
+                Math.min(parallelism, appPaths.size()),
+                new ThreadFactoryBuilder().setNameFormat(THREAD_NAME_FORMAT).setDaemon(true).build());
+        for (Path appPath : appPaths) {
+            precreatedApps.put(appPath, CompletableFuture.supplyAsync(() -> {
+                try {
+                    return createApp(appPath);
+                } catch (CarbonDeploymentException e) {
+                    throw new CompletionException(e);
+                }
+            }, executorService));
+        }
+        executorService.shutdown(); // Already submitted creations are allowed to complete.
+        LOGGER.debug("Creating {} web apps in '{}' concurrently with a parallelism of {}.", appPaths.size(),
+                     deploymentDirectory, parallelism);
+    }
+
+    private int getDeploymentParallelism() {
+        try {
+            return serverConfiguration.getDeploymentConfiguration().getParallelism();
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Invalid deployment configurations in 'deployment.yaml'. Web apps will be created " +
+                         "sequentially.", e);
+            return 1;
+        }
+    }
+
+    private CreatedApp createApp(Path appPath) throws CarbonDeploymentException {
         AppReference appReference = new ArtifactAppReference(appPath);
+        DeploymentReport deploymentReport = new DeploymentReport(appReference.getName());
         String appContextPath = getAppContextPath(appReference);
         try {
-            return AppCreator.createApp(appReference, appContextPath);
+            return new CreatedApp(AppCreator.createApp(appReference, appContextPath, deploymentReport),
+                                  deploymentReport);
         } catch (AppCreationException e) {
             throw new CarbonDeploymentException(
                     "Cannot create web app '" + appReference.getName() + "' from artifact '" + appReference.getPath() +
@@ -186,8 +481,94 @@ public class ArtifactAppDeployer implements Deployer {
         }
     }
 
+    private CreatedApp createLazyApp(Path appPath, String activation) throws CarbonDeploymentException {
+        String appName = PathUtils.getName(appPath);
+        LazyApp lazyApp = new LazyApp(appName, getAppContextPath(appName), appPath.toString(),
+                                      () -> activate(appPath));
+        return new CreatedApp(lazyApp, new DeploymentReport(appName),
+                              ServerConfiguration.AppConfiguration.ACTIVATION_BACKGROUND.equals(activation));
+    }
+
+    private App activate(Path appPath) throws AppCreationException {
+        long startTime = System.nanoTime();
+        CreatedApp created;
+        try {
+            created = createApp(appPath);
+        } catch (CarbonDeploymentException e) {
+            throw new AppCreationException("Cannot activate web app from artifact '" + appPath + "'.", e);
+        }
+        recordDeploymentReport(created.deploymentReport);
+        markStartupEvent(EVENT_APP_ACTIVATED_PREFIX + created.app.getName());
+        LOGGER.info("Web app '{}' activated in {} ms.", created.app.getName(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return created.app;
+    }
+
+    private void scheduleActivation(LazyApp lazyApp) {
+        long activationDelay;
+        try {
+            activationDelay = serverConfiguration.getDeploymentConfiguration().getActivationDelay();
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Invalid deployment configurations in 'deployment.yaml'. Web app '{}' will be activated " +
+                         "when it serves its first request.", lazyApp.getName(), e);
+            return;
+        }
+        if (activationExecutor == null) {
+            activationExecutor = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat(ACTIVATOR_THREAD_NAME).setDaemon(true).build());
+        }
+        activationExecutor.schedule(() -> activateInBackground(lazyApp), activationDelay, TimeUnit.MILLISECONDS);
+    }
+
+    private void activateInBackground(LazyApp lazyApp) {
+        if (lazyApp.isActivated() || !appRegistry.findByName(lazyApp.getName()).contains(lazyApp)) {
+            return; // already activated by a request, or undeployed meanwhile
+        }
+        try {
+            // Creating the web app does not need to hold the deployment lock.
+            lazyApp.activate();
+            synchronized (deploymentLock) {
+                if (appRegistry.findByName(lazyApp.getName()).contains(lazyApp)) {
+                    publishAppActivationEvent(lazyApp);
+                }
+            }
+        } catch (AppCreationException | CarbonDeploymentException e) {
+            LOGGER.error("Cannot activate web app '{}' in the background. It will be activated when it serves its " +
+                         "first request.", lazyApp.getName(), e);
+        }
+    }
+
+    private String getActivation(String appName) {
+        try {
+            return serverConfiguration.getConfigurationForApp(appName)
+                    .map(ServerConfiguration.AppConfiguration::getActivation)
+                    .orElse(ServerConfiguration.AppConfiguration.ACTIVATION_EAGER);
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Invalid configurations for web app '{}' in 'deployment.yaml'. Web app will be activated " +
+                         "eagerly.", appName, e);
+            return ServerConfiguration.AppConfiguration.ACTIVATION_EAGER;
+        }
+    }
+
+    private void markStartupEvent(String event) {
+        if (startupTimeline != null) {
+            startupTimeline.mark(event);
+        }
+    }
+
+    private static App activated(App app) throws CarbonDeploymentException {
+        try {
+            return LazyApp.activated(app);
+        } catch (AppCreationException e) {
+            throw new CarbonDeploymentException("Cannot activate " + app + " to override it.", e);
+        }
+    }
+
     private String getAppContextPath(AppReference appReference) throws CarbonDeploymentException {
-        String appName = appReference.getName();
+        return getAppContextPath(appReference.getName());
+    }
+
+    private String getAppContextPath(String appName) throws CarbonDeploymentException {
         try {
             return serverConfiguration.getConfigurationForApp(appName)
                     .flatMap(ServerConfiguration.AppConfiguration::getContextPath)
@@ -207,6 +588,30 @@ public class ArtifactAppDeployer implements Deployer {
         }
     }
 
+    private static boolean isPrecreatableAppArtifact(Path appPath) {
+        try {
+            return isValidAppArtifact(appPath);
+        } catch (CarbonDeploymentException e) {
+            // Deployment engine will report this when deploying the artifact.
+            return false;
+        }
+    }
+
+    private static AppArtifactWatcher createAppArtifactWatcher(ServerConfiguration serverConfiguration,
+                                                               AppArtifactWatcher.ChangeListener changeListener) {
+        ServerConfiguration.DeploymentConfiguration deploymentConfiguration =
+                serverConfiguration.getDeploymentConfiguration();
+        if (!deploymentConfiguration.isLiveReload()) {
+            return null;
+        }
+        try {
+            return new AppArtifactWatcher(deploymentConfiguration.getLiveReloadDelay(), changeListener);
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Invalid deployment configurations in 'deployment.yaml'. Live reload is disabled.", e);
+            return null;
+        }
+    }
+
     private static URL getLocationUrl() {
         try {
             return new URL(DEPLOYMENT_LOCATION);
@@ -215,4 +620,24 @@ public class ArtifactAppDeployer implements Deployer {
             return null;
         }
     }
+
+    /**
+     * A created web app, the report of its creation and whether it should be activated in the background.
+     */
+    private static class CreatedApp {
+
+        private final App app;
+        private final DeploymentReport deploymentReport;
+        private final boolean backgroundActivation;
+
+        private CreatedApp(App app, DeploymentReport deploymentReport) {
+            this(app, deploymentReport, false);
+        }
+
+        private CreatedApp(App app, DeploymentReport deploymentReport, boolean backgroundActivation) {
+            this.app = app;
+            this.deploymentReport = deploymentReport;
+            this.backgroundActivation = backgroundActivation;
+        }
+    }
 }
@@ -29,28 +29,46 @@ import org.wso2.carbon.uiserver.api.http.HttpResponse;
 import org.wso2.carbon.uiserver.internal.exception.BadRequestException;
 import org.wso2.carbon.uiserver.internal.exception.FileOperationException;
 import org.wso2.carbon.uiserver.internal.exception.ResourceNotFoundException;
+import org.wso2.carbon.uiserver.internal.http.ErrorResponses;
 import org.wso2.carbon.uiserver.internal.http.ResponseBuilder;
 import org.wso2.carbon.uiserver.internal.io.util.MimeMapper;
 import org.wso2.carbon.uiserver.internal.io.util.PathUtils;
 import org.wso2.carbon.uiserver.internal.reference.AppReference;
+import org.wso2.carbon.uiserver.internal.tracing.RequestTrace;
+import org.wso2.carbon.uiserver.internal.tracing.Span;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.wso2.carbon.uiserver.api.http.HttpResponse.CONTENT_TYPE_IMAGE_PNG;
 import static org.wso2.carbon.uiserver.api.http.HttpResponse.CONTENT_TYPE_WILDCARD;
@@ -65,11 +83,13 @@ import static org.wso2.carbon.uiserver.api.http.HttpResponse.STATUS_NOT_MODIFIED
  */
 public class StaticRequestDispatcher {
 
+    private static final int MAX_ASYNC_READ_SIZE = 256 * 1024;
     private static final DateTimeFormatter HTTP_DATE_FORMATTER;
     private static final ZoneId GMT_TIME_ZONE;
     private static final Logger LOGGER = LoggerFactory.getLogger(StaticRequestDispatcher.class);
 
     private final App app;
+    private final ErrorResponses errorResponses;
     private final Map<Path, ZonedDateTime> resourcesLastModifiedDates;
 
     static {
@@ -84,7 +104,19 @@ public class StaticRequestDispatcher {
      * @param app web app to be served
      */
     public StaticRequestDispatcher(App app) {
+        this(app, ErrorResponses.create(app));
+    }
+
+    /**
+     * Creates a new request dispatcher.
+     *
+     * @param app            web app to be served
+     * @param errorResponses error responses of the web app
+     * @since 1.0.9
+     */
+    public StaticRequestDispatcher(App app, ErrorResponses errorResponses) {
         this.app = app;
+        this.errorResponses = errorResponses;
         this.resourcesLastModifiedDates = new ConcurrentHashMap<>();
     }
 
@@ -98,7 +130,7 @@ public class StaticRequestDispatcher {
         InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream("default-favicon.png");
         if (inputStream == null) {
             LOGGER.error("Cannot find default favicon 'default-favicon.png' in classpath.");
-            return ResponseBuilder.notFound("Cannot find default favicon").build();
+            return errorResponses.notFound();
         } else {
             return ResponseBuilder.ok(inputStream, CONTENT_TYPE_IMAGE_PNG).build();
         }
@@ -111,6 +143,7 @@ public class StaticRequestDispatcher {
      * @return a HTTP response that carries the result
      */
     public HttpResponse serve(HttpRequest request) {
+        Span fileResolutionSpan = RequestTrace.startSpan(RequestTrace.STAGE_FILE_RESOLUTION);
         try {
             Path resourcePath = resolveResource(request);
             ZonedDateTime lastModifiedDate = getLastModifiedDate(resourcePath);
@@ -134,14 +167,118 @@ public class StaticRequestDispatcher {
                 }
             }
         } catch (BadRequestException e) {
-            return ResponseBuilder.badRequest("Static resource URI '" + request.getUri() + "' is invalid.").build();
+            return errorResponses.badRequest();
         } catch (ResourceNotFoundException e) {
-            return ResponseBuilder.notFound("Requested resource '" + request.getUri() + "' does not exists.").build();
+            return errorResponses.notFound();
         } catch (FileOperationException e) {
             LOGGER.error("An error occurred when manipulating paths for static resource request '{}'.", request, e);
-            return ResponseBuilder.serverError("A server error occurred while serving for static resource request.")
+            return errorResponses.serverError();
+        } finally {
+            fileResolutionSpan.end();
+        }
+    }
+
+    /**
+     * Serves to the supplied HTTP request asynchronously. Static resource files which are not larger than {@value
+     * #MAX_ASYNC_READ_SIZE} bytes are read with an {@link AsynchronousFileChannel} so that the calling thread is not
+     * held during the file I/O. Larger files are streamed by the transport as usual.
+     *
+     * @param request HTTP request to be served
+     * @return stage that completes with a HTTP response that carries the result
+     * @since 1.0.9
+     */
+    public CompletionStage<HttpResponse> serveAsync(HttpRequest request) {
+        HttpResponse response = serve(request);
+        // ResponseBuilder carries the static resource file of a successful response as a File.
+        if (!(response.getContent() instanceof File)) {
+            return CompletableFuture.completedFuture(response);
+        }
+
+        Path resourcePath = ((File) response.getContent()).toPath();
+        Span fileReadSpan = RequestTrace.startSpan(RequestTrace.STAGE_FILE_READ);
+        return readContent(resourcePath).handle((content, throwable) -> {
+            fileReadSpan.end();
+            if (throwable != null) {
+                LOGGER.debug("Cannot read static resource file '{}' asynchronously.", resourcePath, throwable);
+                return response;
+            }
+            if (content == null) {
+                return response; // File is too large to be read into memory, hence serve the path as it is.
+            }
+            return ResponseBuilder.status(response.getStatus())
+                    .content(new ByteArrayInputStream(content))
+                    .contentType(response.getContentType())
+                    .headers(response.getHeaders())
+                    .cookies(response.getCookies())
                     .build();
+        });
+    }
+
+    /**
+     * Returns the number of static resource files whose last modified dates are cached in this dispatcher.
+     *
+     * @return number of cached last modified dates
+     * @since 1.0.9
+     */
+    public long getCacheSize() {
+        return resourcesLastModifiedDates.size();
+    }
+
+    /**
+     * Returns the paths of the static resource files whose last modified dates are cached in this dispatcher.
+     *
+     * @return sorted paths of the cached files
+     * @since 1.0.9
+     */
+    public Set<String> getCacheKeys() {
+        return resourcesLastModifiedDates.keySet().stream()
+                .map(Path::toString)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Discards all last modified dates cached in this dispatcher.
+     *
+     * @since 1.0.9
+     */
+    public void clearCache() {
+        resourcesLastModifiedDates.clear();
+    }
+
+    /**
+     * Caches the last modified dates of all static resource files in the public directories of the web app. When
+     * a file exists in more than one path of the app, only the one that is served is cached.
+     *
+     * @return number of files which last modified dates are cached
+     * @since 1.0.9
+     */
+    public int warmCache() {
+        Set<Path> relativeFilePaths = new HashSet<>();
+        int warmedFiles = 0;
+        for (String appPath : app.getPaths()) {
+            Path publicDirectory = Paths.get(appPath, AppReference.DIR_NAME_PUBLIC_RESOURCES);
+            if (!Files.isDirectory(publicDirectory)) {
+                continue;
+            }
+            List<Path> files;
+            try (Stream<Path> paths = Files.walk(publicDirectory)) {
+                files = paths.filter(Files::isRegularFile).collect(Collectors.toList());
+            } catch (IOException | UncheckedIOException e) {
+                LOGGER.error("Cannot list static resource files in '{}'.", publicDirectory, e);
+                continue;
+            }
+            for (Path file : files) {
+                if (relativeFilePaths.add(publicDirectory.relativize(file))) {
+                    try {
+                        getLastModifiedDate(file);
+                        warmedFiles++;
+                    } catch (ResourceNotFoundException | FileOperationException e) {
+                        LOGGER.debug("Cannot read last modified date of static resource file '{}'.", file, e);
+                    }
+                }
+            }
         }
+        return warmedFiles;
     }
 
     private ZonedDateTime getLastModifiedDate(Path resourcePath) {
@@ -292,6 +429,60 @@ public class StaticRequestDispatcher {
         }
     }
 
+    private static CompletionStage<byte[]> readContent(Path resourcePath) {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        AsynchronousFileChannel channel;
+        ByteBuffer buffer;
+        try {
+            channel = AsynchronousFileChannel.open(resourcePath, StandardOpenOption.READ);
+        } catch (IOException | UnsupportedOperationException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+        try {
+            long size = channel.size();
+            if (size > MAX_ASYNC_READ_SIZE) {
+                closeQuietly(channel);
+                future.complete(null);
+                return future;
+            }
+            buffer = ByteBuffer.allocate((int) size);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        channel.read(buffer, 0, future, new CompletionHandler<Integer, CompletableFuture<byte[]>>() {
+            @Override
+            public void completed(Integer bytesRead, CompletableFuture<byte[]> attachment) {
+                if ((bytesRead >= 0) && buffer.hasRemaining()) {
+                    channel.read(buffer, buffer.position(), attachment, this); // Partially read, continue.
+                    return;
+                }
+                closeQuietly(channel);
+                // File might have been truncated while reading, hence copy only the read bytes.
+                attachment.complete(buffer.hasRemaining() ?
+                                            Arrays.copyOf(buffer.array(), buffer.position()) : buffer.array());
+            }
+
+            @Override
+            public void failed(Throwable e, CompletableFuture<byte[]> attachment) {
+                closeQuietly(channel);
+                attachment.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private static void closeQuietly(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.debug("Cannot close file channel.", e);
+        }
+    }
+
     private static ZonedDateTime getIfModifiedSinceDate(HttpRequest request) {
         // If-Modified-Since: Sat, 29 Oct 1994 19:43:31 GMT
         String ifModifiedSinceHeader = request.getHeaders().get("If-Modified-Since");
@@ -18,16 +18,18 @@
 
 package org.wso2.carbon.uiserver.internal.io.reference;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonParseException;
-import com.google.gson.reflect.TypeToken;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
 import org.wso2.carbon.uiserver.internal.exception.FileOperationException;
 import org.wso2.carbon.uiserver.internal.io.util.PathUtils;
 import org.wso2.carbon.uiserver.internal.reference.I18nResourceReference;
 
-import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.IOException;
-import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -36,14 +38,16 @@ import java.util.Map;
 
 /**
  * A reference to an i18n resource inside a web app artifact.
+ * <p>
+ * Messages files are parsed in a streaming manner into immutable maps. Message keys are interned, as the same keys
+ * repeat in the messages files of every locale.
  *
  * @since 0.8.0
  */
 public class ArtifactI18nResourceReference implements I18nResourceReference {
 
     public static final String I18N_RESOURCE_FILE_EXTENSION = "json";
-    private static final Gson GSON = new Gson();
-    private static final Type GSON_TYPE = new TypeToken<Map<String, String>>() { }.getType();
+    private static final Interner<String> MESSAGE_KEYS = Interners.newWeakInterner();
 
     private final Path messagesFile;
 
@@ -58,18 +62,51 @@ public class ArtifactI18nResourceReference implements I18nResourceReference {
 
     @Override
     public Locale getLocale() throws FileOperationException {
-        return Locale.forLanguageTag(PathUtils.getExtension(messagesFile));
+        // Messages file of a locale is named after the language tag of the locale, e.g. 'fr-CA.json'.
+        return Locale.forLanguageTag(PathUtils.getNameWithoutExtension(messagesFile));
     }
 
     @Override
     public Map<String, String> getMessages() throws FileOperationException {
-        try {
-            BufferedReader bufferedReader = Files.newBufferedReader(messagesFile, StandardCharsets.UTF_8);
-            return GSON.fromJson(bufferedReader, GSON_TYPE);
+        try (JsonReader jsonReader = new JsonReader(Files.newBufferedReader(messagesFile, StandardCharsets.UTF_8))) {
+            jsonReader.setLenient(true);
+            return readMessages(jsonReader);
+        } catch (MalformedJsonException | EOFException | IllegalStateException | IllegalArgumentException e) {
+            throw new FileOperationException("I18n message file '" + messagesFile + "' is not a valid JSON.", e);
         } catch (IOException e) {
-            throw new FileOperationException("Cannot read content of i18n message file '" + messagesFile + "'.");
-        } catch (JsonParseException e) {
-            throw new FileOperationException("I18n message file '" + messagesFile + "' is not a valid JSON.");
+            throw new FileOperationException("Cannot read content of i18n message file '" + messagesFile + "'.", e);
+        }
+    }
+
+    private Map<String, String> readMessages(JsonReader jsonReader) throws IOException {
+        try {
+            jsonReader.peek();
+        } catch (EOFException e) {
+            return ImmutableMap.of(); // empty file
+        }
+
+        ImmutableMap.Builder<String, String> messages = ImmutableMap.builder();
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String key = MESSAGE_KEYS.intern(jsonReader.nextName());
+            JsonToken token = jsonReader.peek();
+            switch (token) {
+                case STRING:
+                case NUMBER:
+                    messages.put(key, jsonReader.nextString());
+                    break;
+                case BOOLEAN:
+                    messages.put(key, Boolean.toString(jsonReader.nextBoolean()));
+                    break;
+                case NULL:
+                    jsonReader.nextNull(); // A message without a value is same as a missing message.
+                    break;
+                default:
+                    throw new FileOperationException("Value of message '" + key + "' in i18n message file '" +
+                                                     messagesFile + "' is not a string but " + token + ".");
+            }
         }
+        jsonReader.endObject();
+        return messages.build(); // throws an IllegalArgumentException for duplicate keys
     }
 }
@@ -52,4 +52,15 @@ public class PathUtils {
     public static String getExtension(Path filePath) {
         return FilenameUtils.getExtension(filePath.getFileName().toString());
     }
+
+    /**
+     * Returns the file name of the given path without the extension.
+     *
+     * @param filePath file path
+     * @return file name without the extension (never {@code null})
+     * @since 1.0.9
+     */
+    public static String getNameWithoutExtension(Path filePath) {
+        return FilenameUtils.getBaseName(filePath.getFileName().toString());
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.metrics;
+
+import org.wso2.carbon.metrics.core.Counter;
+import org.wso2.carbon.metrics.core.Level;
+import org.wso2.carbon.metrics.core.MetricService;
+import org.wso2.carbon.metrics.core.Timer;
+import org.wso2.carbon.uiserver.api.metrics.RequestKind;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Reports HTTP request metrics of a web app to the Carbon metrics service.
+ * <p>
+ * Metrics are named as {@code org.wso2.carbon.uiserver.apps.<app-name>.<metric>}, e.g. {@code
+ * org.wso2.carbon.uiserver.apps.portal.requests.page} is the timer of page requests of the {@code portal} web app.
+ *
+ * @since 1.0.9
+ */
+public class CarbonMetricsReporter {
+
+    private static final String METRIC_NAME_PREFIX = "org.wso2.carbon.uiserver.apps.";
+
+    private final MetricService metricService;
+    private final String metricNamePrefix;
+    private final Map<RequestKind, Timer> timers;
+    private final ConcurrentMap<Integer, Counter> statusCounters;
+    private final Counter bytesSentCounter;
+    private final Set<String> metricNames;
+
+    /**
+     * Creates a new reporter.
+     *
+     * @param metricService Carbon metrics service
+     * @param appName       name of the web app
+     */
+    public CarbonMetricsReporter(MetricService metricService, String appName) {
+        this.metricService = metricService;
+        this.metricNamePrefix = METRIC_NAME_PREFIX + appName + ".";
+        this.metricNames = ConcurrentHashMap.newKeySet();
+        this.timers = new EnumMap<>(RequestKind.class);
+        for (RequestKind requestKind : RequestKind.values()) {
+            String timerName = createMetricName("requests." + requestKind.name().toLowerCase(Locale.ENGLISH));
+            this.timers.put(requestKind, metricService.timer(timerName, Level.INFO));
+        }
+        this.statusCounters = new ConcurrentHashMap<>();
+        this.bytesSentCounter = metricService.counter(createMetricName("bytes-sent"), Level.INFO);
+    }
+
+    /**
+     * Reports a served request.
+     *
+     * @param requestKind kind of the request
+     * @param status      HTTP status code of the response
+     * @param bytesSent   number of bytes sent as the response content
+     * @param nanos       time taken to serve the request, in nanoseconds
+     */
+    public void report(RequestKind requestKind, int status, long bytesSent, long nanos) {
+        timers.get(requestKind).update(nanos, TimeUnit.NANOSECONDS);
+        statusCounters.computeIfAbsent(status, s -> metricService.counter(createMetricName("responses." + s),
+                                                                          Level.INFO)).inc();
+        if (bytesSent > 0) {
+            bytesSentCounter.inc(bytesSent);
+        }
+    }
+
+    /**
+     * Reports the hit ratio of a cache as a gauge.
+     *
+     * @param cacheName name of the cache
+     * @param hitRatio  supplier of the current hit ratio of the cache
+     */
+    public void reportCacheHitRatio(String cacheName, DoubleSupplier hitRatio) {
+        metricService.gauge(createMetricName("caches." + cacheName + ".hit-ratio"), Level.INFO,
+                            hitRatio::getAsDouble);
+    }
+
+    /**
+     * Removes all metrics reported by this reporter from the Carbon metrics service.
+     */
+    public void close() {
+        metricNames.forEach(metricService::remove);
+        metricNames.clear();
+    }
+
+    private String createMetricName(String name) {
+        String metricName = metricNamePrefix + name;
+        metricNames.add(metricName);
+        return metricName;
+    }
+}
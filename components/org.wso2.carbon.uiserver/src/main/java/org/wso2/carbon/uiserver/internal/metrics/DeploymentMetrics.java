@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.metrics;
+
+import org.wso2.carbon.metrics.core.Level;
+import org.wso2.carbon.metrics.core.MetricService;
+import org.wso2.carbon.uiserver.internal.deployment.DeploymentReport;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the latest deployment report of each deployed web app and reports deployment metrics to the Carbon metrics
+ * service when it is available.
+ * <p>
+ * Time taken by each deployment phase is reported to timers named as {@code
+ * org.wso2.carbon.uiserver.deployment.<phase>} and the estimated retained heap size of a web app is reported to a gauge
+ * named as {@code org.wso2.carbon.uiserver.apps.<app-name>.retained-bytes}.
+ *
+ * @since 1.0.9
+ */
+public class DeploymentMetrics {
+
+    private static final String PHASE_METRIC_NAME_PREFIX = "org.wso2.carbon.uiserver.deployment.";
+    private static final String APP_METRIC_NAME_PREFIX = "org.wso2.carbon.uiserver.apps.";
+    private static final String RETAINED_BYTES_METRIC_NAME_SUFFIX = ".retained-bytes";
+
+    private final ConcurrentMap<String, DeploymentReport> reports = new ConcurrentHashMap<>();
+    private volatile MetricService metricService;
+
+    /**
+     * Sets the Carbon metrics service. Deployments that happen afterwards are reported to it.
+     *
+     * @param metricService Carbon metrics service, {@code null} to stop reporting to it
+     */
+    public void setMetricService(MetricService metricService) {
+        this.metricService = metricService;
+    }
+
+    /**
+     * Records the supplied report of a deployed web app.
+     *
+     * @param deploymentReport deployment report of the web app
+     */
+    public void record(DeploymentReport deploymentReport) {
+        String appName = deploymentReport.getAppName();
+        DeploymentReport previousReport = reports.put(appName, deploymentReport);
+        MetricService currentMetricService = metricService;
+        if (currentMetricService == null) {
+            return;
+        }
+
+        deploymentReport.getPhaseNanos().forEach((phase, nanos) ->
+                currentMetricService.timer(PHASE_METRIC_NAME_PREFIX + phase, Level.INFO)
+                        .update(nanos, TimeUnit.NANOSECONDS));
+        if (previousReport == null) {
+            currentMetricService.gauge(APP_METRIC_NAME_PREFIX + appName + RETAINED_BYTES_METRIC_NAME_SUFFIX,
+                                       Level.INFO, () -> getRetainedBytes(appName));
+        }
+    }
+
+    /**
+     * Returns the latest deployment report of the specified web app.
+     *
+     * @param appName name of the web app
+     * @return deployment report or empty if the web app is not deployed
+     */
+    public Optional<DeploymentReport> getReport(String appName) {
+        return Optional.ofNullable(reports.get(appName));
+    }
+
+    /**
+     * Removes the deployment report of the specified web app.
+     *
+     * @param appName name of the web app
+     */
+    public void remove(String appName) {
+        if ((reports.remove(appName) != null) && (metricService != null)) {
+            metricService.remove(APP_METRIC_NAME_PREFIX + appName + RETAINED_BYTES_METRIC_NAME_SUFFIX);
+        }
+    }
+
+    /**
+     * Closes this instance.
+     */
+    public void close() {
+        reports.keySet().forEach(this::remove);
+        metricService = null;
+    }
+
+    private long getRetainedBytes(String appName) {
+        DeploymentReport deploymentReport = reports.get(appName);
+        return (deploymentReport == null) ? 0 : deploymentReport.getTotalRetainedBytes();
+    }
+}
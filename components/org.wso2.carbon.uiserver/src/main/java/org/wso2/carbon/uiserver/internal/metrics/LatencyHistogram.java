@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.metrics;
+
+import org.wso2.carbon.uiserver.api.metrics.LatencyStatistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with log-linear buckets, in the fashion of an HDR histogram.
+ * <p>
+ * Each power of two range of latencies is split into {@value #SUB_BUCKET_HALF_COUNT} equal buckets, so a recorded
+ * latency is off by at most about 3% while the whole range from a microsecond to an hour fits into a fixed array of
+ * counters. Recording a latency is a couple of shifts and an atomic increment, hence it is cheap enough to do for
+ * every request.
+ *
+ * @since 1.0.9
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final AtomicLongArray counts;
+    private final LongAdder totalMicros;
+    private final LongAccumulator maxMicros;
+
+    /**
+     * Creates a new histogram.
+     */
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(bucketIndex(MAX_TRACKABLE_MICROS) + 1);
+        this.totalMicros = new LongAdder();
+        this.maxMicros = new LongAccumulator(Long::max, 0);
+    }
+
+    /**
+     * Records the specified latency.
+     *
+     * @param nanos latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 0), MAX_TRACKABLE_MICROS);
+        counts.incrementAndGet(bucketIndex(micros));
+        totalMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+
+    /**
+     * Returns statistics of the latencies recorded so far.
+     *
+     * @return latency statistics
+     */
+    public LatencyStatistics getStatistics() {
+        long[] snapshot = new long[counts.length()];
+        long count = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return new LatencyStatistics(0, 0, 0, 0, 0, 0, 0);
+        }
+
+        long max = maxMicros.get();
+        return new LatencyStatistics(count, ((double) totalMicros.sum()) / count,
+                                     valueAtPercentile(snapshot, count, 50, max),
+                                     valueAtPercentile(snapshot, count, 90, max),
+                                     valueAtPercentile(snapshot, count, 99, max),
+                                     valueAtPercentile(snapshot, count, 99.9, max),
+                                     max);
+    }
+
+    private static long valueAtPercentile(long[] snapshot, long count, double percentile, long max) {
+        long rank = Math.max((long) Math.ceil(count * percentile / 100), 1);
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                // Highest value that falls into the bucket, but never above the actual maximum.
+                return Math.min(bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(micros)) - (SUB_BUCKET_BITS - 1);
+        return (shift * SUB_BUCKET_HALF_COUNT) + (int) (micros >>> shift);
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index / SUB_BUCKET_HALF_COUNT) - 1;
+        long subBucket = (index % SUB_BUCKET_HALF_COUNT) + SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
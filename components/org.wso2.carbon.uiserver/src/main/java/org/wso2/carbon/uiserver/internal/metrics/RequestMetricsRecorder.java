@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.metrics;
+
+import com.google.common.base.Utf8;
+import com.google.common.cache.CacheStats;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+import org.wso2.carbon.uiserver.api.metrics.LatencyStatistics;
+import org.wso2.carbon.uiserver.api.metrics.RequestKind;
+import org.wso2.carbon.uiserver.api.metrics.RequestMetrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Records HTTP request metrics of a web app: latency histograms by request kind, response counts by HTTP status code,
+ * bytes sent and cache hit ratios. Recorded metrics are also reported to the Carbon metrics service when it is
+ * available.
+ *
+ * @since 1.0.9
+ */
+public class RequestMetricsRecorder {
+
+    private static final int MAX_STATUS_CODE = 599;
+
+    private final String appName;
+    private final long startTime;
+    private final Map<RequestKind, LatencyHistogram> latencies;
+    private final AtomicLongArray statusCounts;
+    private final LongAdder bytesSent;
+    private final ConcurrentMap<String, Supplier<CacheStats>> caches;
+    private final CarbonMetricsReporter carbonMetricsReporter;
+
+    /**
+     * Creates a new recorder.
+     *
+     * @param appName               name of the web app
+     * @param carbonMetricsReporter reporter to the Carbon metrics service, {@code null} if not available
+     */
+    public RequestMetricsRecorder(String appName, CarbonMetricsReporter carbonMetricsReporter) {
+        this.appName = appName;
+        this.startTime = System.currentTimeMillis();
+        this.latencies = new EnumMap<>(RequestKind.class);
+        for (RequestKind requestKind : RequestKind.values()) {
+            this.latencies.put(requestKind, new LatencyHistogram());
+        }
+        this.statusCounts = new AtomicLongArray(MAX_STATUS_CODE + 1);
+        this.bytesSent = new LongAdder();
+        this.caches = new ConcurrentHashMap<>();
+        this.carbonMetricsReporter = carbonMetricsReporter;
+    }
+
+    /**
+     * Records a served request.
+     *
+     * @param requestKind kind of the request
+     * @param response    HTTP response sent for the request
+     * @param nanos       time taken to serve the request, in nanoseconds
+     */
+    public void record(RequestKind requestKind, HttpResponse response, long nanos) {
+        latencies.get(requestKind).record(nanos);
+        int status = response.getStatus();
+        if ((status >= 0) && (status <= MAX_STATUS_CODE)) {
+            statusCounts.incrementAndGet(status);
+        }
+        long contentLength = getContentLength(response.getContent());
+        bytesSent.add(contentLength);
+        if (carbonMetricsReporter != null) {
+            carbonMetricsReporter.report(requestKind, status, contentLength, nanos);
+        }
+    }
+
+    /**
+     * Registers a cache used when serving requests, so its hit ratio is recorded. Registering a cache with the same
+     * name again (e.g. when the web app is reloaded) replaces the previous one.
+     *
+     * @param cacheName  name of the cache
+     * @param cacheStats supplier of the statistics of the cache
+     */
+    public void registerCache(String cacheName, Supplier<CacheStats> cacheStats) {
+        if ((caches.put(cacheName, cacheStats) == null) && (carbonMetricsReporter != null)) {
+            carbonMetricsReporter.reportCacheHitRatio(cacheName, () -> getHitRatio(cacheName));
+        }
+    }
+
+    /**
+     * Returns a snapshot of the metrics recorded so far.
+     *
+     * @return snapshot of the metrics
+     */
+    public RequestMetrics getMetrics() {
+        Map<RequestKind, LatencyStatistics> latencyStatistics = new EnumMap<>(RequestKind.class);
+        latencies.forEach((requestKind, histogram) -> {
+            LatencyStatistics statistics = histogram.getStatistics();
+            if (statistics.getCount() > 0) {
+                latencyStatistics.put(requestKind, statistics);
+            }
+        });
+        Map<Integer, Long> responseCounts = new HashMap<>();
+        for (int status = 0; status <= MAX_STATUS_CODE; status++) {
+            long count = statusCounts.get(status);
+            if (count > 0) {
+                responseCounts.put(status, count);
+            }
+        }
+        Map<String, Double> cacheHitRatios = new HashMap<>();
+        caches.keySet().forEach(cacheName -> cacheHitRatios.put(cacheName, getHitRatio(cacheName)));
+        return new RequestMetrics(appName, startTime, System.currentTimeMillis(), latencyStatistics, responseCounts,
+                                  bytesSent.sum(), cacheHitRatios);
+    }
+
+    /**
+     * Closes this recorder.
+     */
+    public void close() {
+        caches.clear();
+        if (carbonMetricsReporter != null) {
+            carbonMetricsReporter.close();
+        }
+    }
+
+    private double getHitRatio(String cacheName) {
+        Supplier<CacheStats> cacheStats = caches.get(cacheName);
+        return (cacheStats == null) ? 0 : cacheStats.get().hitRate();
+    }
+
+    /**
+     * Returns the size of the specified response content in bytes.
+     *
+     * @param content content of an HTTP response
+     * @return size of the content in bytes, {@code 0} if the size is unknown
+     */
+    public static long getContentLength(Object content) {
+        if (content instanceof String) {
+            try {
+                return Utf8.encodedLength((String) content);
+            } catch (IllegalArgumentException e) {
+                // String has unpaired surrogates, which are replaced with a single byte when encoding.
+                return ((String) content).length();
+            }
+        } else if (content instanceof byte[]) {
+            return ((byte[]) content).length;
+        } else if (content instanceof ByteArrayInputStream) {
+            return ((ByteArrayInputStream) content).available();
+        } else if (content instanceof Path) {
+            return ((Path) content).toFile().length();
+        } else if (content instanceof File) {
+            return ((File) content).length();
+        }
+        return 0; // size of the content is unknown, e.g. a stream
+    }
+}
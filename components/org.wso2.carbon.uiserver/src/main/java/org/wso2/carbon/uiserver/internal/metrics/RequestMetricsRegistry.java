@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.metrics;
+
+import org.wso2.carbon.metrics.core.MetricService;
+import org.wso2.carbon.uiserver.api.metrics.RequestMetrics;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds HTTP request metrics recorders of deployed web apps.
+ *
+ * @since 1.0.9
+ */
+public class RequestMetricsRegistry {
+
+    private final ConcurrentMap<String, RequestMetricsRecorder> recorders = new ConcurrentHashMap<>();
+    private volatile MetricService metricService;
+
+    /**
+     * Sets the Carbon metrics service. Metrics of web apps deployed afterwards are reported to it.
+     *
+     * @param metricService Carbon metrics service, {@code null} to stop reporting to it
+     */
+    public void setMetricService(MetricService metricService) {
+        this.metricService = metricService;
+    }
+
+    /**
+     * Returns the recorder of the specified web app, creating one if it does not exist.
+     *
+     * @param appName name of the web app
+     * @return metrics recorder of the web app
+     */
+    public RequestMetricsRecorder getRecorder(String appName) {
+        return recorders.computeIfAbsent(appName, name -> {
+            MetricService currentMetricService = metricService;
+            return new RequestMetricsRecorder(name, (currentMetricService == null) ? null :
+                    new CarbonMetricsReporter(currentMetricService, name));
+        });
+    }
+
+    /**
+     * Returns a snapshot of the metrics of the specified web app.
+     *
+     * @param appName name of the web app
+     * @return snapshot of the metrics or empty if the web app is not deployed
+     */
+    public Optional<RequestMetrics> getMetrics(String appName) {
+        return Optional.ofNullable(recorders.get(appName)).map(RequestMetricsRecorder::getMetrics);
+    }
+
+    /**
+     * Removes the recorder of the specified web app.
+     *
+     * @param appName name of the web app
+     */
+    public void remove(String appName) {
+        RequestMetricsRecorder recorder = recorders.remove(appName);
+        if (recorder != null) {
+            recorder.close();
+        }
+    }
+
+    /**
+     * Closes this registry.
+     */
+    public void close() {
+        recorders.values().forEach(RequestMetricsRecorder::close);
+        recorders.clear();
+        metricService = null;
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.tracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trace of serving a single HTTP request, which consists of spans of the stages the request went through.
+ * <p>
+ * The trace of the request being served is bound to the current thread, so that stages deep in the call stack can
+ * record spans via {@link #startSpan(String)} without passing the trace around. When the request is not traced, that
+ * method returns a no-op span.
+ *
+ * @since 1.0.9
+ */
+public class RequestTrace {
+
+    /**
+     * Stage of finding the page that matches the request URI.
+     */
+    public static final String STAGE_ROUTING = "routing";
+    /**
+     * Stage of rendering the HTML of a page.
+     */
+    public static final String STAGE_RENDER = "render";
+    /**
+     * Stage of resolving the file of a static resource and reading its last modified date.
+     */
+    public static final String STAGE_FILE_RESOLUTION = "file-resolution";
+    /**
+     * Stage of reading the content of a static resource file.
+     */
+    public static final String STAGE_FILE_READ = "file-read";
+    /**
+     * Stage of building the transport response from the HTTP response.
+     */
+    public static final String STAGE_RESPONSE_WRITE = "response-write";
+
+    private static final ThreadLocal<RequestTrace> CURRENT_TRACE = new ThreadLocal<>();
+
+    private final long traceIdHigh;
+    private final long traceIdLow;
+    private final String method;
+    private final String uri;
+    private final boolean sampled;
+    private final long startEpochMicros;
+    private final long startNanos;
+    private final List<Span> spans;
+    private long durationNanos = -1L;
+    private int status;
+
+    /**
+     * Creates a new trace which starts now.
+     *
+     * @param method  HTTP method of the request
+     * @param uri     URI of the request
+     * @param sampled whether this trace is sampled for exporting
+     */
+    public RequestTrace(String method, String uri, boolean sampled) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        this.traceIdHigh = random.nextLong();
+        this.traceIdLow = random.nextLong();
+        this.method = method;
+        this.uri = uri;
+        this.sampled = sampled;
+        this.startEpochMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        this.startNanos = System.nanoTime();
+        this.spans = new ArrayList<>(4);
+    }
+
+    /**
+     * Returns the trace bound to the current thread.
+     *
+     * @return the current trace, or {@code null} if the current thread is not serving a traced request
+     */
+    public static RequestTrace current() {
+        return CURRENT_TRACE.get();
+    }
+
+    /**
+     * Binds the specified trace to the current thread.
+     *
+     * @param trace trace to bind, {@code null} to unbind
+     * @return the trace previously bound to the current thread, which should be bound again when done
+     */
+    public static RequestTrace setCurrent(RequestTrace trace) {
+        RequestTrace previous = CURRENT_TRACE.get();
+        if (trace == null) {
+            CURRENT_TRACE.remove();
+        } else {
+            CURRENT_TRACE.set(trace);
+        }
+        return previous;
+    }
+
+    /**
+     * Starts a span for the specified stage in the trace bound to the current thread.
+     *
+     * @param stage name of the stage
+     * @return started span, which is a no-op if the current thread is not serving a traced request
+     */
+    public static Span startSpan(String stage) {
+        RequestTrace trace = CURRENT_TRACE.get();
+        return (trace == null) ? Span.NOOP : trace.newSpan(stage);
+    }
+
+    /**
+     * Starts a span for the specified stage in this trace.
+     *
+     * @param stage name of the stage
+     * @return started span
+     */
+    public Span newSpan(String stage) {
+        return new Span(this, stage, System.nanoTime());
+    }
+
+    synchronized void addSpan(Span span) {
+        // Spans that end after the trace is finished (e.g. of a request that timed out) are not accounted.
+        if (durationNanos < 0) {
+            spans.add(span);
+        }
+    }
+
+    /**
+     * Finishes this trace.
+     *
+     * @param status HTTP status of the response
+     */
+    public synchronized void finish(int status) {
+        if (durationNanos < 0) {
+            this.durationNanos = System.nanoTime() - startNanos;
+            this.status = status;
+        }
+    }
+
+    /**
+     * Returns the ID of this trace.
+     *
+     * @return 128-bit trace ID as a lower-hex string
+     */
+    public String getTraceId() {
+        return String.format("%016x%016x", traceIdHigh, traceIdLow);
+    }
+
+    /**
+     * Returns the HTTP method of the traced request.
+     *
+     * @return HTTP method
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Returns the URI of the traced request.
+     *
+     * @return URI
+     */
+    public String getUri() {
+        return uri;
+    }
+
+    /**
+     * Returns whether this trace is sampled for exporting.
+     *
+     * @return {@code true} if sampled, otherwise {@code false}
+     */
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    /**
+     * Returns the start time of this trace.
+     *
+     * @return start time in microseconds since the epoch
+     */
+    public long getStartEpochMicros() {
+        return startEpochMicros;
+    }
+
+    /**
+     * Returns the start time of this trace.
+     *
+     * @return start time as a {@link System#nanoTime()} value
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Returns the duration of this trace.
+     *
+     * @return duration in nanoseconds, or {@code -1} if this trace is not finished yet
+     */
+    public synchronized long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * Returns the HTTP status of the response of the traced request.
+     *
+     * @return HTTP status, or {@code 0} if this trace is not finished yet
+     */
+    public synchronized int getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the ended spans of this trace.
+     *
+     * @return spans ordered by their start times
+     */
+    public synchronized List<Span> getSpans() {
+        List<Span> orderedSpans = new ArrayList<>(spans);
+        orderedSpans.sort(Comparator.comparingLong(Span::getStartNanos));
+        return Collections.unmodifiableList(orderedSpans);
+    }
+
+    /**
+     * Returns the time spent in each stage of this trace.
+     *
+     * @return durations in nanoseconds keyed by stage, in the order the stages started
+     */
+    public Map<String, Long> getStageNanos() {
+        Map<String, Long> stageNanos = new LinkedHashMap<>();
+        for (Span span : getSpans()) {
+            stageNanos.merge(span.getName(), span.getDurationNanos(), Long::sum);
+        }
+        return stageNanos;
+    }
+
+    /**
+     * Returns a single line summary of this trace, e.g. {@code trace-id=... GET /foo/bar status=200 total-ms=2.105
+     * routing-ms=0.040 render-ms=1.950 response-write-ms=0.021}.
+     *
+     * @return summary of this trace
+     */
+    public String toLogString() {
+        StringBuilder builder = new StringBuilder("trace-id=").append(getTraceId())
+                .append(' ').append(method).append(' ').append(uri)
+                .append(" status=").append(getStatus())
+                .append(" total-ms=").append(toMillis(getDurationNanos()));
+        getStageNanos().forEach((stage, nanos) -> builder.append(' ').append(stage).append("-ms=")
+                .append(toMillis(nanos)));
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "RequestTrace{" + toLogString() + "}";
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ENGLISH, "%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.tracing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uiserver.api.ServerConfiguration.TracingConfiguration;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Traces HTTP requests of web apps.
+ * <p>
+ * Every request is traced, as recording a handful of stage timings is cheap. When a request takes longer than the
+ * slow request threshold, it is logged with a breakdown of its stages. Traces of a sampled fraction of requests, and
+ * of all slow requests, are exported.
+ *
+ * @since 1.0.9
+ */
+public class RequestTracer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestTracer.class);
+
+    private final double sampleRate;
+    private final long slowRequestThresholdNanos;
+    private final ZipkinTraceExporter exporter;
+
+    /**
+     * Creates a new request tracer.
+     *
+     * @param configuration tracing configuration
+     * @throws IllegalArgumentException if the configuration is invalid
+     */
+    public RequestTracer(TracingConfiguration configuration) throws IllegalArgumentException {
+        this(configuration.getSampleRate(), configuration.getSlowRequestThreshold(), createExporter(configuration));
+    }
+
+    /**
+     * Creates a new request tracer.
+     *
+     * @param sampleRate                 fraction of requests whose traces are exported
+     * @param slowRequestThresholdMillis time in milliseconds after which a request is logged as slow, {@code 0} to not
+     *                                   log slow requests
+     * @param exporter                   exporter of traces, {@code null} to not export traces
+     */
+    public RequestTracer(double sampleRate, long slowRequestThresholdMillis, ZipkinTraceExporter exporter) {
+        this.sampleRate = sampleRate;
+        this.slowRequestThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowRequestThresholdMillis);
+        this.exporter = exporter;
+    }
+
+    /**
+     * Starts tracing the specified HTTP request.
+     *
+     * @param request HTTP request
+     * @return trace of the request
+     */
+    public RequestTrace start(HttpRequest request) {
+        boolean sampled = (exporter != null) && (sampleRate > 0) &&
+                          ((sampleRate >= 1) || (ThreadLocalRandom.current().nextDouble() < sampleRate));
+        return new RequestTrace(request.getMethod(), request.getUri(), sampled);
+    }
+
+    /**
+     * Finishes the specified trace. Logs it if the request was slow, and exports it if it is sampled or slow.
+     *
+     * @param trace  trace of the request
+     * @param status HTTP status of the response
+     */
+    public void finish(RequestTrace trace, int status) {
+        trace.finish(status);
+        boolean slow = (slowRequestThresholdNanos > 0) && (trace.getDurationNanos() >= slowRequestThresholdNanos);
+        if (slow) {
+            LOGGER.warn("Slow request: {}", trace.toLogString());
+        }
+        if ((exporter != null) && (slow || trace.isSampled())) {
+            exporter.export(trace);
+        }
+    }
+
+    /**
+     * Closes this tracer. Traces queued so far are exported.
+     */
+    public void close() {
+        if (exporter != null) {
+            exporter.close();
+        }
+    }
+
+    private static ZipkinTraceExporter createExporter(TracingConfiguration configuration) {
+        if (!configuration.getExportFile().isPresent() && !configuration.getCollectorUrl().isPresent()) {
+            return null;
+        }
+        return new ZipkinTraceExporter(configuration.getExportFile().orElse(null),
+                                       configuration.getCollectorUrl().orElse(null),
+                                       configuration.getExportQueueSize());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.tracing;
+
+/**
+ * Timing of a stage of serving an HTTP request.
+ * <p>
+ * A span is started on the thread that enters the stage and may be ended on any thread, e.g. when an asynchronous
+ * file read completes. Ending a span more than once has no effect.
+ *
+ * @since 1.0.9
+ */
+public class Span {
+
+    /**
+     * Span which is returned when the current thread is not serving a traced request.
+     */
+    static final Span NOOP = new Span(null, null, 0L);
+
+    private final RequestTrace trace;
+    private final String name;
+    private final long startNanos;
+    private volatile long durationNanos = -1L;
+
+    Span(RequestTrace trace, String name, long startNanos) {
+        this.trace = trace;
+        this.name = name;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Ends this span and adds it to its trace.
+     */
+    public void end() {
+        if ((trace == null) || (durationNanos >= 0)) {
+            return;
+        }
+        durationNanos = System.nanoTime() - startNanos;
+        trace.addSpan(this);
+    }
+
+    /**
+     * Returns the name of the stage of this span.
+     *
+     * @return name of the stage
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the start time of this span.
+     *
+     * @return start time as a {@link System#nanoTime()} value
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Returns the duration of this span.
+     *
+     * @return duration in nanoseconds, or {@code -1} if this span has not ended yet
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "Span{name='" + name + "', durationNanos=" + durationNanos + "}";
+    }
+}
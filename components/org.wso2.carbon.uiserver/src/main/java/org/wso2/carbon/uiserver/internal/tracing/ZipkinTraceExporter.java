@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.tracing;
+
+import com.google.gson.stream.JsonWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+/**
+ * Exports request traces as spans in the <a href="https://zipkin.io/zipkin-api/#/default/post_spans">Zipkin v2 JSON
+ * format</a>.
+ * <p>
+ * Traces are queued and exported in batches by a background thread, so serving requests never waits on the export.
+ * Each batch is appended to the export file as a single line holding a JSON array of spans, and/or posted to the
+ * collector URL (e.g. {@code http://localhost:9411/api/v2/spans} of a Zipkin server or any stand-in that accepts the
+ * same format). When the queue is full, traces are dropped.
+ *
+ * @since 1.0.9
+ */
+public class ZipkinTraceExporter {
+
+    private static final String THREAD_NAME = "carbon-ui-server-trace-exporter";
+    private static final String SERVICE_NAME = "carbon-ui-server";
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+    private static final int COLLECTOR_TIMEOUT_MILLIS = 5000;
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZipkinTraceExporter.class);
+
+    private final Path exportFile;
+    private final URL collectorUrl;
+    private final BlockingQueue<RequestTrace> queue;
+    private final AtomicLong droppedTraces;
+    private final Thread exporterThread;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new exporter and starts its background thread.
+     *
+     * @param exportFile   file to append spans, {@code null} to not export to a file
+     * @param collectorUrl URL of the collector to post spans, {@code null} to not export to a collector
+     * @param queueSize    maximum number of traces waiting to be exported
+     */
+    public ZipkinTraceExporter(Path exportFile, URL collectorUrl, int queueSize) {
+        this.exportFile = exportFile;
+        this.collectorUrl = collectorUrl;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.droppedTraces = new AtomicLong();
+        this.exporterThread = new Thread(this::run, THREAD_NAME);
+        this.exporterThread.setDaemon(true);
+        this.exporterThread.start();
+    }
+
+    /**
+     * Queues the specified finished trace to be exported.
+     *
+     * @param trace trace to export
+     */
+    public void export(RequestTrace trace) {
+        if (closed || !queue.offer(trace)) {
+            droppedTraces.incrementAndGet();
+            LOGGER.debug("Trace export queue is full. Dropped trace '{}'.", trace.getTraceId());
+        }
+    }
+
+    /**
+     * Returns the number of traces dropped so far because the export queue was full.
+     *
+     * @return number of dropped traces
+     */
+    public long getDroppedTraces() {
+        return droppedTraces.get();
+    }
+
+    /**
+     * Closes this exporter. Traces queued so far are exported before the background thread stops.
+     */
+    public void close() {
+        closed = true;
+        try {
+            exporterThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<RequestTrace> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        try {
+            while (true) {
+                RequestTrace trace = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (trace == null) {
+                    if (closed) {
+                        break;
+                    }
+                    continue;
+                }
+                batch.add(trace);
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                write(toJson(batch), batch.size());
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LOGGER.debug("Stopped exporting request traces.");
+    }
+
+    private void write(String json, int traceCount) {
+        if (exportFile != null) {
+            try {
+                Path parent = exportFile.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                Files.write(exportFile, (json + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                            CREATE, APPEND);
+            } catch (IOException e) {
+                LOGGER.warn("Cannot export {} request traces to file '{}'.", traceCount, exportFile, e);
+            }
+        }
+        if (collectorUrl != null) {
+            try {
+                post(json);
+            } catch (IOException e) {
+                LOGGER.warn("Cannot export {} request traces to collector '{}'.", traceCount, collectorUrl, e);
+            }
+        }
+    }
+
+    private void post(String json) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) collectorUrl.openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.setConnectTimeout(COLLECTOR_TIMEOUT_MILLIS);
+            connection.setReadTimeout(COLLECTOR_TIMEOUT_MILLIS);
+            connection.setDoOutput(true);
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                outputStream.write(json.getBytes(StandardCharsets.UTF_8));
+            }
+            int responseCode = connection.getResponseCode();
+            if ((responseCode < 200) || (responseCode >= 300)) {
+                throw new IOException("Collector responded with HTTP status " + responseCode + ".");
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Encodes the specified traces as a JSON array of Zipkin v2 spans. Each trace is encoded as a server span for the
+     * request and a child span for each of its stages.
+     *
+     * @param traces finished traces
+     * @return JSON array of spans
+     */
+    public static String toJson(List<RequestTrace> traces) {
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter jsonWriter = new JsonWriter(stringWriter)) {
+            jsonWriter.beginArray();
+            for (RequestTrace trace : traces) {
+                writeTrace(jsonWriter, trace);
+            }
+            jsonWriter.endArray();
+        } catch (IOException e) {
+            // StringWriter does not throw IOExceptions.
+            throw new IllegalStateException("Cannot encode request traces.", e);
+        }
+        return stringWriter.toString();
+    }
+
+    private static void writeTrace(JsonWriter jsonWriter, RequestTrace trace) throws IOException {
+        String traceId = trace.getTraceId();
+        String rootSpanId = newSpanId();
+
+        jsonWriter.beginObject();
+        jsonWriter.name("traceId").value(traceId);
+        jsonWriter.name("id").value(rootSpanId);
+        jsonWriter.name("kind").value("SERVER");
+        jsonWriter.name("name").value(trace.getMethod() + " " + trace.getUri());
+        jsonWriter.name("timestamp").value(trace.getStartEpochMicros());
+        jsonWriter.name("duration").value(toDurationMicros(trace.getDurationNanos()));
+        writeLocalEndpoint(jsonWriter);
+        jsonWriter.name("tags").beginObject();
+        jsonWriter.name("http.method").value(trace.getMethod());
+        jsonWriter.name("http.path").value(trace.getUri());
+        jsonWriter.name("http.status_code").value(Integer.toString(trace.getStatus()));
+        jsonWriter.endObject();
+        jsonWriter.endObject();
+
+        for (Span span : trace.getSpans()) {
+            jsonWriter.beginObject();
+            jsonWriter.name("traceId").value(traceId);
+            jsonWriter.name("parentId").value(rootSpanId);
+            jsonWriter.name("id").value(newSpanId());
+            jsonWriter.name("name").value(span.getName());
+            jsonWriter.name("timestamp")
+                    .value(trace.getStartEpochMicros() +
+                           TimeUnit.NANOSECONDS.toMicros(span.getStartNanos() - trace.getStartNanos()));
+            jsonWriter.name("duration").value(toDurationMicros(span.getDurationNanos()));
+            writeLocalEndpoint(jsonWriter);
+            jsonWriter.endObject();
+        }
+    }
+
+    private static void writeLocalEndpoint(JsonWriter jsonWriter) throws IOException {
+        jsonWriter.name("localEndpoint").beginObject();
+        jsonWriter.name("serviceName").value(SERVICE_NAME);
+        jsonWriter.endObject();
+    }
+
+    private static String newSpanId() {
+        return String.format("%016x", ThreadLocalRandom.current().nextLong());
+    }
+
+    private static long toDurationMicros(long nanos) {
+        // Zipkin requires durations of at least one microsecond.
+        return Math.max(1L, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+}
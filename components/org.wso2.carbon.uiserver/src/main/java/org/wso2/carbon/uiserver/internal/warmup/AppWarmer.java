@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.warmup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.api.ServerConfiguration.DeploymentConfiguration;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+import org.wso2.carbon.uiserver.internal.http.InMemoryHttpRequest;
+import org.wso2.carbon.uiserver.internal.http.RequestDispatcher;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Warms up web apps before they start serving HTTP requests, so that the first requests after a (re)deployment do not
+ * pay for reading files, applying templates and resolving i18n bundles.
+ * <p>
+ * Warming up a web app pre-resolves the i18n bundles of all its locales and then serves the hottest URIs of its hot set
+ * from the previous run through its request dispatcher, which pre-renders pages and pre-loads static resources (their
+ * last modified dates are cached and small files are read into the OS page cache). When a web app does not have a hot
+ * set yet, the last modified dates of all its static resources are cached instead. Warm-up requests are not recorded
+ * in request metrics or hot sets.
+ *
+ * @since 1.0.9
+ */
+public class AppWarmer {
+
+    private static final int MAX_STORED_URIS = 1000;
+    private static final Logger LOGGER = LoggerFactory.getLogger(AppWarmer.class);
+
+    private final HotSetStore hotSetStore;
+    private final int warmUpSize;
+    private final long timeoutMillis;
+    private final ConcurrentMap<String, HotSetRecorder> hotSetRecorders;
+
+    /**
+     * Creates a new app warmer.
+     *
+     * @param deploymentConfiguration deployment configuration
+     * @throws IllegalArgumentException if the warm-up configurations are invalid
+     */
+    public AppWarmer(DeploymentConfiguration deploymentConfiguration) throws IllegalArgumentException {
+        this(deploymentConfiguration.getHotSetsDirectory().map(HotSetStore::new).orElse(null),
+             deploymentConfiguration.getWarmUpSize(), deploymentConfiguration.getWarmUpTimeout());
+    }
+
+    /**
+     * Creates a new app warmer.
+     *
+     * @param hotSetStore   store of hot sets, {@code null} to not use hot sets
+     * @param warmUpSize    maximum number of hot URIs requested when warming up a web app
+     * @param timeoutMillis maximum time in milliseconds to warm up a web app
+     */
+    public AppWarmer(HotSetStore hotSetStore, int warmUpSize, long timeoutMillis) {
+        this.hotSetStore = hotSetStore;
+        this.warmUpSize = warmUpSize;
+        this.timeoutMillis = timeoutMillis;
+        this.hotSetRecorders = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the hot set recorder of the specified web app. The recorder of a web app carries over the hot set stored
+     * in the previous run and is kept until the web app is undeployed.
+     *
+     * @param appName name of the web app
+     * @return hot set recorder of the web app
+     */
+    public HotSetRecorder getHotSetRecorder(String appName) {
+        return hotSetRecorders.computeIfAbsent(appName, name -> new HotSetRecorder(
+                (hotSetStore == null) ? Collections.emptyMap() : hotSetStore.load(name)));
+    }
+
+    /**
+     * Warms up the specified web app through its request dispatcher.
+     *
+     * @param app               web app to warm up
+     * @param requestDispatcher request dispatcher that is going to serve the web app
+     * @return number of hot URIs that were served successfully
+     */
+    public int warmUp(App app, RequestDispatcher requestDispatcher) {
+        long startTime = System.nanoTime();
+        long deadline = startTime + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        int bundles = requestDispatcher.warmCache(RequestDispatcher.CACHE_I18N_BUNDLES).orElse(0);
+        Set<String> hotUris = getHotSetRecorder(app.getName()).getHottest(warmUpSize).keySet();
+        if (hotUris.isEmpty()) {
+            int files = requestDispatcher.warmCache(RequestDispatcher.CACHE_STATIC_RESOURCE_DATES).orElse(0);
+            LOGGER.info("Web app '{}' warmed up in {} ms without a hot set: {} i18n bundles, {} static resources.",
+                        app.getName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), bundles, files);
+            return 0;
+        }
+
+        int pages = 0, staticResources = 0, others = 0;
+        for (String uri : hotUris) {
+            HttpRequest request = new InMemoryHttpRequest(app.getContextPath(), uri, Collections.emptyMap());
+            if (!request.isValid()) {
+                continue;
+            }
+            HttpResponse response;
+            try {
+                response = requestDispatcher.warmUp(request).toCompletableFuture()
+                        .get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                LOGGER.warn("Warming up web app '{}' timed out after {} ms.", app.getName(), timeoutMillis);
+                break;
+            } catch (ExecutionException e) {
+                LOGGER.debug("Cannot warm up web app '{}' with request '{}'.", app.getName(), request, e.getCause());
+                continue;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            closeContent(response);
+            if (response.getStatus() != HttpResponse.STATUS_OK) {
+                continue;
+            }
+            if (request.isStaticResourceRequest()) {
+                staticResources++;
+            } else if (request.isI18nBundleRequest() || request.isDefaultFaviconRequest()) {
+                others++;
+            } else {
+                pages++;
+            }
+        }
+        LOGGER.info("Web app '{}' warmed up in {} ms: {} i18n bundles, {} pages, {} static resources, {} others.",
+                    app.getName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), bundles, pages,
+                    staticResources, others);
+        return pages + staticResources + others;
+    }
+
+    /**
+     * Stores the hot set of the specified web app and discards its hot set recorder.
+     *
+     * @param appName name of the web app
+     */
+    public void storeHotSet(String appName) {
+        HotSetRecorder hotSetRecorder = hotSetRecorders.remove(appName);
+        if ((hotSetRecorder != null) && (hotSetStore != null)) {
+            hotSetStore.store(appName, hotSetRecorder.getHottest(MAX_STORED_URIS));
+        }
+    }
+
+    /**
+     * Closes this warmer after storing the hot sets of all web apps.
+     */
+    public void close() {
+        hotSetRecorders.keySet().forEach(this::storeHotSet);
+    }
+
+    private static void closeContent(HttpResponse response) {
+        if (response.getContent() instanceof Closeable) {
+            try {
+                ((Closeable) response.getContent()).close();
+            } catch (IOException e) {
+                LOGGER.debug("Cannot close content of warm-up response {}.", response, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.warmup;
+
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts successfully served HTTP requests of a web app per URI, so that the hottest URIs can be requested to warm up
+ * the web app when it is deployed next time.
+ * <p>
+ * Since URIs come from clients, at most {@value #MAX_TRACKED_URIS} distinct URIs are tracked as a Space-Saving top-k
+ * sketch: when the limit is reached, the least hit {@value #EVICTION_BATCH_SIZE} URIs are evicted and URIs tracked
+ * afterwards start from the highest count evicted so far. Hence a URI that becomes hot later still makes it to the
+ * hottest URIs, while rarely requested URIs do not stay forever. Counts carried over from the previous run are halved,
+ * so that URIs which are no longer requested cool down over restarts.
+ *
+ * @since 1.0.9
+ */
+public class HotSetRecorder {
+
+    static final int MAX_TRACKED_URIS = 10000;
+    static final int EVICTION_BATCH_SIZE = MAX_TRACKED_URIS / 10;
+
+    private final ConcurrentMap<String, Counter> hits;
+    private final Object evictionLock = new Object();
+    private volatile long evictedCount = 0;
+
+    /**
+     * Creates a new recorder.
+     */
+    public HotSetRecorder() {
+        this(Collections.emptyMap());
+    }
+
+    /**
+     * Creates a new recorder that carries over hits from the previous run.
+     *
+     * @param previousHits number of hits of each URI (without the context path) in the previous run
+     */
+    public HotSetRecorder(Map<String, Long> previousHits) {
+        this.hits = new ConcurrentHashMap<>();
+        previousHits.forEach((uri, count) -> {
+            if (hits.size() < MAX_TRACKED_URIS) {
+                hits.put(uri, new Counter(Math.max(1, count / 2)));
+            }
+        });
+    }
+
+    /**
+     * Records a hit for the URI of the specified request, if it was served successfully.
+     *
+     * @param request  served HTTP request
+     * @param response HTTP response sent for the request
+     */
+    public void record(HttpRequest request, HttpResponse response) {
+        int status = response.getStatus();
+        if ((status != HttpResponse.STATUS_OK) && (status != HttpResponse.STATUS_NOT_MODIFIED)) {
+            return;
+        }
+        String uri = request.getUriWithoutContextPath();
+        Counter counter = hits.get(uri);
+        if (counter == null) {
+            if (hits.size() >= MAX_TRACKED_URIS) {
+                evict();
+            }
+            // A new URI might have been hit as many times as the most hit URI evicted so far (Space-Saving).
+            counter = hits.computeIfAbsent(uri, key -> new Counter(evictedCount));
+        }
+        counter.hits.increment();
+    }
+
+    /**
+     * Returns the hottest URIs.
+     *
+     * @param limit maximum number of URIs to return
+     * @return number of hits of the hottest URIs (without the context path), in descending order of hits
+     */
+    public Map<String, Long> getHottest(int limit) {
+        List<Map.Entry<String, Long>> counts = new ArrayList<>(hits.size());
+        hits.forEach((uri, counter) -> counts.add(new AbstractMap.SimpleImmutableEntry<>(uri, counter.sum())));
+        counts.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+
+        Map<String, Long> hottest = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> count : counts) {
+            if (hottest.size() >= limit) {
+                break;
+            }
+            hottest.put(count.getKey(), count.getValue());
+        }
+        return hottest;
+    }
+
+    private void evict() {
+        // Evicting in batches keeps the cost of sorting the counts off most of the requests for new URIs.
+        synchronized (evictionLock) {
+            if (hits.size() < MAX_TRACKED_URIS) {
+                return; // Already evicted by another thread.
+            }
+            List<Map.Entry<String, Long>> counts = new ArrayList<>(hits.size());
+            hits.forEach((uri, counter) -> counts.add(new AbstractMap.SimpleImmutableEntry<>(uri, counter.sum())));
+            counts.sort(Map.Entry.comparingByValue());
+            long maxEvictedCount = evictedCount;
+            for (Map.Entry<String, Long> count : counts.subList(0, Math.min(EVICTION_BATCH_SIZE, counts.size()))) {
+                hits.remove(count.getKey());
+                maxEvictedCount = Math.max(maxEvictedCount, count.getValue());
+            }
+            evictedCount = maxEvictedCount;
+        }
+    }
+
+    /**
+     * Hits of a URI, on top of the hits it was assumed to have when it started being tracked.
+     */
+    private static class Counter {
+
+        private final long initialHits;
+        private final LongAdder hits = new LongAdder();
+
+        private Counter(long initialHits) {
+            this.initialHits = initialHits;
+        }
+
+        private long sum() {
+            return initialHits + hits.sum();
+        }
+    }
+}
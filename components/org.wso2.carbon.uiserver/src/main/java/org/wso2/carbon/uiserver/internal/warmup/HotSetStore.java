@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.warmup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Stores hot sets (most requested URIs with their number of hits) of web apps in a directory, so that web apps can be
+ * warmed up with the hot sets of the previous run.
+ * <p>
+ * A hot set is a text file with one {@code <hits> <uri>} line per URI, in descending order of hits.
+ *
+ * @since 1.0.9
+ */
+public class HotSetStore {
+
+    private static final String HOT_SET_FILE_EXTENSION = ".hotset";
+    private static final Logger LOGGER = LoggerFactory.getLogger(HotSetStore.class);
+
+    private final Path hotSetsDirectory;
+
+    /**
+     * Creates a new hot set store.
+     *
+     * @param hotSetsDirectory directory to store hot sets
+     */
+    public HotSetStore(Path hotSetsDirectory) {
+        this.hotSetsDirectory = hotSetsDirectory;
+    }
+
+    /**
+     * Loads the hot set of the specified web app.
+     *
+     * @param appName name of the web app
+     * @return number of hits of each URI (without the context path) in descending order of hits, or an empty map if
+     * there is no stored hot set for the web app
+     */
+    public Map<String, Long> load(String appName) {
+        Path hotSetFile = getHotSetFile(appName);
+        Map<String, Long> hotSet = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(hotSetFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separatorIndex = line.indexOf(' ');
+                if (separatorIndex <= 0) {
+                    continue;
+                }
+                try {
+                    hotSet.put(line.substring(separatorIndex + 1), Long.parseLong(line.substring(0, separatorIndex)));
+                } catch (NumberFormatException e) {
+                    LOGGER.debug("Ignored malformed line '{}' in hot set '{}'.", line, hotSetFile);
+                }
+            }
+        } catch (NoSuchFileException e) {
+            return Collections.emptyMap();
+        } catch (IOException e) {
+            LOGGER.warn("Cannot load hot set of web app '{}' from '{}'.", appName, hotSetFile, e);
+            return Collections.emptyMap();
+        }
+        return hotSet;
+    }
+
+    /**
+     * Stores the hot set of the specified web app, replacing the previously stored one.
+     *
+     * @param appName name of the web app
+     * @param hotSet  number of hits of each URI (without the context path) in descending order of hits
+     */
+    public void store(String appName, Map<String, Long> hotSet) {
+        Path hotSetFile = getHotSetFile(appName);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(hotSetsDirectory);
+            tempFile = Files.createTempFile(hotSetsDirectory, appName, ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Long> entry : hotSet.entrySet()) {
+                    writer.write(Long.toString(entry.getValue()));
+                    writer.write(' ');
+                    writer.write(entry.getKey());
+                    writer.newLine();
+                }
+            }
+            try {
+                Files.move(tempFile, hotSetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, hotSetFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            LOGGER.debug("Hot set of web app '{}' with {} URIs stored in '{}'.", appName, hotSet.size(), hotSetFile);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot store hot set of web app '{}' in '{}'.", appName, hotSetFile, e);
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                    // Temporary files left behind do not affect hot sets.
+                }
+            }
+        }
+    }
+
+    private Path getHotSetFile(String appName) {
+        return hotSetsDirectory.resolve(appName + HOT_SET_FILE_EXTENSION);
+    }
+}
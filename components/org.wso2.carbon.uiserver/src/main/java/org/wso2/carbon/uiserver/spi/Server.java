@@ -19,6 +19,7 @@
 package org.wso2.carbon.uiserver.spi;
 
 import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.api.metrics.RequestMetrics;
 
 import java.util.Optional;
 
@@ -37,4 +38,16 @@ public interface Server {
      * is not deployed yet
      */
     Optional<App> getApp(String appName);
+
+    /**
+     * Returns a snapshot of the HTTP request metrics of the specified deployed web app.
+     *
+     * @param appName name of the app
+     * @return request metrics of the app; {@link Optional#empty() empty} if there is no app with the given name, app
+     * is not deployed yet or metrics are not recorded
+     * @since 1.0.9
+     */
+    default Optional<RequestMetrics> getRequestMetrics(String appName) {
+        return Optional.empty();
+    }
 }
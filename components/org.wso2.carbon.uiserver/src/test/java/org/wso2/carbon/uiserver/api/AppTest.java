@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.uiserver.api;
 
+import com.google.common.collect.ImmutableMap;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.wso2.carbon.uiserver.api.exception.PageNotFoundException;
@@ -29,9 +30,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -110,6 +114,18 @@ public class AppTest {
         Assert.assertThrows(PageNotFoundException.class, () -> app.renderPage(createRequest("/bar")));
     }
 
+    @Test
+    public void testRenderPageAsync() throws Exception {
+        App app = appBuilder()
+                .addPage(createPage("/a", "page A"))
+                .build();
+        Assert.assertEquals(app.renderPageAsync(createRequest("/a")).toCompletableFuture().get(), "page A");
+
+        CompletableFuture<String> future = app.renderPageAsync(createRequest("/foo")).toCompletableFuture();
+        ExecutionException e = Assert.expectThrows(ExecutionException.class, future::get);
+        Assert.assertTrue(e.getCause() instanceof PageNotFoundException);
+    }
+
     @Test
     public void testCanOverrideBy() {
         App app1 = appBuilder()
@@ -151,6 +167,79 @@ public class AppTest {
         Assert.assertThrows(IllegalArgumentException.class, () -> app1.override(app3));
     }
 
+    @Test
+    public void testGetI18nResource() {
+        App app = appBuilder()
+                .addI18nResource(new I18nResource(Locale.FRENCH, ImmutableMap.of("welcome", "Bonjour!",
+                                                                                 "bye", "Au revoir!")))
+                .addI18nResource(new I18nResource(Locale.CANADA_FRENCH, ImmutableMap.of("welcome", "Allo!")))
+                .build();
+
+        I18nResource i18nResource = app.getI18nResource(Locale.CANADA_FRENCH).get();
+        Assert.assertEquals(i18nResource.getMessage("welcome", null, null), "Allo!");
+        Assert.assertEquals(i18nResource.getMessage("bye", null, null), "Au revoir!");
+        Assert.assertEquals(app.getI18nResource(Locale.FRENCH).get().getMessage("welcome", null, null), "Bonjour!");
+        Assert.assertFalse(app.getI18nResource(Locale.US).isPresent());
+    }
+
+    @Test
+    public void testOverrideI18nResources() {
+        App app1 = appBuilder()
+                .setName("foo")
+                .setContextPath("/foo")
+                .addI18nResource(new I18nResource(Locale.FRENCH, ImmutableMap.of("welcome", "Bonjour!",
+                                                                                 "bye", "Au revoir!")))
+                .addI18nResource(new I18nResource(Locale.CANADA_FRENCH, ImmutableMap.of("bye", "Bye!")))
+                .build();
+        App app2 = appBuilder()
+                .setName("foo")
+                .setContextPath("/foo")
+                .addI18nResource(new I18nResource(Locale.FRENCH, ImmutableMap.of("welcome", "Salut!")))
+                .build();
+        App overriddenApp = app1.override(app2);
+
+        I18nResource french = overriddenApp.getI18nResource(Locale.FRENCH).get();
+        Assert.assertEquals(french.getMessage("welcome", null, null), "Salut!");
+        Assert.assertEquals(french.getMessage("bye", null, null), "Au revoir!");
+        I18nResource canadaFrench = overriddenApp.getI18nResource(Locale.CANADA_FRENCH).get();
+        Assert.assertEquals(canadaFrench.getMessage("welcome", null, null), "Salut!");
+        Assert.assertEquals(canadaFrench.getMessage("bye", null, null), "Bye!");
+    }
+
+    @Test
+    public void testOverrideI18nResourcesInLayerOrder() {
+        App base = appBuilder()
+                .setName("foo")
+                .setContextPath("/foo")
+                .addI18nResource(new I18nResource(Locale.FRENCH, ImmutableMap.of("welcome", "Bonjour!")))
+                .build();
+        App middle = appBuilder()
+                .setName("foo")
+                .setContextPath("/foo")
+                .addI18nResource(new I18nResource(Locale.FRENCH, ImmutableMap.of("welcome", "Salut!")))
+                .build();
+        App top = appBuilder()
+                .setName("foo")
+                .setContextPath("/foo")
+                .addI18nResource(new I18nResource(Locale.FRENCH, ImmutableMap.of("welcome", "Coucou!")))
+                .build();
+
+        Assert.assertEquals(base.override(middle).override(top).getI18nResource(Locale.FRENCH).get()
+                                    .getMessage("welcome", null, null), "Coucou!");
+        Assert.assertEquals(base.override(top).override(middle).getI18nResource(Locale.FRENCH).get()
+                                    .getMessage("welcome", null, null), "Salut!");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testDuplicateI18nResources() {
+        appBuilder()
+                .setName("foo")
+                .setContextPath("/foo")
+                .addI18nResource(new I18nResource(Locale.FRENCH, ImmutableMap.of("welcome", "Bonjour!")))
+                .addI18nResource(new I18nResource(Locale.FRENCH, ImmutableMap.of("welcome", "Salut!")))
+                .build();
+    }
+
     private static Page createPage(String uriPattern, String content) {
         return new HtmlPage(new UriPatten(uriPattern), content);
     }
@@ -24,8 +24,12 @@ import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.util.Collections.emptyMap;
 
@@ -46,6 +50,46 @@ public class I18nResourceTest {
         Assert.assertEquals(i18nResource.getMessage("welcome-name", new Object[]{"Alice"}, null), "Hello Alice!");
     }
 
+    @Test
+    public void testGetFormattedMessage() {
+        I18nResource i18nResource = new I18nResource(Locale.US, ImmutableMap.of("quoted", "It''s {0}''s turn.",
+                                                                                "plain", "Hello!",
+                                                                                "invalid", "Hello {0!"));
+
+        Assert.assertEquals(i18nResource.getMessage("quoted", new Object[]{"Bob"}, null), "It's Bob's turn.");
+        Assert.assertEquals(i18nResource.getMessage("plain", new Object[]{"Bob"}, null), "Hello!");
+        Assert.assertEquals(i18nResource.getMessage("quoted", new Object[]{1000}, null), "It's 1,000's turn.");
+        Assert.assertEquals(i18nResource.getMessage("quoted", new Object[]{}, null), "It''s {0}''s turn.");
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> i18nResource.getMessage("invalid", new Object[]{"Bob"}, null));
+    }
+
+    @Test
+    public void testGetFormattedMessageConcurrently() throws Exception {
+        I18nResource i18nResource = new I18nResource(Locale.US, ImmutableMap.of("count", "{0} of {1} items"));
+
+        List<CompletableFuture<Boolean>> results = IntStream.range(0, 1000)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> i18nResource.getMessage(
+                        "count", new Object[]{i, "all"}, null).equals(i + " of all items")))
+                .collect(Collectors.toList());
+        for (CompletableFuture<Boolean> result : results) {
+            Assert.assertTrue(result.get(), "Concurrently formatted message is incorrect.");
+        }
+    }
+
+    @Test
+    public void testOverride() {
+        I18nResource base = new I18nResource(Locale.US, ImmutableMap.of("welcome", "Hello!", "bye", "Bye!"));
+        I18nResource override = new I18nResource(Locale.US, ImmutableMap.of("welcome", "Hi {0}!"));
+
+        I18nResource overridden = base.override(override);
+        Assert.assertEquals(overridden.getLocale(), Locale.US);
+        Assert.assertEquals(overridden.getMessage("welcome", new Object[]{"Alice"}, null), "Hi Alice!");
+        Assert.assertEquals(overridden.getMessage("bye", null, null), "Bye!");
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> base.override(new I18nResource(Locale.FRENCH, emptyMap())));
+    }
+
     @Test
     public void testGetMatchingLocale() {
         Set<Locale> availableLocales = ImmutableSet.of(Locale.FRENCH, Locale.US, Locale.CANADA);
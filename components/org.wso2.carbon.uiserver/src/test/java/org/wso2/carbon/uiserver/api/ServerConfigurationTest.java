@@ -33,4 +33,59 @@ public class ServerConfigurationTest {
         ServerConfiguration serverConfiguration = new ServerConfiguration();
         Assert.assertFalse(serverConfiguration.getConfigurationForApp("foo").isPresent());
     }
+
+    @Test
+    public void testGetAppConfigurationDefaults() {
+        ServerConfiguration.AppConfiguration appConfiguration = new ServerConfiguration.AppConfiguration();
+        Assert.assertEquals(appConfiguration.getMaxConcurrentRequests(), 0);
+        Assert.assertEquals(appConfiguration.getConcurrencyLimiter(),
+                            ServerConfiguration.AppConfiguration.LIMITER_FIXED);
+        Assert.assertTrue(appConfiguration.getRetryAfter() >= 0);
+        Assert.assertEquals(appConfiguration.getActivation(), ServerConfiguration.AppConfiguration.ACTIVATION_EAGER);
+    }
+
+    @Test
+    public void testGetDeploymentConfiguration() {
+        ServerConfiguration.DeploymentConfiguration deploymentConfiguration =
+                new ServerConfiguration().getDeploymentConfiguration();
+        Assert.assertTrue(deploymentConfiguration.getParallelism() > 0);
+        Assert.assertFalse(deploymentConfiguration.isLiveReload());
+        Assert.assertTrue(deploymentConfiguration.getLiveReloadDelay() >= 0);
+        Assert.assertFalse(deploymentConfiguration.isWarmUp());
+        Assert.assertFalse(deploymentConfiguration.getHotSetsDirectory().isPresent());
+        Assert.assertTrue(deploymentConfiguration.getWarmUpSize() > 0);
+        Assert.assertTrue(deploymentConfiguration.getWarmUpTimeout() > 0);
+        Assert.assertTrue(deploymentConfiguration.getActivationDelay() >= 0);
+    }
+
+    @Test
+    public void testGetTracingConfiguration() {
+        ServerConfiguration.TracingConfiguration tracingConfiguration =
+                new ServerConfiguration().getTracingConfiguration();
+        Assert.assertTrue(tracingConfiguration.isEnabled());
+        Assert.assertEquals(tracingConfiguration.getSampleRate(), 0.01);
+        Assert.assertEquals(tracingConfiguration.getSlowRequestThreshold(), 1000L);
+        Assert.assertFalse(tracingConfiguration.getExportFile().isPresent());
+        Assert.assertFalse(tracingConfiguration.getCollectorUrl().isPresent());
+        Assert.assertTrue(tracingConfiguration.getExportQueueSize() > 0);
+    }
+
+    @Test
+    public void testGetAdminConfiguration() {
+        ServerConfiguration.AdminConfiguration adminConfiguration = new ServerConfiguration().getAdminConfiguration();
+        Assert.assertFalse(adminConfiguration.isEnabled());
+        Assert.assertTrue(adminConfiguration.getContextPath().startsWith("/"));
+        Assert.assertThrows(IllegalArgumentException.class, adminConfiguration::getTransportId);
+    }
+
+    @Test
+    public void testGetAccessLogConfiguration() {
+        ServerConfiguration.AccessLogConfiguration accessLogConfiguration =
+                new ServerConfiguration().getAccessLogConfiguration();
+        Assert.assertFalse(accessLogConfiguration.isEnabled());
+        Assert.assertEquals(accessLogConfiguration.getFile().getFileName().toString(), "carbon-ui-server-access.log");
+        Assert.assertTrue(accessLogConfiguration.getMaxFileSize() > 0);
+        Assert.assertTrue(accessLogConfiguration.getMaxFiles() >= 0);
+        Assert.assertTrue(accessLogConfiguration.getBufferSize() > 0);
+    }
 }
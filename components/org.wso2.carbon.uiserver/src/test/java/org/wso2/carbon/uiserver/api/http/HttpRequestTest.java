@@ -153,6 +153,22 @@ public class HttpRequestTest {
                           "URI '" + request.getUri() + "' is a theme static resource request");
     }
 
+    @Test
+    public void testIsI18nBundleRequest() {
+        HttpRequest request1 = createRequest("/app/i18n/fr-CA.json");
+        Assert.assertTrue(request1.isI18nBundleRequest(),
+                          "URI '" + request1.getUri() + "' is an i18n bundle request.");
+
+        HttpRequest request2 = createRequest("/app/public/i18n/fr-CA.json");
+        Assert.assertFalse(request2.isI18nBundleRequest(),
+                           "URI '" + request2.getUri() + "' is NOT an i18n bundle request.");
+
+        for (String uri : new String[]{"/app/i18n/guide", "/app/i18n/docs/fr.json", "/app/i18n/.json"}) {
+            Assert.assertFalse(createRequest(uri).isI18nBundleRequest(),
+                               "URI '" + uri + "' is NOT an i18n bundle request.");
+        }
+    }
+
     @Test
     public void testIsDefaultFaviconRequest() {
         HttpRequest request1 = createRequest("/favicon.ico");
@@ -178,6 +194,7 @@ public class HttpRequestTest {
         when(request.isAppStaticResourceRequest()).thenCallRealMethod();
         when(request.isExtensionStaticResourceRequest()).thenCallRealMethod();
         when(request.isThemeStaticResourceRequest()).thenCallRealMethod();
+        when(request.isI18nBundleRequest()).thenCallRealMethod();
         when(request.isDefaultFaviconRequest()).thenCallRealMethod();
 
         return request;
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.accesslog;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for {@link AccessLogRingBuffer} class.
+ *
+ * @since 1.0.9
+ */
+public class AccessLogRingBufferTest {
+
+    @Test
+    public void testCapacity() {
+        Assert.assertEquals(new AccessLogRingBuffer<>(1).capacity(), 1);
+        Assert.assertEquals(new AccessLogRingBuffer<>(4).capacity(), 4);
+        Assert.assertEquals(new AccessLogRingBuffer<>(5).capacity(), 8);
+    }
+
+    @Test
+    public void testOfferAndDrain() {
+        AccessLogRingBuffer<String> ringBuffer = new AccessLogRingBuffer<>(4);
+        for (String element : Arrays.asList("a", "b", "c", "d")) {
+            Assert.assertTrue(ringBuffer.offer(element));
+        }
+        Assert.assertFalse(ringBuffer.offer("e"));
+        Assert.assertEquals(ringBuffer.size(), 4);
+
+        List<String> drained = new ArrayList<>();
+        Assert.assertEquals(ringBuffer.drain(drained::add, 3), 3);
+        Assert.assertEquals(drained, Arrays.asList("a", "b", "c"));
+        Assert.assertTrue(ringBuffer.offer("f"));
+        Assert.assertEquals(ringBuffer.drain(drained::add, 10), 2);
+        Assert.assertEquals(drained, Arrays.asList("a", "b", "c", "d", "f"));
+        Assert.assertEquals(ringBuffer.size(), 0);
+        Assert.assertEquals(ringBuffer.drain(drained::add, 10), 0);
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        int producers = 4;
+        int elementsPerProducer = 10000;
+        AccessLogRingBuffer<Integer> ringBuffer = new AccessLogRingBuffer<>(64);
+        ExecutorService executorService = Executors.newFixedThreadPool(producers);
+        CountDownLatch producersDone = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            int offset = p * elementsPerProducer;
+            executorService.execute(() -> {
+                for (int i = 0; i < elementsPerProducer; i++) {
+                    while (!ringBuffer.offer(offset + i)) {
+                        Thread.yield(); // buffer is full, wait for the consumer
+                    }
+                }
+                producersDone.countDown();
+            });
+        }
+
+        Set<Integer> consumed = new HashSet<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while ((consumed.size() < producers * elementsPerProducer) && (System.nanoTime() < deadline)) {
+            ringBuffer.drain(element -> Assert.assertTrue(consumed.add(element)), 16);
+        }
+        executorService.shutdown();
+        Assert.assertTrue(producersDone.await(1, TimeUnit.SECONDS));
+        Assert.assertEquals(consumed.size(), producers * elementsPerProducer);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.accesslog;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for {@link AccessLogWriter} class.
+ *
+ * @since 1.0.9
+ */
+public class AccessLogWriterTest {
+
+    private Path logsDirectory;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        logsDirectory = Files.createTempDirectory("access-log-writer-test");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(logsDirectory.toFile());
+    }
+
+    @Test
+    public void testLog() throws IOException {
+        Path file = logsDirectory.resolve("logs").resolve("access.log");
+        AccessLogWriter accessLogWriter = new AccessLogWriter(file, 1024 * 1024, 2, 16);
+        accessLogWriter.log("foo", createRequest("GET", "/foo/"), new HttpResponse(200, "hello", "text/plain"),
+                            TimeUnit.MICROSECONDS.toNanos(850));
+        accessLogWriter.log("foo", createRequest("GET", "/foo/public/app/css/styles.css"),
+                            new HttpResponse(304, null, null), TimeUnit.MICROSECONDS.toNanos(20));
+        accessLogWriter.close();
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        Assert.assertEquals(lines.size(), 2);
+        JsonObject entry = new JsonParser().parse(lines.get(0)).getAsJsonObject();
+        Assert.assertTrue(entry.has("time"));
+        Assert.assertEquals(entry.get("app").getAsString(), "foo");
+        Assert.assertEquals(entry.get("method").getAsString(), "GET");
+        Assert.assertEquals(entry.get("uri").getAsString(), "/foo/");
+        Assert.assertEquals(entry.get("status").getAsInt(), 200);
+        Assert.assertEquals(entry.get("bytes").getAsLong(), 5L);
+        Assert.assertEquals(entry.get("latencyMicros").getAsLong(), 850L);
+        Assert.assertFalse(entry.get("cacheHit").getAsBoolean());
+        entry = new JsonParser().parse(lines.get(1)).getAsJsonObject();
+        Assert.assertEquals(entry.get("status").getAsInt(), 304);
+        Assert.assertTrue(entry.get("cacheHit").getAsBoolean());
+        Assert.assertEquals(accessLogWriter.getDroppedEntries(), 0);
+    }
+
+    @Test
+    public void testRotation() throws IOException {
+        Path file = logsDirectory.resolve("access.log");
+        HttpRequest request = createRequest("GET", "/foo/");
+        HttpResponse response = new HttpResponse(200, "hello", "text/plain");
+        AccessLogWriter accessLogWriter = new AccessLogWriter(file, 1, 2, 16);
+        for (int i = 1; i <= 3; i++) {
+            accessLogWriter.log("foo", request, response, 0);
+            // Waits for each entry to be written, so that each batch holds a single entry.
+            waitUntilWritten(file, i);
+        }
+        accessLogWriter.log("foo", request, response, 0);
+        accessLogWriter.close();
+
+        // Each entry exceeds the maximum file size, hence the oldest entry is deleted after the third rotation.
+        Assert.assertEquals(Files.readAllLines(file, StandardCharsets.UTF_8).size(), 1);
+        Assert.assertEquals(Files.readAllLines(logsDirectory.resolve("access.log.1"), StandardCharsets.UTF_8).size(),
+                            1);
+        Assert.assertEquals(Files.readAllLines(logsDirectory.resolve("access.log.2"), StandardCharsets.UTF_8).size(),
+                            1);
+        Assert.assertFalse(Files.exists(logsDirectory.resolve("access.log.3")));
+    }
+
+    @Test
+    public void testLogAfterClose() {
+        AccessLogWriter accessLogWriter = new AccessLogWriter(logsDirectory.resolve("access.log"), 1024 * 1024, 0, 1);
+        accessLogWriter.close();
+        accessLogWriter.log("foo", createRequest("GET", "/foo/"), new HttpResponse(200, "hello", "text/plain"), 0);
+        Assert.assertEquals(accessLogWriter.getDroppedEntries(), 1);
+    }
+
+    private static void waitUntilWritten(Path file, int entryCount) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            int writtenEntries = 0;
+            for (Path logFile : Arrays.asList(file, file.resolveSibling(file.getFileName() + ".1"),
+                                              file.resolveSibling(file.getFileName() + ".2"))) {
+                if (Files.exists(logFile)) {
+                    writtenEntries += Files.readAllLines(logFile, StandardCharsets.UTF_8).size();
+                }
+            }
+            if (writtenEntries >= entryCount) {
+                return;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        Assert.fail("Access log entries were not written to '" + file + "'.");
+    }
+
+    private static HttpRequest createRequest(String method, String uri) {
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.getMethod()).thenReturn(method);
+        when(request.getUri()).thenReturn(uri);
+        return request;
+    }
+}
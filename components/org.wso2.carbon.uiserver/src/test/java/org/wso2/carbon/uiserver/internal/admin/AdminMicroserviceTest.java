@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.admin;
+
+import com.google.gson.JsonObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.internal.deployment.AppCreator;
+import org.wso2.carbon.uiserver.internal.deployment.StartupTimeline;
+import org.wso2.carbon.uiserver.internal.deployment.listener.AppTransportBinder;
+import org.wso2.carbon.uiserver.internal.deployment.listener.CarbonUiServer;
+import org.wso2.carbon.uiserver.internal.http.RequestDispatcher;
+import org.wso2.carbon.uiserver.internal.impl.LazyApp;
+import org.wso2.carbon.uiserver.internal.io.reference.ArtifactAppReference;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for {@link AdminMicroservice} class.
+ *
+ * @since 1.0.9
+ */
+public class AdminMicroserviceTest {
+
+    @Test
+    public void testGetAppState() {
+        App app = AppCreator.createApp(new ArtifactAppReference(Paths.get("src/test/resources/apps/full-app/")),
+                                       "/test");
+        CarbonUiServer carbonUiServer = new CarbonUiServer();
+        carbonUiServer.appDeploymentEvent(app);
+        RequestDispatcher requestDispatcher = new RequestDispatcher(app);
+        requestDispatcher.warmCache(RequestDispatcher.CACHE_I18N_BUNDLES);
+        AppTransportBinder appTransportBinder = mock(AppTransportBinder.class);
+        when(appTransportBinder.getRequestDispatcher(app.getName())).thenReturn(Optional.of(requestDispatcher));
+        when(appTransportBinder.getAdmissionController(anyString())).thenReturn(Optional.empty());
+
+        AdminMicroservice adminMicroservice = new AdminMicroservice(carbonUiServer, appTransportBinder);
+        JsonObject appState = adminMicroservice.getAppState(app.getName()).orElse(null);
+        Assert.assertNotNull(appState);
+        Assert.assertEquals(appState.get("name").getAsString(), app.getName());
+        Assert.assertEquals(appState.get("contextPath").getAsString(), "/test");
+        Assert.assertEquals(appState.get("routes").getAsInt(), app.getPages().size());
+        Assert.assertEquals(appState.getAsJsonArray("overrideChain").size(), app.getPaths().size());
+        Assert.assertEquals(appState.getAsJsonArray("locales").get(0).getAsString(), "en");
+        Assert.assertEquals(appState.getAsJsonObject("caches").getAsJsonObject(RequestDispatcher.CACHE_I18N_BUNDLES)
+                                    .get("size").getAsLong(), 1L);
+        Assert.assertTrue(appState.get("activated").getAsBoolean());
+        Assert.assertEquals(appState.get("inFlightRequests").getAsInt(), 0);
+        Assert.assertFalse(appState.has("concurrencyLimit"));
+
+        JsonObject cache = AdminMicroservice.toJson(RequestDispatcher.CACHE_I18N_BUNDLES, requestDispatcher
+                .getCacheKeys(RequestDispatcher.CACHE_I18N_BUNDLES).orElse(null));
+        Assert.assertEquals(cache.get("size").getAsInt(), 1);
+        Assert.assertEquals(cache.getAsJsonArray("keys").get(0).getAsString(), "en");
+        Assert.assertFalse(requestDispatcher.getCacheKeys("foo").isPresent());
+
+        Assert.assertEquals(adminMicroservice.getAppStates().size(), 1);
+        Assert.assertFalse(adminMicroservice.getAppState("foo").isPresent());
+        Assert.assertFalse(adminMicroservice.getStartupTimeline().isPresent());
+    }
+
+    @Test
+    public void testGetLazyAppState() {
+        LazyApp app = new LazyApp("lazy-app", "/lazy", "src/test/resources/apps/full-app/", () -> {
+            throw new AssertionError("Reporting the state of a lazy app should not activate it.");
+        });
+        CarbonUiServer carbonUiServer = new CarbonUiServer();
+        carbonUiServer.appDeploymentEvent(app);
+        AppTransportBinder appTransportBinder = mock(AppTransportBinder.class);
+        when(appTransportBinder.getRequestDispatcher(anyString())).thenReturn(Optional.empty());
+        when(appTransportBinder.getAdmissionController(anyString())).thenReturn(Optional.empty());
+
+        JsonObject appState = new AdminMicroservice(carbonUiServer, appTransportBinder).getAppState(app.getName())
+                .orElse(null);
+        Assert.assertNotNull(appState);
+        Assert.assertFalse(appState.get("activated").getAsBoolean());
+        Assert.assertFalse(appState.has("routes"));
+        Assert.assertFalse(app.isActivated());
+    }
+
+    @Test
+    public void testGetStartupTimeline() {
+        StartupTimeline startupTimeline = new StartupTimeline();
+        startupTimeline.mark(StartupTimeline.EVENT_DEPLOYERS_CREATED);
+        AdminMicroservice adminMicroservice = new AdminMicroservice(new CarbonUiServer(),
+                                                                    mock(AppTransportBinder.class), startupTimeline);
+
+        JsonObject timeline = adminMicroservice.getStartupTimeline().orElse(null);
+        Assert.assertNotNull(timeline);
+        Assert.assertEquals(timeline.get("startTime").getAsLong(), startupTimeline.getStartTime());
+        Assert.assertTrue(timeline.getAsJsonObject("eventMillis").has(StartupTimeline.EVENT_DEPLOYERS_CREATED));
+    }
+}
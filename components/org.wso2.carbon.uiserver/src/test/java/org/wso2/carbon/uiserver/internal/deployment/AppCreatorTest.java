@@ -26,6 +26,8 @@ import org.wso2.carbon.uiserver.internal.io.reference.ArtifactAppReference;
 import org.wso2.carbon.uiserver.internal.reference.AppReference;
 
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
 
 /**
  * Test cases for {@link AppCreator} class.
@@ -48,4 +50,25 @@ public class AppCreatorTest {
         App app = AppCreator.createApp(appReference, "/test");
         Assert.assertNotNull(app);
     }
+
+    @Test
+    public void testCreateAppWithI18nResources() {
+        App app = AppCreator.createApp(new ArtifactAppReference(Paths.get("src/test/resources/apps/full-app/")),
+                                       "/test");
+        Assert.assertEquals(app.getI18nResource(Locale.ENGLISH).map(i18nResource -> i18nResource.getMessage(
+                "welcome", null, null)).orElse(null), "Hello!");
+    }
+
+    @Test
+    public void testCreateAppWithDeploymentReport() {
+        DeploymentReport deploymentReport = new DeploymentReport("full-app");
+        AppCreator.createApp(new ArtifactAppReference(Paths.get("src/test/resources/apps/full-app/")), "/test",
+                             deploymentReport);
+
+        Assert.assertTrue(deploymentReport.getPhaseNanos().keySet().containsAll(Arrays.asList(
+                DeploymentReport.PHASE_DIRECTORY_WALK, DeploymentReport.PHASE_FILE_READ,
+                DeploymentReport.PHASE_TEMPLATE_COMPILE, DeploymentReport.PHASE_I18N_PARSE)));
+        Assert.assertTrue(deploymentReport.getRetainedBytes().get(DeploymentReport.RETAINED_TEMPLATES) > 0);
+        Assert.assertTrue(deploymentReport.getRetainedBytes().get(DeploymentReport.RETAINED_MESSAGES) > 0);
+    }
 }
@@ -22,7 +22,13 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.wso2.carbon.uiserver.api.App;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Test cases for {@link AppRegistry} class.
@@ -87,6 +93,81 @@ public class AppRegistryTest {
         Assert.assertFalse(appRegistry.find(app -> app.getName().equals("foo")).isPresent());
     }
 
+    @Test
+    public void testFindByNameAndContextPath() {
+        AppRegistry appRegistry = new AppRegistry();
+        App a1 = createApp("a1", "p1");
+        appRegistry.add(a1);
+        App a2 = createApp("a1", "p2");
+        appRegistry.add(a2);
+        App a3 = createApp("a3", "p3");
+        appRegistry.add(a3);
+
+        Assert.assertEquals(appRegistry.findByName("a1"), new HashSet<>(Arrays.asList(a1, a2)));
+        Assert.assertEquals(appRegistry.findByContextPath("/a3"), Collections.singleton(a3));
+        Assert.assertTrue(appRegistry.findByName("foo").isEmpty());
+
+        appRegistry.remove(a1);
+        Assert.assertEquals(appRegistry.findByName("a1"), Collections.singleton(a2));
+        appRegistry.remove(a2);
+        Assert.assertTrue(appRegistry.findByName("a1").isEmpty());
+        Assert.assertTrue(appRegistry.findByContextPath("/a1").isEmpty());
+    }
+
+    @Test
+    public void testFindOverridable() {
+        AppRegistry appRegistry = new AppRegistry();
+        App base = createApp("a1", "p1");
+        appRegistry.add(base);
+        appRegistry.add(createApp("a2", "p2"));
+        App override = createApp("a1", "p3");
+
+        Assert.assertEquals(appRegistry.findOverridable(override).orElse(null), base);
+        Assert.assertFalse(appRegistry.findOverridable(createApp("a3", "p3")).isPresent());
+
+        App overriddenApp = base.override(override);
+        appRegistry.add(overriddenApp);
+        Assert.assertEquals(appRegistry.findOverriddenBy(override).orElse(null), overriddenApp);
+        Assert.assertFalse(appRegistry.findOverriddenBy(base).isPresent());
+    }
+
+    @Test
+    public void testReplace() {
+        AppRegistry appRegistry = new AppRegistry();
+        App a1 = createApp("a1", "p1");
+        appRegistry.add(a1);
+        App a2 = createApp("a1", "p2");
+
+        String k2 = appRegistry.replace(a1, a2);
+        Assert.assertEquals(appRegistry.get(k2).orElse(null), a2);
+        Assert.assertEquals(appRegistry.getAll().size(), 1);
+        Assert.assertEquals(appRegistry.findByName("a1"), Collections.singleton(a2));
+    }
+
+    @Test
+    public void testConcurrentModifications() throws Exception {
+        AppRegistry appRegistry = new AppRegistry();
+        List<CompletableFuture<Void>> futures = IntStream.range(0, 100)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    App app = createApp("a" + (i % 10), "p" + i);
+                    appRegistry.add(app);
+                    if ((i % 2) == 0) {
+                        appRegistry.remove(app);
+                    }
+                }))
+                .collect(Collectors.toList());
+        for (CompletableFuture<Void> future : futures) {
+            future.get();
+        }
+
+        Assert.assertEquals(appRegistry.getAll().size(), 50);
+        int indexedApps = 0;
+        for (int i = 0; i < 10; i++) {
+            indexedApps += appRegistry.findByName("a" + i).size();
+        }
+        Assert.assertEquals(indexedApps, 50);
+    }
+
     @Test
     public void testClear() {
         AppRegistry appRegistry = new AppRegistry();
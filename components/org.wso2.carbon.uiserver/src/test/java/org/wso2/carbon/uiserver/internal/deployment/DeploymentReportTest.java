@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.deployment;
+
+import com.google.common.collect.ImmutableMap;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link DeploymentReport} class.
+ *
+ * @since 1.0.9
+ */
+public class DeploymentReportTest {
+
+    @Test
+    public void testPhases() {
+        DeploymentReport deploymentReport = new DeploymentReport("foo");
+        Assert.assertEquals(deploymentReport.time(DeploymentReport.PHASE_FILE_READ, () -> "bar"), "bar");
+        deploymentReport.addPhase(DeploymentReport.PHASE_DIRECTORY_WALK, 1000);
+        deploymentReport.addPhase(DeploymentReport.PHASE_DIRECTORY_WALK, 2000);
+
+        Assert.assertEquals(deploymentReport.getPhaseNanos().keySet().iterator().next(),
+                            DeploymentReport.PHASE_FILE_READ);
+        Assert.assertEquals(deploymentReport.getPhaseNanos().get(DeploymentReport.PHASE_DIRECTORY_WALK),
+                            Long.valueOf(3000));
+        Assert.assertTrue(deploymentReport.getTotalNanos() >= 3000);
+    }
+
+    @Test
+    public void testMerge() {
+        DeploymentReport deploymentReport = new DeploymentReport("foo");
+        deploymentReport.addRetainedBytes(DeploymentReport.RETAINED_TEMPLATES, 100);
+        DeploymentReport other = new DeploymentReport("foo");
+        other.addRetainedBytes(DeploymentReport.RETAINED_TEMPLATES, 50);
+        other.addRetainedBytes(DeploymentReport.RETAINED_MESSAGES, 10);
+        other.addPhase(DeploymentReport.PHASE_OVERRIDE_MERGE, 5);
+
+        deploymentReport.merge(other);
+        Assert.assertEquals(deploymentReport.getRetainedBytes(),
+                            ImmutableMap.of(DeploymentReport.RETAINED_TEMPLATES, 150L,
+                                            DeploymentReport.RETAINED_MESSAGES, 10L));
+        Assert.assertEquals(deploymentReport.getTotalRetainedBytes(), 160);
+        Assert.assertEquals(deploymentReport.getTotalNanos(), 5);
+    }
+
+    @Test
+    public void testToLogString() {
+        DeploymentReport deploymentReport = new DeploymentReport("foo");
+        deploymentReport.addPhase(DeploymentReport.PHASE_TEMPLATE_COMPILE, 1_500_000);
+        deploymentReport.addRetainedBytes(DeploymentReport.RETAINED_TEMPLATES, 2048);
+
+        Assert.assertEquals(deploymentReport.toLogString(), "app=foo total-ms=1.500 template-compile-ms=1.500 " +
+                                                            "retained-bytes=2048 templates-bytes=2048");
+    }
+
+    @Test
+    public void testEstimateSize() {
+        Assert.assertEquals(DeploymentReport.estimateSize((String) null), 0);
+        Assert.assertEquals(DeploymentReport.estimateSize("abc"), 46);
+        Assert.assertEquals(DeploymentReport.estimateSize(ImmutableMap.of("a", "bc")), 32 + 42 + 44);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.deployment;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Test cases for {@link StartupTimeline} class.
+ *
+ * @since 1.0.9
+ */
+public class StartupTimelineTest {
+
+    @Test
+    public void testMark() {
+        StartupTimeline startupTimeline = new StartupTimeline();
+        Assert.assertTrue(startupTimeline.getStartTime() <= System.currentTimeMillis());
+        Assert.assertTrue(startupTimeline.getEventNanos().isEmpty());
+        Assert.assertEquals(startupTimeline.toLogString(), "");
+
+        startupTimeline.mark(StartupTimeline.EVENT_DEPLOYERS_CREATED);
+        startupTimeline.mark(StartupTimeline.EVENT_APP_DEPLOYED_PREFIX + "foo");
+        startupTimeline.mark(StartupTimeline.EVENT_DEPLOYERS_CREATED);
+
+        Map<String, Long> eventNanos = startupTimeline.getEventNanos();
+        Assert.assertEquals(new ArrayList<>(eventNanos.keySet()),
+                            Arrays.asList(StartupTimeline.EVENT_DEPLOYERS_CREATED,
+                                          StartupTimeline.EVENT_APP_DEPLOYED_PREFIX + "foo"));
+        Assert.assertTrue(eventNanos.get(StartupTimeline.EVENT_DEPLOYERS_CREATED) >=
+                          eventNanos.get(StartupTimeline.EVENT_APP_DEPLOYED_PREFIX + "foo"));
+        Assert.assertTrue(startupTimeline.toLogString().startsWith(StartupTimeline.EVENT_DEPLOYERS_CREATED + "="));
+        Assert.assertTrue(startupTimeline.toLogString().contains(", app-deployed.foo="));
+    }
+
+    @Test
+    public void testMarkBounded() {
+        StartupTimeline startupTimeline = new StartupTimeline();
+        for (int i = 0; i < 2000; i++) {
+            startupTimeline.mark(StartupTimeline.EVENT_APP_DEPLOYED_PREFIX + i);
+        }
+        Assert.assertEquals(startupTimeline.getEventNanos().size(), 1000);
+    }
+}
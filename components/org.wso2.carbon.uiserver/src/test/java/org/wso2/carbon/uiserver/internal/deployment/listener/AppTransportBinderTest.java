@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.uiserver.internal.deployment.listener;
 
+import com.google.common.collect.ImmutableSet;
 import org.osgi.framework.ServiceRegistration;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -28,15 +29,19 @@ import org.wso2.carbon.uiserver.internal.deployment.msf4j.MicroserviceRegistrati
 import org.wso2.carbon.uiserver.internal.deployment.msf4j.MicroservicesRegistrar;
 import org.wso2.carbon.uiserver.internal.exception.AppDeploymentEventListenerException;
 import org.wso2.carbon.uiserver.internal.http.HttpTransport;
+import org.wso2.carbon.uiserver.internal.http.RequestDispatcher;
+import org.wso2.carbon.uiserver.internal.http.RequestExecutor;
+import org.wso2.carbon.uiserver.internal.impl.LazyApp;
 
 import java.util.Collections;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -47,91 +52,94 @@ import static org.mockito.Mockito.when;
  */
 public class AppTransportBinderTest {
 
+    private static final HttpTransport HTTP_TRANSPORT = new HttpTransport("foo", "foo", "http", "localhost", 9090);
+    private static final HttpTransport HTTPS_TRANSPORT = new HttpTransport("bar", "bar", "https", "localhost", 9443);
+
     @Test
     public void testAppDeploymentEventNoConfigurationZeroRegistrations() {
         MicroservicesRegistrar microservicesRegistrar = mock(MicroservicesRegistrar.class);
-        when(microservicesRegistrar.register(any(), anyString())).thenReturn(Collections.emptySet());
+        when(microservicesRegistrar.getHttpTransports()).thenReturn(Collections.singleton(HTTP_TRANSPORT));
         ServerConfiguration serverConfiguration = new ServerConfiguration();
-        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, serverConfiguration);
-
-        App app = createApp();
-        final String appContextPath = app.getContextPath();
+        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, createRequestExecutor(),
+                                                                       serverConfiguration);
 
         Assert.assertThrows(AppDeploymentEventListenerException.class,
-                            () -> appTransportBinder.appDeploymentEvent(app));
-        verify(microservicesRegistrar).register(any(), eq(appContextPath));
+                            () -> appTransportBinder.appDeploymentEvent(createApp("foo", "/foo")));
+        verify(microservicesRegistrar, never()).register(any(), any(), any(HttpTransport.class));
     }
 
     @Test
     public void testAppDeploymentEventNoConfiguration() {
-        MicroservicesRegistrar microservicesRegistrar = mock(MicroservicesRegistrar.class);
-        when(microservicesRegistrar.register(any(), anyString()))
-                .thenReturn(Collections.singleton(createMicroserviceRegistration()));
+        MicroservicesRegistrar microservicesRegistrar = createMicroservicesRegistrar(createMicroserviceRegistration());
         ServerConfiguration serverConfiguration = new ServerConfiguration();
-        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, serverConfiguration);
+        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, createRequestExecutor(),
+                                                                       serverConfiguration);
 
-        App app = createApp();
-        final String appContextPath = app.getContextPath();
+        appTransportBinder.appDeploymentEvent(createApp("foo", "/foo"));
+        verify(microservicesRegistrar).register(any(), eq("/"), eq(HTTPS_TRANSPORT));
+    }
 
-        appTransportBinder.appDeploymentEvent(app);
-        verify(microservicesRegistrar).register(any(), eq(appContextPath));
+    @Test
+    public void testAppDeploymentEventSharesRegistration() {
+        MicroservicesRegistrar microservicesRegistrar = createMicroservicesRegistrar(createMicroserviceRegistration());
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, createRequestExecutor(),
+                                                                       serverConfiguration);
+
+        appTransportBinder.appDeploymentEvent(createApp("foo", "/foo"));
+        appTransportBinder.appDeploymentEvent(createApp("bar", "/bar"));
+        verify(microservicesRegistrar, times(1)).register(any(), eq("/"), eq(HTTPS_TRANSPORT));
     }
 
     @Test
-    public void testAppDeploymentEventInvalidTransportId() {
-        App app = createApp();
-        final String appName = app.getName();
-        final String appContextPath = app.getContextPath();
+    public void testAppDeploymentEventMultiSegmentContextPath() {
+        MicroservicesRegistrar microservicesRegistrar = createMicroservicesRegistrar(createMicroserviceRegistration());
+        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, createRequestExecutor(),
+                                                                       new ServerConfiguration());
 
-        final String transportId = "someTransportId";
-        ServerConfiguration.AppConfiguration appConfiguration = mock(ServerConfiguration.AppConfiguration.class);
-        when(appConfiguration.getTransportId()).thenReturn(Optional.of(transportId));
-        ServerConfiguration serverConfiguration = mock(ServerConfiguration.class);
-        when(serverConfiguration.getConfigurationForApp(eq(appName))).thenReturn(Optional.of(appConfiguration));
+        Assert.assertThrows(AppDeploymentEventListenerException.class,
+                            () -> appTransportBinder.appDeploymentEvent(createApp("foo", "/foo/bar")));
+        verify(microservicesRegistrar, never()).register(any(), any(), any(HttpTransport.class));
+    }
 
-        MicroservicesRegistrar microservicesRegistrar = mock(MicroservicesRegistrar.class);
-        when(microservicesRegistrar.register(any(), eq(appContextPath), eq(transportId)))
-                .thenThrow(IllegalArgumentException.class);
+    @Test
+    public void testAppDeploymentEventInvalidTransportId() {
+        App app = createApp("foo", "/foo");
+        ServerConfiguration serverConfiguration = createServerConfiguration(app.getName(), "someTransportId");
+        MicroservicesRegistrar microservicesRegistrar = createMicroservicesRegistrar(createMicroserviceRegistration());
 
-        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, serverConfiguration);
+        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, createRequestExecutor(),
+                                                                       serverConfiguration);
         Assert.assertThrows(AppDeploymentEventListenerException.class,
                             () -> appTransportBinder.appDeploymentEvent(app));
+        verify(microservicesRegistrar, never()).register(any(), any(), any(HttpTransport.class));
     }
 
     @Test
     public void testAppDeploymentEventValidTransportId() {
-        App app = createApp();
-        final String appName = app.getName();
-        final String appContextPath = app.getContextPath();
-
-        final String transportId = "bar";
-        ServerConfiguration.AppConfiguration appConfiguration = mock(ServerConfiguration.AppConfiguration.class);
-        when(appConfiguration.getTransportId()).thenReturn(Optional.of(transportId));
-        ServerConfiguration serverConfiguration = mock(ServerConfiguration.class);
-        when(serverConfiguration.getConfigurationForApp(eq(appName))).thenReturn(Optional.of(appConfiguration));
+        App app = createApp("foo", "/foo");
+        final String transportId = "foo";
+        ServerConfiguration serverConfiguration = createServerConfiguration(app.getName(), transportId);
+        MicroservicesRegistrar microservicesRegistrar = createMicroservicesRegistrar(createMicroserviceRegistration());
 
-        MicroserviceRegistration microserviceRegistration = createMicroserviceRegistration();
-        MicroservicesRegistrar microservicesRegistrar = mock(MicroservicesRegistrar.class);
-        when(microservicesRegistrar.register(any(), eq(appContextPath), eq(transportId)))
-                .thenReturn(microserviceRegistration);
-
-        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, serverConfiguration);
+        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, createRequestExecutor(),
+                                                                       serverConfiguration);
         try {
             appTransportBinder.appDeploymentEvent(app);
         } catch (Exception e) {
             Assert.fail("Cannot register web app Microservice for transport '" + transportId + "'.", e);
         }
+        verify(microservicesRegistrar).register(any(), eq("/"), eq(HTTP_TRANSPORT));
     }
 
     @Test
     public void testAppUndeploymentEventWithInvalidAppName() {
-        MicroservicesRegistrar microservicesRegistrar = mock(MicroservicesRegistrar.class);
-        when(microservicesRegistrar.register(any(), anyString()))
-                .thenReturn(Collections.singleton(createMicroserviceRegistration()));
+        MicroservicesRegistrar microservicesRegistrar = createMicroservicesRegistrar(createMicroserviceRegistration());
         ServerConfiguration serverConfiguration = new ServerConfiguration();
-        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, serverConfiguration);
+        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, createRequestExecutor(),
+                                                                       serverConfiguration);
 
-        appTransportBinder.appDeploymentEvent(createApp());
+        appTransportBinder.appDeploymentEvent(createApp("foo", "/foo"));
         Assert.assertThrows(AppDeploymentEventListenerException.class,
                             () -> appTransportBinder.appUndeploymentEvent("foobar"));
     }
@@ -139,43 +147,119 @@ public class AppTransportBinderTest {
     @Test
     public void testAppUndeploymentEvent() {
         MicroserviceRegistration microserviceRegistration = spy(createMicroserviceRegistration());
-        MicroservicesRegistrar microservicesRegistrar = mock(MicroservicesRegistrar.class);
-        when(microservicesRegistrar.register(any(), anyString()))
-                .thenReturn(Collections.singleton(microserviceRegistration));
+        MicroservicesRegistrar microservicesRegistrar = createMicroservicesRegistrar(microserviceRegistration);
         ServerConfiguration serverConfiguration = new ServerConfiguration();
-        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, serverConfiguration);
+        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, createRequestExecutor(),
+                                                                       serverConfiguration);
 
-        App app = createApp();
+        App app = createApp("foo", "/foo");
 
         appTransportBinder.appDeploymentEvent(app);
+        Assert.assertTrue(appTransportBinder.getRequestDispatcher(app.getName()).isPresent());
         appTransportBinder.appUndeploymentEvent(app.getName());
-        verify(microserviceRegistration).unregister();
+        Assert.assertFalse(appTransportBinder.getRequestDispatcher(app.getName()).isPresent());
+        verify(microserviceRegistration, never()).unregister();
+        Assert.assertThrows(AppDeploymentEventListenerException.class,
+                            () -> appTransportBinder.appUndeploymentEvent(app.getName()));
+    }
+
+    @Test
+    public void testAppReloadEvent() {
+        MicroserviceRegistration microserviceRegistration = spy(createMicroserviceRegistration());
+        MicroservicesRegistrar microservicesRegistrar = createMicroservicesRegistrar(microserviceRegistration);
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, createRequestExecutor(),
+                                                                       serverConfiguration);
+
+        appTransportBinder.appDeploymentEvent(createApp("foo", "/foo"));
+        appTransportBinder.appReloadEvent(createApp("foo", "/foo"));
+        verify(microservicesRegistrar, times(1)).register(any(), eq("/"), eq(HTTPS_TRANSPORT));
+        verify(microserviceRegistration, never()).unregister();
+
+        appTransportBinder.appUndeploymentEvent("foo");
+        appTransportBinder.appReloadEvent(createApp("foo", "/foo")); // reload of an unbound app binds it
+        appTransportBinder.appUndeploymentEvent("foo");
+    }
+
+    @Test
+    public void testAppStaticResourcesChangeEvent() {
+        MicroservicesRegistrar microservicesRegistrar = createMicroservicesRegistrar(createMicroserviceRegistration());
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, createRequestExecutor(),
+                                                                       serverConfiguration);
+
+        App app = createApp("foo", "/foo");
+        appTransportBinder.appDeploymentEvent(app);
+        RequestDispatcher requestDispatcher = appTransportBinder.getRequestDispatcher("foo").orElse(null);
+        appTransportBinder.appStaticResourcesChangeEvent(app);
+        Assert.assertSame(appTransportBinder.getRequestDispatcher("foo").orElse(null), requestDispatcher,
+                          "Request dispatcher should be kept when only static resources are changed.");
+        verify(microservicesRegistrar, times(1)).register(any(), eq("/"), eq(HTTPS_TRANSPORT));
+
+        appTransportBinder.appStaticResourcesChangeEvent(createApp("bar", "/bar")); // not bound, hence ignored
+    }
+
+    @Test
+    public void testAppActivationEvent() {
+        MicroservicesRegistrar microservicesRegistrar = createMicroservicesRegistrar(createMicroserviceRegistration());
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, createRequestExecutor(),
+                                                                       serverConfiguration);
+
+        LazyApp lazyApp = new LazyApp("foo", "/foo", "foo", () -> createApp("foo", "/foo"));
+        appTransportBinder.appDeploymentEvent(lazyApp);
+        Assert.assertFalse(lazyApp.isActivated());
+        Assert.assertFalse(appTransportBinder.getRequestDispatcher("foo").isPresent());
+
+        appTransportBinder.appActivationEvent(lazyApp);
+        Assert.assertTrue(lazyApp.isActivated());
+        Assert.assertTrue(appTransportBinder.getRequestDispatcher("foo").isPresent());
+        verify(microservicesRegistrar, times(1)).register(any(), eq("/"), eq(HTTPS_TRANSPORT));
     }
 
     @Test
     public void testClose() {
         MicroserviceRegistration microserviceRegistration = spy(createMicroserviceRegistration());
-        MicroservicesRegistrar microservicesRegistrar = mock(MicroservicesRegistrar.class);
-        when(microservicesRegistrar.register(any(), anyString()))
-                .thenReturn(Collections.singleton(microserviceRegistration));
+        MicroservicesRegistrar microservicesRegistrar = createMicroservicesRegistrar(microserviceRegistration);
         ServerConfiguration serverConfiguration = new ServerConfiguration();
-        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, serverConfiguration);
+        AppTransportBinder appTransportBinder = new AppTransportBinder(microservicesRegistrar, createRequestExecutor(),
+                                                                       serverConfiguration);
 
-        appTransportBinder.appDeploymentEvent(createApp());
+        appTransportBinder.appDeploymentEvent(createApp("foo", "/foo"));
         appTransportBinder.close();
         verify(microserviceRegistration).unregister();
     }
 
+    private static MicroservicesRegistrar createMicroservicesRegistrar(
+            MicroserviceRegistration microserviceRegistration) {
+        MicroservicesRegistrar microservicesRegistrar = mock(MicroservicesRegistrar.class);
+        when(microservicesRegistrar.getHttpTransports()).thenReturn(ImmutableSet.of(HTTP_TRANSPORT, HTTPS_TRANSPORT));
+        when(microservicesRegistrar.register(any(), eq("/"), any(HttpTransport.class)))
+                .thenReturn(microserviceRegistration);
+        return microservicesRegistrar;
+    }
+
+    private static ServerConfiguration createServerConfiguration(String appName, String transportId) {
+        ServerConfiguration.AppConfiguration appConfiguration = mock(ServerConfiguration.AppConfiguration.class);
+        when(appConfiguration.getTransportId()).thenReturn(Optional.of(transportId));
+        ServerConfiguration serverConfiguration = mock(ServerConfiguration.class);
+        when(serverConfiguration.getConfigurationForApp(eq(appName))).thenReturn(Optional.of(appConfiguration));
+        return serverConfiguration;
+    }
+
     @SuppressWarnings("unchecked")
     private static MicroserviceRegistration createMicroserviceRegistration() {
-        HttpTransport httpTransport = new HttpTransport("foo", "bar", "http", "localhost", 9090);
-        return new MicroserviceRegistration(httpTransport, mock(ServiceRegistration.class));
+        return new MicroserviceRegistration(HTTPS_TRANSPORT, mock(ServiceRegistration.class));
+    }
+
+    private static RequestExecutor createRequestExecutor() {
+        return new RequestExecutor();
     }
 
-    private static App createApp() {
+    private static App createApp(String name, String contextPath) {
         App app = mock(App.class);
-        when(app.getName()).thenReturn("foo");
-        when(app.getContextPath()).thenReturn("/foo");
+        when(app.getName()).thenReturn(name);
+        when(app.getContextPath()).thenReturn(contextPath);
         when(app.getConfiguration()).thenReturn(Configuration.DEFAULT_CONFIGURATION);
         return app;
     }
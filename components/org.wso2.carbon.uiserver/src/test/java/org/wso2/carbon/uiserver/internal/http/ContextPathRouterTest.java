@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.http;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+
+import java.util.function.Function;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for {@link ContextPathRouter} class.
+ *
+ * @since 1.0.9
+ */
+public class ContextPathRouterTest {
+
+    @Test
+    public void testFindListener() {
+        ContextPathRouter router = new ContextPathRouter();
+        Function<HttpRequest, HttpResponse> foo = createListener("foo");
+        Function<HttpRequest, HttpResponse> bar = createListener("bar");
+        router.addRoute("/foo", foo);
+        router.addRoute("/bar", bar);
+
+        Assert.assertSame(router.findListener("/foo"), foo);
+        Assert.assertSame(router.findListener("/foo/"), foo);
+        Assert.assertSame(router.findListener("/foo/index"), foo);
+        Assert.assertSame(router.findListener("/bar/public/app/styles.css"), bar);
+        Assert.assertNull(router.findListener("/foobar"));
+        Assert.assertNull(router.findListener("/"));
+    }
+
+    @Test
+    public void testMultiSegmentRoute() {
+        ContextPathRouter router = new ContextPathRouter();
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> router.addRoute("/foo/bar", createListener("")));
+        Assert.assertThrows(IllegalArgumentException.class, () -> router.addRoute("foo", createListener("")));
+        Assert.assertFalse(ContextPathRouter.isRoutable("/foo/"));
+        Assert.assertTrue(ContextPathRouter.isRoutable("/foo"));
+        Assert.assertTrue(ContextPathRouter.isRoutable("/"));
+    }
+
+    @Test
+    public void testRootRoute() {
+        ContextPathRouter router = new ContextPathRouter();
+        Function<HttpRequest, HttpResponse> root = createListener("root");
+        Function<HttpRequest, HttpResponse> foo = createListener("foo");
+        router.addRoute("/", root);
+        router.addRoute("/foo", foo);
+
+        Assert.assertSame(router.findListener("/"), root);
+        Assert.assertSame(router.findListener("/bar"), root);
+        Assert.assertSame(router.findListener("/foo/bar"), foo);
+    }
+
+    @Test
+    public void testAddRemoveRoute() {
+        ContextPathRouter router = new ContextPathRouter();
+        Function<HttpRequest, HttpResponse> foo1 = createListener("foo1");
+        Function<HttpRequest, HttpResponse> foo2 = createListener("foo2");
+
+        Assert.assertFalse(router.addRoute("/foo", foo1));
+        Assert.assertTrue(router.addRoute("/foo", foo2));
+        Assert.assertSame(router.findListener("/foo"), foo2);
+
+        Assert.assertFalse(router.removeRoute("/foo", foo1), "Route is not for the listener anymore.");
+        Assert.assertSame(router.findListener("/foo"), foo2);
+        Assert.assertTrue(router.removeRoute("/foo", foo2));
+        Assert.assertNull(router.findListener("/foo"));
+        Assert.assertFalse(router.removeRoute("/bar", foo2));
+    }
+
+    @Test
+    public void testServe() {
+        ContextPathRouter router = new ContextPathRouter();
+        router.addRoute("/foo", createListener("foo"));
+
+        Assert.assertEquals(router.serve(createRequest("/foo/index")).getContent(), "foo");
+        Assert.assertEquals(router.serve(createRequest("/bar/index")).getStatus(), HttpResponse.STATUS_NOT_FOUND);
+    }
+
+    private static Function<HttpRequest, HttpResponse> createListener(String content) {
+        return request -> ResponseBuilder.ok(content).build();
+    }
+
+    private static HttpRequest createRequest(String uri) {
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.getUri()).thenReturn(uri);
+        return request;
+    }
+}
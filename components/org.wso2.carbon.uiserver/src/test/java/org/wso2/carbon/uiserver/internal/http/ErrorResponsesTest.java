@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.http;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.api.Configuration;
+import org.wso2.carbon.uiserver.api.Page;
+import org.wso2.carbon.uiserver.api.UriPatten;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+import org.wso2.carbon.uiserver.internal.impl.HtmlPage;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.TreeSet;
+
+/**
+ * Test cases for {@link ErrorResponses} class.
+ *
+ * @since 1.0.9
+ */
+public class ErrorResponsesTest {
+
+    @Test
+    public void testDefaultErrorResponses() {
+        ErrorResponses errorResponses = ErrorResponses.create(null);
+
+        Assert.assertSame(errorResponses, ErrorResponses.DEFAULT);
+        Assert.assertEquals(errorResponses.badRequest().getStatus(), HttpResponse.STATUS_BAD_REQUEST);
+        Assert.assertEquals(errorResponses.notFound().getStatus(), HttpResponse.STATUS_NOT_FOUND);
+        Assert.assertEquals(errorResponses.serverError().getStatus(), HttpResponse.STATUS_INTERNAL_SERVER_ERROR);
+        Assert.assertSame(errorResponses.notFound(), errorResponses.notFound(),
+                          "Error responses should be built only once.");
+    }
+
+    @Test
+    public void testCustomErrorResponses() {
+        App app = createApp(new HtmlPage(new UriPatten("/errors/404"), "<p>not found</p>"),
+                            new HtmlPage(new UriPatten("/{slug}/{id}"), "<p>some page</p>"));
+        ErrorResponses errorResponses = ErrorResponses.create(app);
+
+        Assert.assertEquals(errorResponses.notFound().getStatus(), HttpResponse.STATUS_NOT_FOUND);
+        Assert.assertEquals(errorResponses.notFound().getContent(), "<p>not found</p>");
+        Assert.assertEquals(errorResponses.notFound().getContentType(), HttpResponse.CONTENT_TYPE_TEXT_HTML);
+        // '/errors/500' matches to page '/{slug}/{id}' which is not an error page.
+        Assert.assertSame(errorResponses.serverError(), ErrorResponses.DEFAULT.serverError());
+        Assert.assertSame(errorResponses.badRequest(), ErrorResponses.DEFAULT.badRequest());
+    }
+
+    private static App createApp(Page... pages) {
+        return new App("test", "/test", new TreeSet<>(Arrays.asList(pages)), Collections.emptySet(),
+                       Collections.emptySet(), Collections.emptySet(), Configuration.DEFAULT_CONFIGURATION, "/tmp");
+    }
+}
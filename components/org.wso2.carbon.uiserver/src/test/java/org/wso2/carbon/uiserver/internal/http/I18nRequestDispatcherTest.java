@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.http;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.io.IOUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.api.Configuration;
+import org.wso2.carbon.uiserver.api.I18nResource;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.zip.GZIPInputStream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for {@link I18nRequestDispatcher} class.
+ *
+ * @since 1.0.9
+ */
+public class I18nRequestDispatcherTest {
+
+    @Test
+    public void testServe() throws IOException {
+        I18nRequestDispatcher dispatcher = createDispatcher();
+
+        HttpResponse response = dispatcher.serve(createRequest("/i18n/fr-CA.json", null, Collections.emptyMap()));
+        Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_OK);
+        Assert.assertEquals(response.getContentType(), HttpResponse.CONTENT_TYPE_APPLICATION_JSON);
+        Assert.assertEquals(readContent(response, false), "{\"bye\":\"Au revoir!\",\"welcome\":\"Allo!\"}");
+        Assert.assertNotNull(response.getHeaders().get(HttpResponse.HEADER_ETAG));
+        Assert.assertNotNull(response.getHeaders().get(HttpResponse.HEADER_CACHE_CONTROL));
+        Assert.assertNull(response.getHeaders().get(HttpResponse.HEADER_CONTENT_ENCODING));
+    }
+
+    @Test
+    public void testServeNotFound() {
+        I18nRequestDispatcher dispatcher = createDispatcher();
+
+        Assert.assertEquals(dispatcher.serve(createRequest("/i18n/en.json", null, Collections.emptyMap())).getStatus(),
+                            HttpResponse.STATUS_NOT_FOUND);
+        Assert.assertEquals(dispatcher.serve(createRequest("/i18n/.json", null, Collections.emptyMap())).getStatus(),
+                            HttpResponse.STATUS_NOT_FOUND);
+        Assert.assertEquals(dispatcher.serve(createRequest("/i18n/fr", null, Collections.emptyMap())).getStatus(),
+                            HttpResponse.STATUS_NOT_FOUND);
+        Assert.assertEquals(dispatcher.serve(createRequest("/i18n/a/fr.json", null, Collections.emptyMap()))
+                                    .getStatus(), HttpResponse.STATUS_NOT_FOUND);
+    }
+
+    @Test
+    public void testHasBundle() {
+        I18nRequestDispatcher dispatcher = createDispatcher();
+
+        Assert.assertTrue(dispatcher.hasBundle(createRequest("/i18n/fr.json", null, Collections.emptyMap())));
+        Assert.assertFalse(dispatcher.hasBundle(createRequest("/i18n/en.json", null, Collections.emptyMap())));
+        Assert.assertFalse(dispatcher.hasBundle(createRequest("/i18n/guide", null, Collections.emptyMap())));
+    }
+
+    @Test
+    public void testGetMatchingLocale() {
+        I18nRequestDispatcher dispatcher = createDispatcher();
+
+        Assert.assertEquals(dispatcher.getMatchingLocale("fr-CA, en;q=0.8"), Optional.of(Locale.CANADA_FRENCH));
+        Assert.assertEquals(dispatcher.getMatchingLocale("fr-BE"), Optional.of(Locale.FRENCH));
+        Assert.assertEquals(dispatcher.getMatchingLocale("si"), Optional.empty());
+    }
+
+    @Test
+    public void testServeWithPrefix() throws IOException {
+        I18nRequestDispatcher dispatcher = createDispatcher();
+
+        HttpResponse response = dispatcher.serve(createRequest("/i18n/fr.json", "wel", Collections.emptyMap()));
+        Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_OK);
+        Assert.assertEquals(readContent(response, false), "{\"welcome\":\"Bonjour!\"}");
+
+        response = dispatcher.serve(createRequest("/i18n/fr.json", "foo", Collections.emptyMap()));
+        Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_OK);
+        Assert.assertEquals(readContent(response, false), "{}");
+        // Prefixed bundles are filtered from the bundle of the locale, hence not cached.
+        Assert.assertEquals(dispatcher.getCacheSize(), 1);
+        dispatcher.serve(createRequest("/i18n/de.json", null, Collections.emptyMap()));
+        Assert.assertEquals(dispatcher.getCacheSize(), 1);
+    }
+
+    @Test
+    public void testServeNotModified() {
+        I18nRequestDispatcher dispatcher = createDispatcher();
+        String eTag = dispatcher.serve(createRequest("/i18n/fr.json", null, Collections.emptyMap()))
+                .getHeaders().get(HttpResponse.HEADER_ETAG);
+
+        HttpResponse response = dispatcher.serve(createRequest("/i18n/fr.json", null,
+                                                               ImmutableMap.of("If-None-Match", eTag)));
+        Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_NOT_MODIFIED);
+        Assert.assertNull(response.getContent());
+        Assert.assertEquals(response.getHeaders().get(HttpResponse.HEADER_ETAG), eTag);
+        Assert.assertEquals(response.getHeaders().get(HttpResponse.HEADER_VARY), "Accept-Encoding");
+        Assert.assertNotNull(response.getHeaders().get(HttpResponse.HEADER_CACHE_CONTROL));
+        response = dispatcher.serve(createRequest("/i18n/fr.json", null,
+                                                  ImmutableMap.of("If-None-Match", "\"foo\", W/" + eTag)));
+        Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_NOT_MODIFIED);
+        response = dispatcher.serve(createRequest("/i18n/fr.json", null,
+                                                  ImmutableMap.of("If-None-Match", "\"foo\"")));
+        Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_OK);
+    }
+
+    @Test
+    public void testServeGzipped() throws IOException {
+        Map<String, String> messages = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            messages.put("message" + i, "Message number " + i);
+        }
+        I18nRequestDispatcher dispatcher = new I18nRequestDispatcher(
+                createApp(new I18nResource(Locale.ENGLISH, messages)), ErrorResponses.DEFAULT);
+
+        HttpResponse response = dispatcher.serve(createRequest("/i18n/en.json", null,
+                                                               ImmutableMap.of("Accept-Encoding", "gzip, br")));
+        Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_OK);
+        Assert.assertEquals(response.getHeaders().get(HttpResponse.HEADER_CONTENT_ENCODING), "gzip");
+        String content = readContent(response, true);
+        Assert.assertTrue(content.contains("\"message42\":\"Message number 42\""));
+        String gzippedETag = response.getHeaders().get(HttpResponse.HEADER_ETAG);
+
+        response = dispatcher.serve(createRequest("/i18n/en.json", null,
+                                                  ImmutableMap.of("Accept-Encoding", "gzip;q=0")));
+        Assert.assertNull(response.getHeaders().get(HttpResponse.HEADER_CONTENT_ENCODING));
+        Assert.assertEquals(readContent(response, false), content);
+        String eTag = response.getHeaders().get(HttpResponse.HEADER_ETAG);
+        Assert.assertNotEquals(gzippedETag, eTag);
+
+        // The ETag of the gzip variant does not validate the identity variant.
+        response = dispatcher.serve(createRequest("/i18n/en.json", null,
+                                                  ImmutableMap.of("If-None-Match", gzippedETag)));
+        Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_OK);
+        response = dispatcher.serve(createRequest("/i18n/en.json", null,
+                                                  ImmutableMap.of("Accept-Encoding", "gzip",
+                                                                  "If-None-Match", gzippedETag)));
+        Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_NOT_MODIFIED);
+    }
+
+    private static I18nRequestDispatcher createDispatcher() {
+        App app = createApp(new I18nResource(Locale.FRENCH, ImmutableMap.of("welcome", "Bonjour!",
+                                                                            "bye", "Au revoir!")),
+                            new I18nResource(Locale.CANADA_FRENCH, ImmutableMap.of("welcome", "Allo!")));
+        return new I18nRequestDispatcher(app, ErrorResponses.DEFAULT);
+    }
+
+    private static App createApp(I18nResource... i18nResources) {
+        return new App("test", "/test", new TreeSet<>(), Collections.emptySet(), Collections.emptySet(),
+                       new HashSet<>(Arrays.asList(i18nResources)),
+                       Configuration.DEFAULT_CONFIGURATION, "/tmp");
+    }
+
+    private static HttpRequest createRequest(String uriWithoutContextPath, String prefix,
+                                             Map<String, String> headers) {
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.getUriWithoutContextPath()).thenReturn(uriWithoutContextPath);
+        Map<String, List<String>> queryParams = (prefix == null) ? Collections.emptyMap() :
+                Collections.singletonMap("prefix", Collections.singletonList(prefix));
+        when(request.getQueryParams()).thenReturn(queryParams);
+        when(request.getHeaders()).thenReturn(headers);
+        return request;
+    }
+
+    private static String readContent(HttpResponse response, boolean gzipped) throws IOException {
+        InputStream content = (InputStream) response.getContent();
+        return IOUtils.toString(gzipped ? new GZIPInputStream(content) : content, StandardCharsets.UTF_8);
+    }
+}
@@ -22,12 +22,15 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.wso2.carbon.uiserver.api.App;
 import org.wso2.carbon.uiserver.api.Configuration;
+import org.wso2.carbon.uiserver.api.Page;
 import org.wso2.carbon.uiserver.api.exception.PageNotFoundException;
 import org.wso2.carbon.uiserver.api.exception.PageRedirectException;
 import org.wso2.carbon.uiserver.api.exception.RenderingException;
 import org.wso2.carbon.uiserver.api.http.HttpRequest;
 import org.wso2.carbon.uiserver.api.http.HttpResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -41,9 +44,9 @@ public class PageRequestDispatcherTest {
 
     @Test
     public void testServe() {
-        App app = mock(App.class);
-        when(app.renderPage(any())).thenReturn("<p>some html</p>");
-        when(app.getConfiguration()).thenReturn(Configuration.DEFAULT_CONFIGURATION);
+        Page page = mock(Page.class);
+        when(page.render(any(), any())).thenReturn("<p>some html</p>");
+        App app = createApp(page);
 
         HttpResponse response = new PageRequestDispatcher(app).serve(mock(HttpRequest.class));
         Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_OK);
@@ -53,8 +56,9 @@ public class PageRequestDispatcherTest {
 
     @Test
     public void testServeWithRenderingException() {
-        App app = mock(App.class);
-        when(app.renderPage(any())).thenThrow(RenderingException.class);
+        Page page = mock(Page.class);
+        when(page.render(any(), any())).thenThrow(RenderingException.class);
+        App app = createApp(page);
 
         HttpResponse response = new PageRequestDispatcher(app).serve(mock(HttpRequest.class));
         Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_INTERNAL_SERVER_ERROR);
@@ -63,7 +67,7 @@ public class PageRequestDispatcherTest {
     @Test
     public void testServeWithPageNotFoundException() {
         App app = mock(App.class);
-        when(app.renderPage(any())).thenThrow(PageNotFoundException.class);
+        when(app.resolvePage(any())).thenThrow(PageNotFoundException.class);
 
         HttpResponse response = new PageRequestDispatcher(app).serve(mock(HttpRequest.class));
         Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_NOT_FOUND);
@@ -72,10 +76,52 @@ public class PageRequestDispatcherTest {
     @Test
     public void testServeWithPageRedirectException() {
         App app = mock(App.class);
-        when(app.renderPage(any())).thenThrow(new PageRedirectException("redirect/url"));
+        when(app.resolvePage(any())).thenThrow(new PageRedirectException("redirect/url"));
 
         HttpResponse response = new PageRequestDispatcher(app).serve(mock(HttpRequest.class));
         Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_FOUND);
         Assert.assertEquals(response.getHeaders().get(HttpResponse.HEADER_LOCATION), "redirect/url");
     }
+
+    @Test
+    public void testServeAsync() throws Exception {
+        Page page = mock(Page.class);
+        when(page.renderAsync(any(), any())).thenReturn(CompletableFuture.completedFuture("<p>some html</p>"));
+        App app = createApp(page);
+
+        HttpResponse response = new PageRequestDispatcher(app).serveAsync(mock(HttpRequest.class))
+                .toCompletableFuture().get();
+        Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_OK);
+        Assert.assertEquals(response.getContent(), "<p>some html</p>");
+    }
+
+    @Test
+    public void testServeAsyncWithPageNotFoundException() throws Exception {
+        App app = mock(App.class);
+        when(app.resolvePage(any())).thenThrow(new PageNotFoundException("not found"));
+
+        HttpResponse response = new PageRequestDispatcher(app).serveAsync(mock(HttpRequest.class))
+                .toCompletableFuture().get();
+        Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_NOT_FOUND);
+    }
+
+    @Test
+    public void testServeAsyncWithRenderingException() throws Exception {
+        Page page = mock(Page.class);
+        CompletableFuture<String> html = new CompletableFuture<>();
+        html.completeExceptionally(new RenderingException("cannot render"));
+        when(page.renderAsync(any(), any())).thenReturn(html);
+        App app = createApp(page);
+
+        HttpResponse response = new PageRequestDispatcher(app).serveAsync(mock(HttpRequest.class))
+                .toCompletableFuture().get();
+        Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_INTERNAL_SERVER_ERROR);
+    }
+
+    private static App createApp(Page page) {
+        App app = mock(App.class);
+        when(app.resolvePage(any())).thenReturn(page);
+        when(app.getConfiguration()).thenReturn(Configuration.DEFAULT_CONFIGURATION);
+        return app;
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.http;
+
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+import org.wso2.carbon.uiserver.internal.deployment.AppCreator;
+import org.wso2.carbon.uiserver.internal.io.reference.ArtifactAppReference;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.function.Function;
+
+/**
+ * Allocation budgets of the request path, per kind of request served by the {@link RequestDispatcher}.
+ * <p>
+ * Bytes allocated by threads are read from the {@link com.sun.management.ThreadMXBean} while the same request is served
+ * repeatedly, after a warm-up so that class loading and caches are excluded. Both {@link
+ * RequestDispatcher#serve(HttpRequest)} and {@link RequestDispatcher#serveAsync(HttpRequest)}, which reads static
+ * resource files with an asynchronous file channel, are measured. A regression in the bytes allocated per request
+ * beyond its budget fails the build. Budgets can be scaled with the {@code allocation.budget.scale} system property,
+ * e.g. when running on a JVM with a different object layout.
+ *
+ * @since 1.0.9
+ */
+public class RequestAllocationTest {
+
+    private static final String CONTEXT_PATH = "/test";
+    private static final int WARM_UP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 1_000;
+    private static final double BUDGET_SCALE = Double.parseDouble(System.getProperty("allocation.budget.scale",
+                                                                                     "1.0"));
+
+    private RequestDispatcher requestDispatcher;
+    private com.sun.management.ThreadMXBean threadMxBean;
+    private volatile HttpResponse lastResponse;
+
+    @BeforeClass
+    public void setUp() {
+        java.lang.management.ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMxBean instanceof com.sun.management.ThreadMXBean)) {
+            throw new SkipException("Measuring allocated bytes of a thread is not supported by this JVM.");
+        }
+        this.threadMxBean = (com.sun.management.ThreadMXBean) threadMxBean;
+        if (!this.threadMxBean.isThreadAllocatedMemorySupported()) {
+            throw new SkipException("Measuring allocated bytes of a thread is not supported by this JVM.");
+        }
+        this.threadMxBean.setThreadAllocatedMemoryEnabled(true);
+
+        App app = AppCreator.createApp(new ArtifactAppReference(Paths.get("src/test/resources/apps/full-app/")),
+                                       CONTEXT_PATH);
+        requestDispatcher = new RequestDispatcher(app);
+    }
+
+    @DataProvider
+    public Object[][] requests() {
+        HttpResponse staticResponse = requestDispatcher.serve(
+                new InMemoryHttpRequest("/test/public/app/css/styles.css"));
+        String lastModified = staticResponse.getHeaders().get(HttpResponse.HEADER_LAST_MODIFIED);
+
+        // Kind of request, request, expected status, budget when served synchronously, budget when served
+        // asynchronously. Only static resource files are served differently when served asynchronously: reading the
+        // (empty) test file via an asynchronous file channel and copying the response adds about 1.1 KB on JDK 17.
+        return new Object[][]{
+                {"page", new InMemoryHttpRequest("/test/"), HttpResponse.STATUS_OK, 64 * 1024L, 64 * 1024L},
+                {"static resource", new InMemoryHttpRequest("/test/public/app/css/styles.css"),
+                        HttpResponse.STATUS_OK, 16 * 1024L, 18 * 1024L},
+                {"conditional static resource", new InMemoryHttpRequest(
+                        "/test/public/app/css/styles.css", Collections.singletonMap("If-Modified-Since", lastModified)),
+                        HttpResponse.STATUS_NOT_MODIFIED, 16 * 1024L, 16 * 1024L},
+                {"i18n bundle", new InMemoryHttpRequest("/test/i18n/en.json"), HttpResponse.STATUS_OK, 16 * 1024L,
+                        16 * 1024L},
+                {"favicon", new InMemoryHttpRequest("/favicon.ico"), HttpResponse.STATUS_OK, 32 * 1024L, 32 * 1024L},
+                {"page not found", new InMemoryHttpRequest("/test/missing"), HttpResponse.STATUS_NOT_FOUND,
+                        64 * 1024L, 64 * 1024L},
+                {"bad request", new InMemoryHttpRequest("/test/../missing"), HttpResponse.STATUS_BAD_REQUEST,
+                        4 * 1024L, 4 * 1024L}
+        };
+    }
+
+    @Test(dataProvider = "requests")
+    public void testAllocationPerRequest(String requestKind, HttpRequest request, int expectedStatus,
+                                         long budgetBytes, long asyncBudgetBytes) throws IOException {
+        assertAllocation(requestKind, request, expectedStatus, budgetBytes, requestDispatcher::serve);
+    }
+
+    @Test(dataProvider = "requests")
+    public void testAsyncAllocationPerRequest(String requestKind, HttpRequest request, int expectedStatus,
+                                              long budgetBytes, long asyncBudgetBytes) throws IOException {
+        assertAllocation(requestKind + " (async)", request, expectedStatus, asyncBudgetBytes,
+                         r -> requestDispatcher.serveAsync(r).toCompletableFuture().join());
+    }
+
+    private void assertAllocation(String requestKind, HttpRequest request, int expectedStatus, long budgetBytes,
+                                  Function<HttpRequest, HttpResponse> dispatcher) throws IOException {
+        Assert.assertEquals(serve(dispatcher, request).getStatus(), expectedStatus);
+
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            serve(dispatcher, request);
+        }
+        // Asynchronously served requests might complete in other threads, e.g. when reading files.
+        long[] threadIds = threadMxBean.getAllThreadIds();
+        long[] allocatedBytesBefore = threadMxBean.getThreadAllocatedBytes(threadIds);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            serve(dispatcher, request);
+        }
+        long[] allocatedBytesAfter = threadMxBean.getThreadAllocatedBytes(threadIds);
+        long allocatedBytes = 0;
+        for (int i = 0; i < threadIds.length; i++) {
+            if ((allocatedBytesBefore[i] >= 0) && (allocatedBytesAfter[i] >= 0)) {
+                allocatedBytes += allocatedBytesAfter[i] - allocatedBytesBefore[i]; // -1 for a terminated thread
+            }
+        }
+        long allocatedBytesPerRequest = allocatedBytes / MEASURED_ITERATIONS;
+
+        long scaledBudgetBytes = (long) (budgetBytes * BUDGET_SCALE);
+        Assert.assertTrue(allocatedBytesPerRequest <= scaledBudgetBytes,
+                          "Serving a " + requestKind + " request allocated " + allocatedBytesPerRequest +
+                          " bytes which exceeds its budget of " + scaledBudgetBytes + " bytes.");
+    }
+
+    private HttpResponse serve(Function<HttpRequest, HttpResponse> dispatcher, HttpRequest request)
+            throws IOException {
+        HttpResponse response = dispatcher.apply(request);
+        if (response.getContent() instanceof Closeable) {
+            // Default favicon and asynchronously read static resources are served as input streams.
+            ((Closeable) response.getContent()).close();
+        }
+        // Keeps the response reachable so that the JIT cannot elide its allocation.
+        lastResponse = response;
+        return response;
+    }
+}
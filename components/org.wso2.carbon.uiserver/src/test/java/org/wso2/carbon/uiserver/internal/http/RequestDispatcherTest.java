@@ -18,15 +18,32 @@
 
 package org.wso2.carbon.uiserver.internal.http;
 
+import com.google.common.collect.ImmutableMap;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.api.Configuration;
+import org.wso2.carbon.uiserver.api.I18nResource;
 import org.wso2.carbon.uiserver.api.exception.UiServerRuntimeException;
 import org.wso2.carbon.uiserver.api.http.HttpRequest;
 import org.wso2.carbon.uiserver.api.http.HttpResponse;
+import org.wso2.carbon.uiserver.api.metrics.RequestKind;
+import org.wso2.carbon.uiserver.internal.deployment.AppCreator;
 import org.wso2.carbon.uiserver.internal.io.http.StaticRequestDispatcher;
+import org.wso2.carbon.uiserver.internal.io.reference.ArtifactAppReference;
+import org.wso2.carbon.uiserver.internal.metrics.RequestMetricsRecorder;
+
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -54,7 +71,7 @@ public class RequestDispatcherTest {
         when(request.isDefaultFaviconRequest()).thenReturn(true);
         StaticRequestDispatcher staticRequestDispatcher = mock(StaticRequestDispatcher.class);
 
-        new RequestDispatcher(null, staticRequestDispatcher).serve(request);
+        createRequestDispatcher(staticRequestDispatcher).serve(request);
         verify(staticRequestDispatcher).serveDefaultFavicon(request);
     }
 
@@ -66,16 +83,54 @@ public class RequestDispatcherTest {
         when(request.isStaticResourceRequest()).thenReturn(true);
         StaticRequestDispatcher staticRequestDispatcher = mock(StaticRequestDispatcher.class);
 
-        new RequestDispatcher(null, staticRequestDispatcher).serve(request);
+        createRequestDispatcher(staticRequestDispatcher).serve(request);
         verify(staticRequestDispatcher).serve(request);
     }
 
+    @Test
+    public void testServeI18nBundleRequest() {
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.isValid()).thenReturn(true);
+        when(request.isDefaultFaviconRequest()).thenReturn(false);
+        when(request.isStaticResourceRequest()).thenReturn(false);
+        when(request.isI18nBundleRequest()).thenReturn(true);
+        I18nRequestDispatcher i18nRequestDispatcher = mock(I18nRequestDispatcher.class);
+        when(i18nRequestDispatcher.hasBundle(request)).thenReturn(true);
+
+        createRequestDispatcher(i18nRequestDispatcher).serve(request);
+        verify(i18nRequestDispatcher).serve(request);
+    }
+
+    @Test
+    public void testServeAppPageUnderI18n() {
+        App app = new App("test", "/test", new TreeSet<>(), Collections.emptySet(), Collections.emptySet(),
+                          Collections.singleton(new I18nResource(Locale.FRENCH,
+                                                                 ImmutableMap.of("welcome", "Bonjour!"))),
+                          Configuration.DEFAULT_CONFIGURATION, "/tmp");
+        PageRequestDispatcher pageRequestDispatcher = mock(PageRequestDispatcher.class);
+        RequestDispatcher requestDispatcher = new RequestDispatcher(
+                pageRequestDispatcher, null, new I18nRequestDispatcher(app, ErrorResponses.DEFAULT),
+                ErrorResponses.DEFAULT, null);
+
+        // Web app has its own pages under '/i18n/', which are not i18n bundles of its locales.
+        HttpRequest pageRequest = new InMemoryHttpRequest("/test/i18n/guide");
+        requestDispatcher.serve(pageRequest);
+        verify(pageRequestDispatcher).serve(pageRequest);
+        HttpRequest unknownLocaleRequest = new InMemoryHttpRequest("/test/i18n/en.json");
+        requestDispatcher.serve(unknownLocaleRequest);
+        verify(pageRequestDispatcher).serve(unknownLocaleRequest);
+
+        HttpRequest bundleRequest = new InMemoryHttpRequest("/test/i18n/fr.json");
+        Assert.assertEquals(requestDispatcher.serve(bundleRequest).getStatus(), HttpResponse.STATUS_OK);
+        verify(pageRequestDispatcher, never()).serve(bundleRequest);
+    }
+
     @Test
     public void testServePageRequest() {
         HttpRequest request = createPageRequest();
         PageRequestDispatcher pageRequestDispatcher = mock(PageRequestDispatcher.class);
 
-        new RequestDispatcher(pageRequestDispatcher, null).serve(request);
+        createRequestDispatcher(pageRequestDispatcher).serve(request);
         verify(pageRequestDispatcher).serve(request);
     }
 
@@ -85,7 +140,7 @@ public class RequestDispatcherTest {
         PageRequestDispatcher pageRequestDispatcher = mock(PageRequestDispatcher.class);
         when(pageRequestDispatcher.serve(any())).thenThrow(UiServerRuntimeException.class);
 
-        HttpResponse response = new RequestDispatcher(pageRequestDispatcher, null).serve(request);
+        HttpResponse response = createRequestDispatcher(pageRequestDispatcher).serve(request);
         Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_INTERNAL_SERVER_ERROR);
         Assert.assertNotNull(response.getContent());
     }
@@ -96,11 +151,112 @@ public class RequestDispatcherTest {
         PageRequestDispatcher pageRequestDispatcher = mock(PageRequestDispatcher.class);
         when(pageRequestDispatcher.serve(any())).thenThrow(Exception.class);
 
-        HttpResponse response = new RequestDispatcher(pageRequestDispatcher, null).serve(request);
+        HttpResponse response = createRequestDispatcher(pageRequestDispatcher).serve(request);
         Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_INTERNAL_SERVER_ERROR);
         Assert.assertNotNull(response.getContent());
     }
 
+    @Test
+    public void testServeAsyncStaticRequest() throws Exception {
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.isValid()).thenReturn(true);
+        when(request.isDefaultFaviconRequest()).thenReturn(false);
+        when(request.isStaticResourceRequest()).thenReturn(true);
+        StaticRequestDispatcher staticRequestDispatcher = mock(StaticRequestDispatcher.class);
+        when(staticRequestDispatcher.serveAsync(request))
+                .thenReturn(CompletableFuture.completedFuture(ResponseBuilder.ok("foo").build()));
+
+        HttpResponse response = createRequestDispatcher(staticRequestDispatcher).serveAsync(request)
+                .toCompletableFuture().get();
+        Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_OK);
+    }
+
+    @Test
+    public void testServeAsyncWhenFailed() throws Exception {
+        HttpRequest request = createPageRequest();
+        PageRequestDispatcher pageRequestDispatcher = mock(PageRequestDispatcher.class);
+        CompletableFuture<HttpResponse> failedResponse = new CompletableFuture<>();
+        failedResponse.completeExceptionally(new UiServerRuntimeException("error"));
+        when(pageRequestDispatcher.serveAsync(request)).thenReturn(failedResponse);
+
+        HttpResponse response = createRequestDispatcher(pageRequestDispatcher).serveAsync(request)
+                .toCompletableFuture().get();
+        Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    public void testServeRecordsMetrics() {
+        HttpRequest request = createPageRequest();
+        PageRequestDispatcher pageRequestDispatcher = mock(PageRequestDispatcher.class);
+        HttpResponse pageResponse = ResponseBuilder.ok("foo").build();
+        when(pageRequestDispatcher.serve(request)).thenReturn(pageResponse);
+        RequestMetricsRecorder metricsRecorder = mock(RequestMetricsRecorder.class);
+
+        createRequestDispatcher(pageRequestDispatcher, metricsRecorder).serve(request);
+        verify(metricsRecorder).record(eq(RequestKind.PAGE), eq(pageResponse), anyLong());
+    }
+
+    @Test
+    public void testServeAsyncRecordsMetrics() throws Exception {
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.isValid()).thenReturn(false);
+        RequestMetricsRecorder metricsRecorder = mock(RequestMetricsRecorder.class);
+
+        HttpResponse response = createRequestDispatcher(null, metricsRecorder)
+                .serveAsync(request).toCompletableFuture().get();
+        verify(metricsRecorder).record(eq(RequestKind.ERROR), eq(response), anyLong());
+    }
+
+    @Test
+    public void testCacheOperations() {
+        App app = AppCreator.createApp(new ArtifactAppReference(Paths.get("src/test/resources/apps/full-app/")),
+                                       "/test");
+        RequestDispatcher requestDispatcher = new RequestDispatcher(app);
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.getUri()).thenReturn("/test/public/app/css/styles.css");
+        when(request.getUriWithoutContextPath()).thenReturn("/public/app/css/styles.css");
+        when(request.isValid()).thenCallRealMethod();
+        when(request.isDefaultFaviconRequest()).thenCallRealMethod();
+        when(request.isStaticResourceRequest()).thenCallRealMethod();
+        when(request.isAppStaticResourceRequest()).thenCallRealMethod();
+        when(request.getHeaders()).thenReturn(Collections.emptyMap());
+
+        Assert.assertEquals(requestDispatcher.serve(request).getStatus(), HttpResponse.STATUS_OK);
+        Assert.assertEquals(requestDispatcher.getInFlightRequests(), 0);
+        Assert.assertEquals(requestDispatcher.getCacheSizes().get(RequestDispatcher.CACHE_STATIC_RESOURCE_DATES),
+                            Long.valueOf(1));
+
+        Assert.assertTrue(requestDispatcher.clearCache(RequestDispatcher.CACHE_STATIC_RESOURCE_DATES));
+        Assert.assertEquals(requestDispatcher.getCacheSizes().get(RequestDispatcher.CACHE_STATIC_RESOURCE_DATES),
+                            Long.valueOf(0));
+        Assert.assertEquals(requestDispatcher.warmCache(RequestDispatcher.CACHE_STATIC_RESOURCE_DATES).orElse(0),
+                            Integer.valueOf(2)); // public/css/styles.css and public/js/bundle.js
+        Assert.assertEquals(requestDispatcher.warmCache(RequestDispatcher.CACHE_I18N_BUNDLES).orElse(0),
+                            Integer.valueOf(1)); // en
+        Assert.assertEquals(requestDispatcher.getCacheSizes().get(RequestDispatcher.CACHE_I18N_BUNDLES),
+                            Long.valueOf(1));
+
+        Assert.assertFalse(requestDispatcher.clearCache("foo"));
+        Assert.assertFalse(requestDispatcher.warmCache("foo").isPresent());
+    }
+
+    private static RequestDispatcher createRequestDispatcher(PageRequestDispatcher pageRequestDispatcher) {
+        return createRequestDispatcher(pageRequestDispatcher, null);
+    }
+
+    private static RequestDispatcher createRequestDispatcher(PageRequestDispatcher pageRequestDispatcher,
+                                                             RequestMetricsRecorder metricsRecorder) {
+        return new RequestDispatcher(pageRequestDispatcher, null, null, ErrorResponses.DEFAULT, metricsRecorder);
+    }
+
+    private static RequestDispatcher createRequestDispatcher(StaticRequestDispatcher staticRequestDispatcher) {
+        return new RequestDispatcher(null, staticRequestDispatcher, null, ErrorResponses.DEFAULT, null);
+    }
+
+    private static RequestDispatcher createRequestDispatcher(I18nRequestDispatcher i18nRequestDispatcher) {
+        return new RequestDispatcher(null, null, i18nRequestDispatcher, ErrorResponses.DEFAULT, null);
+    }
+
     private static HttpRequest createPageRequest() {
         HttpRequest request = mock(HttpRequest.class);
         when(request.isValid()).thenReturn(true);
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.http;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+import org.wso2.carbon.uiserver.internal.http.admission.AdmissionController;
+import org.wso2.carbon.uiserver.internal.http.admission.FixedConcurrencyLimit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for {@link RequestExecutor} class.
+ *
+ * @since 1.0.9
+ */
+public class RequestExecutorTest {
+
+    @Test
+    public void testWithoutLimit() {
+        RequestExecutor requestExecutor = new RequestExecutor();
+        Function<HttpRequest, HttpResponse> dispatcher = request -> ResponseBuilder.ok("foo").build();
+
+        Assert.assertSame(requestExecutor.wrap(dispatcher, null), dispatcher);
+    }
+
+    @Test
+    public void testServesInCallerThread() {
+        RequestExecutor requestExecutor = new RequestExecutor();
+        Thread callerThread = Thread.currentThread();
+        Function<HttpRequest, HttpResponse> dispatcher = request -> ResponseBuilder
+                .ok((Thread.currentThread() == callerThread) ? "caller" : "other").build();
+
+        HttpResponse response = requestExecutor.wrap(dispatcher, createAdmissionController(1))
+                .apply(mock(HttpRequest.class));
+        Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_OK);
+        Assert.assertEquals(response.getContent(), "caller");
+    }
+
+    @Test
+    public void testConcurrentRequestsLimit() throws Exception {
+        RequestExecutor requestExecutor = new RequestExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        Function<HttpRequest, HttpResponse> listener = requestExecutor.wrap(request -> {
+            started.countDown();
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ResponseBuilder.ok("foo").build();
+        }, createAdmissionController(1));
+
+        CompletableFuture<HttpResponse> first = CompletableFuture.supplyAsync(
+                () -> listener.apply(mock(HttpRequest.class)));
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS), "First request should have been started.");
+        HttpResponse second = listener.apply(mock(HttpRequest.class));
+        Assert.assertEquals(second.getStatus(), HttpResponse.STATUS_SERVICE_UNAVAILABLE);
+        Assert.assertEquals(second.getHeaders().get(HttpResponse.HEADER_RETRY_AFTER), "1");
+
+        latch.countDown();
+        Assert.assertEquals(first.get(5, TimeUnit.SECONDS).getStatus(), HttpResponse.STATUS_OK);
+        Assert.assertEquals(listener.apply(mock(HttpRequest.class)).getStatus(), HttpResponse.STATUS_OK);
+    }
+
+    @Test
+    public void testPermitReleasedOnFailure() {
+        RequestExecutor requestExecutor = new RequestExecutor();
+        AdmissionController admissionController = createAdmissionController(1);
+        Function<HttpRequest, HttpResponse> listener = requestExecutor.wrap(request -> {
+            throw new IllegalStateException("foo");
+        }, admissionController);
+
+        Assert.assertThrows(IllegalStateException.class, () -> listener.apply(mock(HttpRequest.class)));
+        Assert.assertEquals(admissionController.getInFlight(), 0);
+    }
+
+    @Test
+    public void testWrapRequestDispatcher() {
+        RequestExecutor requestExecutor = new RequestExecutor();
+        RequestDispatcher requestDispatcher = mock(RequestDispatcher.class);
+        HttpRequest request = mock(HttpRequest.class);
+        when(requestDispatcher.serve(request)).thenReturn(ResponseBuilder.ok("foo").build());
+
+        Assert.assertEquals(requestExecutor.wrap(requestDispatcher, null).apply(request).getContent(), "foo");
+        verify(requestDispatcher, never()).serveAsync(any());
+    }
+
+    private static AdmissionController createAdmissionController(int maxConcurrentRequests) {
+        return new AdmissionController(new FixedConcurrencyLimit(maxConcurrentRequests), 1);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.http.admission;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uiserver.api.ServerConfiguration.AppConfiguration;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.wso2.carbon.uiserver.api.ServerConfiguration.AppConfiguration.LIMITER_FIXED;
+import static org.wso2.carbon.uiserver.api.ServerConfiguration.AppConfiguration.LIMITER_GRADIENT;
+
+/**
+ * Test cases for {@link AdmissionController} class.
+ *
+ * @since 1.0.9
+ */
+public class AdmissionControllerTest {
+
+    @Test
+    public void testCreate() {
+        Assert.assertFalse(AdmissionController.create(createAppConfiguration(0, LIMITER_FIXED)).isPresent());
+        Assert.assertEquals(AdmissionController.create(createAppConfiguration(10, LIMITER_FIXED)).get().getLimit(),
+                            10);
+        Assert.assertTrue(AdmissionController.create(createAppConfiguration(0, LIMITER_GRADIENT)).isPresent());
+        Assert.assertTrue(
+                AdmissionController.create(createAppConfiguration(5, LIMITER_GRADIENT)).get().getLimit() <= 5);
+    }
+
+    @Test
+    public void testTryAcquire() {
+        AdmissionController admissionController = new AdmissionController(new FixedConcurrencyLimit(2), 1);
+
+        AdmissionController.Permit first = admissionController.tryAcquire();
+        AdmissionController.Permit second = admissionController.tryAcquire();
+        Assert.assertNotNull(first);
+        Assert.assertNotNull(second);
+        Assert.assertNull(admissionController.tryAcquire(), "Request beyond the limit should be rejected.");
+        Assert.assertEquals(admissionController.getInFlight(), 2);
+
+        first.release();
+        first.release(); // Releasing more than once should not have any effect.
+        Assert.assertEquals(admissionController.getInFlight(), 1);
+        Assert.assertNotNull(admissionController.tryAcquire());
+    }
+
+    @Test
+    public void testDrop() {
+        AdmissionController admissionController = new AdmissionController(new FixedConcurrencyLimit(1), 1);
+        AdmissionController.Permit permit = admissionController.tryAcquire();
+        Assert.assertNull(admissionController.tryAcquire());
+
+        permit.drop();
+        permit.release(); // Releasing a dropped permit should not have any effect.
+        Assert.assertEquals(admissionController.getInFlight(), 0);
+        Assert.assertNotNull(admissionController.tryAcquire());
+    }
+
+    private static AppConfiguration createAppConfiguration(int maxConcurrentRequests, String concurrencyLimiter) {
+        AppConfiguration appConfiguration = mock(AppConfiguration.class);
+        when(appConfiguration.getMaxConcurrentRequests()).thenReturn(maxConcurrentRequests);
+        when(appConfiguration.getConcurrencyLimiter()).thenReturn(concurrencyLimiter);
+        when(appConfiguration.getRetryAfter()).thenReturn(1);
+        return appConfiguration;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.http.admission;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for {@link GradientConcurrencyLimit} class.
+ *
+ * @since 1.0.9
+ */
+public class GradientConcurrencyLimitTest {
+
+    @Test
+    public void testLimitGrowsWhenLatenciesAreSteady() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 100);
+        long rtt = TimeUnit.MILLISECONDS.toNanos(10);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(rtt, limit.getLimit(), false);
+        }
+        Assert.assertTrue(limit.getLimit() > 10, "Limit should grow when latencies are steady.");
+        Assert.assertTrue(limit.getLimit() <= 100, "Limit should not exceed the maximum limit.");
+    }
+
+    @Test
+    public void testLimitShrinksWhenLatenciesIncrease() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(50, 100);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), limit.getLimit(), false);
+        }
+        int steadyLimit = limit.getLimit();
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(100), limit.getLimit(), false);
+        }
+        Assert.assertTrue(limit.getLimit() < steadyLimit, "Limit should shrink when latencies increase.");
+    }
+
+    @Test
+    public void testLimitDoesNotGrowWhenUnderUtilized() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 100);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), 1, false);
+        }
+        Assert.assertEquals(limit.getLimit(), 20);
+    }
+
+    @Test
+    public void testLimitShrinksWhenDropped() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 100);
+        limit.onSample(0, 20, true);
+        Assert.assertEquals(limit.getLimit(), 18);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(0, 1, true);
+        }
+        Assert.assertEquals(limit.getLimit(), 1, "Limit should not go below one.");
+    }
+}
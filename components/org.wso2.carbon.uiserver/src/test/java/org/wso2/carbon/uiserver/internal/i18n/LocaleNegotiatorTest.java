@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.i18n;
+
+import com.google.common.collect.ImmutableSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Test cases for {@link LocaleNegotiator} class.
+ *
+ * @since 1.0.9
+ */
+public class LocaleNegotiatorTest {
+
+    private static final Locale FRENCH_CANADA = Locale.forLanguageTag("fr-CA");
+
+    @Test
+    public void testNegotiate() {
+        LocaleNegotiator localeNegotiator = new LocaleNegotiator(ImmutableSet.of(Locale.FRENCH, Locale.US,
+                                                                                 Locale.CANADA));
+
+        Assert.assertEquals(localeNegotiator.negotiate(null), Optional.empty());
+        Assert.assertEquals(localeNegotiator.negotiate(""), Optional.empty());
+        Assert.assertEquals(localeNegotiator.negotiate("foo"), Optional.empty());
+        Assert.assertEquals(localeNegotiator.negotiate("en-US"), Optional.of(Locale.US));
+        Assert.assertEquals(localeNegotiator.negotiate("en-us"), Optional.of(Locale.US));
+        Assert.assertEquals(localeNegotiator.negotiate("fr, en;q=0.9, en-GB;q=0.8, en-US;q=0.7"),
+                            Optional.of(Locale.FRENCH));
+        Assert.assertEquals(localeNegotiator.negotiate("si, en-US;q=0.7, en-CA;q=0.9"), Optional.of(Locale.CANADA));
+    }
+
+    @Test
+    public void testNegotiateWithFallbacks() {
+        LocaleNegotiator localeNegotiator = new LocaleNegotiator(ImmutableSet.of(Locale.FRENCH, Locale.US));
+
+        Assert.assertEquals(localeNegotiator.negotiate("fr-CA"), Optional.of(Locale.FRENCH));
+        Assert.assertEquals(localeNegotiator.negotiate("en"), Optional.of(Locale.US));
+        Assert.assertEquals(localeNegotiator.negotiate("en-GB"), Optional.of(Locale.US));
+        Assert.assertEquals(localeNegotiator.negotiate("si, *;q=0.5"), Optional.of(Locale.US));
+        Assert.assertEquals(localeNegotiator.negotiate("fr;q=0, si"), Optional.empty());
+    }
+
+    @Test
+    public void testNegotiateExactMatchFirst() {
+        LocaleNegotiator localeNegotiator = new LocaleNegotiator(ImmutableSet.of(FRENCH_CANADA, Locale.FRENCH));
+
+        Assert.assertEquals(localeNegotiator.negotiate("fr"), Optional.of(Locale.FRENCH));
+        Assert.assertEquals(localeNegotiator.negotiate("fr-CA"), Optional.of(FRENCH_CANADA));
+        Assert.assertEquals(localeNegotiator.negotiate("fr-BE"), Optional.of(Locale.FRENCH));
+    }
+
+    @Test
+    public void testNegotiateWithoutLocales() {
+        LocaleNegotiator localeNegotiator = new LocaleNegotiator(Collections.emptySet());
+
+        Assert.assertEquals(localeNegotiator.negotiate("en-US"), Optional.empty());
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.impl;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.internal.deployment.AppCreator;
+import org.wso2.carbon.uiserver.internal.exception.AppCreationException;
+import org.wso2.carbon.uiserver.internal.io.reference.ArtifactAppReference;
+
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for {@link LazyApp} class.
+ *
+ * @since 1.0.9
+ */
+public class LazyAppTest {
+
+    private static final String APP_PATH = "src/test/resources/apps/full-app/";
+
+    @Test
+    public void testActivateOnFirstUse() {
+        AtomicInteger creations = new AtomicInteger();
+        LazyApp lazyApp = new LazyApp("full-app", "/test", APP_PATH, () -> {
+            creations.incrementAndGet();
+            return AppCreator.createApp(new ArtifactAppReference(Paths.get(APP_PATH)), "/test");
+        });
+        Assert.assertEquals(lazyApp.getName(), "full-app");
+        Assert.assertEquals(lazyApp.getContextPath(), "/test");
+        Assert.assertFalse(lazyApp.isActivated());
+        Assert.assertEquals(creations.get(), 0);
+
+        Assert.assertFalse(lazyApp.getPages().isEmpty());
+        Assert.assertTrue(lazyApp.isActivated());
+        App app = lazyApp.activate();
+        Assert.assertSame(LazyApp.activated(lazyApp), app);
+        Assert.assertEquals(lazyApp.getLocales(), app.getLocales());
+        Assert.assertEquals(creations.get(), 1);
+    }
+
+    @Test
+    public void testActivateAfterFailure() {
+        App app = AppCreator.createApp(new ArtifactAppReference(Paths.get(APP_PATH)), "/test");
+        AtomicInteger attempts = new AtomicInteger();
+        LazyApp lazyApp = new LazyApp("full-app", "/test", APP_PATH, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new AppCreationException("Cannot create app.");
+            }
+            return app;
+        });
+
+        Assert.assertThrows(AppCreationException.class, lazyApp::activate);
+        Assert.assertFalse(lazyApp.isActivated());
+        Assert.assertSame(lazyApp.activate(), app);
+        Assert.assertTrue(lazyApp.isActivated());
+    }
+
+    @Test
+    public void testOverride() {
+        LazyApp lazyApp = new LazyApp("full-app", "/test", APP_PATH,
+                                      () -> AppCreator.createApp(new ArtifactAppReference(Paths.get(APP_PATH)),
+                                                                 "/test"));
+        App override = AppCreator.createApp(new ArtifactAppReference(Paths.get(APP_PATH)), "/test");
+
+        App overriddenApp = lazyApp.override(override);
+        Assert.assertTrue(lazyApp.isActivated());
+        Assert.assertFalse(overriddenApp.getPages().isEmpty());
+        Assert.assertEquals(overriddenApp.getLocales(), lazyApp.getLocales());
+    }
+
+    @Test
+    public void testActivatedOfEagerApp() {
+        App app = AppCreator.createApp(new ArtifactAppReference(Paths.get(APP_PATH)), "/test");
+        Assert.assertSame(LazyApp.activated(app), app);
+    }
+}
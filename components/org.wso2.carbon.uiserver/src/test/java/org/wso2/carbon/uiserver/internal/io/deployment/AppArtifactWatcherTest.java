@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.io.deployment;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for {@link AppArtifactWatcher} class.
+ *
+ * @since 1.0.9
+ */
+public class AppArtifactWatcherTest {
+
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private Path appDirectory;
+    private BlockingQueue<Boolean> changes;
+    private AppArtifactWatcher appArtifactWatcher;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        appDirectory = Files.createTempDirectory("app-artifact-watcher-test").resolve("full-app");
+        FileUtils.copyDirectory(Paths.get("src/test/resources/apps/full-app").toFile(), appDirectory.toFile());
+        changes = new LinkedBlockingQueue<>();
+        appArtifactWatcher = new AppArtifactWatcher(100, (appName, appDirectory, appChanged) -> {
+            if ("full-app".equals(appName) && appDirectory.equals(this.appDirectory)) {
+                changes.add(appChanged);
+            }
+        });
+        appArtifactWatcher.watch("full-app", appDirectory);
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        appArtifactWatcher.close();
+        FileUtils.deleteDirectory(appDirectory.getParent().toFile());
+    }
+
+    @Test
+    public void testStaticResourceChange() throws IOException, InterruptedException {
+        write("public/css/styles.css", "body { color: red; }");
+        Assert.assertEquals(changes.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS), Boolean.FALSE);
+    }
+
+    @Test
+    public void testPageChange() throws IOException, InterruptedException {
+        write("pages/index.hbs", "<p>changed</p>");
+        write("public/css/styles.css", "body { color: red; }");
+        Assert.assertEquals(changes.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS), Boolean.TRUE);
+    }
+
+    @Test
+    public void testNewDirectoryChange() throws IOException, InterruptedException {
+        Files.createDirectories(appDirectory.resolve("pages/about"));
+        Assert.assertEquals(changes.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS), Boolean.TRUE);
+
+        write("pages/about/team.html", "<p>team</p>");
+        Assert.assertEquals(changes.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS), Boolean.TRUE);
+    }
+
+    @Test
+    public void testUnwatch() throws IOException, InterruptedException {
+        appArtifactWatcher.unwatch(appDirectory);
+        write("pages/index.hbs", "<p>changed</p>");
+        Assert.assertNull(changes.poll(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testIsAppChange() {
+        Assert.assertTrue(AppArtifactWatcher.isAppChange(Paths.get("configuration.yaml")));
+        Assert.assertTrue(AppArtifactWatcher.isAppChange(Paths.get("pages/index.hbs")));
+        Assert.assertTrue(AppArtifactWatcher.isAppChange(Paths.get("i18n/en.json")));
+        Assert.assertTrue(AppArtifactWatcher.isAppChange(Paths.get("extensions/widgets/bar-chart")));
+        Assert.assertTrue(AppArtifactWatcher.isAppChange(Paths.get("themes/dark")));
+        Assert.assertFalse(AppArtifactWatcher.isAppChange(Paths.get("extensions/widgets/line-chart/css/styles.css")));
+        Assert.assertFalse(AppArtifactWatcher.isAppChange(Paths.get("themes/light/css/styles.css")));
+        Assert.assertFalse(AppArtifactWatcher.isAppChange(Paths.get("public/js/bundle.js")));
+    }
+
+    private void write(String relativePath, String content) throws IOException {
+        Files.write(appDirectory.resolve(relativePath), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.io.deployment;
+
+import com.google.common.collect.ImmutableList;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.deployment.engine.Artifact;
+import org.wso2.carbon.deployment.engine.exception.CarbonDeploymentException;
+import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.api.ServerConfiguration;
+import org.wso2.carbon.uiserver.internal.deployment.AppDeploymentEventListener;
+import org.wso2.carbon.uiserver.internal.deployment.DeploymentReport;
+import org.wso2.carbon.uiserver.internal.deployment.listener.CarbonUiServer;
+import org.wso2.carbon.uiserver.internal.metrics.DeploymentMetrics;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for {@link ArtifactAppDeployer} class.
+ *
+ * @since 1.0.9
+ */
+public class ArtifactAppDeployerTest {
+
+    private static final Path APPS_DIRECTORY = Paths.get("src/test/resources/apps");
+
+    @DataProvider
+    public Object[][] parallelisms() {
+        return new Object[][]{{1}, {4}};
+    }
+
+    @Test(dataProvider = "parallelisms")
+    public void testDeploy(int parallelism) throws CarbonDeploymentException {
+        AppDeploymentEventListener listener = mock(AppDeploymentEventListener.class);
+        ArtifactAppDeployer appDeployer = new ArtifactAppDeployer(ImmutableList.of(listener),
+                                                                  createServerConfiguration(parallelism));
+
+        Assert.assertNotNull(appDeployer.deploy(createArtifact("minimal-app")));
+        Assert.assertNotNull(appDeployer.deploy(createArtifact("full-app")));
+        Assert.assertNotNull(appDeployer.deploy(createArtifact("empty-app")));
+        verify(listener, times(3)).appDeploymentEvent(any(App.class));
+        appDeployer.close();
+    }
+
+    @Test
+    public void testDeployInvalidArtifact() {
+        ArtifactAppDeployer appDeployer = new ArtifactAppDeployer(ImmutableList.of(), createServerConfiguration(4));
+
+        Assert.assertThrows(CarbonDeploymentException.class,
+                            () -> appDeployer.deploy(createArtifact("empty-app/readme.txt")));
+        appDeployer.close();
+    }
+
+    @Test
+    public void testUndeploy() throws CarbonDeploymentException {
+        AppDeploymentEventListener listener = mock(AppDeploymentEventListener.class);
+        ArtifactAppDeployer appDeployer = new ArtifactAppDeployer(ImmutableList.of(listener),
+                                                                  createServerConfiguration(4));
+
+        Object key = appDeployer.deploy(createArtifact("minimal-app"));
+        appDeployer.undeploy(key);
+        verify(listener).appUndeploymentEvent("minimal-app");
+        appDeployer.close();
+    }
+
+    @Test
+    public void testDeploymentReport() throws CarbonDeploymentException {
+        DeploymentMetrics deploymentMetrics = new DeploymentMetrics();
+        ArtifactAppDeployer appDeployer = new ArtifactAppDeployer(ImmutableList.of(new CarbonUiServer()),
+                                                                  createServerConfiguration(1), deploymentMetrics);
+
+        Object key = appDeployer.deploy(createArtifact("full-app"));
+        DeploymentReport deploymentReport = deploymentMetrics.getReport("full-app").orElse(null);
+        Assert.assertNotNull(deploymentReport);
+        Assert.assertTrue(deploymentReport.getPhaseNanos().containsKey(
+                DeploymentReport.PHASE_PUBLISH_PREFIX + CarbonUiServer.class.getSimpleName()));
+        Assert.assertTrue(deploymentReport.getTotalRetainedBytes() > 0);
+
+        appDeployer.undeploy(key);
+        Assert.assertFalse(deploymentMetrics.getReport("full-app").isPresent());
+        appDeployer.close();
+    }
+
+    private static Artifact createArtifact(String appDirectoryName) {
+        Artifact artifact = mock(Artifact.class);
+        when(artifact.getFile()).thenReturn(APPS_DIRECTORY.resolve(appDirectoryName).toFile());
+        return artifact;
+    }
+
+    private static ServerConfiguration createServerConfiguration(int parallelism) {
+        ServerConfiguration.DeploymentConfiguration deploymentConfiguration =
+                mock(ServerConfiguration.DeploymentConfiguration.class);
+        when(deploymentConfiguration.getParallelism()).thenReturn(parallelism);
+        ServerConfiguration serverConfiguration = mock(ServerConfiguration.class);
+        when(serverConfiguration.getConfigurationForApp(anyString())).thenReturn(Optional.empty());
+        when(serverConfiguration.getDeploymentConfiguration()).thenReturn(deploymentConfiguration);
+        return serverConfiguration;
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.uiserver.internal.io.http;
 
+import org.apache.commons.io.IOUtils;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -27,6 +28,8 @@ import org.wso2.carbon.uiserver.api.http.HttpResponse;
 import org.wso2.carbon.uiserver.internal.deployment.AppCreator;
 import org.wso2.carbon.uiserver.internal.io.reference.ArtifactAppReference;
 
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Collections;
 
@@ -164,6 +167,30 @@ public class StaticRequestDispatcherTest {
         Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_NOT_MODIFIED);
     }
 
+    @Test
+    public void testServeAsync() throws Exception {
+        HttpRequest request = createRequest("/public/app/css/styles.css");
+
+        HttpResponse response = new StaticRequestDispatcher(creatApp()).serveAsync(request)
+                .toCompletableFuture().get();
+        Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_OK);
+        Assert.assertEquals(response.getContentType(), "text/css");
+        Assert.assertNotNull(response.getHeaders().get(HEADER_LAST_MODIFIED));
+        Assert.assertTrue(response.getContent() instanceof InputStream);
+        byte[] expectedContent = Files.readAllBytes(
+                Paths.get("src/test/resources/apps/full-app/public/css/styles.css"));
+        Assert.assertEquals(IOUtils.toByteArray((InputStream) response.getContent()), expectedContent);
+    }
+
+    @Test
+    public void testServeAsyncNotFoundRequest() throws Exception {
+        HttpRequest request = createRequest("/public/themes/foo/css/styles.css");
+
+        HttpResponse response = new StaticRequestDispatcher(creatApp()).serveAsync(request)
+                .toCompletableFuture().get();
+        Assert.assertEquals(response.getStatus(), HttpResponse.STATUS_NOT_FOUND);
+    }
+
     private static HttpRequest createRequest(String uriWithoutContextPath) {
         HttpRequest request = mock(HttpRequest.class);
         when(request.getUriWithoutContextPath()).thenReturn(uriWithoutContextPath);
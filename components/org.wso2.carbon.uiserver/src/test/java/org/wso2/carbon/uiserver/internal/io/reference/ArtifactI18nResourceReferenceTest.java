@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.io.reference;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uiserver.internal.exception.FileOperationException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Test cases for {@link ArtifactI18nResourceReference} class.
+ *
+ * @since 1.0.9
+ */
+public class ArtifactI18nResourceReferenceTest {
+
+    private Path directory;
+
+    @BeforeClass
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("i18n");
+    }
+
+    @AfterClass
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void testGetLocale() {
+        Assert.assertEquals(new ArtifactI18nResourceReference(Paths.get("i18n/fr-CA.json")).getLocale(),
+                            Locale.CANADA_FRENCH);
+        Assert.assertEquals(new ArtifactI18nResourceReference(Paths.get("i18n/en.json")).getLocale(),
+                            Locale.ENGLISH);
+    }
+
+    @Test
+    public void testGetMessages() throws IOException {
+        Path file = createFile("en.json", "{\"welcome\": \"Hello {0}!\", \"count\": 2, \"enabled\": true, " +
+                                          "\"missing\": null}");
+
+        Map<String, String> messages = new ArtifactI18nResourceReference(file).getMessages();
+        Assert.assertEquals(messages.size(), 3);
+        Assert.assertEquals(messages.get("welcome"), "Hello {0}!");
+        Assert.assertEquals(messages.get("count"), "2");
+        Assert.assertEquals(messages.get("enabled"), "true");
+        Assert.assertFalse(messages.containsKey("missing"));
+    }
+
+    @Test
+    public void testGetMessagesInternsKeys() throws IOException {
+        Map<String, String> english = new ArtifactI18nResourceReference(
+                createFile("en-GB.json", "{\"welcome\": \"Hello!\"}")).getMessages();
+        Map<String, String> french = new ArtifactI18nResourceReference(
+                createFile("fr-FR.json", "{\"welcome\": \"Bonjour!\"}")).getMessages();
+
+        Assert.assertSame(english.keySet().iterator().next(), french.keySet().iterator().next());
+    }
+
+    @Test
+    public void testGetMessagesFromEmptyFile() throws IOException {
+        Path file = createFile("si.json", "");
+        Assert.assertTrue(new ArtifactI18nResourceReference(file).getMessages().isEmpty());
+    }
+
+    @Test
+    public void testGetMessagesFromInvalidFile() throws IOException {
+        Assert.assertThrows(FileOperationException.class, () -> new ArtifactI18nResourceReference(
+                createFile("de.json", "{\"welcome\": \"Hallo!\"")).getMessages());
+        Assert.assertThrows(FileOperationException.class, () -> new ArtifactI18nResourceReference(
+                createFile("es.json", "[\"Hola!\"]")).getMessages());
+        Assert.assertThrows(FileOperationException.class, () -> new ArtifactI18nResourceReference(
+                createFile("it.json", "{\"welcome\": {\"text\": \"Ciao!\"}}")).getMessages());
+        Assert.assertThrows(FileOperationException.class, () -> new ArtifactI18nResourceReference(
+                createFile("pt.json", "{\"welcome\": \"Ola!\", \"welcome\": \"Oi!\"}")).getMessages());
+        Assert.assertThrows(FileOperationException.class, () -> new ArtifactI18nResourceReference(
+                directory.resolve("ja.json")).getMessages());
+    }
+
+    private Path createFile(String name, String content) throws IOException {
+        return Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -52,4 +52,10 @@ public class PathUtilsTest {
         Path filePath = Paths.get("test/some-file.txt");
         Assert.assertEquals(PathUtils.getExtension(filePath), "txt");
     }
+
+    @Test
+    public void testGetNameWithoutExtension() {
+        Assert.assertEquals(PathUtils.getNameWithoutExtension(Paths.get("test/fr-CA.json")), "fr-CA");
+        Assert.assertEquals(PathUtils.getNameWithoutExtension(Paths.get("test/some-file")), "some-file");
+    }
 }
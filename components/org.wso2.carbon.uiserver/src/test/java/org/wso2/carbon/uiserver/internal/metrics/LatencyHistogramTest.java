@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uiserver.api.metrics.LatencyStatistics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for {@link LatencyHistogram} class.
+ *
+ * @since 1.0.9
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBuckets() {
+        for (long micros = 0; micros < 1_000_000; micros++) {
+            int index = LatencyHistogram.bucketIndex(micros);
+            long upperBound = LatencyHistogram.bucketUpperBound(index);
+            Assert.assertTrue(upperBound >= micros, "Upper bound of the bucket of " + micros + " is lower.");
+            Assert.assertTrue((index == 0) || (LatencyHistogram.bucketUpperBound(index - 1) < micros),
+                              "Bucket of " + micros + " is not the lowest matching bucket.");
+            Assert.assertTrue((upperBound - micros) <= (micros / 32), "Bucket of " + micros + " is too wide.");
+        }
+    }
+
+    @Test
+    public void testGetStatistics() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        LatencyStatistics statistics = histogram.getStatistics();
+        Assert.assertEquals(statistics.getCount(), 1000);
+        Assert.assertEquals(statistics.getMean(), 500_500, 0.001);
+        Assert.assertEquals(statistics.getMedian(), 500_000, 500_000 / 32);
+        Assert.assertEquals(statistics.get90thPercentile(), 900_000, 900_000 / 32);
+        Assert.assertEquals(statistics.get99thPercentile(), 990_000, 990_000 / 32);
+        Assert.assertEquals(statistics.get999thPercentile(), 999_000, 999_000 / 32);
+        Assert.assertEquals(statistics.getMax(), 1_000_000);
+    }
+
+    @Test
+    public void testGetStatisticsWhenEmpty() {
+        LatencyStatistics statistics = new LatencyHistogram().getStatistics();
+
+        Assert.assertEquals(statistics.getCount(), 0);
+        Assert.assertEquals(statistics.getMax(), 0);
+    }
+
+    @Test
+    public void testRecordOutOfRange() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-1);
+        histogram.record(TimeUnit.DAYS.toNanos(1));
+
+        LatencyStatistics statistics = histogram.getStatistics();
+        Assert.assertEquals(statistics.getCount(), 2);
+        Assert.assertEquals(statistics.getMax(), TimeUnit.HOURS.toMicros(1));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.metrics;
+
+import com.google.common.cache.CacheStats;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+import org.wso2.carbon.uiserver.api.metrics.RequestKind;
+import org.wso2.carbon.uiserver.api.metrics.RequestMetrics;
+import org.wso2.carbon.uiserver.internal.http.ResponseBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test cases for {@link RequestMetricsRecorder} class.
+ *
+ * @since 1.0.9
+ */
+public class RequestMetricsRecorderTest {
+
+    @Test
+    public void testGetMetrics() {
+        RequestMetricsRecorder recorder = new RequestMetricsRecorder("foo", null);
+        recorder.record(RequestKind.PAGE, ResponseBuilder.ok("h\u00e9llo").build(), 2_000_000);
+        recorder.record(RequestKind.PAGE, ResponseBuilder.notFound("bar").build(), 1_000_000);
+        recorder.record(RequestKind.STATIC_RESOURCE, ResponseBuilder.ok(new ByteArrayInputStream(new byte[10]),
+                                                                        "text/css").build(), 500_000);
+        recorder.registerCache("bundles", () -> new CacheStats(3, 1, 1, 0, 0, 0));
+
+        RequestMetrics metrics = recorder.getMetrics();
+        Assert.assertEquals(metrics.getAppName(), "foo");
+        Assert.assertEquals(metrics.getRequestCount(), 3);
+        Assert.assertEquals(metrics.getLatency(RequestKind.PAGE).get().getCount(), 2);
+        Assert.assertEquals(metrics.getLatency(RequestKind.PAGE).get().getMax(), 2000);
+        Assert.assertEquals(metrics.getLatency(RequestKind.STATIC_RESOURCE).get().getCount(), 1);
+        Assert.assertFalse(metrics.getLatency(RequestKind.FAVICON).isPresent());
+        Assert.assertEquals(metrics.getStatusCounts().get(HttpResponse.STATUS_OK), Long.valueOf(2));
+        Assert.assertEquals(metrics.getStatusCounts().get(HttpResponse.STATUS_NOT_FOUND), Long.valueOf(1));
+        Assert.assertEquals(metrics.getBytesSent(), 6 + 3 + 10);
+        Assert.assertEquals(metrics.getCacheHitRatios().get("bundles"), 0.75, 0.001);
+    }
+
+    @Test
+    public void testGetContentLength() {
+        Assert.assertEquals(RequestMetricsRecorder.getContentLength("foo"), 3);
+        Assert.assertEquals(RequestMetricsRecorder.getContentLength("\u0dc1\u0dca\u200d"), 9);
+        Assert.assertEquals(RequestMetricsRecorder.getContentLength(new byte[5]), 5);
+        Assert.assertEquals(RequestMetricsRecorder.getContentLength(mock(InputStream.class)), 0);
+        Assert.assertEquals(RequestMetricsRecorder.getContentLength(null), 0);
+    }
+
+    @Test
+    public void testReportToCarbonMetrics() {
+        CarbonMetricsReporter reporter = mock(CarbonMetricsReporter.class);
+        RequestMetricsRecorder recorder = new RequestMetricsRecorder("foo", reporter);
+        recorder.record(RequestKind.I18N_BUNDLE, ResponseBuilder.ok("bar").build(), 1000);
+        recorder.registerCache("bundles", () -> new CacheStats(0, 0, 0, 0, 0, 0));
+        recorder.close();
+
+        verify(reporter).report(RequestKind.I18N_BUNDLE, HttpResponse.STATUS_OK, 3, 1000);
+        verify(reporter).reportCacheHitRatio(eq("bundles"), any());
+        verify(reporter).close();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.tracing;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test cases for {@link RequestTrace} class.
+ *
+ * @since 1.0.9
+ */
+public class RequestTraceTest {
+
+    @Test
+    public void testStartSpanWithoutCurrentTrace() {
+        Assert.assertNull(RequestTrace.current());
+        Span span = RequestTrace.startSpan(RequestTrace.STAGE_ROUTING);
+        span.end();
+        Assert.assertEquals(span.getDurationNanos(), -1L);
+    }
+
+    @Test
+    public void testStartSpanWithCurrentTrace() {
+        RequestTrace trace = new RequestTrace("GET", "/foo/bar", true);
+        RequestTrace previousTrace = RequestTrace.setCurrent(trace);
+        try {
+            RequestTrace.startSpan(RequestTrace.STAGE_ROUTING).end();
+            Span renderSpan = RequestTrace.startSpan(RequestTrace.STAGE_RENDER);
+            renderSpan.end();
+            renderSpan.end();
+        } finally {
+            Assert.assertSame(RequestTrace.setCurrent(previousTrace), trace);
+        }
+        trace.finish(200);
+
+        List<String> stages = trace.getSpans().stream().map(Span::getName).collect(Collectors.toList());
+        Assert.assertEquals(stages, Arrays.asList(RequestTrace.STAGE_ROUTING, RequestTrace.STAGE_RENDER));
+        Assert.assertEquals(trace.getStatus(), 200);
+        Assert.assertTrue(trace.getDurationNanos() >= 0);
+        Assert.assertNull(RequestTrace.current());
+    }
+
+    @Test
+    public void testSpansAfterFinish() {
+        RequestTrace trace = new RequestTrace("GET", "/foo", false);
+        Span span = trace.newSpan(RequestTrace.STAGE_FILE_READ);
+        trace.finish(200);
+        span.end();
+
+        Assert.assertTrue(trace.getSpans().isEmpty());
+    }
+
+    @Test
+    public void testToLogString() {
+        RequestTrace trace = new RequestTrace("GET", "/foo/bar", false);
+        trace.newSpan(RequestTrace.STAGE_ROUTING).end();
+        trace.newSpan(RequestTrace.STAGE_RENDER).end();
+        trace.finish(404);
+
+        String logString = trace.toLogString();
+        Assert.assertTrue(logString.startsWith("trace-id=" + trace.getTraceId() + " GET /foo/bar status=404 total-ms="),
+                          logString);
+        Assert.assertTrue(logString.indexOf(" routing-ms=") < logString.indexOf(" render-ms="), logString);
+        Assert.assertEquals(trace.getTraceId().length(), 32);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.tracing;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for {@link RequestTracer} class.
+ *
+ * @since 1.0.9
+ */
+public class RequestTracerTest {
+
+    @Test
+    public void testSampledRequest() {
+        ZipkinTraceExporter exporter = mock(ZipkinTraceExporter.class);
+        RequestTracer requestTracer = new RequestTracer(1.0, 0, exporter);
+
+        RequestTrace trace = requestTracer.start(createRequest());
+        Assert.assertTrue(trace.isSampled());
+        Assert.assertEquals(trace.getMethod(), "GET");
+        Assert.assertEquals(trace.getUri(), "/foo/bar");
+        requestTracer.finish(trace, 200);
+        verify(exporter).export(trace);
+    }
+
+    @Test
+    public void testNotSampledRequest() {
+        ZipkinTraceExporter exporter = mock(ZipkinTraceExporter.class);
+        RequestTracer requestTracer = new RequestTracer(0.0, 60_000, exporter);
+
+        RequestTrace trace = requestTracer.start(createRequest());
+        Assert.assertFalse(trace.isSampled());
+        requestTracer.finish(trace, 200);
+        verify(exporter, never()).export(any());
+    }
+
+    @Test
+    public void testSlowRequest() throws Exception {
+        ZipkinTraceExporter exporter = mock(ZipkinTraceExporter.class);
+        RequestTracer requestTracer = new RequestTracer(0.0, 1, exporter);
+
+        RequestTrace trace = requestTracer.start(createRequest());
+        Thread.sleep(5);
+        requestTracer.finish(trace, 200);
+        // Slow requests are always exported.
+        verify(exporter).export(trace);
+    }
+
+    private static HttpRequest createRequest() {
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getUri()).thenReturn("/foo/bar");
+        return request;
+    }
+}
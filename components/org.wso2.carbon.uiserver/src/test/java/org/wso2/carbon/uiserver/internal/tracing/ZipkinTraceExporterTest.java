@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.tracing;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test cases for {@link ZipkinTraceExporter} class.
+ *
+ * @since 1.0.9
+ */
+public class ZipkinTraceExporterTest {
+
+    @Test
+    public void testToJson() {
+        RequestTrace trace = new RequestTrace("GET", "/foo/bar", true);
+        trace.newSpan(RequestTrace.STAGE_ROUTING).end();
+        trace.finish(200);
+
+        JsonArray spans = JsonParser.parseString(ZipkinTraceExporter.toJson(Collections.singletonList(trace)))
+                .getAsJsonArray();
+        Assert.assertEquals(spans.size(), 2);
+        JsonObject rootSpan = spans.get(0).getAsJsonObject();
+        Assert.assertEquals(rootSpan.get("traceId").getAsString(), trace.getTraceId());
+        Assert.assertEquals(rootSpan.get("kind").getAsString(), "SERVER");
+        Assert.assertEquals(rootSpan.get("timestamp").getAsLong(), trace.getStartEpochMicros());
+        Assert.assertTrue(rootSpan.get("duration").getAsLong() >= 1);
+        Assert.assertEquals(rootSpan.getAsJsonObject("tags").get("http.status_code").getAsString(), "200");
+        JsonObject stageSpan = spans.get(1).getAsJsonObject();
+        Assert.assertEquals(stageSpan.get("name").getAsString(), RequestTrace.STAGE_ROUTING);
+        Assert.assertEquals(stageSpan.get("parentId").getAsString(), rootSpan.get("id").getAsString());
+        Assert.assertEquals(stageSpan.get("traceId").getAsString(), trace.getTraceId());
+    }
+
+    @Test
+    public void testExportToFile() throws Exception {
+        Path exportFile = Files.createTempDirectory("carbon-ui-server-traces").resolve("traces/spans.json");
+        ZipkinTraceExporter exporter = new ZipkinTraceExporter(exportFile, null, 10);
+        RequestTrace trace = new RequestTrace("GET", "/foo", true);
+        trace.finish(200);
+
+        exporter.export(trace);
+        exporter.close();
+
+        List<String> lines = Files.readAllLines(exportFile, StandardCharsets.UTF_8);
+        Assert.assertEquals(lines.size(), 1);
+        Assert.assertTrue(lines.get(0).contains(trace.getTraceId()));
+        Assert.assertEquals(exporter.getDroppedTraces(), 0);
+    }
+
+    @Test
+    public void testExportAfterClose() {
+        ZipkinTraceExporter exporter = new ZipkinTraceExporter(null, null, 10);
+        exporter.close();
+        RequestTrace trace = new RequestTrace("GET", "/foo", true);
+        trace.finish(200);
+
+        exporter.export(trace);
+        Assert.assertEquals(exporter.getDroppedTraces(), 1);
+    }
+}
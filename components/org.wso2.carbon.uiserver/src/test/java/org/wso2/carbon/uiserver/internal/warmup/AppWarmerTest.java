@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.warmup;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uiserver.api.App;
+import org.wso2.carbon.uiserver.internal.deployment.AppCreator;
+import org.wso2.carbon.uiserver.internal.http.RequestDispatcher;
+import org.wso2.carbon.uiserver.internal.io.reference.ArtifactAppReference;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Test cases for {@link AppWarmer} class.
+ *
+ * @since 1.0.9
+ */
+public class AppWarmerTest {
+
+    private Path hotSetsDirectory;
+    private App app;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        hotSetsDirectory = Files.createTempDirectory("app-warmer-test");
+        app = AppCreator.createApp(new ArtifactAppReference(Paths.get("src/test/resources/apps/full-app/")), "/test");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(hotSetsDirectory.toFile());
+    }
+
+    @Test
+    public void testWarmUpWithoutHotSet() {
+        RequestDispatcher requestDispatcher = new RequestDispatcher(app);
+        AppWarmer appWarmer = new AppWarmer(new HotSetStore(hotSetsDirectory), 10, 10000);
+
+        Assert.assertEquals(appWarmer.warmUp(app, requestDispatcher), 0);
+        Assert.assertEquals(requestDispatcher.getCacheSizes().get(RequestDispatcher.CACHE_I18N_BUNDLES),
+                            Long.valueOf(1));
+        Assert.assertEquals(requestDispatcher.getCacheSizes().get(RequestDispatcher.CACHE_STATIC_RESOURCE_DATES),
+                            Long.valueOf(2));
+    }
+
+    @Test
+    public void testWarmUpWithHotSet() {
+        HotSetStore hotSetStore = new HotSetStore(hotSetsDirectory);
+        hotSetStore.store(app.getName(), ImmutableMap.of("/public/app/css/styles.css", 20L, "/", 10L,
+                                                         "/missing", 5L, "/public/../foo", 5L));
+        RequestDispatcher requestDispatcher = new RequestDispatcher(app);
+        AppWarmer appWarmer = new AppWarmer(hotSetStore, 10, 10000);
+
+        // Page '/' and the static resource are served, while the missing page and the invalid URI are skipped.
+        Assert.assertEquals(appWarmer.warmUp(app, requestDispatcher), 2);
+        Assert.assertEquals(requestDispatcher.getCacheSizes().get(RequestDispatcher.CACHE_STATIC_RESOURCE_DATES),
+                            Long.valueOf(1));
+    }
+
+    @Test
+    public void testStoreHotSet() {
+        HotSetStore hotSetStore = new HotSetStore(hotSetsDirectory);
+        hotSetStore.store(app.getName(), ImmutableMap.of("/", 10L));
+        AppWarmer appWarmer = new AppWarmer(hotSetStore, 10, 10000);
+
+        appWarmer.getHotSetRecorder(app.getName());
+        appWarmer.close();
+        // Hits carried over from the previous run are halved.
+        Assert.assertEquals(hotSetStore.load(app.getName()), ImmutableMap.of("/", 5L));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.warmup;
+
+import com.google.common.collect.ImmutableMap;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uiserver.api.http.HttpRequest;
+import org.wso2.carbon.uiserver.api.http.HttpResponse;
+
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for {@link HotSetRecorder} class.
+ *
+ * @since 1.0.9
+ */
+public class HotSetRecorderTest {
+
+    @Test
+    public void testGetHottest() {
+        HotSetRecorder hotSetRecorder = new HotSetRecorder();
+        record(hotSetRecorder, "/a", HttpResponse.STATUS_OK, 1);
+        record(hotSetRecorder, "/b", HttpResponse.STATUS_OK, 3);
+        record(hotSetRecorder, "/c", HttpResponse.STATUS_NOT_MODIFIED, 2);
+        record(hotSetRecorder, "/d", HttpResponse.STATUS_NOT_FOUND, 5);
+
+        Map<String, Long> hottest = hotSetRecorder.getHottest(2);
+        Assert.assertEquals(new ArrayList<>(hottest.keySet()), Arrays.asList("/b", "/c"));
+        Assert.assertEquals(hottest.get("/b"), Long.valueOf(3));
+        Assert.assertEquals(hotSetRecorder.getHottest(10).size(), 3);
+    }
+
+    @Test
+    public void testPreviousHitsCoolDown() {
+        HotSetRecorder hotSetRecorder = new HotSetRecorder(ImmutableMap.of("/a", 10L, "/b", 1L));
+        record(hotSetRecorder, "/c", HttpResponse.STATUS_OK, 6);
+
+        Map<String, Long> hottest = hotSetRecorder.getHottest(10);
+        Assert.assertEquals(new ArrayList<>(hottest.keySet()), Arrays.asList("/c", "/a", "/b"));
+        Assert.assertEquals(hottest.get("/a"), Long.valueOf(5));
+        Assert.assertEquals(hottest.get("/b"), Long.valueOf(1));
+    }
+
+    @Test
+    public void testTrackedUrisAreBounded() {
+        HotSetRecorder hotSetRecorder = new HotSetRecorder();
+        for (int i = 0; i <= HotSetRecorder.MAX_TRACKED_URIS; i++) {
+            record(hotSetRecorder, "/" + i, HttpResponse.STATUS_OK, 1);
+        }
+        Assert.assertTrue(hotSetRecorder.getHottest(Integer.MAX_VALUE).size() <= HotSetRecorder.MAX_TRACKED_URIS);
+    }
+
+    @Test
+    public void testLateHotUriIsTracked() {
+        HotSetRecorder hotSetRecorder = new HotSetRecorder();
+        for (int i = 0; i < HotSetRecorder.MAX_TRACKED_URIS; i++) {
+            record(hotSetRecorder, "/junk/" + i, HttpResponse.STATUS_OK, 1);
+        }
+        record(hotSetRecorder, "/hot", HttpResponse.STATUS_OK, 5);
+
+        Map<String, Long> hottest = hotSetRecorder.getHottest(1);
+        Assert.assertEquals(new ArrayList<>(hottest.keySet()), Arrays.asList("/hot"));
+        Assert.assertEquals(hotSetRecorder.getHottest(Integer.MAX_VALUE).size(),
+                            HotSetRecorder.MAX_TRACKED_URIS - HotSetRecorder.EVICTION_BATCH_SIZE + 1);
+    }
+
+    private static void record(HotSetRecorder hotSetRecorder, String uri, int status, int times) {
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.getUriWithoutContextPath()).thenReturn(uri);
+        HttpResponse response = new HttpResponse(status, null, null);
+        for (int i = 0; i < times; i++) {
+            hotSetRecorder.record(request, response);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.internal.warmup;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * Test cases for {@link HotSetStore} class.
+ *
+ * @since 1.0.9
+ */
+public class HotSetStoreTest {
+
+    private Path hotSetsDirectory;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        hotSetsDirectory = Files.createTempDirectory("hot-set-store-test");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(hotSetsDirectory.toFile());
+    }
+
+    @Test
+    public void testStoreAndLoad() {
+        HotSetStore hotSetStore = new HotSetStore(hotSetsDirectory.resolve("hot-sets"));
+        Assert.assertTrue(hotSetStore.load("foo").isEmpty());
+
+        Map<String, Long> hotSet = ImmutableMap.of("/public/app/css/styles.css", 20L, "/", 10L);
+        hotSetStore.store("foo", hotSet);
+        Map<String, Long> loadedHotSet = hotSetStore.load("foo");
+        Assert.assertEquals(loadedHotSet, hotSet);
+        Assert.assertEquals(new ArrayList<>(loadedHotSet.keySet()), new ArrayList<>(hotSet.keySet()));
+        Assert.assertTrue(hotSetStore.load("bar").isEmpty());
+    }
+
+    @Test
+    public void testLoadIgnoresMalformedLines() throws IOException {
+        Files.write(hotSetsDirectory.resolve("foo.hotset"), "3 /a\nfoo /b\n\n1 /c\n".getBytes("UTF-8"));
+
+        Assert.assertEquals(new HotSetStore(hotSetsDirectory).load("foo"), ImmutableMap.of("/a", 3L, "/c", 1L));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.tests.loadtest;
+
+import com.sun.management.ThreadMXBean;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.management.MBeanServerConnection;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+/**
+ * Measures heap allocations and garbage collections of the server JVM over JMX.
+ * <p>
+ * Allocations are the sum of bytes allocated by the threads of the server. Threads that terminate during the
+ * measured period are not accounted, which is negligible as the transport and dispatcher threads are long-lived.
+ *
+ * @since 1.0.9
+ */
+public class AllocationMonitor implements Closeable {
+
+    private final JMXConnector connector;
+    private final ThreadMXBean threadMxBean;
+    private final List<GarbageCollectorMXBean> garbageCollectorMxBeans;
+    private Map<Long, Long> startAllocatedBytes;
+    private long startGcCount;
+    private long startGcTimeMillis;
+    private long startNanos;
+
+    private AllocationMonitor(JMXConnector connector) throws IOException {
+        this.connector = connector;
+        MBeanServerConnection connection = connector.getMBeanServerConnection();
+        this.threadMxBean = ManagementFactory.newPlatformMXBeanProxy(connection, ManagementFactory.THREAD_MXBEAN_NAME,
+                                                                     ThreadMXBean.class);
+        this.garbageCollectorMxBeans = new ArrayList<>();
+        Set<ObjectName> garbageCollectorNames;
+        try {
+            garbageCollectorNames = connection.queryNames(
+                    new ObjectName(ManagementFactory.GARBAGE_COLLECTOR_MXBEAN_DOMAIN_TYPE + ",*"), null);
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalStateException("Cannot query garbage collectors of the server.", e);
+        }
+        for (ObjectName name : garbageCollectorNames) {
+            garbageCollectorMxBeans.add(ManagementFactory.newPlatformMXBeanProxy(connection, name.getCanonicalName(),
+                                                                                 GarbageCollectorMXBean.class));
+        }
+    }
+
+    /**
+     * Connects to the JMX agent of a JVM on the local host.
+     *
+     * @param jmxPort JMX port of the JVM
+     * @return allocation monitor of the JVM
+     * @throws IOException if cannot connect to the JVM
+     */
+    public static AllocationMonitor connect(int jmxPort) throws IOException {
+        JMXServiceURL url = new JMXServiceURL("service:jmx:rmi:///jndi/rmi://localhost:" + jmxPort + "/jmxrmi");
+        return new AllocationMonitor(JMXConnectorFactory.connect(url));
+    }
+
+    /**
+     * Starts a measured period.
+     */
+    public void start() {
+        startAllocatedBytes = getAllocatedBytes();
+        startGcCount = getGcCount();
+        startGcTimeMillis = getGcTimeMillis();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Ends the measured period.
+     *
+     * @return allocated bytes, allocation rate and garbage collections during the measured period
+     */
+    public Map<String, Object> stop() {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        long allocatedBytes = 0;
+        for (Map.Entry<Long, Long> entry : getAllocatedBytes().entrySet()) {
+            long allocatedSinceStart = entry.getValue() - startAllocatedBytes.getOrDefault(entry.getKey(), 0L);
+            allocatedBytes += Math.max(0, allocatedSinceStart);
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("allocatedBytes", allocatedBytes);
+        map.put("allocationRateMbPerSecond", Math.round(allocatedBytes / (1024.0 * 1024.0) / seconds * 1000) / 1000.0);
+        map.put("gcCount", getGcCount() - startGcCount);
+        map.put("gcTimeMs", getGcTimeMillis() - startGcTimeMillis);
+        return map;
+    }
+
+    @Override
+    public void close() throws IOException {
+        connector.close();
+    }
+
+    private Map<Long, Long> getAllocatedBytes() {
+        long[] threadIds = threadMxBean.getAllThreadIds();
+        long[] allocatedBytes = threadMxBean.getThreadAllocatedBytes(threadIds);
+        Map<Long, Long> map = new HashMap<>();
+        for (int i = 0; i < threadIds.length; i++) {
+            if (allocatedBytes[i] >= 0) {
+                map.put(threadIds[i], allocatedBytes[i]);
+            }
+        }
+        return map;
+    }
+
+    private long getGcCount() {
+        return garbageCollectorMxBeans.stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private long getGcTimeMillis() {
+        return garbageCollectorMxBeans.stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+}
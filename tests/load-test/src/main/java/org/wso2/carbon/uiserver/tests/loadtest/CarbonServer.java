@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.tests.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Test distribution extracted into a local directory and started as a separate process.
+ *
+ * @since 1.0.9
+ */
+public class CarbonServer implements AutoCloseable {
+
+    private static final String APPS_DIRECTORY = "wso2/default/deployment/web-ui-apps";
+    private static final long STOP_TIMEOUT_SECONDS = 60;
+
+    private final Path home;
+    private final Path logFile;
+    private Process process;
+
+    private CarbonServer(Path home, Path logFile) {
+        this.home = home;
+        this.logFile = logFile;
+    }
+
+    /**
+     * Extracts the specified distribution into the work directory, replacing a previous extraction.
+     *
+     * @param distribution  distribution zip file
+     * @param workDirectory directory to extract the distribution
+     * @return extracted server
+     * @throws IOException if an error occurred when extracting the distribution
+     */
+    public static CarbonServer extract(Path distribution, Path workDirectory) throws IOException {
+        if (!Files.isRegularFile(distribution)) {
+            throw new IOException("Cannot find distribution '" + distribution + "'. Build 'tests/distribution' first.");
+        }
+        Path serverDirectory = workDirectory.resolve("server");
+        deleteRecursively(serverDirectory);
+        Files.createDirectories(serverDirectory);
+
+        Path home = null;
+        try (ZipFile zipFile = new ZipFile(distribution.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                Path target = serverDirectory.resolve(entry.getName()).normalize();
+                if (!target.startsWith(serverDirectory)) {
+                    throw new IOException("Entry '" + entry.getName() + "' is outside of the distribution.");
+                }
+                if (home == null) {
+                    home = serverDirectory.resolve(serverDirectory.relativize(target).getName(0));
+                }
+                if (entry.isDirectory()) {
+                    Files.createDirectories(target);
+                } else {
+                    Files.createDirectories(target.getParent());
+                    try (InputStream inputStream = zipFile.getInputStream(entry)) {
+                        Files.copy(inputStream, target, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    if (target.toString().endsWith(".sh")) {
+                        target.toFile().setExecutable(true);
+                    }
+                }
+            }
+        }
+        if (home == null) {
+            throw new IOException("Distribution '" + distribution + "' is empty.");
+        }
+        return new CarbonServer(home, workDirectory.resolve("server.log"));
+    }
+
+    /**
+     * Returns the directory to deploy web apps in this server.
+     *
+     * @return web apps directory
+     */
+    public Path getAppsDirectory() {
+        return home.resolve(APPS_DIRECTORY);
+    }
+
+    /**
+     * Starts this server with a JMX agent listening on the specified port. Output of the server is written to
+     * {@code server.log} in the work directory.
+     *
+     * @param jmxPort JMX port
+     * @throws IOException if cannot start the server
+     */
+    public void start(int jmxPort) throws IOException {
+        boolean windows = System.getProperty("os.name").toLowerCase().startsWith("windows");
+        Path script = home.resolve("bin").resolve(windows ? "carbon.bat" : "carbon.sh");
+        ProcessBuilder processBuilder = new ProcessBuilder(script.toString())
+                .directory(home.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile());
+        Map<String, String> environment = processBuilder.environment();
+        String javaOpts = String.join(" ", Arrays.asList(
+                "-Dcom.sun.management.jmxremote.port=" + jmxPort,
+                "-Dcom.sun.management.jmxremote.authenticate=false",
+                "-Dcom.sun.management.jmxremote.ssl=false",
+                "-Djava.rmi.server.hostname=localhost"));
+        environment.merge("JAVA_OPTS", javaOpts, (existing, added) -> existing + " " + added);
+        process = processBuilder.start();
+    }
+
+    /**
+     * Returns whether this server is running.
+     *
+     * @return {@code true} if the server process is alive, otherwise {@code false}
+     */
+    public boolean isAlive() {
+        return (process != null) && process.isAlive();
+    }
+
+    /**
+     * Returns the log file of this server.
+     *
+     * @return log file
+     */
+    public Path getLogFile() {
+        return logFile;
+    }
+
+    /**
+     * Stops this server. The JVM started by the launcher script is stopped as well.
+     */
+    @Override
+    public void close() {
+        if (process == null) {
+            return;
+        }
+        process.descendants().forEach(ProcessHandle::destroy);
+        process.destroy();
+        try {
+            if (!process.waitFor(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.descendants().forEach(ProcessHandle::destroyForcibly);
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+        process = null;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.tests.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+/**
+ * Drives a mix of page, static resource, conditional and not found requests to a web app.
+ * <p>
+ * Each of the configured number of client threads sends a request, waits for the complete response and then sends
+ * the next one (closed model) until the run ends.
+ *
+ * @since 1.0.9
+ */
+public class LoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final SyntheticApp app;
+    private final LoadTestConfiguration configuration;
+    private final HttpClient httpClient;
+    private final RequestType[] weightedRequestTypes;
+    private final Map<String, String> lastModifiedDates;
+
+    /**
+     * Creates a new load driver.
+     *
+     * @param baseUrl       URL of the web app, including its context path
+     * @param app           web app to request
+     * @param configuration load test configuration
+     */
+    public LoadDriver(String baseUrl, SyntheticApp app, LoadTestConfiguration configuration) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.app = app;
+        this.configuration = configuration;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .sslContext(createTrustAllSslContext())
+                .build();
+        this.weightedRequestTypes = toWeightedArray(configuration.getTrafficMix());
+        this.lastModifiedDates = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Waits until the web app serves its first page.
+     *
+     * @param timeoutSeconds maximum time to wait in seconds
+     * @param serverAlive    tells whether the server process is still alive
+     * @return {@code true} if the web app became available, otherwise {@code false}
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitAvailability(long timeoutSeconds, BooleanSupplier serverAlive) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        HttpRequest request = newRequest(app.getPageUris().get(0)).build();
+        while (System.nanoTime() < deadline) {
+            if (!serverAlive.getAsBoolean()) {
+                return false;
+            }
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return true;
+                }
+            } catch (IOException e) {
+                // Server is not listening yet.
+            }
+            TimeUnit.SECONDS.sleep(1);
+        }
+        return false;
+    }
+
+    /**
+     * Requests every static resource once, so that their last modified dates are known for conditional requests.
+     *
+     * @throws IOException          if a request failed
+     * @throws InterruptedException if interrupted while waiting for a response
+     */
+    public void prime() throws IOException, InterruptedException {
+        for (String uri : app.getStaticResourceUris()) {
+            HttpResponse<Void> response = httpClient.send(newRequest(uri).build(),
+                                                          HttpResponse.BodyHandlers.discarding());
+            response.headers().firstValue("Last-Modified").ifPresent(date -> lastModifiedDates.put(uri, date));
+        }
+    }
+
+    /**
+     * Drives load for the specified period.
+     *
+     * @param durationSeconds period in seconds
+     * @return statistics of requests keyed by request type
+     * @throws InterruptedException if interrupted while waiting for client threads
+     */
+    public Map<RequestType, RequestStatistics> run(long durationSeconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        ExecutorService executorService = Executors.newFixedThreadPool(configuration.getConcurrency());
+        List<Future<Map<RequestType, RequestStatistics>>> futures = new ArrayList<>();
+        for (int i = 0; i < configuration.getConcurrency(); i++) {
+            futures.add(executorService.submit(() -> drive(deadline)));
+        }
+        executorService.shutdown();
+
+        Map<RequestType, RequestStatistics> statistics = newStatistics();
+        for (Future<Map<RequestType, RequestStatistics>> future : futures) {
+            try {
+                future.get().forEach((requestType, clientStatistics) -> statistics.get(requestType)
+                        .merge(clientStatistics));
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("A load test client failed unexpectedly.", e.getCause());
+            }
+        }
+        return statistics;
+    }
+
+    private Map<RequestType, RequestStatistics> drive(long deadline) {
+        Map<RequestType, RequestStatistics> statistics = newStatistics();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            RequestType requestType = weightedRequestTypes[random.nextInt(weightedRequestTypes.length)];
+            HttpRequest request = createRequest(requestType, random);
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                statistics.get(requestType).record(System.nanoTime() - start, response.statusCode(),
+                                                   response.statusCode() == requestType.getExpectedStatus());
+            } catch (IOException e) {
+                statistics.get(requestType).recordFailure();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return statistics;
+    }
+
+    private HttpRequest createRequest(RequestType requestType, ThreadLocalRandom random) {
+        switch (requestType) {
+            case PAGE:
+                return newRequest(randomElement(app.getPageUris(), random))
+                        .header("Accept-Language", randomElement(app.getLanguageTags(), random))
+                        .build();
+            case STATIC_RESOURCE:
+                return newRequest(randomElement(app.getStaticResourceUris(), random)).build();
+            case CONDITIONAL:
+                String uri = randomElement(app.getStaticResourceUris(), random);
+                String lastModifiedDate = lastModifiedDates.get(uri);
+                HttpRequest.Builder builder = newRequest(uri);
+                return ((lastModifiedDate == null) ? builder : builder.header("If-Modified-Since", lastModifiedDate))
+                        .build();
+            case NOT_FOUND:
+                return newRequest("/missing-page-" + random.nextInt(1000)).build();
+            default:
+                throw new IllegalArgumentException("Unknown request type '" + requestType + "'.");
+        }
+    }
+
+    private HttpRequest.Builder newRequest(String uri) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + uri)).timeout(REQUEST_TIMEOUT).GET();
+    }
+
+    private static Map<RequestType, RequestStatistics> newStatistics() {
+        Map<RequestType, RequestStatistics> statistics = new EnumMap<>(RequestType.class);
+        for (RequestType requestType : RequestType.values()) {
+            statistics.put(requestType, new RequestStatistics());
+        }
+        return statistics;
+    }
+
+    private static RequestType[] toWeightedArray(Map<RequestType, Integer> trafficMix) {
+        List<RequestType> requestTypes = new ArrayList<>();
+        trafficMix.forEach((requestType, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                requestTypes.add(requestType);
+            }
+        });
+        return requestTypes.toArray(new RequestType[0]);
+    }
+
+    private static <T> T randomElement(List<T> list, ThreadLocalRandom random) {
+        return list.get(random.nextInt(list.size()));
+    }
+
+    private static SSLContext createTrustAllSslContext() {
+        // The test distribution uses a self-signed certificate.
+        TrustManager trustAllManager = new X509TrustManager() {
+            @Override
+            public void checkClientTrusted(X509Certificate[] chain, String authType) {
+            }
+
+            @Override
+            public void checkServerTrusted(X509Certificate[] chain, String authType) {
+            }
+
+            @Override
+            public X509Certificate[] getAcceptedIssuers() {
+                return new X509Certificate[0];
+            }
+        };
+        try {
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, new TrustManager[]{trustAllManager}, new SecureRandom());
+            return sslContext;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot create an SSL context for the load test client.", e);
+        }
+    }
+}
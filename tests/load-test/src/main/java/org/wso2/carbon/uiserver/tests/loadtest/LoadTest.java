@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.tests.loadtest;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test for the test distribution.
+ * <p>
+ * Generates a synthetic web app according to the {@code loadtest.*} system properties (see {@link
+ * LoadTestConfiguration}), deploys it to the extracted test distribution, starts the distribution, warms it up and
+ * then drives load for the configured duration. Throughput, latency percentiles and the allocation rate of the server
+ * are printed and saved as a JSON file in the results directory, so that runs can be compared across versions.
+ * <p>
+ * To test an already running server instead, set {@code loadtest.server.url} to the URL of a web app that was
+ * generated by a previous run. Allocations are then not measured.
+ *
+ * @since 1.0.9
+ */
+public class LoadTest {
+
+    private static final DateTimeFormatter FILE_NAME_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    public static void main(String[] args) throws Exception {
+        // Certificate of the test distribution is issued for 'localhost' only.
+        System.setProperty("jdk.internal.httpclient.disableHostnameVerification", "true");
+        LoadTestConfiguration configuration = LoadTestConfiguration.fromSystemProperties();
+        Map<String, Object> results = run(configuration);
+
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        String json = gson.toJson(results);
+        Path resultsDirectory = configuration.getResultsDirectory();
+        Files.createDirectories(resultsDirectory);
+        Path resultsFile = resultsDirectory.resolve("load-test-" + configuration.getVersion() + "-" +
+                                                    FILE_NAME_TIMESTAMP.format(ZonedDateTime.now()) + ".json");
+        Files.write(resultsFile, json.getBytes(StandardCharsets.UTF_8));
+        System.out.println(json);
+        System.out.println("Load test results saved to '" + resultsFile + "'.");
+    }
+
+    private static Map<String, Object> run(LoadTestConfiguration configuration) throws Exception {
+        Path workDirectory = configuration.getWorkDirectory();
+        if (configuration.getServerUrl() != null) {
+            SyntheticApp app = SyntheticApp.generate(workDirectory.resolve("app"), configuration);
+            LoadDriver loadDriver = new LoadDriver(configuration.getServerUrl(), app, configuration);
+            return drive(loadDriver, configuration, null);
+        }
+
+        CarbonServer server = CarbonServer.extract(configuration.getDistribution(), workDirectory);
+        SyntheticApp app = SyntheticApp.generate(server.getAppsDirectory().resolve(configuration.getAppName()),
+                                                 configuration);
+        try (CarbonServer runningServer = server) {
+            System.out.println("Starting server. Server logs are written to '" + server.getLogFile() + "'.");
+            runningServer.start(configuration.getJmxPort());
+            LoadDriver loadDriver = new LoadDriver("https://localhost:9443/" + configuration.getAppName(), app,
+                                                   configuration);
+            if (!loadDriver.awaitAvailability(configuration.getStartupTimeoutSeconds(), runningServer::isAlive)) {
+                throw new IllegalStateException("Web app '" + configuration.getAppName() + "' did not become " +
+                                                "available. See '" + server.getLogFile() + "'.");
+            }
+            AllocationMonitor allocationMonitor = connectQuietly(configuration.getJmxPort());
+            try {
+                return drive(loadDriver, configuration, allocationMonitor);
+            } finally {
+                if (allocationMonitor != null) {
+                    allocationMonitor.close();
+                }
+            }
+        }
+    }
+
+    private static Map<String, Object> drive(LoadDriver loadDriver, LoadTestConfiguration configuration,
+                                             AllocationMonitor allocationMonitor) throws Exception {
+        loadDriver.prime();
+        if (configuration.getWarmUpSeconds() > 0) {
+            System.out.println("Warming up for " + configuration.getWarmUpSeconds() + " seconds.");
+            loadDriver.run(configuration.getWarmUpSeconds());
+        }
+
+        System.out.println("Driving load for " + configuration.getDurationSeconds() + " seconds.");
+        if (allocationMonitor != null) {
+            allocationMonitor.start();
+        }
+        Map<RequestType, RequestStatistics> statistics = loadDriver.run(configuration.getDurationSeconds());
+        Map<String, Object> allocations = (allocationMonitor == null) ? null : allocationMonitor.stop();
+
+        RequestStatistics total = new RequestStatistics();
+        Map<String, Object> requestTypeResults = new LinkedHashMap<>();
+        statistics.forEach((requestType, requestTypeStatistics) -> {
+            total.merge(requestTypeStatistics);
+            if (requestTypeStatistics.getCount() > 0) {
+                requestTypeResults.put(requestType.getName(),
+                                       requestTypeStatistics.toMap(configuration.getDurationSeconds()));
+            }
+        });
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("version", configuration.getVersion());
+        results.put("timestamp", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(ZonedDateTime.now()));
+        results.put("javaVersion", System.getProperty("java.version"));
+        results.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        results.put("configuration", configuration.toMap());
+        results.put("total", total.toMap(configuration.getDurationSeconds()));
+        results.put("requestTypes", requestTypeResults);
+        results.put("serverAllocations", allocations);
+        return results;
+    }
+
+    private static AllocationMonitor connectQuietly(int jmxPort) {
+        try {
+            return AllocationMonitor.connect(jmxPort);
+        } catch (IOException e) {
+            System.err.println("Cannot connect to the server over JMX at port " + jmxPort + ". " +
+                               "Allocations will not be measured. " + e.getMessage());
+            return null;
+        }
+    }
+}
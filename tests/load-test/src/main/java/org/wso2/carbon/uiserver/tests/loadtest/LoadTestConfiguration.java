@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.tests.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parameters of a load test run, read from {@code loadtest.*} system properties.
+ *
+ * @since 1.0.9
+ */
+public class LoadTestConfiguration {
+
+    private static final String PROPERTY_PREFIX = "loadtest.";
+
+    private final String version;
+    private final Path distribution;
+    private final Path workDirectory;
+    private final Path resultsDirectory;
+    private final String serverUrl;
+    private final int jmxPort;
+    private final long startupTimeoutSeconds;
+    private final String appName;
+    private final int pages;
+    private final int themes;
+    private final int extensions;
+    private final int locales;
+    private final int bundles;
+    private final int bundleSizeKb;
+    private final int concurrency;
+    private final long warmUpSeconds;
+    private final long durationSeconds;
+    private final Map<RequestType, Integer> trafficMix;
+
+    private LoadTestConfiguration() {
+        this.version = getString("version", "unknown");
+        this.distribution = Paths.get(getString("distribution", "distribution/target/wso2-cuis.zip"));
+        this.workDirectory = Paths.get(getString("work.directory", "target/load-test"));
+        this.resultsDirectory = Paths.get(getString("results.directory", "target/load-test-results"));
+        String url = getString("server.url", "");
+        this.serverUrl = url.isEmpty() ? null : url;
+        this.jmxPort = getInt("jmx.port", 9999);
+        this.startupTimeoutSeconds = getInt("startup.timeout", 300);
+        this.appName = getString("app.name", "load-test-app");
+        this.pages = getInt("pages", 100);
+        this.themes = getInt("themes", 5);
+        this.extensions = getInt("extensions", 10);
+        this.locales = getInt("locales", 5);
+        this.bundles = getInt("bundles", 4);
+        this.bundleSizeKb = getInt("bundle.size", 512);
+        this.concurrency = getInt("concurrency", 32);
+        this.warmUpSeconds = getInt("warmup", 30);
+        this.durationSeconds = getInt("duration", 60);
+        this.trafficMix = parseTrafficMix(getString("mix", "page:50,static:30,conditional:15,not-found:5"));
+        if ((pages <= 0) || (themes <= 0) || (extensions <= 0) || (locales <= 0) || (bundles <= 0) ||
+            (concurrency <= 0) || (durationSeconds <= 0)) {
+            throw new IllegalArgumentException("Pages, themes, extensions, locales, bundles, concurrency and " +
+                                               "duration of the load test should be positive.");
+        }
+    }
+
+    /**
+     * Reads the load test configuration from system properties.
+     *
+     * @return load test configuration
+     * @throws IllegalArgumentException if a system property has an invalid value
+     */
+    public static LoadTestConfiguration fromSystemProperties() throws IllegalArgumentException {
+        return new LoadTestConfiguration();
+    }
+
+    /**
+     * Returns the version of the server under test.
+     *
+     * @return version
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the distribution archive to start.
+     *
+     * @return path of the distribution zip file
+     */
+    public Path getDistribution() {
+        return distribution;
+    }
+
+    /**
+     * Returns the directory to extract the distribution and generate the web app.
+     *
+     * @return work directory
+     */
+    public Path getWorkDirectory() {
+        return workDirectory;
+    }
+
+    /**
+     * Returns the directory to save results.
+     *
+     * @return results directory
+     */
+    public Path getResultsDirectory() {
+        return resultsDirectory;
+    }
+
+    /**
+     * Returns the base URL of an already running server to test.
+     *
+     * @return base URL of the web app, or {@code null} if the distribution should be started
+     */
+    public String getServerUrl() {
+        return serverUrl;
+    }
+
+    /**
+     * Returns the JMX port of the started server, which is used to measure its allocation rate.
+     *
+     * @return JMX port
+     */
+    public int getJmxPort() {
+        return jmxPort;
+    }
+
+    /**
+     * Returns the time to wait for the server to serve the generated web app.
+     *
+     * @return timeout in seconds
+     */
+    public long getStartupTimeoutSeconds() {
+        return startupTimeoutSeconds;
+    }
+
+    /**
+     * Returns the name of the generated web app.
+     *
+     * @return web app name
+     */
+    public String getAppName() {
+        return appName;
+    }
+
+    /**
+     * Returns the number of pages in the generated web app.
+     *
+     * @return number of pages
+     */
+    public int getPages() {
+        return pages;
+    }
+
+    /**
+     * Returns the number of themes in the generated web app.
+     *
+     * @return number of themes
+     */
+    public int getThemes() {
+        return themes;
+    }
+
+    /**
+     * Returns the number of extensions in the generated web app.
+     *
+     * @return number of extensions
+     */
+    public int getExtensions() {
+        return extensions;
+    }
+
+    /**
+     * Returns the number of locales in the generated web app.
+     *
+     * @return number of locales
+     */
+    public int getLocales() {
+        return locales;
+    }
+
+    /**
+     * Returns the number of static bundles in the generated web app.
+     *
+     * @return number of static bundles
+     */
+    public int getBundles() {
+        return bundles;
+    }
+
+    /**
+     * Returns the size of each static bundle in the generated web app.
+     *
+     * @return size in kilobytes
+     */
+    public int getBundleSizeKb() {
+        return bundleSizeKb;
+    }
+
+    /**
+     * Returns the number of concurrent clients.
+     *
+     * @return number of concurrent clients
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Returns the warm-up period, whose requests are not measured.
+     *
+     * @return warm-up period in seconds
+     */
+    public long getWarmUpSeconds() {
+        return warmUpSeconds;
+    }
+
+    /**
+     * Returns the measured period.
+     *
+     * @return measured period in seconds
+     */
+    public long getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    /**
+     * Returns the relative weights of request types in the generated traffic.
+     *
+     * @return weights keyed by request type
+     */
+    public Map<RequestType, Integer> getTrafficMix() {
+        return trafficMix;
+    }
+
+    /**
+     * Returns this configuration as a map to be saved along with results.
+     *
+     * @return parameters of the load test
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("pages", pages);
+        map.put("themes", themes);
+        map.put("extensions", extensions);
+        map.put("locales", locales);
+        map.put("bundles", bundles);
+        map.put("bundleSizeKb", bundleSizeKb);
+        map.put("concurrency", concurrency);
+        map.put("warmUpSeconds", warmUpSeconds);
+        map.put("durationSeconds", durationSeconds);
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        trafficMix.forEach((requestType, weight) -> mix.put(requestType.getName(), weight));
+        map.put("trafficMix", mix);
+        return map;
+    }
+
+    private static Map<RequestType, Integer> parseTrafficMix(String value) {
+        Map<RequestType, Integer> mix = new EnumMap<>(RequestType.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Traffic mix entry '" + entry + "' is not in 'type:weight' format.");
+            }
+            int weight = parseInt(PROPERTY_PREFIX + "mix", parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of '" + parts[0] + "' in the traffic mix is negative.");
+            }
+            mix.put(RequestType.fromName(parts[0].trim()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Traffic mix '" + value + "' does not have any positive weight.");
+        }
+        return Collections.unmodifiableMap(mix);
+    }
+
+    private static String getString(String name, String defaultValue) {
+        String value = System.getProperty(PROPERTY_PREFIX + name);
+        return ((value == null) || value.trim().isEmpty()) ? defaultValue : value.trim();
+    }
+
+    private static int getInt(String name, int defaultValue) {
+        String value = System.getProperty(PROPERTY_PREFIX + name);
+        return ((value == null) || value.trim().isEmpty()) ? defaultValue : parseInt(PROPERTY_PREFIX + name, value);
+    }
+
+    private static int parseInt(String name, String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Value '" + value + "' of '" + name + "' is not an integer.", e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.tests.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencies and statuses of requests of a single type. Each client thread records into its own instance, which are
+ * merged when the run completes.
+ *
+ * @since 1.0.9
+ */
+public class RequestStatistics {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+    private final Map<Integer, Long> statusCounts = new TreeMap<>();
+
+    /**
+     * Records a completed request.
+     *
+     * @param latencyNanos latency of the request in nanoseconds
+     * @param status       HTTP status of the response
+     * @param expected     whether the status is the expected one for the request type
+     */
+    public void record(long latencyNanos, int status, boolean expected) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        statusCounts.merge(status, 1L, Long::sum);
+        if (!expected) {
+            errors++;
+        }
+    }
+
+    /**
+     * Records a request that failed without a response, e.g. due to a connection error.
+     */
+    public void recordFailure() {
+        errors++;
+    }
+
+    /**
+     * Adds the requests recorded in the specified statistics to this statistics.
+     *
+     * @param other statistics to merge
+     */
+    public void merge(RequestStatistics other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+        other.statusCounts.forEach((status, statusCount) -> statusCounts.merge(status, statusCount, Long::sum));
+    }
+
+    /**
+     * Returns the number of requests that received a response.
+     *
+     * @return number of requests
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns a summary of these statistics.
+     *
+     * @param durationSeconds measured period in seconds
+     * @return count, errors, throughput, latency percentiles in milliseconds and status counts
+     */
+    public Map<String, Object> toMap(long durationSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("count", count);
+        map.put("errors", errors);
+        map.put("throughput", round(count / (double) durationSeconds));
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("mean", toMillis((count == 0) ? 0 : (Arrays.stream(sorted).sum() / count)));
+        latency.put("p50", toMillis(percentile(sorted, 0.50)));
+        latency.put("p99", toMillis(percentile(sorted, 0.99)));
+        latency.put("p999", toMillis(percentile(sorted, 0.999)));
+        latency.put("max", toMillis((count == 0) ? 0 : sorted[count - 1]));
+        map.put("latencyMs", latency);
+        Map<String, Long> statuses = new LinkedHashMap<>();
+        statusCounts.forEach((status, statusCount) -> statuses.put(Integer.toString(status), statusCount));
+        map.put("statusCounts", statuses);
+        return map;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double toMillis(long nanos) {
+        return round(nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.tests.loadtest;
+
+/**
+ * Types of requests in the generated traffic.
+ *
+ * @since 1.0.9
+ */
+public enum RequestType {
+
+    /**
+     * Request for a page, which is rendered.
+     */
+    PAGE("page", 200),
+    /**
+     * Request for a static resource of the web app, a theme or an extension.
+     */
+    STATIC_RESOURCE("static", 200),
+    /**
+     * Request for a static resource with an {@code If-Modified-Since} header, which is not modified.
+     */
+    CONDITIONAL("conditional", 304),
+    /**
+     * Request for a page that does not exist.
+     */
+    NOT_FOUND("not-found", 404);
+
+    private final String name;
+    private final int expectedStatus;
+
+    RequestType(String name, int expectedStatus) {
+        this.name = name;
+        this.expectedStatus = expectedStatus;
+    }
+
+    /**
+     * Returns the name of this request type.
+     *
+     * @return name used in configurations and results
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the HTTP status of a successful response for this request type.
+     *
+     * @return expected HTTP status
+     */
+    public int getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    /**
+     * Returns the request type for the specified name.
+     *
+     * @param name name of the request type
+     * @return request type
+     * @throws IllegalArgumentException if there is no request type with the name
+     */
+    public static RequestType fromName(String name) throws IllegalArgumentException {
+        for (RequestType requestType : values()) {
+            if (requestType.name.equals(name)) {
+                return requestType;
+            }
+        }
+        throw new IllegalArgumentException("Unknown request type '" + name + "'.");
+    }
+}
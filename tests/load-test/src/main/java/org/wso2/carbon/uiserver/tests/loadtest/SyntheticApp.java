@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uiserver.tests.loadtest;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A generated web app with a configurable number of pages, themes, extensions, locales and static bundles.
+ * <p>
+ * Contents are generated from a fixed seed, so the same configuration always generates the same web app.
+ *
+ * @since 1.0.9
+ */
+public class SyntheticApp {
+
+    private static final long SEED = 20170101L;
+    private static final int LINKS_PER_PAGE = 40;
+    private static final int MESSAGES_PER_LOCALE = 200;
+    private static final String[] COMMON_LANGUAGE_TAGS = {"en-US", "fr-FR", "de-DE", "es-ES", "it-IT", "pt-BR",
+                                                          "ja-JP", "zh-CN", "ko-KR", "ru-RU", "si-LK", "ta-IN"};
+    private static final String WORDS = "lorem ipsum dolor sit amet consectetur adipiscing elit sed do eiusmod " +
+                                        "tempor incididunt ut labore et dolore magna aliqua";
+
+    private final List<String> pageUris;
+    private final List<String> staticResourceUris;
+    private final List<String> languageTags;
+
+    private SyntheticApp(List<String> pageUris, List<String> staticResourceUris, List<String> languageTags) {
+        this.pageUris = Collections.unmodifiableList(pageUris);
+        this.staticResourceUris = Collections.unmodifiableList(staticResourceUris);
+        this.languageTags = Collections.unmodifiableList(languageTags);
+    }
+
+    /**
+     * Generates a web app in the specified directory.
+     *
+     * @param appDirectory  directory to generate the web app in
+     * @param configuration load test configuration
+     * @return generated web app
+     * @throws IOException if an error occurred when writing files
+     */
+    public static SyntheticApp generate(Path appDirectory, LoadTestConfiguration configuration) throws IOException {
+        Random random = new Random(SEED);
+
+        List<String> staticResourceUris = new ArrayList<>();
+        for (int i = 0; i < configuration.getBundles(); i++) {
+            String fileName = String.format("bundle-%02d.js", i);
+            writeBundle(appDirectory.resolve("public/js").resolve(fileName), configuration.getBundleSizeKb(), random);
+            staticResourceUris.add("/public/app/js/" + fileName);
+        }
+        for (int i = 0; i < configuration.getThemes(); i++) {
+            String themeName = String.format("theme-%02d", i);
+            writeStyles(appDirectory.resolve("themes").resolve(themeName).resolve("css/styles.css"), random);
+            staticResourceUris.add("/public/themes/" + themeName + "/css/styles.css");
+        }
+        for (int i = 0; i < configuration.getExtensions(); i++) {
+            String widgetName = String.format("widget-%02d", i);
+            Path widgetDirectory = appDirectory.resolve("extensions/widgets").resolve(widgetName);
+            write(widgetDirectory.resolve("widget.json"), "{\"name\": \"" + widgetName + "\"}\n");
+            writeStyles(widgetDirectory.resolve("css/styles.css"), random);
+            staticResourceUris.add("/public/extensions/widgets/" + widgetName + "/css/styles.css");
+        }
+
+        List<String> languageTags = selectLanguageTags(configuration.getLocales());
+        for (String languageTag : languageTags) {
+            writeMessages(appDirectory.resolve("i18n").resolve(languageTag + ".json"), random);
+        }
+
+        List<String> pageUris = new ArrayList<>();
+        for (int i = 0; i < configuration.getPages(); i++) {
+            String pageName = String.format("page-%04d", i);
+            writePage(appDirectory.resolve("pages").resolve(pageName + ".hbs"), i, configuration, random);
+            pageUris.add("/" + pageName);
+        }
+        return new SyntheticApp(pageUris, staticResourceUris, languageTags);
+    }
+
+    /**
+     * Returns URIs (without the context path) of the pages of this web app.
+     *
+     * @return page URIs
+     */
+    public List<String> getPageUris() {
+        return pageUris;
+    }
+
+    /**
+     * Returns URIs (without the context path) of the static resources of this web app.
+     *
+     * @return static resource URIs
+     */
+    public List<String> getStaticResourceUris() {
+        return staticResourceUris;
+    }
+
+    /**
+     * Returns language tags of the locales of this web app.
+     *
+     * @return language tags
+     */
+    public List<String> getLanguageTags() {
+        return languageTags;
+    }
+
+    private static void writePage(Path pageFile, int pageIndex, LoadTestConfiguration configuration, Random random)
+            throws IOException {
+        StringBuilder page = new StringBuilder();
+        page.append("<html>\n<head>\n    <title>Page ").append(pageIndex).append("</title>\n");
+        page.append(String.format("    <link href=\"{{@contextPath}}/public/themes/theme-%02d/css/styles.css\" />%n",
+                                  pageIndex % configuration.getThemes()));
+        page.append(String.format("    <link href=\"{{@contextPath}}/public/extensions/widgets/widget-%02d/css/" +
+                                  "styles.css\" />%n", pageIndex % configuration.getExtensions()));
+        page.append(String.format("    <script src=\"{{@contextPath}}/public/app/js/bundle-%02d.js\"></script>%n",
+                                  pageIndex % configuration.getBundles()));
+        page.append("</head>\n<body>\n<h1>Page ").append(pageIndex).append("</h1>\n");
+        for (int i = 0; i < LINKS_PER_PAGE; i++) {
+            page.append(String.format("<p><a href=\"{{@contextPath}}/page-%04d\">%s</a></p>%n",
+                                      random.nextInt(configuration.getPages()), sentence(random)));
+        }
+        page.append("</body>\n</html>\n");
+        write(pageFile, page.toString());
+    }
+
+    private static void writeBundle(Path bundleFile, int sizeKb, Random random) throws IOException {
+        Files.createDirectories(bundleFile.getParent());
+        long size = sizeKb * 1024L;
+        try (Writer writer = Files.newBufferedWriter(bundleFile, StandardCharsets.UTF_8)) {
+            long written = 0;
+            for (int i = 0; written < size; i++) {
+                String line = String.format("function f%d(a) { return a * %d + \"%s\"; }%n", i, random.nextInt(),
+                                            sentence(random));
+                writer.write(line);
+                written += line.length();
+            }
+        }
+    }
+
+    private static void writeStyles(Path stylesFile, Random random) throws IOException {
+        StringBuilder styles = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            styles.append(String.format(".c%d { color: #%06x; margin: %dpx; }%n", i, random.nextInt(0x1000000),
+                                        random.nextInt(32)));
+        }
+        write(stylesFile, styles.toString());
+    }
+
+    private static void writeMessages(Path messagesFile, Random random) throws IOException {
+        StringBuilder messages = new StringBuilder("{\n");
+        for (int i = 0; i < MESSAGES_PER_LOCALE; i++) {
+            messages.append(String.format("    \"message.%d\": \"%s {0}\"%s%n", i, sentence(random),
+                                          (i < (MESSAGES_PER_LOCALE - 1)) ? "," : ""));
+        }
+        messages.append("}\n");
+        write(messagesFile, messages.toString());
+    }
+
+    private static List<String> selectLanguageTags(int count) {
+        // Common locales come first, followed by other locales available in the JVM when more are needed.
+        Set<String> languageTags = new LinkedHashSet<>(Arrays.asList(COMMON_LANGUAGE_TAGS));
+        Arrays.stream(Locale.getAvailableLocales())
+                .filter(locale -> !locale.getLanguage().isEmpty() && !locale.getCountry().isEmpty() &&
+                                  locale.getScript().isEmpty() && locale.getVariant().isEmpty() &&
+                                  !locale.hasExtensions())
+                .map(Locale::toLanguageTag)
+                .sorted()
+                .forEach(languageTags::add);
+        return languageTags.stream().limit(count).collect(Collectors.toList());
+    }
+
+    private static String sentence(Random random) {
+        String[] words = WORDS.split(" ");
+        StringBuilder sentence = new StringBuilder();
+        int length = 4 + random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(words[random.nextInt(words.length)]);
+        }
+        return sentence.toString();
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}